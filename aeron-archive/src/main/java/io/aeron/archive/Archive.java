@@ -175,6 +175,11 @@ public class Archive implements AutoCloseable
          */
         static final String RECORDING_SEGMENT_SUFFIX = ".rec";
 
+        /**
+         * Recording timestamp index file suffix extension.
+         */
+        static final String RECORDING_TIMESTAMP_INDEX_SUFFIX = ".tidx";
+
         /**
          * Maximum block length of data read from disk in a single operation during a replay.
          */
@@ -235,6 +240,33 @@ public class Archive implements AutoCloseable
          */
         public static final int CATALOG_FILE_SYNC_LEVEL_DEFAULT = FILE_SYNC_LEVEL_DEFAULT;
 
+        /**
+         * Interval in which writes to recording files are sync'ed to disk together as a group commit across all
+         * recordings when the {@link #FILE_SYNC_LEVEL_PROP_NAME} is greater than 0. Recorded positions only advance
+         * to what has been sync'ed. A value of 0 will sync each recording after every block write.
+         */
+        public static final String FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME =
+            "aeron.archive.file.sync.group.commit.interval";
+
+        /**
+         * Default is to sync each recording after every block write.
+         * @see #FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME
+         */
+        public static final long FILE_SYNC_GROUP_COMMIT_INTERVAL_DEFAULT_NS = 0;
+
+        /**
+         * Length in bytes of unsync'ed writes across all recordings which will trigger a group commit before the
+         * {@link #FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME} has elapsed.
+         */
+        public static final String FILE_SYNC_GROUP_COMMIT_LENGTH_PROP_NAME =
+            "aeron.archive.file.sync.group.commit.length";
+
+        /**
+         * Default length in bytes of unsync'ed writes which will trigger a group commit.
+         * @see #FILE_SYNC_GROUP_COMMIT_LENGTH_PROP_NAME
+         */
+        public static final int FILE_SYNC_GROUP_COMMIT_LENGTH_DEFAULT = 4 * 1024 * 1024;
+
         /**
          * What {@link ArchiveThreadingMode} should be used.
          */
@@ -289,9 +321,52 @@ public class Archive implements AutoCloseable
         public static final int MAX_CONCURRENT_REPLAYS_DEFAULT = 20;
 
         /**
-         * Maximum number of entries for the archive {@link Catalog}. Increasing this limit will require use of the
-         * {@link CatalogTool}. The number of entries can be reduced by extending existing recordings rather than
-         * creating new ones.
+         * Number of recorder threads, each running a share of the recordings, when the {@link #THREADING_MODE_PROP_NAME}
+         * is {@link ArchiveThreadingMode#DEDICATED}. New recordings are placed on the least loaded recorder.
+         */
+        public static final String RECORDER_THREAD_COUNT_PROP_NAME = "aeron.archive.recorder.thread.count";
+
+        /**
+         * Default number of recorder threads.
+         * @see #RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        public static final int RECORDER_THREAD_COUNT_DEFAULT = 1;
+
+        /**
+         * Number of replayer threads, each running a share of the replays, when the {@link #THREADING_MODE_PROP_NAME}
+         * is {@link ArchiveThreadingMode#DEDICATED}. New replays are placed on the least loaded replayer.
+         */
+        public static final String REPLAYER_THREAD_COUNT_PROP_NAME = "aeron.archive.replayer.thread.count";
+
+        /**
+         * Default number of replayer threads.
+         * @see #REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        public static final int REPLAYER_THREAD_COUNT_DEFAULT = 1;
+
+        /**
+         * Interval in bytes of a recording at which an entry is added to its timestamp index for replay from a point
+         * in time. A replay from a timestamp may start up to this many bytes before the data for the timestamp.
+         * A value of 0 disables the index.
+         */
+        public static final String RECORDING_TIMESTAMP_INDEX_INTERVAL_PROP_NAME =
+            "aeron.archive.recording.timestamp.index.interval";
+
+        /**
+         * Default interval in bytes of a recording at which an entry is added to its timestamp index.
+         * @see #RECORDING_TIMESTAMP_INDEX_INTERVAL_PROP_NAME
+         */
+        public static final int RECORDING_TIMESTAMP_INDEX_INTERVAL_DEFAULT = 64 * 1024;
+
+        /**
+         * What {@link RecordingTimestampSource} should be used for the recording timestamp index.
+         */
+        public static final String RECORDING_TIMESTAMP_SOURCE_PROP_NAME = "aeron.archive.recording.timestamp.source";
+
+        /**
+         * Initial number of entries for the archive {@link Catalog}. The catalog file grows online when full, up to
+         * the maximum a single mapped file can hold, so this is the capacity preallocated at start. The number of
+         * entries can be reduced by extending existing recordings rather than creating new ones.
          */
         public static final String MAX_CATALOG_ENTRIES_PROP_NAME = "aeron.archive.max.catalog.entries";
 
@@ -358,6 +433,36 @@ public class Archive implements AutoCloseable
          */
         public static final int ARCHIVE_ERROR_COUNT_TYPE_ID = 101;
 
+        /**
+         * The type id of the {@link Counter} used for the time in nanoseconds taken by the last group commit of
+         * recording files.
+         */
+        public static final int ARCHIVE_RECORDING_SYNC_LATENCY_TYPE_ID = 102;
+
+        /**
+         * The type id of the {@link Counter} used for the length in bytes of recorded data sync'ed by the last group
+         * commit of recording files.
+         */
+        public static final int ARCHIVE_RECORDING_SYNC_BATCH_LENGTH_TYPE_ID = 103;
+
+        /**
+         * The type id of the {@link Counter} used for the number of sessions placed on a dedicated recorder or
+         * replayer thread which have not yet completed.
+         */
+        public static final int ARCHIVE_WORKER_SESSIONS_TYPE_ID = 104;
+
+        /**
+         * The type id of the {@link Counter} used for the number of duty cycles of a dedicated recorder or replayer
+         * thread.
+         */
+        public static final int ARCHIVE_WORKER_DUTY_CYCLES_TYPE_ID = 105;
+
+        /**
+         * The type id of the {@link Counter} used for the work done by a dedicated recorder or replayer thread, which
+         * is bytes recorded for a recorder and fragments replayed for a replayer.
+         */
+        public static final int ARCHIVE_WORKER_WORK_COUNT_TYPE_ID = 106;
+
         /**
          * Size in bytes of the error buffer for the archive when not externally provided.
          */
@@ -420,6 +525,29 @@ public class Archive implements AutoCloseable
             return Integer.getInteger(CATALOG_FILE_SYNC_LEVEL_PROP_NAME, CATALOG_FILE_SYNC_LEVEL_DEFAULT);
         }
 
+        /**
+         * Interval in which writes to recording files are sync'ed to disk together as a group commit.
+         *
+         * @return interval in nanoseconds in which writes to recording files are sync'ed to disk together.
+         * @see #FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME
+         */
+        public static long fileSyncGroupCommitIntervalNs()
+        {
+            return getDurationInNanos(
+                FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME, FILE_SYNC_GROUP_COMMIT_INTERVAL_DEFAULT_NS);
+        }
+
+        /**
+         * Length in bytes of unsync'ed writes across all recordings which will trigger a group commit.
+         *
+         * @return length in bytes of unsync'ed writes across all recordings which will trigger a group commit.
+         * @see #FILE_SYNC_GROUP_COMMIT_LENGTH_PROP_NAME
+         */
+        public static int fileSyncGroupCommitLength()
+        {
+            return getSizeAsInt(FILE_SYNC_GROUP_COMMIT_LENGTH_PROP_NAME, FILE_SYNC_GROUP_COMMIT_LENGTH_DEFAULT);
+        }
+
         /**
          * The threading mode to be employed by the archive.
          *
@@ -503,9 +631,55 @@ public class Archive implements AutoCloseable
         }
 
         /**
-         * Maximum number of catalog entries to allocate for the catalog file.
+         * The number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         *
+         * @return the number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         * @see #RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        public static int recorderThreadCount()
+        {
+            return Integer.getInteger(RECORDER_THREAD_COUNT_PROP_NAME, RECORDER_THREAD_COUNT_DEFAULT);
+        }
+
+        /**
+         * The number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED}.
          *
-         * @return the maximum number of catalog entries to support for the catalog file.
+         * @return the number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         * @see #REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        public static int replayerThreadCount()
+        {
+            return Integer.getInteger(REPLAYER_THREAD_COUNT_PROP_NAME, REPLAYER_THREAD_COUNT_DEFAULT);
+        }
+
+        /**
+         * Interval in bytes of a recording at which an entry is added to its timestamp index.
+         *
+         * @return interval in bytes of a recording at which an entry is added to its timestamp index.
+         * @see #RECORDING_TIMESTAMP_INDEX_INTERVAL_PROP_NAME
+         */
+        public static int recordingTimestampIndexInterval()
+        {
+            return getSizeAsInt(
+                RECORDING_TIMESTAMP_INDEX_INTERVAL_PROP_NAME, RECORDING_TIMESTAMP_INDEX_INTERVAL_DEFAULT);
+        }
+
+        /**
+         * The source of timestamps for the recording timestamp index.
+         *
+         * @return the source of timestamps for the recording timestamp index.
+         * @see #RECORDING_TIMESTAMP_SOURCE_PROP_NAME
+         */
+        public static RecordingTimestampSource recordingTimestampSource()
+        {
+            return RecordingTimestampSource.valueOf(
+                System.getProperty(RECORDING_TIMESTAMP_SOURCE_PROP_NAME, RecordingTimestampSource.RECEIVE_TIME.name()));
+        }
+
+        /**
+         * Initial number of catalog entries to allocate for the catalog file before it grows.
+         *
+         * @return the initial number of catalog entries to allocate for the catalog file.
          */
         public static long maxCatalogEntries()
         {
@@ -639,6 +813,8 @@ public class Archive implements AutoCloseable
         private int segmentFileLength = Configuration.segmentFileLength();
         private int fileSyncLevel = Configuration.fileSyncLevel();
         private int catalogFileSyncLevel = Configuration.catalogFileSyncLevel();
+        private long fileSyncGroupCommitIntervalNs = Configuration.fileSyncGroupCommitIntervalNs();
+        private int fileSyncGroupCommitLength = Configuration.fileSyncGroupCommitLength();
 
         private ArchiveThreadingMode threadingMode = Configuration.threadingMode();
         private ThreadFactory threadFactory;
@@ -658,6 +834,10 @@ public class Archive implements AutoCloseable
         private AgentInvoker mediaDriverAgentInvoker;
         private int maxConcurrentRecordings = Configuration.maxConcurrentRecordings();
         private int maxConcurrentReplays = Configuration.maxConcurrentReplays();
+        private int recorderThreadCount = Configuration.recorderThreadCount();
+        private int replayerThreadCount = Configuration.replayerThreadCount();
+        private int recordingTimestampIndexInterval = Configuration.recordingTimestampIndexInterval();
+        private RecordingTimestampSource recordingTimestampSource = Configuration.recordingTimestampSource();
 
         /**
          * Perform a shallow copy of the object.
@@ -773,6 +953,13 @@ public class Archive implements AutoCloseable
 
             if (DEDICATED == threadingMode)
             {
+                if (recorderThreadCount < 1 || replayerThreadCount < 1)
+                {
+                    throw new ArchiveException(
+                        "recorder and replayer thread counts must be at least 1: recorderThreadCount=" +
+                        recorderThreadCount + " replayerThreadCount=" + replayerThreadCount);
+                }
+
                 if (null == recorderIdleStrategySupplier)
                 {
                     recorderIdleStrategySupplier = Configuration.recorderIdleStrategySupplier(null);
@@ -801,6 +988,12 @@ public class Archive implements AutoCloseable
                 throw new ArchiveException("segment file length not in valid range: " + segmentFileLength);
             }
 
+            if (recordingTimestampIndexInterval < 0)
+            {
+                throw new ArchiveException(
+                    "recording timestamp index interval must not be negative: " + recordingTimestampIndexInterval);
+            }
+
             if (null == authenticatorSupplier)
             {
                 authenticatorSupplier = Configuration.authenticatorSupplier();
@@ -819,7 +1012,7 @@ public class Archive implements AutoCloseable
 
             archiveClientContext.aeron(aeron).lock(NoOpLock.INSTANCE).errorHandler(errorHandler);
 
-            int expectedCount = DEDICATED == threadingMode ? 2 : 0;
+            int expectedCount = DEDICATED == threadingMode ? recorderThreadCount + replayerThreadCount : 0;
             expectedCount += aeron.conductorAgentInvoker() == null ? 1 : 0;
             abortLatch = new CountDownLatch(expectedCount);
 
@@ -1393,6 +1586,66 @@ public class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the interval in which writes to recording files are sync'ed to disk together as a group commit when
+         * the {@link #fileSyncLevel()} is greater than 0. A value of 0 will sync after every block write.
+         *
+         * @return the interval in nanoseconds in which writes to recording files are sync'ed to disk together.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME
+         */
+        public long fileSyncGroupCommitIntervalNs()
+        {
+            return fileSyncGroupCommitIntervalNs;
+        }
+
+        /**
+         * Set the interval in which writes to recording files are sync'ed to disk together as a group commit when
+         * the {@link #fileSyncLevel()} is greater than 0. A value of 0 will sync after every block write.
+         *
+         * @param intervalNs in which writes to recording files are sync'ed to disk together.
+         * @return this for a fluent API.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME
+         */
+        public Context fileSyncGroupCommitIntervalNs(final long intervalNs)
+        {
+            this.fileSyncGroupCommitIntervalNs = intervalNs;
+            return this;
+        }
+
+        /**
+         * Get the length in bytes of unsync'ed writes across all recordings which will trigger a group commit.
+         *
+         * @return the length in bytes of unsync'ed writes across all recordings which will trigger a group commit.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_LENGTH_PROP_NAME
+         */
+        public int fileSyncGroupCommitLength()
+        {
+            return fileSyncGroupCommitLength;
+        }
+
+        /**
+         * Set the length in bytes of unsync'ed writes across all recordings which will trigger a group commit.
+         *
+         * @param length in bytes of unsync'ed writes across all recordings which will trigger a group commit.
+         * @return this for a fluent API.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_LENGTH_PROP_NAME
+         */
+        public Context fileSyncGroupCommitLength(final int length)
+        {
+            this.fileSyncGroupCommitLength = length;
+            return this;
+        }
+
+        /**
+         * Is group commit of writes to recording files enabled?
+         *
+         * @return true if writes to recording files are sync'ed to disk together as a group commit.
+         */
+        boolean isFileSyncGroupCommit()
+        {
+            return fileSyncLevel > 0 && fileSyncGroupCommitIntervalNs > 0;
+        }
+
         /**
          * Get level at which the catalog file should be sync'ed to disk.
          * <ul>
@@ -1627,6 +1880,102 @@ public class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         *
+         * @return the number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         * @see Configuration#RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        public int recorderThreadCount()
+        {
+            return recorderThreadCount;
+        }
+
+        /**
+         * Set the number of recorder threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         *
+         * @param recorderThreadCount the number of recorder threads.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDER_THREAD_COUNT_PROP_NAME
+         */
+        public Context recorderThreadCount(final int recorderThreadCount)
+        {
+            this.recorderThreadCount = recorderThreadCount;
+            return this;
+        }
+
+        /**
+         * Get the number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         *
+         * @return the number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         * @see Configuration#REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        public int replayerThreadCount()
+        {
+            return replayerThreadCount;
+        }
+
+        /**
+         * Set the number of replayer threads when running in {@link ArchiveThreadingMode#DEDICATED}.
+         *
+         * @param replayerThreadCount the number of replayer threads.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAYER_THREAD_COUNT_PROP_NAME
+         */
+        public Context replayerThreadCount(final int replayerThreadCount)
+        {
+            this.replayerThreadCount = replayerThreadCount;
+            return this;
+        }
+
+        /**
+         * Get the interval in bytes of a recording at which an entry is added to its timestamp index.
+         *
+         * @return the interval in bytes of a recording at which an entry is added to its timestamp index.
+         * @see Configuration#RECORDING_TIMESTAMP_INDEX_INTERVAL_PROP_NAME
+         */
+        public int recordingTimestampIndexInterval()
+        {
+            return recordingTimestampIndexInterval;
+        }
+
+        /**
+         * Set the interval in bytes of a recording at which an entry is added to its timestamp index.
+         *
+         * @param interval in bytes of a recording at which an entry is added to its timestamp index, or 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDING_TIMESTAMP_INDEX_INTERVAL_PROP_NAME
+         */
+        public Context recordingTimestampIndexInterval(final int interval)
+        {
+            this.recordingTimestampIndexInterval = interval;
+            return this;
+        }
+
+        /**
+         * Get the source of timestamps for the recording timestamp index.
+         *
+         * @return the source of timestamps for the recording timestamp index.
+         * @see Configuration#RECORDING_TIMESTAMP_SOURCE_PROP_NAME
+         */
+        public RecordingTimestampSource recordingTimestampSource()
+        {
+            return recordingTimestampSource;
+        }
+
+        /**
+         * Set the source of timestamps for the recording timestamp index.
+         *
+         * @param recordingTimestampSource of timestamps for the recording timestamp index.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDING_TIMESTAMP_SOURCE_PROP_NAME
+         */
+        public Context recordingTimestampSource(final RecordingTimestampSource recordingTimestampSource)
+        {
+            this.recordingTimestampSource = recordingTimestampSource;
+            return this;
+        }
+
         /**
          * Delete the archive directory if the {@link #archiveDir()} value is not null.
          */
@@ -1756,7 +2105,7 @@ public class Archive implements AutoCloseable
         }
 
         /**
-         * Maximum number of catalog entries for the Archive.
+         * Initial number of catalog entries for the Archive after which the catalog will grow as required.
          *
          * @param maxCatalogEntries for the archive.
          * @return this for a fluent API.
@@ -1768,9 +2117,9 @@ public class Archive implements AutoCloseable
         }
 
         /**
-         * Maximum number of catalog entries for the Archive.
+         * Initial number of catalog entries for the Archive after which the catalog will grow as required.
          *
-         * @return maximum number of catalog entries for the Archive.
+         * @return initial number of catalog entries for the Archive.
          */
         public long maxCatalogEntries()
         {
@@ -1841,6 +2190,17 @@ public class Archive implements AutoCloseable
         return recordingId + "-" + segmentBasePosition + Configuration.RECORDING_SEGMENT_SUFFIX;
     }
 
+    /**
+     * The filename to be used for the timestamp index of a recording.
+     *
+     * @param recordingId to identify the recorded stream.
+     * @return the filename to be used for the timestamp index of a recording.
+     */
+    static String timestampIndexFileName(final long recordingId)
+    {
+        return recordingId + Configuration.RECORDING_TIMESTAMP_INDEX_SUFFIX;
+    }
+
     /**
      * Get the {@link FileChannel} for the parent directory for the recordings and catalog so it can be sync'ed
      * to storage when new files are created.
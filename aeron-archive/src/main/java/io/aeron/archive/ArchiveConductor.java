@@ -50,6 +50,8 @@ import java.util.concurrent.TimeUnit;
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.CommonContext.SPY_PREFIX;
 import static io.aeron.CommonContext.UDP_MEDIA;
+import static io.aeron.archive.Archive.Configuration.ARCHIVE_RECORDING_SYNC_BATCH_LENGTH_TYPE_ID;
+import static io.aeron.archive.Archive.Configuration.ARCHIVE_RECORDING_SYNC_LATENCY_TYPE_ID;
 import static io.aeron.archive.Archive.Configuration.MAX_BLOCK_LENGTH;
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
@@ -111,8 +113,9 @@ abstract class ArchiveConductor
     private volatile boolean isAbort;
 
     protected final Archive.Context ctx;
-    SessionWorker<ReplaySession> replayer;
-    SessionWorker<RecordingSession> recorder;
+    RecordingGroupCommit[] recordingGroupCommits;
+    SessionWorker<ReplaySession>[] replayers;
+    SessionWorker<RecordingSession>[] recorders;
 
     ArchiveConductor(final Archive.Context ctx)
     {
@@ -150,10 +153,24 @@ abstract class ArchiveConductor
         controlSessionProxy = new ControlSessionProxy(controlResponseProxy);
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public void onStart()
     {
-        replayer = newReplayer();
-        recorder = newRecorder();
+        final int replayerCount = replayerCount();
+        replayers = new SessionWorker[replayerCount];
+        for (int i = 0; i < replayerCount; i++)
+        {
+            replayers[i] = newReplayer(i);
+        }
+
+        final int recorderCount = recorderCount();
+        recordingGroupCommits = new RecordingGroupCommit[recorderCount];
+        recorders = new SessionWorker[recorderCount];
+        for (int i = 0; i < recorderCount; i++)
+        {
+            recordingGroupCommits[i] = newRecordingGroupCommit(i, recorderCount);
+            recorders[i] = newRecorder(i);
+        }
     }
 
     public void onAvailableImage(final Image image)
@@ -179,9 +196,19 @@ abstract class ArchiveConductor
         }
     }
 
-    protected abstract SessionWorker<RecordingSession> newRecorder();
+    protected abstract SessionWorker<RecordingSession> newRecorder(int index);
+
+    protected abstract SessionWorker<ReplaySession> newReplayer(int index);
 
-    protected abstract SessionWorker<ReplaySession> newReplayer();
+    protected int recorderCount()
+    {
+        return 1;
+    }
+
+    protected int replayerCount()
+    {
+        return 1;
+    }
 
     protected final void preSessionsClose()
     {
@@ -212,6 +239,17 @@ abstract class ArchiveConductor
                 CloseHelper.close(localControlSubscription);
                 CloseHelper.close(controlSubscription);
                 CloseHelper.close(recordingEventsProxy);
+
+                for (int i = 0; i < recorders.length; i++)
+                {
+                    CloseHelper.close(recordingGroupCommits[i]);
+                    recorders[i].closeCounters();
+                }
+
+                for (final SessionWorker<ReplaySession> replayer : replayers)
+                {
+                    replayer.closeCounters();
+                }
             }
         }
 
@@ -222,8 +260,16 @@ abstract class ArchiveConductor
     {
         try
         {
-            replayer.abort();
-            recorder.abort();
+            for (final SessionWorker<ReplaySession> replayer : replayers)
+            {
+                replayer.abort();
+            }
+
+            for (final SessionWorker<RecordingSession> recorder : recorders)
+            {
+                recorder.abort();
+            }
+
             isAbort = true;
 
             ctx.abortLatch().await(AgentRunner.RETRY_CLOSE_TIMEOUT_MS * 2L, TimeUnit.MILLISECONDS);
@@ -595,7 +641,7 @@ abstract class ArchiveConductor
             null == recordingSession ? null : recordingSession.recordingPosition());
 
         replaySessionByIdMap.put(replaySessionId, replaySession);
-        replayer.addSession(replaySession);
+        replayers[leastLoadedIndex(replayers)].placeSession(replaySession);
     }
 
     void startBoundedReplay(
@@ -665,7 +711,23 @@ abstract class ArchiveConductor
             limitCounter);
 
         replaySessionByIdMap.put(replaySessionId, replaySession);
-        replayer.addSession(replaySession);
+        replayers[leastLoadedIndex(replayers)].placeSession(replaySession);
+    }
+
+    void startReplayFromTimestamp(
+        final long correlationId,
+        final long recordingId,
+        final long timestamp,
+        final long length,
+        final int replayStreamId,
+        final String replayChannel,
+        final ControlSession controlSession)
+    {
+        if (hasRecording(recordingId, correlationId, controlSession))
+        {
+            final long position = timestampIndexPosition(correlationId, recordingId, timestamp, controlSession);
+            startReplay(correlationId, recordingId, position, length, replayStreamId, replayChannel, controlSession);
+        }
     }
 
     void stopReplay(final long correlationId, final long replaySessionId, final ControlSession controlSession)
@@ -789,6 +851,16 @@ abstract class ArchiveConductor
         }
     }
 
+    void findPositionByTimestamp(
+        final long correlationId, final long recordingId, final long timestamp, final ControlSession controlSession)
+    {
+        if (hasRecording(recordingId, correlationId, controlSession))
+        {
+            final long position = timestampIndexPosition(correlationId, recordingId, timestamp, controlSession);
+            controlSession.sendOkResponse(correlationId, position, controlResponseProxy);
+        }
+    }
+
     void truncateRecording(
         final long correlationId, final long recordingId, final long position, final ControlSession controlSession)
     {
@@ -838,6 +910,16 @@ abstract class ArchiveConductor
                 }
             }
 
+            try
+            {
+                RecordingTimestampIndex.truncate(archiveDir, recordingId, position);
+            }
+            catch (final IOException ex)
+            {
+                controlSession.sendErrorResponse(correlationId, ex.getMessage(), controlResponseProxy);
+                LangUtil.rethrowUnchecked(ex);
+            }
+
             controlSession.sendOkResponse(correlationId, controlResponseProxy);
         }
     }
@@ -1119,6 +1201,16 @@ abstract class ArchiveConductor
                 position -= segmentLength;
             }
 
+            try
+            {
+                RecordingTimestampIndex.migrate(archiveDir, srcRecordingId, dstRecordingId);
+            }
+            catch (final IOException ex)
+            {
+                controlSession.sendErrorResponse(correlationId, ex.getMessage(), controlResponseProxy);
+                LangUtil.rethrowUnchecked(ex);
+            }
+
             catalog.startPosition(dstRecordingId, startPosition);
             catalog.stopPosition(srcRecordingId, startPosition);
             controlSession.sendOkResponse(correlationId, attachedSegmentCount, controlResponseProxy);
@@ -1152,6 +1244,37 @@ abstract class ArchiveConductor
         return count;
     }
 
+    private long timestampIndexPosition(
+        final long correlationId, final long recordingId, final long timestamp, final ControlSession controlSession)
+    {
+        catalog.recordingSummary(recordingId, recordingSummary);
+        final long startPosition = recordingSummary.startPosition;
+        final long stopPosition = recordingSummary.stopPosition;
+        long position = NULL_POSITION;
+
+        try
+        {
+            position = RecordingTimestampIndex.findPosition(archiveDir, recordingId, timestamp);
+        }
+        catch (final IOException ex)
+        {
+            controlSession.sendErrorResponse(correlationId, ex.getMessage(), controlResponseProxy);
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        if (position < startPosition)
+        {
+            return startPosition;
+        }
+
+        if (NULL_POSITION != stopPosition && position > stopPosition)
+        {
+            return stopPosition;
+        }
+
+        return position;
+    }
+
     private int findTermOffsetForStart(
         final long correlationId,
         final ControlSession controlSession,
@@ -1282,6 +1405,40 @@ abstract class ArchiveConductor
         return channelBuilder;
     }
 
+    private static int leastLoadedIndex(final SessionWorker<?>[] workers)
+    {
+        int index = 0;
+        long minSessionCount = workers[0].sessionCount();
+
+        for (int i = 1; i < workers.length; i++)
+        {
+            final long sessionCount = workers[i].sessionCount();
+            if (sessionCount < minSessionCount)
+            {
+                minSessionCount = sessionCount;
+                index = i;
+            }
+        }
+
+        return index;
+    }
+
+    private RecordingGroupCommit newRecordingGroupCommit(final int recorderIndex, final int recorderCount)
+    {
+        if (!ctx.isFileSyncGroupCommit())
+        {
+            return null;
+        }
+
+        final String suffix = recorderCount > 1 ? ": recorder=" + recorderIndex : "";
+        final Counter syncLatency = aeron.addCounter(
+            ARCHIVE_RECORDING_SYNC_LATENCY_TYPE_ID, "Archive recording sync latency ns" + suffix);
+        final Counter syncBatchLength = aeron.addCounter(
+            ARCHIVE_RECORDING_SYNC_BATCH_LENGTH_TYPE_ID, "Archive recording sync batch length" + suffix);
+
+        return new RecordingGroupCommit(ctx, SystemNanoClock.INSTANCE, errorHandler, syncLatency, syncBatchLength);
+    }
+
     private static String makeKey(final int streamId, final ChannelUri channelUri)
     {
         final StringBuilder sb = new StringBuilder();
@@ -1368,6 +1525,7 @@ abstract class ArchiveConductor
             aeron, counterMetadataBuffer, recordingId, sessionId, streamId, strippedChannel, image.sourceIdentity());
         position.setOrdered(startPosition);
 
+        final int recorderIndex = leastLoadedIndex(recorders);
         final RecordingSession session = new RecordingSession(
             correlationId,
             recordingId,
@@ -1379,10 +1537,11 @@ abstract class ArchiveConductor
             position,
             archiveDirChannel,
             ctx,
+            recordingGroupCommits[recorderIndex],
             controlSession);
 
         recordingSessionByIdMap.put(recordingId, session);
-        recorder.addSession(session);
+        recorders[recorderIndex].placeSession(session);
 
         controlSession.attemptSendSignal(
             correlationId,
@@ -1421,6 +1580,7 @@ abstract class ArchiveConductor
 
         position.setOrdered(image.joinPosition());
 
+        final int recorderIndex = leastLoadedIndex(recorders);
         final RecordingSession session = new RecordingSession(
             correlationId,
             recordingId,
@@ -1432,11 +1592,12 @@ abstract class ArchiveConductor
             position,
             archiveDirChannel,
             ctx,
+            recordingGroupCommits[recorderIndex],
             controlSession);
 
         recordingSessionByIdMap.put(recordingId, session);
         catalog.extendRecording(recordingId, controlSession.sessionId(), correlationId, image.sessionId());
-        recorder.addSession(session);
+        recorders[recorderIndex].placeSession(session);
 
         controlSession.attemptSendSignal(
             correlationId,
@@ -1641,6 +1802,13 @@ abstract class ArchiveConductor
         final long srcRecordingId,
         final long dstRecordingId)
     {
+        if (recordingSessionByIdMap.containsKey(dstRecordingId))
+        {
+            final String msg = "cannot migrate to active recording " + dstRecordingId;
+            controlSession.sendErrorResponse(correlationId, ACTIVE_RECORDING, msg, controlResponseProxy);
+            return false;
+        }
+
         catalog.recordingSummary(dstRecordingId, recordingSummary);
 
         final long dstStartPosition = recordingSummary.startPosition;
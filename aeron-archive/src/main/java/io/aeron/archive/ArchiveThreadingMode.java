@@ -33,7 +33,9 @@ public enum ArchiveThreadingMode
     SHARED,
 
     /**
-     * 3 Threads, one dedicated to each of the {@link org.agrona.concurrent.Agent}s.
+     * 3 Threads, one dedicated to each of the {@link org.agrona.concurrent.Agent}s. The recorder and replayer can
+     * each be run as a pool of threads with {@link Archive.Context#recorderThreadCount()} and
+     * {@link Archive.Context#replayerThreadCount()}.
      */
     DEDICATED
 }
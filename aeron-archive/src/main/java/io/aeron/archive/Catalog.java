@@ -21,10 +21,12 @@ import io.aeron.archive.codecs.*;
 import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.*;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
@@ -47,6 +49,9 @@ import static org.agrona.BitUtil.align;
  * The format is simple, allocating a fixed 1KB record for each record descriptor. This allows offset
  * based look up of a descriptor in the file. The first record contains the catalog header.
  * <p>
+ * When full the catalog file is grown and remapped up to {@link #MAX_ENTRIES}. Recordings are indexed in memory by
+ * stream id and session id with a {@link CatalogIndex} which is rebuilt on load.
+ * <p>
  * @see RecordingDescriptorHeaderDecoder
  * @see RecordingDescriptorDecoder
  * Catalog file format:
@@ -108,13 +113,15 @@ class Catalog implements AutoCloseable
     private final RecordingDescriptorEncoder descriptorEncoder = new RecordingDescriptorEncoder();
     private final RecordingDescriptorDecoder descriptorDecoder = new RecordingDescriptorDecoder();
 
-    private final MappedByteBuffer catalogByteBuffer;
+    private final CatalogIndex catalogIndex = new CatalogIndex();
+
+    private MappedByteBuffer catalogByteBuffer;
     private final UnsafeBuffer catalogBuffer;
-    private final UnsafeBuffer fieldAccessBuffer;
+    private volatile UnsafeBuffer fieldAccessBuffer;
 
     private final int recordLength;
     private final int maxDescriptorStringsCombinedLength;
-    private final int maxRecordingId;
+    private int maxRecordingId;
     private final boolean forceWrites;
     private final boolean forceMetadata;
     private boolean isClosed;
@@ -331,7 +338,7 @@ class Catalog implements AutoCloseable
     {
         if (nextRecordingId > maxRecordingId)
         {
-            throw new ArchiveException("catalog is full, max recordings reached: " + maxEntries());
+            growCatalog();
         }
 
         final int combinedStringsLen = strippedChannel.length() + sourceIdentity.length() + originalChannel.length();
@@ -369,6 +376,7 @@ class Catalog implements AutoCloseable
             .valid(VALID);
 
         forceWrites(catalogChannel, forceWrites, forceMetadata);
+        catalogIndex.add(recordingId, streamId, sessionId);
 
         return recordingId;
     }
@@ -488,9 +496,20 @@ class Catalog implements AutoCloseable
 
     long findLast(final long minRecordingId, final int sessionId, final int streamId, final byte[] channelFragment)
     {
-        long recordingId = nextRecordingId;
-        while (--recordingId >= minRecordingId)
+        final LongArrayList recordingIds = catalogIndex.recordingIdsBySessionId(sessionId);
+        if (null == recordingIds)
+        {
+            return NULL_RECORD_ID;
+        }
+
+        for (int i = recordingIds.size() - 1; i >= 0; i--)
         {
+            final long recordingId = recordingIds.getLong(i);
+            if (recordingId < minRecordingId)
+            {
+                break;
+            }
+
             catalogBuffer.wrap(catalogByteBuffer, recordingDescriptorOffset(recordingId), recordLength);
 
             if (isValidDescriptor(catalogBuffer))
@@ -513,6 +532,17 @@ class Catalog implements AutoCloseable
         return NULL_RECORD_ID;
     }
 
+    /**
+     * Recording ids for a stream id in ascending order.
+     *
+     * @param streamId of the recordings.
+     * @return recording ids for the stream id in ascending order or null if there are none.
+     */
+    LongArrayList recordingIdsByStreamId(final int streamId)
+    {
+        return catalogIndex.recordingIdsByStreamId(streamId);
+    }
+
     //
     // Methods for access specific record fields by recordingId.
     // Note: These methods are thread safe.
@@ -583,6 +613,7 @@ class Catalog implements AutoCloseable
     {
         final int offset = recordingDescriptorOffset(recordingId) + RecordingDescriptorHeaderDecoder.BLOCK_LENGTH;
         final long stopPosition = nativeOrder() == BYTE_ORDER ? NULL_POSITION : Long.reverseBytes(NULL_POSITION);
+        final int oldSessionId = fieldAccessBuffer.getInt(offset + sessionIdEncodingOffset(), BYTE_ORDER);
 
         fieldAccessBuffer.putLong(offset + controlSessionIdEncodingOffset(), controlSessionId, BYTE_ORDER);
         fieldAccessBuffer.putLong(offset + correlationIdEncodingOffset(), correlationId, BYTE_ORDER);
@@ -591,6 +622,7 @@ class Catalog implements AutoCloseable
         fieldAccessBuffer.putLongVolatile(offset + stopPositionEncodingOffset(), stopPosition);
 
         forceWrites(catalogChannel, forceWrites, forceMetadata);
+        catalogIndex.sessionId(recordingId, oldSessionId, sessionId);
     }
 
     long startPosition(final long recordingId)
@@ -738,10 +770,21 @@ class Catalog implements AutoCloseable
         }
         else
         {
-            forEach(((headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) -> nextRecordingId++));
+            forEach(this::refreshDescriptor);
         }
     }
 
+    private void refreshDescriptor(
+        @SuppressWarnings("unused") final RecordingDescriptorHeaderEncoder unusedHeaderEncoder,
+        @SuppressWarnings("unused") final RecordingDescriptorHeaderDecoder unusedHeaderDecoder,
+        @SuppressWarnings("unused") final RecordingDescriptorEncoder unusedEncoder,
+        final RecordingDescriptorDecoder decoder)
+    {
+        final long recordingId = decoder.recordingId();
+        catalogIndex.add(recordingId, decoder.streamId(), decoder.sessionId());
+        nextRecordingId = recordingId + 1;
+    }
+
     private void refreshAndFixDescriptor(
         @SuppressWarnings("unused") final RecordingDescriptorHeaderEncoder unused,
         final RecordingDescriptorHeaderDecoder headerDecoder,
@@ -796,9 +839,47 @@ class Catalog implements AutoCloseable
             encoder.stopTimestamp(epochClock.time());
         }
 
+        catalogIndex.add(recordingId, decoder.streamId(), decoder.sessionId());
         nextRecordingId = recordingId + 1;
     }
 
+    /**
+     * Grow the catalog file by doubling its capacity and remap it. The previous mapping is not unmapped as other
+     * threads may still be reading fields of existing recordings from it, so it is left to be released by the GC.
+     */
+    private void growCatalog()
+    {
+        if (null == catalogChannel)
+        {
+            throw new ArchiveException("catalog is full, max recordings reached: " + maxEntries());
+        }
+
+        final long newMaxEntries = Math.min((long)maxEntries() * 2, MAX_ENTRIES);
+        final long newCatalogLength = Math.min((newMaxEntries + 1) * recordLength, Integer.MAX_VALUE);
+        final int newMaxRecordingId = (int)calculateMaxEntries(newCatalogLength, recordLength) - 1;
+        if (newMaxRecordingId <= maxRecordingId)
+        {
+            throw new ArchiveException("catalog is full, max recordings reached: " + maxEntries());
+        }
+
+        try
+        {
+            final MappedByteBuffer mappedByteBuffer = catalogChannel.map(
+                FileChannel.MapMode.READ_WRITE, 0, newCatalogLength);
+
+            catalogByteBuffer = mappedByteBuffer;
+            catalogBuffer.wrap(mappedByteBuffer);
+            fieldAccessBuffer = new UnsafeBuffer(mappedByteBuffer);
+            maxRecordingId = newMaxRecordingId;
+        }
+        catch (final IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        forceWrites(catalogChannel, forceWrites, true);
+    }
+
     private void forceWrites(final FileChannel channel, final boolean forceWrites, final boolean forceMetadata)
     {
         if (null != channel && forceWrites)
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * In-memory indices of the recording ids in a {@link Catalog} by stream id and by session id so that lookups on the
+ * control path only consider candidate recordings rather than scanning every descriptor. Recording ids in each index
+ * are held in ascending order. Indices are rebuilt when the catalog is loaded and are not persisted.
+ */
+class CatalogIndex
+{
+    private final Int2ObjectHashMap<LongArrayList> recordingIdsByStreamId = new Int2ObjectHashMap<>();
+    private final Int2ObjectHashMap<LongArrayList> recordingIdsBySessionId = new Int2ObjectHashMap<>();
+
+    /**
+     * Add a recording to the indices.
+     *
+     * @param recordingId of the recording.
+     * @param streamId    of the recording.
+     * @param sessionId   of the recording.
+     */
+    void add(final long recordingId, final int streamId, final int sessionId)
+    {
+        insert(recordingIdsByStreamId.computeIfAbsent(streamId, (key) -> new LongArrayList()), recordingId);
+        insert(recordingIdsBySessionId.computeIfAbsent(sessionId, (key) -> new LongArrayList()), recordingId);
+    }
+
+    /**
+     * Move a recording to a new session id, such as when it is extended by a new image.
+     *
+     * @param recordingId  of the recording.
+     * @param oldSessionId which the recording was indexed by.
+     * @param newSessionId which the recording is to be indexed by.
+     */
+    void sessionId(final long recordingId, final int oldSessionId, final int newSessionId)
+    {
+        if (oldSessionId != newSessionId)
+        {
+            final LongArrayList oldRecordingIds = recordingIdsBySessionId.get(oldSessionId);
+            if (null != oldRecordingIds)
+            {
+                oldRecordingIds.removeLong(recordingId);
+                if (oldRecordingIds.isEmpty())
+                {
+                    recordingIdsBySessionId.remove(oldSessionId);
+                }
+            }
+
+            insert(recordingIdsBySessionId.computeIfAbsent(newSessionId, (key) -> new LongArrayList()), recordingId);
+        }
+    }
+
+    /**
+     * Recording ids for a stream id in ascending order.
+     *
+     * @param streamId of the recordings.
+     * @return recording ids for the stream id in ascending order or null if there are none.
+     */
+    LongArrayList recordingIdsByStreamId(final int streamId)
+    {
+        return recordingIdsByStreamId.get(streamId);
+    }
+
+    /**
+     * Recording ids for a session id in ascending order.
+     *
+     * @param sessionId of the recordings.
+     * @return recording ids for the session id in ascending order or null if there are none.
+     */
+    LongArrayList recordingIdsBySessionId(final int sessionId)
+    {
+        return recordingIdsBySessionId.get(sessionId);
+    }
+
+    /**
+     * Find the index of the first recording id which is greater than or equal to a given recording id.
+     *
+     * @param recordingIds in ascending order.
+     * @param recordingId  to search from.
+     * @return the index of the first recording id greater than or equal to recordingId, or size if none are.
+     */
+    static int lowerBound(final LongArrayList recordingIds, final long recordingId)
+    {
+        int low = 0;
+        int high = recordingIds.size();
+
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (recordingIds.getLong(mid) < recordingId)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private static void insert(final LongArrayList recordingIds, final long recordingId)
+    {
+        final int size = recordingIds.size();
+        if (0 == size || recordingIds.getLong(size - 1) < recordingId)
+        {
+            recordingIds.addLong(recordingId);
+        }
+        else
+        {
+            recordingIds.addLong(lowerBound(recordingIds, recordingId), recordingId);
+        }
+    }
+}
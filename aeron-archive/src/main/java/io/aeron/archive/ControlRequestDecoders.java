@@ -54,6 +54,9 @@ class ControlRequestDecoders
     final AuthConnectRequestDecoder authConnectRequest = new AuthConnectRequestDecoder();
     final ChallengeResponseDecoder challengeResponse = new ChallengeResponseDecoder();
     final KeepAliveRequestDecoder keepAliveRequest = new KeepAliveRequestDecoder();
+    final FindPositionByTimestampRequestDecoder findPositionByTimestampRequest =
+        new FindPositionByTimestampRequestDecoder();
+    final ReplayFromTimestampRequestDecoder replayFromTimestampRequest = new ReplayFromTimestampRequestDecoder();
 
     final ExpandableArrayBuffer tempBuffer = new ExpandableArrayBuffer();
 }
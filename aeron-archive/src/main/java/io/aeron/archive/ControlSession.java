@@ -497,6 +497,31 @@ class ControlSession implements Session
         }
     }
 
+    void onFindPositionByTimestamp(final long correlationId, final long recordingId, final long timestamp)
+    {
+        attemptToGoActive();
+        if (State.ACTIVE == state)
+        {
+            conductor.findPositionByTimestamp(correlationId, recordingId, timestamp, this);
+        }
+    }
+
+    void onStartReplayFromTimestamp(
+        final long correlationId,
+        final long recordingId,
+        final long timestamp,
+        final long length,
+        final int replayStreamId,
+        final String replayChannel)
+    {
+        attemptToGoActive();
+        if (State.ACTIVE == state)
+        {
+            conductor.startReplayFromTimestamp(
+                correlationId, recordingId, timestamp, length, replayStreamId, replayChannel, this);
+        }
+    }
+
     void sendOkResponse(final long correlationId, final ControlResponseProxy proxy)
     {
         sendResponse(correlationId, 0L, OK, null, proxy);
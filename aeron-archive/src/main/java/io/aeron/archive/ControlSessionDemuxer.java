@@ -740,6 +740,47 @@ class ControlSessionDemuxer implements Session, FragmentHandler
                 controlSession.onKeepAlive(correlationId);
                 break;
             }
+
+            case FindPositionByTimestampRequestDecoder.TEMPLATE_ID:
+            {
+                final FindPositionByTimestampRequestDecoder decoder = decoders.findPositionByTimestampRequest;
+                decoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    headerDecoder.blockLength(),
+                    headerDecoder.version());
+
+                final long correlationId = decoder.correlationId();
+                final long controlSessionId = decoder.controlSessionId();
+                final ControlSession controlSession = getControlSession(controlSessionId, correlationId);
+                controlSession.onFindPositionByTimestamp(
+                    correlationId,
+                    decoder.recordingId(),
+                    decoder.timestamp());
+                break;
+            }
+
+            case ReplayFromTimestampRequestDecoder.TEMPLATE_ID:
+            {
+                final ReplayFromTimestampRequestDecoder decoder = decoders.replayFromTimestampRequest;
+                decoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    headerDecoder.blockLength(),
+                    headerDecoder.version());
+
+                final long correlationId = decoder.correlationId();
+                final long controlSessionId = decoder.controlSessionId();
+                final ControlSession controlSession = getControlSession(controlSessionId, correlationId);
+                controlSession.onStartReplayFromTimestamp(
+                    correlationId,
+                    decoder.recordingId(),
+                    decoder.timestamp(),
+                    decoder.length(),
+                    decoder.replayStreamId(),
+                    decoder.replayChannel());
+                break;
+            }
         }
     }
 
@@ -15,6 +15,7 @@
  */
 package io.aeron.archive;
 
+import io.aeron.Counter;
 import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.concurrent.*;
@@ -22,13 +23,17 @@ import org.agrona.concurrent.status.AtomicCounter;
 
 import java.util.concurrent.CountDownLatch;
 
+import static io.aeron.archive.Archive.Configuration.ARCHIVE_WORKER_DUTY_CYCLES_TYPE_ID;
+import static io.aeron.archive.Archive.Configuration.ARCHIVE_WORKER_SESSIONS_TYPE_ID;
+import static io.aeron.archive.Archive.Configuration.ARCHIVE_WORKER_WORK_COUNT_TYPE_ID;
+
 final class DedicatedModeArchiveConductor extends ArchiveConductor
 {
     private static final int COMMAND_LIMIT = 10;
 
     private final ManyToOneConcurrentLinkedQueue<Session> closeQueue;
-    private AgentRunner replayerAgentRunner;
-    private AgentRunner recorderAgentRunner;
+    private AgentRunner[] replayerAgentRunners;
+    private AgentRunner[] recorderAgentRunners;
 
     DedicatedModeArchiveConductor(final Archive.Context ctx)
     {
@@ -40,21 +45,62 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
     {
         super.onStart();
 
-        recorderAgentRunner = new AgentRunner(ctx.recorderIdleStrategy(), errorHandler, ctx.errorCounter(), recorder);
-        replayerAgentRunner = new AgentRunner(ctx.replayerIdleStrategy(), errorHandler, ctx.errorCounter(), replayer);
+        replayerAgentRunners = new AgentRunner[replayers.length];
+        for (int i = 0; i < replayers.length; i++)
+        {
+            replayerAgentRunners[i] = new AgentRunner(
+                ctx.replayerIdleStrategy(), errorHandler, ctx.errorCounter(), replayers[i]);
+            AgentRunner.startOnThread(replayerAgentRunners[i], ctx.threadFactory());
+        }
 
-        AgentRunner.startOnThread(replayerAgentRunner, ctx.threadFactory());
-        AgentRunner.startOnThread(recorderAgentRunner, ctx.threadFactory());
+        recorderAgentRunners = new AgentRunner[recorders.length];
+        for (int i = 0; i < recorders.length; i++)
+        {
+            recorderAgentRunners[i] = new AgentRunner(
+                ctx.recorderIdleStrategy(), errorHandler, ctx.errorCounter(), recorders[i]);
+            AgentRunner.startOnThread(recorderAgentRunners[i], ctx.threadFactory());
+        }
+    }
+
+    protected int recorderCount()
+    {
+        return ctx.recorderThreadCount();
+    }
+
+    protected int replayerCount()
+    {
+        return ctx.replayerThreadCount();
     }
 
-    protected SessionWorker<RecordingSession> newRecorder()
+    protected SessionWorker<RecordingSession> newRecorder(final int index)
     {
-        return new DedicatedModeRecorder(errorHandler, ctx.errorCounter(), closeQueue, ctx.abortLatch());
+        final String roleName = roleName("archive-recorder", index, ctx.recorderThreadCount());
+
+        return new DedicatedModeRecorder(
+            roleName,
+            errorHandler,
+            ctx.errorCounter(),
+            closeQueue,
+            ctx.abortLatch(),
+            recordingGroupCommits[index],
+            addWorkerCounter(ARCHIVE_WORKER_SESSIONS_TYPE_ID, roleName, "sessions"),
+            addWorkerCounter(ARCHIVE_WORKER_DUTY_CYCLES_TYPE_ID, roleName, "duty cycles"),
+            addWorkerCounter(ARCHIVE_WORKER_WORK_COUNT_TYPE_ID, roleName, "bytes recorded"));
     }
 
-    protected SessionWorker<ReplaySession> newReplayer()
+    protected SessionWorker<ReplaySession> newReplayer(final int index)
     {
-        return new DedicatedModeReplayer(errorHandler, ctx.errorCounter(), closeQueue, ctx.abortLatch());
+        final String roleName = roleName("archive-replayer", index, ctx.replayerThreadCount());
+
+        return new DedicatedModeReplayer(
+            roleName,
+            errorHandler,
+            ctx.errorCounter(),
+            closeQueue,
+            ctx.abortLatch(),
+            addWorkerCounter(ARCHIVE_WORKER_SESSIONS_TYPE_ID, roleName, "sessions"),
+            addWorkerCounter(ARCHIVE_WORKER_DUTY_CYCLES_TYPE_ID, roleName, "duty cycles"),
+            addWorkerCounter(ARCHIVE_WORKER_WORK_COUNT_TYPE_ID, roleName, "fragments replayed"));
     }
 
     protected int preWork()
@@ -64,23 +110,8 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
 
     protected void closeSessionWorkers()
     {
-        try
-        {
-            CloseHelper.close(recorderAgentRunner);
-        }
-        catch (final Exception ex)
-        {
-            errorHandler.onError(ex);
-        }
-
-        try
-        {
-            CloseHelper.close(replayerAgentRunner);
-        }
-        catch (final Exception ex)
-        {
-            errorHandler.onError(ex);
-        }
+        closeAgentRunners(recorderAgentRunners);
+        closeAgentRunners(replayerAgentRunners);
 
         while (processCloseQueue() > 0 || !closeQueue.isEmpty())
         {
@@ -92,6 +123,34 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         }
     }
 
+    private void closeAgentRunners(final AgentRunner[] agentRunners)
+    {
+        if (null != agentRunners)
+        {
+            for (final AgentRunner agentRunner : agentRunners)
+            {
+                try
+                {
+                    CloseHelper.close(agentRunner);
+                }
+                catch (final Exception ex)
+                {
+                    errorHandler.onError(ex);
+                }
+            }
+        }
+    }
+
+    private Counter addWorkerCounter(final int typeId, final String roleName, final String name)
+    {
+        return ctx.aeron().addCounter(typeId, "Archive " + name + ": " + roleName);
+    }
+
+    private static String roleName(final String name, final int index, final int count)
+    {
+        return count > 1 ? name + "-" + index : name;
+    }
+
     private int processCloseQueue()
     {
         int i;
@@ -121,20 +180,27 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         private final ManyToOneConcurrentLinkedQueue<Session> closeQueue;
         private final AtomicCounter errorCounter;
         private final CountDownLatch abortLatch;
+        private final RecordingGroupCommit groupCommit;
         private volatile boolean isAbort;
 
         DedicatedModeRecorder(
+            final String roleName,
             final ErrorHandler errorHandler,
             final AtomicCounter errorCounter,
             final ManyToOneConcurrentLinkedQueue<Session> closeQueue,
-            final CountDownLatch abortLatch)
+            final CountDownLatch abortLatch,
+            final RecordingGroupCommit groupCommit,
+            final Counter sessionCount,
+            final Counter dutyCycleCount,
+            final Counter workCount)
         {
-            super("archive-recorder", errorHandler);
+            super(roleName, errorHandler, sessionCount, dutyCycleCount, workCount);
 
             this.closeQueue = closeQueue;
             this.errorCounter = errorCounter;
             this.sessionsQueue = new ManyToOneConcurrentLinkedQueue<>();
             this.abortLatch = abortLatch;
+            this.groupCommit = groupCommit;
         }
 
         protected void abort()
@@ -149,12 +215,17 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
                 throw new AgentTerminationException();
             }
 
-            return drain();
+            return drain() + (null == groupCommit ? 0 : groupCommit.poll());
         }
 
         protected void preSessionsClose()
         {
             drain();
+
+            if (null != groupCommit)
+            {
+                groupCommit.commit();
+            }
         }
 
         private int drain()
@@ -220,12 +291,16 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         private volatile boolean isAbort;
 
         DedicatedModeReplayer(
+            final String roleName,
             final ErrorHandler errorHandler,
             final AtomicCounter errorCounter,
             final ManyToOneConcurrentLinkedQueue<Session> closeQueue,
-            final CountDownLatch abortLatch)
+            final CountDownLatch abortLatch,
+            final Counter sessionCount,
+            final Counter dutyCycleCount,
+            final Counter workCount)
         {
-            super("archive-replayer", errorHandler);
+            super(roleName, errorHandler, sessionCount, dutyCycleCount, workCount);
 
             this.closeQueue = closeQueue;
             this.errorCounter = errorCounter;
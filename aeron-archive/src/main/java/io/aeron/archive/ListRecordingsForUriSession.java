@@ -17,11 +17,13 @@ package io.aeron.archive;
 
 import io.aeron.archive.codecs.RecordingDescriptorDecoder;
 import io.aeron.archive.codecs.RecordingDescriptorHeaderDecoder;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 
 class ListRecordingsForUriSession extends AbstractListRecordingsSession
 {
     private long recordingId;
+    private int index = -1;
     private int sent = 0;
     private final int count;
     private final int streamId;
@@ -54,16 +56,30 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
         int totalBytesSent = 0;
         int recordsScanned = 0;
 
+        final LongArrayList recordingIds = catalog.recordingIdsByStreamId(streamId);
+        if (index < 0 && recordingId >= 0 && null != recordingIds)
+        {
+            index = CatalogIndex.lowerBound(recordingIds, recordingId);
+        }
+
         while (sent < count && recordsScanned < MAX_SCANS_PER_WORK_CYCLE)
         {
-            if (!catalog.wrapDescriptor(recordingId, descriptorBuffer))
+            if (index < 0 || index >= recordingIds.size())
             {
+                if (recordingId >= 0)
+                {
+                    recordingId = Math.max(recordingId, catalog.countEntries());
+                }
+
                 controlSession.sendRecordingUnknown(correlationId, recordingId, proxy);
 
                 isDone = true;
                 break;
             }
 
+            recordingId = recordingIds.getLong(index);
+            catalog.wrapDescriptor(recordingId, descriptorBuffer);
+
             decoder.wrap(
                 descriptorBuffer,
                 RecordingDescriptorHeaderDecoder.BLOCK_LENGTH,
@@ -86,6 +102,7 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
             }
 
             recordingId++;
+            index++;
             recordsScanned++;
         }
 
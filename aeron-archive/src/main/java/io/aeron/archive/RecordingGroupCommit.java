@@ -0,0 +1,172 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.NanoClock;
+
+import java.util.ArrayList;
+
+/**
+ * Syncs the writes of all active {@link RecordingSession}s to disk together as a group commit so the number of syncs
+ * is bounded by time and volume rather than being one per block written for each recording.
+ * <p>
+ * Pending writes are committed once the {@link Archive.Context#fileSyncGroupCommitIntervalNs()} has elapsed since the
+ * first unsync'ed write, or once the unsync'ed writes across all recordings reach the
+ * {@link Archive.Context#fileSyncGroupCommitLength()}. A recording's {@link io.aeron.archive.status.RecordingPos}
+ * only advances to a position once it has been sync'ed.
+ * <p>
+ * <b>Note:</b> Must only be used on the recorder thread.
+ */
+class RecordingGroupCommit implements AutoCloseable
+{
+    private final long intervalNs;
+    private final long commitLength;
+    private final NanoClock nanoClock;
+    private final ErrorHandler errorHandler;
+    private final Counter syncLatency;
+    private final Counter syncBatchLength;
+    private final ArrayList<RecordingSession> pendingSessions = new ArrayList<>();
+    private long pendingLength;
+    private long firstPendingTimeNs;
+
+    RecordingGroupCommit(
+        final Archive.Context ctx,
+        final NanoClock nanoClock,
+        final ErrorHandler errorHandler,
+        final Counter syncLatency,
+        final Counter syncBatchLength)
+    {
+        this.intervalNs = ctx.fileSyncGroupCommitIntervalNs();
+        this.commitLength = ctx.fileSyncGroupCommitLength();
+        this.nanoClock = nanoClock;
+        this.errorHandler = errorHandler;
+        this.syncLatency = syncLatency;
+        this.syncBatchLength = syncBatchLength;
+    }
+
+    /**
+     * Add a session which has written data which is not yet sync'ed.
+     *
+     * @param session which has unsync'ed writes.
+     */
+    void addPendingSession(final RecordingSession session)
+    {
+        if (pendingSessions.isEmpty())
+        {
+            firstPendingTimeNs = nanoClock.nanoTime();
+        }
+
+        pendingSessions.add(session);
+    }
+
+    /**
+     * Notify of data written to a recording file which is not yet sync'ed.
+     *
+     * @param length of the data written.
+     */
+    void onWrite(final int length)
+    {
+        pendingLength += length;
+    }
+
+    /**
+     * Sync the pending writes of a session which is stopping so its final position is durable.
+     *
+     * @param session which is stopping.
+     */
+    void onSessionStopped(final RecordingSession session)
+    {
+        if (pendingSessions.remove(session))
+        {
+            syncWrites(session);
+
+            if (pendingSessions.isEmpty())
+            {
+                pendingLength = 0;
+            }
+        }
+    }
+
+    /**
+     * Commit pending writes if the interval has elapsed or the commit length has been reached.
+     *
+     * @return the number of sessions which had their writes sync'ed.
+     */
+    int poll()
+    {
+        if (pendingSessions.isEmpty())
+        {
+            return 0;
+        }
+
+        final long nowNs = nanoClock.nanoTime();
+        if (pendingLength < commitLength && (nowNs - firstPendingTimeNs) < intervalNs)
+        {
+            return 0;
+        }
+
+        return commit(nowNs);
+    }
+
+    /**
+     * Commit all pending writes regardless of interval or length, e.g. when closing.
+     *
+     * @return the number of sessions which had their writes sync'ed.
+     */
+    int commit()
+    {
+        return pendingSessions.isEmpty() ? 0 : commit(nanoClock.nanoTime());
+    }
+
+    public void close()
+    {
+        CloseHelper.close(syncLatency);
+        CloseHelper.close(syncBatchLength);
+    }
+
+    private int commit(final long nowNs)
+    {
+        final ArrayList<RecordingSession> pendingSessions = this.pendingSessions;
+        final int sessionCount = pendingSessions.size();
+
+        for (int i = 0; i < sessionCount; i++)
+        {
+            syncWrites(pendingSessions.get(i));
+        }
+
+        syncLatency.setOrdered(nanoClock.nanoTime() - nowNs);
+        syncBatchLength.setOrdered(pendingLength);
+        pendingSessions.clear();
+        pendingLength = 0;
+
+        return sessionCount;
+    }
+
+    private void syncWrites(final RecordingSession session)
+    {
+        try
+        {
+            session.syncWrites();
+        }
+        catch (final Exception ex)
+        {
+            errorHandler.onError(ex);
+        }
+    }
+}
@@ -42,6 +42,9 @@ class RecordingSession implements Session
     private final Image image;
     private final Counter position;
     private final RecordingWriter recordingWriter;
+    private final RecordingGroupCommit groupCommit;
+    private long writtenPosition;
+    private long syncedPosition;
     private State state = State.INIT;
     private final String originalChannel;
     private final ControlSession controlSession;
@@ -57,6 +60,7 @@ class RecordingSession implements Session
         final Counter position,
         final FileChannel archiveDirChannel,
         final Archive.Context ctx,
+        final RecordingGroupCommit groupCommit,
         final ControlSession controlSession)
     {
         this.correlationId = correlationId;
@@ -66,9 +70,12 @@ class RecordingSession implements Session
         this.image = image;
         this.position = position;
         this.controlSession = controlSession;
+        this.groupCommit = groupCommit;
 
         blockLengthLimit = Math.min(image.termBufferLength(), Archive.Configuration.MAX_BLOCK_LENGTH);
         recordingWriter = new RecordingWriter(recordingId, startPosition, segmentLength, image, ctx, archiveDirChannel);
+        writtenPosition = image.joinPosition();
+        syncedPosition = writtenPosition;
     }
 
     public long correlationId()
@@ -134,6 +141,10 @@ class RecordingSession implements Session
         if (State.INACTIVE == state)
         {
             state = State.STOPPED;
+            if (null != groupCommit)
+            {
+                groupCommit.onSessionStopped(this);
+            }
             recordingEventsProxy.stopped(recordingId, image.joinPosition(), image.position());
             recordingWriter.close();
             workCount += 1;
@@ -152,6 +163,23 @@ class RecordingSession implements Session
         return controlSession;
     }
 
+    /**
+     * Sync the writes made to the recording file and advance the recorded position to what has been written.
+     * Used when the sync is deferred to a {@link RecordingGroupCommit}.
+     */
+    void syncWrites()
+    {
+        if (writtenPosition > syncedPosition && !recordingWriter.isClosed())
+        {
+            recordingWriter.force();
+
+            final long position = writtenPosition;
+            syncedPosition = position;
+            this.position.setOrdered(position);
+            recordingEventsProxy.progress(recordingId, image.joinPosition(), position);
+        }
+    }
+
     private int init()
     {
         try
@@ -187,8 +215,21 @@ class RecordingSession implements Session
             if (workCount > 0)
             {
                 final long position = image.position();
-                this.position.setOrdered(position);
-                recordingEventsProxy.progress(recordingId, image.joinPosition(), position);
+                if (null == groupCommit)
+                {
+                    this.position.setOrdered(position);
+                    recordingEventsProxy.progress(recordingId, image.joinPosition(), position);
+                }
+                else
+                {
+                    if (writtenPosition == syncedPosition)
+                    {
+                        groupCommit.addPendingSession(this);
+                    }
+
+                    writtenPosition = position;
+                    groupCommit.onWrite(workCount);
+                }
             }
             else if (image.isEndOfStream() || image.isClosed())
             {
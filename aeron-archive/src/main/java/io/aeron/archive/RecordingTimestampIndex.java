@@ -0,0 +1,284 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.CloseHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.file.StandardOpenOption.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Sparse index of timestamp to position for a recording which is kept in a file alongside its segment files so a
+ * replay can be started from a point in time without searching the recording.
+ * <p>
+ * An entry is appended at most once per interval of recorded bytes and holds the position at the start of a block
+ * and its timestamp. Entries ascend in both position and timestamp so lookups are a binary search over the file.
+ * <p>
+ * The file is a sequence of {@link #ENTRY_LENGTH} byte entries, each being a little endian timestamp followed by a
+ * position. The file is not sync'ed as a missing entry only makes a lookup return an earlier position, and a
+ * partially written final entry is ignored.
+ */
+class RecordingTimestampIndex implements AutoCloseable
+{
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int POSITION_OFFSET = TIMESTAMP_OFFSET + SIZE_OF_LONG;
+    static final int ENTRY_LENGTH = POSITION_OFFSET + SIZE_OF_LONG;
+
+    private final int indexInterval;
+    private final File file;
+    private final ByteBuffer entryBuffer = ByteBuffer.allocateDirect(ENTRY_LENGTH).order(LITTLE_ENDIAN);
+    private FileChannel fileChannel;
+    private long fileOffset;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private long nextIndexPosition = 0;
+
+    RecordingTimestampIndex(final File archiveDir, final long recordingId, final int indexInterval)
+    {
+        this.indexInterval = indexInterval;
+        this.file = indexFile(archiveDir, recordingId);
+    }
+
+    /**
+     * Open the index file, creating it if necessary, and continue from the last whole entry.
+     *
+     * @throws IOException if the file cannot be opened or read.
+     */
+    void init() throws IOException
+    {
+        fileChannel = FileChannel.open(file.toPath(), CREATE, READ, WRITE);
+
+        final long entryCount = fileChannel.size() / ENTRY_LENGTH;
+        fileOffset = entryCount * ENTRY_LENGTH;
+
+        if (entryCount > 0)
+        {
+            readEntry(fileChannel, entryCount - 1, entryBuffer);
+            lastTimestamp = entryBuffer.getLong(TIMESTAMP_OFFSET);
+            nextIndexPosition = entryBuffer.getLong(POSITION_OFFSET) + indexInterval;
+        }
+    }
+
+    public void close()
+    {
+        CloseHelper.close(fileChannel);
+    }
+
+    /**
+     * Is an entry due for a block starting at a position?
+     *
+     * @param position at the start of a block.
+     * @return true if an entry is due for the block.
+     */
+    boolean isEntryDue(final long position)
+    {
+        return position >= nextIndexPosition;
+    }
+
+    /**
+     * Append an entry for a block unless the timestamp is less than that of the last entry.
+     *
+     * @param timestamp of the block.
+     * @param position  at the start of the block.
+     * @throws IOException if the entry cannot be written.
+     */
+    void append(final long timestamp, final long position) throws IOException
+    {
+        if (timestamp >= lastTimestamp)
+        {
+            entryBuffer.clear();
+            entryBuffer.putLong(TIMESTAMP_OFFSET, timestamp).putLong(POSITION_OFFSET, position);
+
+            do
+            {
+                fileOffset += fileChannel.write(entryBuffer, fileOffset);
+            }
+            while (entryBuffer.remaining() > 0);
+
+            lastTimestamp = timestamp;
+            nextIndexPosition = position + indexInterval;
+        }
+    }
+
+    /**
+     * Find the position of the last entry with a timestamp before the one given. All data at lower positions was
+     * timestamped before this so a replay from the position will not miss data timestamped at or after it.
+     *
+     * @param archiveDir  containing the index file.
+     * @param recordingId of the recording.
+     * @param timestamp   to search for.
+     * @return the position of the last entry with a timestamp before the one given or
+     * {@link io.aeron.archive.client.AeronArchive#NULL_POSITION} if there is none.
+     * @throws IOException if the index file cannot be read.
+     */
+    static long findPosition(final File archiveDir, final long recordingId, final long timestamp) throws IOException
+    {
+        final File file = indexFile(archiveDir, recordingId);
+        if (!file.exists())
+        {
+            return NULL_POSITION;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ))
+        {
+            final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_LENGTH).order(LITTLE_ENDIAN);
+            long position = NULL_POSITION;
+            long low = 0;
+            long high = (channel.size() / ENTRY_LENGTH) - 1;
+
+            while (low <= high)
+            {
+                final long index = (low + high) >>> 1;
+                readEntry(channel, index, buffer);
+
+                if (buffer.getLong(TIMESTAMP_OFFSET) < timestamp)
+                {
+                    position = buffer.getLong(POSITION_OFFSET);
+                    low = index + 1;
+                }
+                else
+                {
+                    high = index - 1;
+                }
+            }
+
+            return position;
+        }
+    }
+
+    /**
+     * Remove the entries at or beyond a position after a recording has been truncated.
+     *
+     * @param archiveDir  containing the index file.
+     * @param recordingId of the recording.
+     * @param position    to which the recording has been truncated.
+     * @throws IOException if the index file cannot be read or truncated.
+     */
+    static void truncate(final File archiveDir, final long recordingId, final long position) throws IOException
+    {
+        final File file = indexFile(archiveDir, recordingId);
+        if (!file.exists())
+        {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ, WRITE))
+        {
+            final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_LENGTH).order(LITTLE_ENDIAN);
+            long low = 0;
+            long high = (channel.size() / ENTRY_LENGTH) - 1;
+
+            while (low <= high)
+            {
+                final long index = (low + high) >>> 1;
+                readEntry(channel, index, buffer);
+
+                if (buffer.getLong(POSITION_OFFSET) < position)
+                {
+                    low = index + 1;
+                }
+                else
+                {
+                    high = index - 1;
+                }
+            }
+
+            channel.truncate(low * ENTRY_LENGTH);
+        }
+    }
+
+    /**
+     * Move the entries of a source recording to the front of a destination recording after its segments have been
+     * migrated. Entries of the destination which would go back in time are dropped to keep the index ordered.
+     *
+     * @param archiveDir     containing the index files.
+     * @param srcRecordingId of the recording from which the segments were migrated.
+     * @param dstRecordingId of the recording to which the segments were migrated.
+     * @throws IOException if an index file cannot be read or written.
+     */
+    static void migrate(final File archiveDir, final long srcRecordingId, final long dstRecordingId)
+        throws IOException
+    {
+        final File srcFile = indexFile(archiveDir, srcRecordingId);
+        if (!srcFile.exists())
+        {
+            return;
+        }
+
+        final File dstFile = indexFile(archiveDir, dstRecordingId);
+        final ByteBuffer srcEntries = wholeEntries(Files.readAllBytes(srcFile.toPath()));
+        final ByteBuffer dstEntries = dstFile.exists() ?
+            wholeEntries(Files.readAllBytes(dstFile.toPath())) : ByteBuffer.allocate(0).order(LITTLE_ENDIAN);
+
+        final int srcLength = srcEntries.limit();
+        final long lastSrcTimestamp = srcLength > 0 ?
+            srcEntries.getLong(srcLength - ENTRY_LENGTH + TIMESTAMP_OFFSET) : Long.MIN_VALUE;
+
+        int dstOffset = 0;
+        while (dstOffset < dstEntries.limit() && dstEntries.getLong(dstOffset + TIMESTAMP_OFFSET) < lastSrcTimestamp)
+        {
+            dstOffset += ENTRY_LENGTH;
+        }
+        dstEntries.position(dstOffset);
+
+        final File tmpFile = new File(archiveDir, dstFile.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmpFile.toPath(), CREATE, TRUNCATE_EXISTING, WRITE))
+        {
+            final ByteBuffer[] entries = { srcEntries, dstEntries };
+            while (srcEntries.remaining() > 0 || dstEntries.remaining() > 0)
+            {
+                channel.write(entries);
+            }
+        }
+
+        Files.move(tmpFile.toPath(), dstFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(srcFile.toPath());
+    }
+
+    private static File indexFile(final File archiveDir, final long recordingId)
+    {
+        return new File(archiveDir, Archive.timestampIndexFileName(recordingId));
+    }
+
+    private static ByteBuffer wholeEntries(final byte[] bytes)
+    {
+        return ByteBuffer.wrap(bytes, 0, bytes.length - (bytes.length % ENTRY_LENGTH)).slice().order(LITTLE_ENDIAN);
+    }
+
+    private static void readEntry(final FileChannel channel, final long index, final ByteBuffer buffer)
+        throws IOException
+    {
+        final long offset = index * ENTRY_LENGTH;
+        buffer.clear();
+
+        do
+        {
+            if (channel.read(buffer, offset + buffer.position()) < 0)
+            {
+                throw new IOException("unexpected end of timestamp index at entry " + index);
+            }
+        }
+        while (buffer.remaining() > 0);
+    }
+}
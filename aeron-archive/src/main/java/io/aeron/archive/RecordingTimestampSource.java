@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+/**
+ * Source of the timestamps held in the timestamp index kept for each recording so a replay can be started from a
+ * point in time.
+ *
+ * @see Archive.Context#recordingTimestampSource()
+ */
+public enum RecordingTimestampSource
+{
+    /**
+     * Time in milliseconds from the {@link Archive.Context#epochClock()} when a block of the recording is written.
+     */
+    RECEIVE_TIME,
+
+    /**
+     * The reserved value of the first frame in a block of the recording as set by the publisher, e.g. with a
+     * {@link io.aeron.status.TimestampReservedValueSupplier}. Timestamps must be monotonic for a publication as
+     * a timestamp which goes backwards is not indexed. Lookups must be in the same units as the publisher uses.
+     */
+    RESERVED_VALUE
+}
@@ -23,6 +23,7 @@ import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.EpochClock;
 
 import java.io.File;
 import java.io.IOException;
@@ -33,6 +34,8 @@ import java.nio.channels.FileChannel;
 
 import static io.aeron.logbuffer.FrameDescriptor.PADDING_FRAME_TYPE;
 import static io.aeron.logbuffer.FrameDescriptor.typeOffset;
+import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 
 /**
  * Responsible for writing out a recording into the file system. A recording has descriptor file and a set of data files
@@ -51,8 +54,12 @@ class RecordingWriter implements BlockHandler
     private final int segmentLength;
     private final boolean forceWrites;
     private final boolean forceMetadata;
+    private final boolean isGroupCommit;
     private final FileChannel archiveDirChannel;
     private final File archiveDir;
+    private final RecordingTimestampIndex timestampIndex;
+    private final EpochClock epochClock;
+    private final boolean isReservedValueTimestamp;
 
     private long segmentPosition;
     private int segmentOffset;
@@ -75,6 +82,12 @@ class RecordingWriter implements BlockHandler
         archiveDir = ctx.archiveDir();
         forceWrites = ctx.fileSyncLevel() > 0;
         forceMetadata = ctx.fileSyncLevel() > 1;
+        isGroupCommit = ctx.isFileSyncGroupCommit();
+        epochClock = ctx.epochClock();
+        isReservedValueTimestamp = RecordingTimestampSource.RESERVED_VALUE == ctx.recordingTimestampSource();
+
+        final int indexInterval = ctx.recordingTimestampIndexInterval();
+        timestampIndex = indexInterval > 0 ? new RecordingTimestampIndex(archiveDir, recordingId, indexInterval) : null;
 
         final int termLength = image.termBufferLength();
         final long joinPosition = image.joinPosition();
@@ -99,11 +112,20 @@ class RecordingWriter implements BlockHandler
             }
             while (byteBuffer.remaining() > 0);
 
-            if (forceWrites)
+            if (forceWrites && !isGroupCommit)
             {
                 recordingFileChannel.force(forceMetadata);
             }
 
+            if (null != timestampIndex && !isPaddingFrame)
+            {
+                final long position = segmentPosition + segmentOffset;
+                if (timestampIndex.isEntryDue(position))
+                {
+                    timestampIndex.append(timestamp(termBuffer, termOffset), position);
+                }
+            }
+
             segmentOffset += length;
             if (segmentOffset >= segmentLength)
             {
@@ -126,17 +148,44 @@ class RecordingWriter implements BlockHandler
         }
     }
 
+    /**
+     * Force writes to the current segment file to disk when the sync has been deferred to a group commit.
+     */
+    void force()
+    {
+        try
+        {
+            recordingFileChannel.force(forceMetadata);
+        }
+        catch (final ClosedByInterruptException ex)
+        {
+            close();
+            throw new ArchiveException("file closed by interrupt, recording aborted", ex, ArchiveException.GENERIC);
+        }
+        catch (final Exception ex)
+        {
+            close();
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
     void close()
     {
         if (!isClosed)
         {
             isClosed = true;
             CloseHelper.quietClose(recordingFileChannel);
+            CloseHelper.quietClose(timestampIndex);
         }
     }
 
     void init() throws IOException
     {
+        if (null != timestampIndex)
+        {
+            timestampIndex.init();
+        }
+
         openRecordingSegmentFile();
 
         if (segmentOffset != 0)
@@ -173,8 +222,23 @@ class RecordingWriter implements BlockHandler
         }
     }
 
-    private void onFileRollOver()
+    private long timestamp(final DirectBuffer termBuffer, final int termOffset)
+    {
+        if (isReservedValueTimestamp)
+        {
+            return termBuffer.getLong(termOffset + RESERVED_VALUE_OFFSET, LITTLE_ENDIAN);
+        }
+
+        return epochClock.time();
+    }
+
+    private void onFileRollOver() throws IOException
     {
+        if (isGroupCommit)
+        {
+            recordingFileChannel.force(forceMetadata);
+        }
+
         CloseHelper.close(recordingFileChannel);
         segmentOffset = 0;
         segmentPosition += segmentLength;
@@ -20,7 +20,6 @@ import io.aeron.ExclusivePublication;
 import io.aeron.Publication;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.client.ArchiveException;
-import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
@@ -43,8 +42,6 @@ import static io.aeron.archive.Archive.Configuration.MAX_BLOCK_LENGTH;
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
-import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
-import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.nio.file.StandardOpenOption.READ;
 
 /**
@@ -87,7 +84,6 @@ class ReplaySession implements Session, AutoCloseable
     private final int termLength;
     private final int segmentLength;
 
-    private final BufferClaim bufferClaim = new BufferClaim();
     private final ExclusivePublication publication;
     private final ControlSession controlSession;
     private final CachedEpochClock epochClock;
@@ -312,65 +308,78 @@ class ReplaySession implements Session, AutoCloseable
             nextTerm();
         }
 
-        int frameOffset = 0;
         final int bytesRead = readRecording(stopPosition - replayPosition);
+        int blockLength = 0;
+        int frameCount = 0;
+        int paddingLength = 0;
 
-        while (frameOffset < bytesRead)
+        while (blockLength < bytesRead)
         {
+            final int frameOffset = blockLength;
             final int frameLength = FrameDescriptor.frameLength(replayBuffer, frameOffset);
             if (frameLength <= 0)
             {
-                throw new IllegalStateException("unexpected end of recording reached at position " + replayPosition);
+                throw new IllegalStateException(
+                    "unexpected end of recording reached at position " + (replayPosition + frameOffset));
             }
 
             final int frameType = FrameDescriptor.frameType(replayBuffer, frameOffset);
             final int alignedLength = BitUtil.align(frameLength, FRAME_ALIGNMENT);
-            final int dataLength = frameLength - DataHeaderFlyweight.HEADER_LENGTH;
-            long result = 0;
 
-            if (frameType == HeaderFlyweight.HDR_TYPE_DATA)
+            if (frameOffset + alignedLength > bytesRead)
             {
-                if (frameOffset + alignedLength > bytesRead)
+                if (0 == frameOffset && frameType == HeaderFlyweight.HDR_TYPE_PAD)
                 {
-                    break;
+                    paddingLength = frameLength - DataHeaderFlyweight.HEADER_LENGTH;
+                    frameCount = 1;
                 }
+                break;
+            }
 
-                result = publication.tryClaim(dataLength, bufferClaim);
-                if (result > 0)
-                {
-                    bufferClaim
-                        .flags(FrameDescriptor.frameFlags(replayBuffer, frameOffset))
-                        .reservedValue(replayBuffer.getLong(frameOffset + RESERVED_VALUE_OFFSET, LITTLE_ENDIAN))
-                        .putBytes(replayBuffer, frameOffset + DataHeaderFlyweight.HEADER_LENGTH, dataLength)
-                        .commit();
-                }
+            if (frameType != HeaderFlyweight.HDR_TYPE_DATA && frameType != HeaderFlyweight.HDR_TYPE_PAD)
+            {
+                break;
             }
-            else if (frameType == HeaderFlyweight.HDR_TYPE_PAD)
+
+            blockLength += alignedLength;
+            frameCount++;
+
+            if (replayPosition + blockLength >= replayLimit)
             {
-                result = publication.appendPadding(dataLength);
+                break;
+            }
+        }
+
+        if (frameCount > 0)
+        {
+            final long result;
+            final int alignedLength;
+
+            if (blockLength > 0)
+            {
+                result = publication.offerBlock(replayBuffer, 0, blockLength);
+                alignedLength = blockLength;
+            }
+            else
+            {
+                result = publication.appendPadding(paddingLength);
+                alignedLength = BitUtil.align(paddingLength + DataHeaderFlyweight.HEADER_LENGTH, FRAME_ALIGNMENT);
             }
 
             if (result > 0)
             {
-                fragments++;
-                frameOffset += alignedLength;
+                fragments += frameCount;
                 termOffset += alignedLength;
                 replayPosition += alignedLength;
 
                 if (replayPosition >= replayLimit)
                 {
                     state(State.INACTIVE);
-                    break;
                 }
             }
-            else
+            else if (Publication.CLOSED == result || Publication.NOT_CONNECTED == result)
             {
-                if (Publication.CLOSED == result || Publication.NOT_CONNECTED == result)
-                {
-                    onError("stream closed before replay is complete");
-                }
-
-                break;
+                onError("stream closed before replay is complete");
             }
         }
 
@@ -15,6 +15,8 @@
  */
 package io.aeron.archive;
 
+import io.aeron.Counter;
+import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.concurrent.Agent;
@@ -32,12 +34,38 @@ class SessionWorker<T extends Session> implements Agent
     private final ArrayList<T> sessions = new ArrayList<>();
     private final String roleName;
     protected final ErrorHandler errorHandler;
+    private final Counter sessionCount;
+    private final Counter dutyCycleCount;
+    private final Counter workCount;
     private boolean isClosed = false;
 
     SessionWorker(final String roleName, final ErrorHandler errorHandler)
+    {
+        this(roleName, errorHandler, null, null, null);
+    }
+
+    /**
+     * Construct a worker which reports its load and activity via counters, so the balance across a pool of workers
+     * can be observed and new sessions can be placed on the least loaded worker.
+     *
+     * @param roleName       of the worker.
+     * @param errorHandler   for errors from sessions.
+     * @param sessionCount   of sessions placed on the worker which have not yet completed.
+     * @param dutyCycleCount of the worker.
+     * @param workCount      accumulated from the sessions of the worker.
+     */
+    SessionWorker(
+        final String roleName,
+        final ErrorHandler errorHandler,
+        final Counter sessionCount,
+        final Counter dutyCycleCount,
+        final Counter workCount)
     {
         this.roleName = roleName;
         this.errorHandler = errorHandler;
+        this.sessionCount = sessionCount;
+        this.dutyCycleCount = dutyCycleCount;
+        this.workCount = workCount;
     }
 
     public String roleName()
@@ -65,10 +93,20 @@ class SessionWorker<T extends Session> implements Agent
             if (session.isDone())
             {
                 ArrayListUtil.fastUnorderedRemove(sessions, i, lastIndex--);
+                if (null != sessionCount)
+                {
+                    sessionCount.getAndAdd(-1);
+                }
                 closeSession(session);
             }
         }
 
+        if (null != dutyCycleCount)
+        {
+            dutyCycleCount.incrementOrdered();
+            workCount.getAndAddOrdered(workDone);
+        }
+
         return workDone;
     }
 
@@ -132,6 +170,41 @@ class SessionWorker<T extends Session> implements Agent
         return isClosed;
     }
 
+    /**
+     * Number of sessions placed on this worker which have not yet completed.
+     *
+     * @return number of sessions placed on this worker which have not yet completed or 0 if not counted.
+     */
+    long sessionCount()
+    {
+        return null == sessionCount ? 0 : sessionCount.get();
+    }
+
+    /**
+     * Place a session on this worker from the archive conductor.
+     *
+     * @param session to be run by this worker.
+     */
+    final void placeSession(final T session)
+    {
+        if (null != sessionCount)
+        {
+            sessionCount.increment();
+        }
+
+        addSession(session);
+    }
+
+    /**
+     * Close the counters for the worker once it has stopped.
+     */
+    void closeCounters()
+    {
+        CloseHelper.close(sessionCount);
+        CloseHelper.close(dutyCycleCount);
+        CloseHelper.close(workCount);
+    }
+
     protected void addSession(final T session)
     {
         sessions.add(session);
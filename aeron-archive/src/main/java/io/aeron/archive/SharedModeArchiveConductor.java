@@ -33,19 +33,19 @@ final class SharedModeArchiveConductor extends ArchiveConductor
     {
         super.onStart();
 
-        replayerAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), replayer);
-        recorderAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), recorder);
+        replayerAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), replayers[0]);
+        recorderAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), recorders[0]);
 
         replayerAgentInvoker.start();
         recorderAgentInvoker.start();
     }
 
-    protected SessionWorker<RecordingSession> newRecorder()
+    protected SessionWorker<RecordingSession> newRecorder(final int index)
     {
         return new SharedModeRecorder(errorHandler);
     }
 
-    protected SessionWorker<ReplaySession> newReplayer()
+    protected SessionWorker<ReplaySession> newReplayer(final int index)
     {
         return new SharedModeReplayer(errorHandler);
     }
@@ -74,6 +74,21 @@ final class SharedModeArchiveConductor extends ArchiveConductor
             super("archive-recorder", errorHandler);
         }
 
+        protected int preWork()
+        {
+            final RecordingGroupCommit groupCommit = recordingGroupCommits[0];
+            return null == groupCommit ? 0 : groupCommit.poll();
+        }
+
+        protected void preSessionsClose()
+        {
+            final RecordingGroupCommit groupCommit = recordingGroupCommits[0];
+            if (null != groupCommit)
+            {
+                groupCommit.commit();
+            }
+        }
+
         protected void closeSession(final RecordingSession session)
         {
             closeRecordingSession(session);
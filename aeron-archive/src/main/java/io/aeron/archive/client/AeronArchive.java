@@ -1496,7 +1496,7 @@ public class AeronArchive implements AutoCloseable
      * <p>
      * The source recording must match the destination recording for segment length, term length, mtu length,
      * stream id, plus the stop position and term id of the source must join with the start position of the destination
-     * and be on a segment boundary.
+     * and be on a segment boundary. Neither recording may be active.
      * <p>
      * The source recording will be effectively truncated back to its start position after the migration.
      *
@@ -1527,6 +1527,95 @@ public class AeronArchive implements AutoCloseable
         }
     }
 
+    /**
+     * Find the position in a recording from which a replay will include all data timestamped at or after a time.
+     * <p>
+     * The archive keeps a sparse timestamp index for each recording so the position may be before the first data
+     * for the timestamp by up to the index interval. The start position is returned when the timestamp is before
+     * the indexed data, and for a stopped recording the position will not be beyond its stop position.
+     *
+     * @param recordingId of the recording to search.
+     * @param timestamp   from the source configured for the recording timestamp index in the archive, which is
+     *                    epoch milliseconds when the data was recorded by default.
+     * @return the position in the recording from which a replay will include all data timestamped at or after a time.
+     * @see #startReplayFromTimestamp(long, long, long, String, int)
+     */
+    public long findPositionByTimestamp(final long recordingId, final long timestamp)
+    {
+        lock.lock();
+        try
+        {
+            ensureOpen();
+            ensureNotReentrant();
+
+            final long correlationId = aeron.nextCorrelationId();
+
+            if (!archiveProxy.findPositionByTimestamp(recordingId, timestamp, correlationId, controlSessionId))
+            {
+                throw new ArchiveException("failed to send find position by timestamp request");
+            }
+
+            return pollForResponse(correlationId);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Start a replay for a length in bytes of a recording from the position found by
+     * {@link #findPositionByTimestamp(long, long)} for a timestamp.
+     * <p>
+     * The lower 32-bits of the returned value contains the {@link Image#sessionId()} of the received replay. All
+     * 64-bits are required to uniquely identify the replay when calling {@link #stopReplay(long)}. The lower 32-bits
+     * can be obtained by casting the {@code long} value to an {@code int}.
+     *
+     * @param recordingId    to be replayed.
+     * @param timestamp      from which the replay should begin, from the source configured for the recording
+     *                       timestamp index in the archive.
+     * @param length         of the stream to be replayed. Use {@link Long#MAX_VALUE} to follow a live recording or
+     *                       {@link #NULL_LENGTH} to replay the whole stream of unknown length.
+     * @param replayChannel  to which the replay should be sent.
+     * @param replayStreamId to which the replay should be sent.
+     * @return the id of the replay session which will be the same as the {@link Image#sessionId()} of the received
+     * replay for correlation with the matching channel and stream id in the lower 32 bits.
+     */
+    public long startReplayFromTimestamp(
+        final long recordingId,
+        final long timestamp,
+        final long length,
+        final String replayChannel,
+        final int replayStreamId)
+    {
+        lock.lock();
+        try
+        {
+            ensureOpen();
+            ensureNotReentrant();
+
+            final long correlationId = aeron.nextCorrelationId();
+
+            if (!archiveProxy.replayFromTimestamp(
+                recordingId,
+                timestamp,
+                length,
+                replayChannel,
+                replayStreamId,
+                correlationId,
+                controlSessionId))
+            {
+                throw new ArchiveException("failed to send replay from timestamp request");
+            }
+
+            return pollForResponse(correlationId);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
     private void checkDeadline(final long deadlineNs, final String errorMessage, final long correlationId)
     {
         if (Thread.interrupted())
@@ -1726,7 +1815,7 @@ public class AeronArchive implements AutoCloseable
     public static class Configuration
     {
         public static final int PROTOCOL_MAJOR_VERSION = 1;
-        public static final int PROTOCOL_MINOR_VERSION = 3;
+        public static final int PROTOCOL_MINOR_VERSION = 4;
         public static final int PROTOCOL_PATCH_VERSION = 0;
         public static final int PROTOCOL_SEMANTIC_VERSION = SemanticVersion.compose(
             PROTOCOL_MAJOR_VERSION, PROTOCOL_MINOR_VERSION, PROTOCOL_PATCH_VERSION);
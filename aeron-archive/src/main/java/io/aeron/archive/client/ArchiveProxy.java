@@ -69,6 +69,8 @@ public class ArchiveProxy
     private PurgeSegmentsRequestEncoder purgeSegmentsRequestEncoder;
     private AttachSegmentsRequestEncoder attachSegmentsRequestEncoder;
     private MigrateSegmentsRequestEncoder migrateSegmentsRequestEncoder;
+    private FindPositionByTimestampRequestEncoder findPositionByTimestampRequestEncoder;
+    private ReplayFromTimestampRequestEncoder replayFromTimestampRequestEncoder;
 
     /**
      * Create a proxy with a {@link Publication} for sending control message requests.
@@ -976,7 +978,7 @@ public class ArchiveProxy
      * <p>
      * The source recording must match the destination recording for segment length, term length, mtu length,
      * stream id, plus the stop position and term id of the source must join with the start position of the destination
-     * and be on a segment boundary.
+     * and be on a segment boundary. Neither recording may be active.
      * <p>
      * The source recording will be effectively truncated back to its start position after the migration.
      *
@@ -1004,6 +1006,72 @@ public class ArchiveProxy
         return offer(migrateSegmentsRequestEncoder.encodedLength());
     }
 
+    /**
+     * Find the position in a recording from which a replay will include all data timestamped at or after a time.
+     *
+     * @param recordingId      of the recording to search.
+     * @param timestamp        from the source configured for the recording timestamp index in the archive.
+     * @param correlationId    for this request.
+     * @param controlSessionId for this request.
+     * @return true if successfully offered otherwise false.
+     */
+    public boolean findPositionByTimestamp(
+        final long recordingId, final long timestamp, final long correlationId, final long controlSessionId)
+    {
+        if (null == findPositionByTimestampRequestEncoder)
+        {
+            findPositionByTimestampRequestEncoder = new FindPositionByTimestampRequestEncoder();
+        }
+
+        findPositionByTimestampRequestEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeaderEncoder)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .recordingId(recordingId)
+            .timestamp(timestamp);
+
+        return offer(findPositionByTimestampRequestEncoder.encodedLength());
+    }
+
+    /**
+     * Replay a recording from the position which includes all data timestamped at or after a time.
+     *
+     * @param recordingId      to be replayed.
+     * @param timestamp        from the source configured for the recording timestamp index in the archive.
+     * @param length           of the stream to be replayed. Use {@link Long#MAX_VALUE} to follow a live stream.
+     * @param replayChannel    to which the replay should be sent.
+     * @param replayStreamId   to which the replay should be sent.
+     * @param correlationId    for this request.
+     * @param controlSessionId for this request.
+     * @return true if successfully offered otherwise false.
+     */
+    public boolean replayFromTimestamp(
+        final long recordingId,
+        final long timestamp,
+        final long length,
+        final String replayChannel,
+        final int replayStreamId,
+        final long correlationId,
+        final long controlSessionId)
+    {
+        if (null == replayFromTimestampRequestEncoder)
+        {
+            replayFromTimestampRequestEncoder = new ReplayFromTimestampRequestEncoder();
+        }
+
+        replayFromTimestampRequestEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeaderEncoder)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .recordingId(recordingId)
+            .timestamp(timestamp)
+            .length(length)
+            .replayStreamId(replayStreamId)
+            .replayChannel(replayChannel);
+
+        return offer(replayFromTimestampRequestEncoder.encodedLength());
+    }
+
     private boolean offer(final int length)
     {
         retryIdleStrategy.reset();
@@ -407,6 +407,62 @@ public class CatalogTest
         catalog.close();
     }
 
+    @Test
+    public void shouldGrowCatalogWhenFull()
+    {
+        after();
+        final File archiveDir = TestUtil.makeTestDirectory();
+        final long maxEntries = 2;
+        final int recordingCount = 5;
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, maxEntries, clock))
+        {
+            for (int i = 0; i < recordingCount; i++)
+            {
+                catalog.addNewRecording(
+                    0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, i, 1, "channelG", "channelG?tag=f", "sourceA");
+            }
+
+            assertThat(catalog.maxEntries() >= recordingCount, is(true));
+            assertEquals(recordingCount, catalog.countEntries());
+            catalog.stopPosition(0, 1024L);
+            assertEquals(1024L, catalog.stopPosition(0));
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, maxEntries, clock))
+        {
+            assertEquals(recordingCount, catalog.countEntries());
+            for (int i = 0; i < recordingCount; i++)
+            {
+                verifyRecordingForId(catalog, i, i, 1, "channelG", "sourceA");
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindLastMatchingRecordingBySessionIdAfterExtend()
+    {
+        final byte[] channelFragment = "channelG".getBytes(StandardCharsets.US_ASCII);
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, MAX_ENTRIES, clock))
+        {
+            assertEquals(recordingOneId, catalog.findLast(0, 6, 1, channelFragment));
+            assertEquals(Catalog.NULL_RECORD_ID, catalog.findLast(recordingOneId + 1, 6, 1, channelFragment));
+            assertEquals(Catalog.NULL_RECORD_ID, catalog.findLast(0, 6, 2, channelFragment));
+
+            catalog.extendRecording(recordingOneId, 1L, 2L, 16);
+
+            assertEquals(Catalog.NULL_RECORD_ID, catalog.findLast(0, 6, 1, channelFragment));
+            assertEquals(recordingOneId, catalog.findLast(0, 16, 1, channelFragment));
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, MAX_ENTRIES, clock))
+        {
+            assertEquals(recordingOneId, catalog.findLast(0, 16, 1, channelFragment));
+            assertEquals(recordingTwoId, catalog.findLast(0, 7, 2, ArrayUtil.EMPTY_BYTE_ARRAY));
+        }
+    }
+
     @Test
     public void shouldContainChannelFragment()
     {
@@ -24,7 +24,9 @@ import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
+import org.agrona.concurrent.CachedNanoClock;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.After;
@@ -33,6 +35,7 @@ import org.junit.Test;
 
 import java.io.File;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.archive.Archive.segmentFileName;
@@ -128,6 +131,7 @@ public class RecordingSessionTest
             mockPosition,
             ARCHIVE_CHANNEL,
             context,
+            null,
             CONTROL_SESSION);
 
         assertEquals(RECORDING_ID, session.sessionId());
@@ -194,6 +198,75 @@ public class RecordingSessionTest
         session.close();
     }
 
+    @Test
+    public void shouldOnlyAdvanceRecordedPositionOnGroupCommit()
+    {
+        final long intervalNs = TimeUnit.MILLISECONDS.toNanos(1);
+        context.fileSyncLevel(1).fileSyncGroupCommitIntervalNs(intervalNs);
+
+        final CachedNanoClock nanoClock = new CachedNanoClock();
+        final ErrorHandler errorHandler = mock(ErrorHandler.class);
+        final Counter syncLatency = mock(Counter.class);
+        final Counter syncBatchLength = mock(Counter.class);
+        final RecordingGroupCommit groupCommit = new RecordingGroupCommit(
+            context, nanoClock, errorHandler, syncLatency, syncBatchLength);
+
+        final RecordingSession session = new RecordingSession(
+            NULL_VALUE,
+            RECORDING_ID,
+            START_POSITION,
+            SEGMENT_LENGTH,
+            CHANNEL,
+            recordingEventsProxy,
+            image,
+            mockPosition,
+            ARCHIVE_CHANNEL,
+            context,
+            groupCommit,
+            CONTROL_SESSION);
+
+        positionLong = START_POSITION;
+        session.doWork();
+
+        when(image.blockPoll(any(), anyInt())).thenAnswer(
+            (invocation) ->
+            {
+                final BlockHandler handle = invocation.getArgument(0);
+                if (handle == null)
+                {
+                    return 0;
+                }
+
+                handle.onBlock(mockLogBufferMapped, TERM_OFFSET, RECORDED_BLOCK_LENGTH, SESSION_ID, 0);
+
+                return RECORDED_BLOCK_LENGTH;
+            });
+        when(image.position()).thenReturn(START_POSITION + RECORDED_BLOCK_LENGTH);
+
+        assertNotEquals("Expect some work", 0, session.doWork());
+        assertEquals(START_POSITION, session.recordedPosition());
+        assertEquals(0, groupCommit.poll());
+
+        nanoClock.advance(intervalNs);
+        assertEquals(1, groupCommit.poll());
+        assertEquals(START_POSITION + RECORDED_BLOCK_LENGTH, session.recordedPosition());
+        verify(syncBatchLength).setOrdered(RECORDED_BLOCK_LENGTH);
+        verify(recordingEventsProxy).progress(RECORDING_ID, START_POSITION, START_POSITION + RECORDED_BLOCK_LENGTH);
+
+        when(image.position()).thenReturn(START_POSITION + (2 * RECORDED_BLOCK_LENGTH));
+        session.doWork();
+        assertEquals(START_POSITION + RECORDED_BLOCK_LENGTH, session.recordedPosition());
+
+        when(image.blockPoll(any(), anyInt())).thenReturn(0);
+        when(image.isClosed()).thenReturn(true);
+        session.doWork();
+        assertTrue(session.isDone());
+        assertEquals(START_POSITION + (2 * RECORDED_BLOCK_LENGTH), session.recordedPosition());
+        assertEquals(0, groupCommit.poll());
+        verifyNoMoreInteractions(errorHandler);
+        session.close();
+    }
+
     private static Subscription mockSubscription()
     {
         final Subscription subscription = mock(Subscription.class);
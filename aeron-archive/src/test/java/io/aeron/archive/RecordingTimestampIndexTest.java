@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.IoUtil;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static io.aeron.archive.RecordingTimestampIndex.ENTRY_LENGTH;
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RecordingTimestampIndexTest
+{
+    private static final int INDEX_INTERVAL = 4096;
+    private static final long RECORDING_ID = 7;
+    private static final long OTHER_RECORDING_ID = 8;
+
+    private final File archiveDir = TestUtil.makeTestDirectory();
+
+    @After
+    public void after()
+    {
+        IoUtil.delete(archiveDir, false);
+    }
+
+    @Test
+    public void shouldFindPositionOfLastEntryBeforeTimestamp() throws IOException
+    {
+        appendEntries(RECORDING_ID, 10, 0, 20, 4096, 30, 8192);
+
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 5), is(NULL_POSITION));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 10), is(NULL_POSITION));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 11), is(0L));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 20), is(0L));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 25), is(4096L));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, Long.MAX_VALUE), is(8192L));
+    }
+
+    @Test
+    public void shouldReturnNullPositionWhenNoIndex() throws IOException
+    {
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 100), is(NULL_POSITION));
+    }
+
+    @Test
+    public void shouldOnlyAppendEntryPerIntervalWithTimestampNotGoingBackwards() throws IOException
+    {
+        try (RecordingTimestampIndex index = new RecordingTimestampIndex(archiveDir, RECORDING_ID, INDEX_INTERVAL))
+        {
+            index.init();
+            assertTrue(index.isEntryDue(0));
+
+            index.append(100, 0);
+            assertFalse(index.isEntryDue(INDEX_INTERVAL - 32));
+            assertTrue(index.isEntryDue(INDEX_INTERVAL));
+
+            index.append(50, INDEX_INTERVAL);
+            assertTrue(index.isEntryDue(INDEX_INTERVAL + 32));
+
+            index.append(200, INDEX_INTERVAL + 32);
+        }
+
+        assertThat(indexFile(RECORDING_ID).length(), is(2L * ENTRY_LENGTH));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 150), is(0L));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 201), is(INDEX_INTERVAL + 32L));
+    }
+
+    @Test
+    public void shouldContinueFromLastWholeEntryOnReopen() throws IOException
+    {
+        appendEntries(RECORDING_ID, 10, 0, 20, 4096);
+        Files.write(indexFile(RECORDING_ID).toPath(), new byte[3], StandardOpenOption.APPEND);
+
+        try (RecordingTimestampIndex index = new RecordingTimestampIndex(archiveDir, RECORDING_ID, INDEX_INTERVAL))
+        {
+            index.init();
+            assertFalse(index.isEntryDue(4096 + INDEX_INTERVAL - 32));
+            assertTrue(index.isEntryDue(4096 + INDEX_INTERVAL));
+
+            index.append(30, 8192);
+        }
+
+        assertThat(indexFile(RECORDING_ID).length(), is(3L * ENTRY_LENGTH));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, 31), is(8192L));
+    }
+
+    @Test
+    public void shouldTruncateEntriesAtOrBeyondPosition() throws IOException
+    {
+        appendEntries(RECORDING_ID, 10, 0, 20, 4096, 30, 8192);
+
+        RecordingTimestampIndex.truncate(archiveDir, RECORDING_ID, 4096);
+
+        assertThat(indexFile(RECORDING_ID).length(), is((long)ENTRY_LENGTH));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, RECORDING_ID, Long.MAX_VALUE), is(0L));
+    }
+
+    @Test
+    public void shouldMigrateEntriesToFrontOfDestination() throws IOException
+    {
+        appendEntries(RECORDING_ID, 10, 0, 20, 4096);
+        appendEntries(OTHER_RECORDING_ID, 15, 8192, 30, 12288);
+
+        RecordingTimestampIndex.migrate(archiveDir, RECORDING_ID, OTHER_RECORDING_ID);
+
+        assertFalse(indexFile(RECORDING_ID).exists());
+        assertThat(indexFile(OTHER_RECORDING_ID).length(), is(3L * ENTRY_LENGTH));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, OTHER_RECORDING_ID, 11), is(0L));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, OTHER_RECORDING_ID, 25), is(4096L));
+        assertThat(RecordingTimestampIndex.findPosition(archiveDir, OTHER_RECORDING_ID, 31), is(12288L));
+    }
+
+    private void appendEntries(final long recordingId, final long... timestampPositionPairs) throws IOException
+    {
+        try (RecordingTimestampIndex index = new RecordingTimestampIndex(archiveDir, recordingId, INDEX_INTERVAL))
+        {
+            index.init();
+            for (int i = 0; i < timestampPositionPairs.length; i += 2)
+            {
+                index.append(timestampPositionPairs[i], timestampPositionPairs[i + 1]);
+            }
+        }
+    }
+
+    private File indexFile(final long recordingId)
+    {
+        return new File(archiveDir, Archive.timestampIndexFileName(recordingId));
+    }
+}
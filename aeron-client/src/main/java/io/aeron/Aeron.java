@@ -208,6 +208,8 @@ public class Aeron implements AutoCloseable
      * @return true in the command is still in active processing or false if completed successfully or errored.
      * @see Publication#asyncAddDestination(String)
      * @see Subscription#asyncAddDestination(String)
+     * @see #asyncAddPublication(String, int)
+     * @see #asyncAddSubscription(String, int)
      */
     public boolean isCommandActive(final long correlationId)
     {
@@ -301,6 +303,136 @@ public class Aeron implements AutoCloseable
         return conductor.addSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
     }
 
+    /**
+     * Asynchronously add a {@link Publication} for publishing messages to subscribers. The call returns without
+     * waiting for the media driver to respond so many registrations can be pipelined.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used to get it via {@link #getPublication(long)}.
+     */
+    public long asyncAddPublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddPublication(channel, streamId);
+    }
+
+    /**
+     * Asynchronously add an {@link ExclusivePublication} for publishing messages to subscribers from a single
+     * thread. The call returns without waiting for the media driver to respond so many registrations can be
+     * pipelined.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used to get it via
+     * {@link #getExclusivePublication(long)}.
+     */
+    public long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddExclusivePublication(channel, streamId);
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers. The call returns
+     * without waiting for the media driver to respond so many registrations can be pipelined.
+     * <p>
+     * The {@link Subscription} will use the {@link Aeron.Context#availableImageHandler(AvailableImageHandler)} and
+     * {@link Aeron.Context#unavailableImageHandler(UnavailableImageHandler)} from the {@link Aeron.Context}.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the subscription which can be used to get it via {@link #getSubscription(long)}.
+     */
+    public long asyncAddSubscription(final String channel, final int streamId)
+    {
+        return conductor.asyncAddSubscription(channel, streamId);
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers. The call returns
+     * without waiting for the media driver to respond so many registrations can be pipelined.
+     *
+     * @param channel                 for receiving the messages known to the media layer.
+     * @param streamId                within the channel scope.
+     * @param availableImageHandler   called when {@link Image}s become available for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @param unavailableImageHandler called when {@link Image}s go unavailable for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @return the registration id of the subscription which can be used to get it via {@link #getSubscription(long)}.
+     */
+    public long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        return conductor.asyncAddSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
+    }
+
+    /**
+     * Get a {@link ConcurrentPublication} added with {@link #asyncAddPublication(String, int)} once the media driver
+     * has responded. This call does not block.
+     *
+     * @param registrationId returned from {@link #asyncAddPublication(String, int)}.
+     * @return the {@link ConcurrentPublication} if ready otherwise null if the registration is still in progress.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     */
+    public ConcurrentPublication getPublication(final long registrationId)
+    {
+        return conductor.getPublication(registrationId);
+    }
+
+    /**
+     * Get an {@link ExclusivePublication} added with {@link #asyncAddExclusivePublication(String, int)} once the
+     * media driver has responded. This call does not block.
+     *
+     * @param registrationId returned from {@link #asyncAddExclusivePublication(String, int)}.
+     * @return the {@link ExclusivePublication} if ready otherwise null if the registration is still in progress.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     */
+    public ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        return conductor.getExclusivePublication(registrationId);
+    }
+
+    /**
+     * Get a {@link Subscription} added with {@link #asyncAddSubscription(String, int)} once the media driver has
+     * responded. This call does not block.
+     *
+     * @param registrationId returned from {@link #asyncAddSubscription(String, int)}.
+     * @return the {@link Subscription} if ready otherwise null if the registration is still in progress.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     */
+    public Subscription getSubscription(final long registrationId)
+    {
+        return conductor.getSubscription(registrationId);
+    }
+
+    /**
+     * Asynchronously remove a {@link Publication} or {@link ExclusivePublication} added with
+     * {@link #asyncAddPublication(String, int)} or {@link #asyncAddExclusivePublication(String, int)}. This call does
+     * not block and can be used to abandon a registration which is still in progress or which the media driver
+     * rejected without getting it.
+     *
+     * @param registrationId returned from {@link #asyncAddPublication(String, int)} or
+     *                       {@link #asyncAddExclusivePublication(String, int)}.
+     */
+    public void asyncRemovePublication(final long registrationId)
+    {
+        conductor.asyncRemovePublication(registrationId);
+    }
+
+    /**
+     * Asynchronously remove a {@link Subscription} added with {@link #asyncAddSubscription(String, int)}. This call
+     * does not block and can be used to abandon a registration which is still in progress or which the media driver
+     * rejected without getting it.
+     *
+     * @param registrationId returned from {@link #asyncAddSubscription(String, int)}.
+     */
+    public void asyncRemoveSubscription(final long registrationId)
+    {
+        conductor.asyncRemoveSubscription(registrationId);
+    }
+
     /**
      * Generate the next correlation id that is unique for the connected Media Driver.
      * <p>
@@ -679,10 +811,27 @@ public class Aeron implements AutoCloseable
                     CncFileDescriptor.createToDriverBuffer(cncByteBuffer, cncMetaDataBuffer));
             }
 
+            if (null == driverProxy)
+            {
+                clientId = toDriverBuffer.nextCorrelationId();
+                driverProxy = new DriverProxy(toDriverBuffer, clientId);
+            }
+
             if (null == toClientBuffer)
             {
-                toClientBuffer = new CopyBroadcastReceiver(new BroadcastReceiver(
-                    CncFileDescriptor.createToClientsBuffer(cncByteBuffer, cncMetaDataBuffer)));
+                final int clientResponseBufferCount = CncFileDescriptor.clientResponseBufferCount(cncMetaDataBuffer);
+                final UnsafeBuffer buffer;
+                if (clientResponseBufferCount > 0)
+                {
+                    final int index = CncFileDescriptor.clientResponseBufferIndex(clientId, clientResponseBufferCount);
+                    buffer = CncFileDescriptor.createClientResponseBuffer(cncByteBuffer, cncMetaDataBuffer, index);
+                }
+                else
+                {
+                    buffer = CncFileDescriptor.createToClientsBuffer(cncByteBuffer, cncMetaDataBuffer);
+                }
+
+                toClientBuffer = new CopyBroadcastReceiver(new BroadcastReceiver(buffer));
             }
 
             if (countersMetaDataBuffer() == null)
@@ -706,12 +855,6 @@ public class Aeron implements AutoCloseable
                 errorHandler = Configuration.DEFAULT_ERROR_HANDLER;
             }
 
-            if (null == driverProxy)
-            {
-                clientId = toDriverBuffer.nextCorrelationId();
-                driverProxy = new DriverProxy(toDriverBuffer, clientId);
-            }
-
             return this;
         }
 
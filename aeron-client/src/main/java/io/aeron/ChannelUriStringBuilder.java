@@ -53,6 +53,7 @@ public class ChannelUriStringBuilder
     private Integer termId;
     private Integer termOffset;
     private Integer sessionId;
+    private Integer burstLength;
     private Long linger;
     private Boolean sparse;
     private Boolean eos;
@@ -85,6 +86,7 @@ public class ChannelUriStringBuilder
         termId = null;
         termOffset = null;
         sessionId = null;
+        burstLength = null;
         linger = null;
         sparse = null;
         eos = null;
@@ -1217,6 +1219,62 @@ public class ChannelUriStringBuilder
         return rejoin;
     }
 
+    /**
+     * Set the maximum number of bytes a network publication may send in a burst of datagrams per sender duty cycle.
+     *
+     * @param burstLength in bytes which may be sent in a burst per sender duty cycle.
+     * @return this for a fluent API.
+     * @see CommonContext#BURST_LENGTH_PARAM_NAME
+     */
+    public ChannelUriStringBuilder burstLength(final Integer burstLength)
+    {
+        if (null != burstLength && burstLength < 0)
+        {
+            throw new IllegalArgumentException("burst length cannot be negative: " + burstLength);
+        }
+
+        this.burstLength = burstLength;
+        return this;
+    }
+
+    /**
+     * Set the burst length value to be what is in the {@link ChannelUri} which may be null.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#BURST_LENGTH_PARAM_NAME
+     */
+    public ChannelUriStringBuilder burstLength(final ChannelUri channelUri)
+    {
+        final String burstLengthStr = channelUri.get(BURST_LENGTH_PARAM_NAME);
+        if (null == burstLengthStr)
+        {
+            burstLength = null;
+            return this;
+        }
+        else
+        {
+            final long value = parseSize(BURST_LENGTH_PARAM_NAME, burstLengthStr);
+            if (value > Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException(BURST_LENGTH_PARAM_NAME + " " + value + " > " + Integer.MAX_VALUE);
+            }
+
+            return burstLength((int)value);
+        }
+    }
+
+    /**
+     * Get the maximum number of bytes a network publication may send in a burst of datagrams per sender duty cycle.
+     *
+     * @return the maximum number of bytes which may be sent in a burst per sender duty cycle.
+     * @see CommonContext#BURST_LENGTH_PARAM_NAME
+     */
+    public Integer burstLength()
+    {
+        return burstLength;
+    }
+
     /**
      * Initialise a channel for restarting a publication at a given position.
      *
@@ -1364,6 +1422,11 @@ public class ChannelUriStringBuilder
             sb.append(REJOIN_PARAM_NAME).append('=').append(rejoin).append('|');
         }
 
+        if (null != burstLength)
+        {
+            sb.append(BURST_LENGTH_PARAM_NAME).append('=').append(burstLength.intValue()).append('|');
+        }
+
         final char lastChar = sb.charAt(sb.length() - 1);
         if (lastChar == '|' || lastChar == '?')
         {
@@ -72,6 +72,8 @@ class ClientConductor implements Agent, DriverEventsListener
     private final Long2ObjectHashMap<Object> resourceByRegIdMap = new Long2ObjectHashMap<>();
     private final ArrayList<ManagedResource> lingeringResources = new ArrayList<>();
     private final LongHashSet asyncCommandIdSet = new LongHashSet();
+    private final Long2ObjectHashMap<String> asyncChannelByRegIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<RegistrationException> asyncExceptionByRegIdMap = new Long2ObjectHashMap<>();
     private final AvailableImageHandler defaultAvailableImageHandler;
     private final UnavailableImageHandler defaultUnavailableImageHandler;
     private final ArrayList<AvailableCounterHandler> availableCounterHandlers = new ArrayList<>();
@@ -237,7 +239,24 @@ class ClientConductor implements Agent, DriverEventsListener
     public void onAsyncError(
         final long correlationId, final int codeValue, final ErrorCode errorCode, final String message)
     {
-        handleError(new RegistrationException(correlationId, codeValue, errorCode, message));
+        final RegistrationException ex = new RegistrationException(correlationId, codeValue, errorCode, message);
+        final Object resource = resourceByRegIdMap.get(correlationId);
+
+        if (null != asyncChannelByRegIdMap.remove(correlationId))
+        {
+            asyncExceptionByRegIdMap.put(correlationId, ex);
+        }
+        else if (resource instanceof Subscription)
+        {
+            final Subscription subscription = (Subscription)resource;
+            subscription.internalClose();
+            resourceByRegIdMap.remove(correlationId);
+            asyncExceptionByRegIdMap.put(correlationId, ex);
+        }
+        else
+        {
+            handleError(ex);
+        }
     }
 
     public void onChannelEndpointError(final int statusIndicatorId, final String message)
@@ -281,14 +300,15 @@ class ClientConductor implements Agent, DriverEventsListener
         final int statusIndicatorId,
         final String logFileName)
     {
+        final String channel = publicationChannel(correlationId);
         final ConcurrentPublication publication = new ConcurrentPublication(
             this,
-            stashedChannel,
+            channel,
             streamId,
             sessionId,
             new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
             statusIndicatorId,
-            logBuffers(registrationId, logFileName, stashedChannel),
+            logBuffers(registrationId, logFileName, channel),
             registrationId,
             correlationId);
 
@@ -304,14 +324,15 @@ class ClientConductor implements Agent, DriverEventsListener
         final int statusIndicatorId,
         final String logFileName)
     {
+        final String channel = publicationChannel(correlationId);
         final ExclusivePublication publication = new ExclusivePublication(
             this,
-            stashedChannel,
+            channel,
             streamId,
             sessionId,
             new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
             statusIndicatorId,
-            logBuffers(registrationId, logFileName, stashedChannel),
+            logBuffers(registrationId, logFileName, channel),
             registrationId,
             correlationId);
 
@@ -490,6 +511,89 @@ class ClientConductor implements Agent, DriverEventsListener
         }
     }
 
+    long asyncAddPublication(final String channel, final int streamId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            final long registrationId = driverProxy.addPublication(channel, streamId);
+            asyncChannelByRegIdMap.put(registrationId, channel);
+            asyncCommandIdSet.add(registrationId);
+
+            return registrationId;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            final long registrationId = driverProxy.addExclusivePublication(channel, streamId);
+            asyncChannelByRegIdMap.put(registrationId, channel);
+            asyncCommandIdSet.add(registrationId);
+
+            return registrationId;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    ConcurrentPublication getPublication(final long registrationId)
+    {
+        return (ConcurrentPublication)getAsyncResource(registrationId);
+    }
+
+    ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        return (ExclusivePublication)getAsyncResource(registrationId);
+    }
+
+    void asyncRemovePublication(final long registrationId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            asyncExceptionByRegIdMap.remove(registrationId);
+            if (asyncCommandIdSet.remove(registrationId))
+            {
+                asyncChannelByRegIdMap.remove(registrationId);
+                driverProxy.removePublication(registrationId);
+            }
+            else
+            {
+                final Object resource = resourceByRegIdMap.get(registrationId);
+                if (resource instanceof Publication)
+                {
+                    final Publication publication = (Publication)resource;
+                    publication.internalClose();
+                    resourceByRegIdMap.remove(registrationId);
+                    releaseLogBuffers(publication.logBuffers(), publication.originalRegistrationId());
+                    driverProxy.removePublication(registrationId);
+                }
+            }
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
     void releasePublication(final Publication publication)
     {
         clientLock.lock();
@@ -550,6 +654,74 @@ class ClientConductor implements Agent, DriverEventsListener
         }
     }
 
+    long asyncAddSubscription(final String channel, final int streamId)
+    {
+        return asyncAddSubscription(channel, streamId, defaultAvailableImageHandler, defaultUnavailableImageHandler);
+    }
+
+    long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            final long registrationId = driverProxy.addSubscription(channel, streamId);
+            final Subscription subscription = new Subscription(
+                this,
+                channel,
+                streamId,
+                registrationId,
+                availableImageHandler,
+                unavailableImageHandler);
+
+            resourceByRegIdMap.put(registrationId, subscription);
+            asyncCommandIdSet.add(registrationId);
+
+            return registrationId;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    Subscription getSubscription(final long registrationId)
+    {
+        return (Subscription)getAsyncResource(registrationId);
+    }
+
+    void asyncRemoveSubscription(final long registrationId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            asyncExceptionByRegIdMap.remove(registrationId);
+            asyncCommandIdSet.remove(registrationId);
+
+            final Object resource = resourceByRegIdMap.get(registrationId);
+            if (resource instanceof Subscription)
+            {
+                final Subscription subscription = (Subscription)resource;
+                subscription.internalClose();
+                resourceByRegIdMap.remove(registrationId);
+                driverProxy.removeSubscription(registrationId);
+            }
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
     void releaseSubscription(final Subscription subscription)
     {
         clientLock.lock();
@@ -998,6 +1170,40 @@ class ClientConductor implements Agent, DriverEventsListener
         }
     }
 
+    private Object getAsyncResource(final long registrationId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            if (asyncCommandIdSet.contains(registrationId))
+            {
+                service(NO_CORRELATION_ID);
+            }
+
+            final RegistrationException ex = asyncExceptionByRegIdMap.remove(registrationId);
+            if (null != ex)
+            {
+                throw ex;
+            }
+
+            return asyncCommandIdSet.contains(registrationId) ? null : resourceByRegIdMap.get(registrationId);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    private String publicationChannel(final long correlationId)
+    {
+        final String channel = asyncChannelByRegIdMap.remove(correlationId);
+
+        return null != channel ? channel : stashedChannel;
+    }
+
     private LogBuffers logBuffers(final long registrationId, final String logFileName, final String channel)
     {
         LogBuffers logBuffers = logBuffersByIdMap.get(registrationId);
@@ -1218,6 +1424,8 @@ class ClientConductor implements Agent, DriverEventsListener
         }
 
         resourceByRegIdMap.clear();
+        asyncChannelByRegIdMap.clear();
+        asyncExceptionByRegIdMap.clear();
     }
 
     private void callUnavailableCounterHandlers(final long registrationId, final int counterId)
@@ -42,8 +42,15 @@ import static org.agrona.BitUtil.*;
  *  +-----------------------------+
  *  |          Error Log          |
  *  +-----------------------------+
+ *  |  Client Response Buffers    |
+ *  +-----------------------------+
  * </pre>
  * <p>
+ * The client response buffers are optional. When the count is greater than zero each client reads events from the
+ * response buffer selected by {@link #clientResponseBufferIndex(long, int)} for its client id rather than the
+ * to-clients buffer. The driver transmits events for a client to its response buffer in addition to the to-clients
+ * buffer so clients which do not use response buffers are unaffected.
+ * <p>
  * Meta Data Layout {@link #CNC_VERSION}
  * <pre>
  *   0                   1                   2                   3
@@ -70,6 +77,10 @@ import static org.agrona.BitUtil.*;
  *  |                         Driver PID                            |
  *  |                                                               |
  *  +---------------------------------------------------------------+
+ *  |                Client Response buffer count                   |
+ *  +---------------------------------------------------------------+
+ *  |                Client Response buffer length                  |
+ *  +---------------------------------------------------------------+
  * </pre>
  */
 public class CncFileDescriptor
@@ -79,7 +90,7 @@ public class CncFileDescriptor
     /**
      * Version of the CnC file using semantic versioning ({@link SemanticVersion}) stored in an integer.
      */
-    public static final int CNC_VERSION = SemanticVersion.compose(0, 0, 16);
+    public static final int CNC_VERSION = SemanticVersion.compose(0, 1, 0);
 
     public static final int CNC_VERSION_FIELD_OFFSET;
     public static final int TO_DRIVER_BUFFER_LENGTH_FIELD_OFFSET;
@@ -90,6 +101,8 @@ public class CncFileDescriptor
     public static final int ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET;
     public static final int START_TIMESTAMP_FIELD_OFFSET;
     public static final int PID_FIELD_OFFSET;
+    public static final int CLIENT_RESPONSE_BUFFER_COUNT_FIELD_OFFSET;
+    public static final int CLIENT_RESPONSE_BUFFER_LENGTH_FIELD_OFFSET;
 
     static
     {
@@ -102,9 +115,11 @@ public class CncFileDescriptor
         CLIENT_LIVENESS_TIMEOUT_FIELD_OFFSET = ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET + SIZE_OF_INT;
         START_TIMESTAMP_FIELD_OFFSET = CLIENT_LIVENESS_TIMEOUT_FIELD_OFFSET + SIZE_OF_LONG;
         PID_FIELD_OFFSET = START_TIMESTAMP_FIELD_OFFSET + SIZE_OF_LONG;
+        CLIENT_RESPONSE_BUFFER_COUNT_FIELD_OFFSET = PID_FIELD_OFFSET + SIZE_OF_LONG;
+        CLIENT_RESPONSE_BUFFER_LENGTH_FIELD_OFFSET = CLIENT_RESPONSE_BUFFER_COUNT_FIELD_OFFSET + SIZE_OF_INT;
     }
 
-    public static final int META_DATA_LENGTH = PID_FIELD_OFFSET + SIZE_OF_LONG;
+    public static final int META_DATA_LENGTH = CLIENT_RESPONSE_BUFFER_LENGTH_FIELD_OFFSET + SIZE_OF_INT;
     public static final int END_OF_METADATA_OFFSET = align(META_DATA_LENGTH, (CACHE_LINE_LENGTH * 2));
 
     /**
@@ -164,6 +179,16 @@ public class CncFileDescriptor
         return baseOffset + PID_FIELD_OFFSET;
     }
 
+    public static int clientResponseBufferCountOffset(final int baseOffset)
+    {
+        return baseOffset + CLIENT_RESPONSE_BUFFER_COUNT_FIELD_OFFSET;
+    }
+
+    public static int clientResponseBufferLengthOffset(final int baseOffset)
+    {
+        return baseOffset + CLIENT_RESPONSE_BUFFER_LENGTH_FIELD_OFFSET;
+    }
+
     /**
      * Fill the CnC file with metadata to define its sections.
      *
@@ -176,6 +201,8 @@ public class CncFileDescriptor
      * @param errorLogBufferLength        for recording the distinct error log.
      * @param startTimestampMs            epoch at which the driver started.
      * @param pid                         for the process hosting the driver.
+     * @param clientResponseBufferCount   number of per client response buffers, zero if not used.
+     * @param clientResponseBufferLength  for each of the per client response buffers.
      */
     public static void fillMetaData(
         final UnsafeBuffer cncMetaDataBuffer,
@@ -186,7 +213,9 @@ public class CncFileDescriptor
         final long clientLivenessTimeoutNs,
         final int errorLogBufferLength,
         final long startTimestampMs,
-        final long pid)
+        final long pid,
+        final int clientResponseBufferCount,
+        final int clientResponseBufferLength)
     {
         cncMetaDataBuffer.putInt(toDriverBufferLengthOffset(0), toDriverBufferLength);
         cncMetaDataBuffer.putInt(toClientsBufferLengthOffset(0), toClientsBufferLength);
@@ -196,6 +225,8 @@ public class CncFileDescriptor
         cncMetaDataBuffer.putLong(clientLivenessTimeoutOffset(0), clientLivenessTimeoutNs);
         cncMetaDataBuffer.putLong(startTimestampOffset(0), startTimestampMs);
         cncMetaDataBuffer.putLong(pidOffset(0), pid);
+        cncMetaDataBuffer.putInt(clientResponseBufferCountOffset(0), clientResponseBufferCount);
+        cncMetaDataBuffer.putInt(clientResponseBufferLengthOffset(0), clientResponseBufferLength);
     }
 
     /**
@@ -295,6 +326,59 @@ public class CncFileDescriptor
         return new UnsafeBuffer(buffer, offset, metaDataBuffer.getInt(errorLogBufferLengthOffset(0)));
     }
 
+    /**
+     * Create the buffer which wraps the section in the CnC file for a per client response buffer from the driver.
+     *
+     * @param buffer         for the CnC file.
+     * @param metaDataBuffer within the CnC file.
+     * @param index          of the client response buffer.
+     * @return a buffer which wraps the section in the CnC file for a client response buffer.
+     * @see #clientResponseBufferIndex(long, int)
+     */
+    public static UnsafeBuffer createClientResponseBuffer(
+        final ByteBuffer buffer, final DirectBuffer metaDataBuffer, final int index)
+    {
+        final int count = clientResponseBufferCount(metaDataBuffer);
+        if (index < 0 || index >= count)
+        {
+            throw new IllegalArgumentException("invalid client response buffer index=" + index + " count=" + count);
+        }
+
+        final int length = metaDataBuffer.getInt(clientResponseBufferLengthOffset(0));
+        final int offset = END_OF_METADATA_OFFSET +
+            metaDataBuffer.getInt(toDriverBufferLengthOffset(0)) +
+            metaDataBuffer.getInt(toClientsBufferLengthOffset(0)) +
+            metaDataBuffer.getInt(countersMetaDataBufferLengthOffset(0)) +
+            metaDataBuffer.getInt(countersValuesBufferLengthOffset(0)) +
+            metaDataBuffer.getInt(errorLogBufferLengthOffset(0)) +
+            (index * length);
+
+        return new UnsafeBuffer(buffer, offset, length);
+    }
+
+    /**
+     * Get the number of per client response buffers in the CnC file.
+     *
+     * @param metaDataBuffer for the CnC file.
+     * @return the number of per client response buffers in the CnC file, or zero if not used.
+     */
+    public static int clientResponseBufferCount(final DirectBuffer metaDataBuffer)
+    {
+        return metaDataBuffer.getInt(clientResponseBufferCountOffset(0));
+    }
+
+    /**
+     * Get the index of the client response buffer a client reads events from.
+     *
+     * @param clientId                  allocated to the client.
+     * @param clientResponseBufferCount in the CnC file.
+     * @return the index of the client response buffer a client reads events from.
+     */
+    public static int clientResponseBufferIndex(final long clientId, final int clientResponseBufferCount)
+    {
+        return (int)((clientId & Long.MAX_VALUE) % clientResponseBufferCount);
+    }
+
     /**
      * Get the timeout in nanoseconds for tracking client liveness and inter-service timeout.
      *
@@ -260,6 +260,13 @@ public class CommonContext implements Cloneable
      */
     public static final String CONGESTION_CONTROL_PARAM_NAME = "cc";
 
+    /**
+     * Parameter name for Publication URI param to indicate the maximum number of bytes which may be sent in a burst
+     * of datagrams per sender duty cycle. A value less than or equal to the MTU results in a single datagram being
+     * sent per duty cycle.
+     */
+    public static final String BURST_LENGTH_PARAM_NAME = "burst-length";
+
     /**
      * Using an integer because there is no support for boolean. 1 is concluded, 0 is not concluded.
      */
@@ -16,6 +16,7 @@
 package io.aeron;
 
 import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.FragmentedMessageBuffer;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -29,6 +30,12 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
  * buffer for reassembly before delegation.
  * <p>
+ * When constructed to be zero copy, fragmented messages which are wholly available in the term when the first
+ * fragment is read are delegated as a {@link FragmentedMessageBuffer} which reads them in place, and the remaining
+ * fragments are skipped. Messages still being appended when the first fragment is read fall back to being copied.
+ * The action returned by the delegate for a message delegated in place applies to the first fragment, so a
+ * {@link Action#BREAK} or {@link Action#COMMIT} takes effect before the remaining fragments are consumed.
+ * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  * <p>
  * Session based buffers will be allocated and grown as necessary based on the length of messages to be assembled.
@@ -44,6 +51,7 @@ public class ControlledFragmentAssembler implements ControlledFragmentHandler
     private final boolean isDirectByteBuffer;
     private final int initialBufferLength;
     private final ControlledFragmentHandler delegate;
+    private final FragmentedMessageBuffer messageBuffer;
     private final Int2ObjectHashMap<BufferBuilder> builderBySessionIdMap = new Int2ObjectHashMap<>();
 
     /**
@@ -76,10 +84,28 @@ public class ControlledFragmentAssembler implements ControlledFragmentHandler
      */
     public ControlledFragmentAssembler(
         final ControlledFragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this(delegate, initialBufferLength, isDirectByteBuffer, false);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate            onto which whole messages are forwarded.
+     * @param initialBufferLength to be used for each session.
+     * @param isDirectByteBuffer  is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @param isZeroCopy          should whole fragmented messages be delegated in place from the term without copy?
+     */
+    public ControlledFragmentAssembler(
+        final ControlledFragmentHandler delegate,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer,
+        final boolean isZeroCopy)
     {
         this.initialBufferLength = initialBufferLength;
         this.delegate = delegate;
         this.isDirectByteBuffer = isDirectByteBuffer;
+        this.messageBuffer = isZeroCopy ? new FragmentedMessageBuffer() : null;
     }
 
     /**
@@ -102,6 +128,16 @@ public class ControlledFragmentAssembler implements ControlledFragmentHandler
         return isDirectByteBuffer;
     }
 
+    /**
+     * Are whole fragmented messages delegated in place from the term without copy?
+     *
+     * @return true if whole fragmented messages are delegated in place from the term without copy.
+     */
+    public boolean isZeroCopy()
+    {
+        return null != messageBuffer;
+    }
+
     /**
      * The implementation of {@link ControlledFragmentHandler} that reassembles and forwards whole messages.
      *
@@ -125,8 +161,15 @@ public class ControlledFragmentAssembler implements ControlledFragmentHandler
         {
             if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
             {
-                final BufferBuilder builder = getBufferBuilder(header.sessionId());
-                builder.reset().append(buffer, offset, length);
+                if (null != messageBuffer && messageBuffer.wrapMessage(header))
+                {
+                    action = onWholeMessage(header);
+                }
+                else
+                {
+                    final BufferBuilder builder = getBufferBuilder(header.sessionId());
+                    builder.reset().append(buffer, offset, length);
+                }
             }
             else
             {
@@ -157,6 +200,26 @@ public class ControlledFragmentAssembler implements ControlledFragmentHandler
         return action;
     }
 
+    private Action onWholeMessage(final Header header)
+    {
+        final int sessionId = header.sessionId();
+        final int frameOffset = header.offset();
+        header.offset(messageBuffer.endFrameOffset());
+        final Action action = delegate.onFragment(messageBuffer, 0, messageBuffer.capacity(), header);
+        header.offset(frameOffset);
+
+        if (Action.ABORT != action)
+        {
+            final BufferBuilder builder = builderBySessionIdMap.get(sessionId);
+            if (null != builder)
+            {
+                builder.reset();
+            }
+        }
+
+        return action;
+    }
+
     /**
      * Free an existing session buffer to reduce memory pressure when an image goes inactive or no more
      * large messages are expected.
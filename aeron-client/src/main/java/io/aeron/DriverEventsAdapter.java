@@ -141,9 +141,8 @@ class DriverEventsAdapter implements MessageHandler
                 publicationReady.wrap(buffer, index);
 
                 final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isAwaitedResponse(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     listener.onNewPublication(
                         correlationId,
                         publicationReady.registrationId(),
@@ -161,9 +160,8 @@ class DriverEventsAdapter implements MessageHandler
                 subscriptionReady.wrap(buffer, index);
 
                 final long correlationId = subscriptionReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isAwaitedResponse(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     listener.onNewSubscription(correlationId, subscriptionReady.channelStatusCounterId());
                 }
                 break;
@@ -197,9 +195,8 @@ class DriverEventsAdapter implements MessageHandler
                 publicationReady.wrap(buffer, index);
 
                 final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isAwaitedResponse(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     listener.onNewExclusivePublication(
                         correlationId,
                         publicationReady.registrationId(),
@@ -250,4 +247,15 @@ class DriverEventsAdapter implements MessageHandler
             }
         }
     }
+
+    private boolean isAwaitedResponse(final long correlationId)
+    {
+        if (correlationId == activeCorrelationId)
+        {
+            receivedCorrelationId = correlationId;
+            return true;
+        }
+
+        return asyncCommandIdSet.remove(correlationId);
+    }
 }
@@ -17,12 +17,19 @@ package io.aeron;
 
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.ExclusiveTermAppender;
+import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.HeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static io.aeron.protocol.HeaderFlyweight.TYPE_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 
 /**
  * Aeron publisher API for sending messages to subscribers of a given channel and streamId pair. ExclusivePublications
@@ -306,6 +313,45 @@ public class ExclusivePublication extends Publication
         return newPosition;
     }
 
+    /**
+     * Non-blocking publish of a batch of messages, each described by a buffer vector, which are appended contiguously
+     * to the log with a single update of the tail.
+     *
+     * @param messages              to be published with each vector being a message.
+     * @param messageCount          of messages from the start of the array to be published.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position after the last message of the batch, otherwise a negative error value of
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED},
+     * or {@link #MAX_POSITION_EXCEEDED}.
+     */
+    public long offerBatch(
+        final DirectBufferVector[] messages, final int messageCount, final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int batchLength = validateAndComputeBatchLength(messages, messageCount);
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit)
+            {
+                final int result = termAppender.appendUnfragmentedBatch(
+                    termId, termOffset, headerWriter, messages, messageCount, batchLength, reservedValueSupplier);
+
+                newPosition = newPosition(result);
+            }
+            else
+            {
+                newPosition = backPressureStatus(position, batchLength);
+            }
+        }
+
+        return newPosition;
+    }
+
     /**
      * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
      * Once the message has been written then {@link BufferClaim#commit()} should be called thus making it
@@ -400,6 +446,74 @@ public class ExclusivePublication extends Publication
         return newPosition;
     }
 
+    /**
+     * Non-blocking publish of a block of existing message fragments, such as those read from a recording, which are
+     * copied into the current term in a single operation.
+     * <p>
+     * The block must be a sequence of whole frames of data or padding which are aligned to the current term offset,
+     * as is the case when the position of this publication matches that of the source of the frames. The term offset,
+     * session id, stream id, and term id of each frame are rewritten for this publication while the flags, reserved
+     * value, and payload are kept.
+     *
+     * @param buffer containing the block of frames.
+     * @param offset in the buffer at which the first frame begins.
+     * @param length of the block in bytes which must be a multiple of {@link FrameDescriptor#FRAME_ALIGNMENT}.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if the length is not aligned, exceeds the remainder of the current term,
+     * or the first frame is not a valid data or padding frame.
+     */
+    public long offerBlock(final DirectBuffer buffer, final int offset, final int length)
+    {
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            checkBlock(buffer, offset, length);
+
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit)
+            {
+                final int result = termAppender.appendBlock(termId, termOffset, headerWriter, buffer, offset, length);
+                newPosition = newPosition(result);
+            }
+            else
+            {
+                newPosition = backPressureStatus(position, length);
+            }
+        }
+
+        return newPosition;
+    }
+
+    private void checkBlock(final DirectBuffer buffer, final int offset, final int length)
+    {
+        if (length <= 0 || (length & (FrameDescriptor.FRAME_ALIGNMENT - 1)) != 0)
+        {
+            throw new IllegalArgumentException("invalid block length: " + length);
+        }
+
+        final int remaining = termBufferLength - termOffset;
+        if (remaining > 0 && length > remaining)
+        {
+            throw new IllegalArgumentException(
+                "block exceeds remaining term length of " + remaining + ", length=" + length);
+        }
+
+        final int frameLength = buffer.getInt(offset + FRAME_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int frameType = buffer.getShort(offset + TYPE_FIELD_OFFSET, LITTLE_ENDIAN) & 0xFFFF;
+        if (frameLength < HEADER_LENGTH ||
+            frameLength > length ||
+            (HDR_TYPE_DATA != frameType && HDR_TYPE_PAD != frameType))
+        {
+            throw new IllegalArgumentException(
+                "invalid first frame in block: frameLength=" + frameLength + ", frameType=" + frameType);
+        }
+    }
+
     private long newPosition(final int resultingOffset)
     {
         if (resultingOffset > 0)
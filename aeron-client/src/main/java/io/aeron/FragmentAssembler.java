@@ -16,6 +16,7 @@
 package io.aeron;
 
 import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.FragmentedMessageBuffer;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -29,6 +30,10 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
  * buffer for reassembly before delegation.
  * <p>
+ * When constructed to be zero copy, fragmented messages which are wholly available in the term when the first
+ * fragment is read are delegated as a {@link FragmentedMessageBuffer} which reads them in place, and the remaining
+ * fragments are skipped. Messages still being appended when the first fragment is read fall back to being copied.
+ * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  * <p>
  * Session based buffers will be allocated and grown as necessary based on the length of messages to be assembled.
@@ -43,6 +48,7 @@ public class FragmentAssembler implements FragmentHandler
     private final boolean isDirectByteBuffer;
     private final int initialBufferLength;
     private final FragmentHandler delegate;
+    private final FragmentedMessageBuffer messageBuffer;
     private final Int2ObjectHashMap<BufferBuilder> builderBySessionIdMap = new Int2ObjectHashMap<>();
 
     /**
@@ -75,10 +81,28 @@ public class FragmentAssembler implements FragmentHandler
      */
     public FragmentAssembler(
         final FragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this(delegate, initialBufferLength, isDirectByteBuffer, false);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate            onto which whole messages are forwarded.
+     * @param initialBufferLength to be used for each session.
+     * @param isDirectByteBuffer  is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @param isZeroCopy          should whole fragmented messages be delegated in place from the term without copy?
+     */
+    public FragmentAssembler(
+        final FragmentHandler delegate,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer,
+        final boolean isZeroCopy)
     {
         this.initialBufferLength = initialBufferLength;
         this.delegate = delegate;
         this.isDirectByteBuffer = isDirectByteBuffer;
+        this.messageBuffer = isZeroCopy ? new FragmentedMessageBuffer() : null;
     }
 
     /**
@@ -101,6 +125,16 @@ public class FragmentAssembler implements FragmentHandler
         return isDirectByteBuffer;
     }
 
+    /**
+     * Are whole fragmented messages delegated in place from the term without copy?
+     *
+     * @return true if whole fragmented messages are delegated in place from the term without copy.
+     */
+    public boolean isZeroCopy()
+    {
+        return null != messageBuffer;
+    }
+
     /**
      * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
      *
@@ -128,8 +162,15 @@ public class FragmentAssembler implements FragmentHandler
     {
         if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
         {
-            final BufferBuilder builder = getBufferBuilder(header.sessionId());
-            builder.reset().append(buffer, offset, length);
+            if (null != messageBuffer && messageBuffer.wrapMessage(header))
+            {
+                onWholeMessage(header);
+            }
+            else
+            {
+                final BufferBuilder builder = getBufferBuilder(header.sessionId());
+                builder.reset().append(buffer, offset, length);
+            }
         }
         else
         {
@@ -148,6 +189,20 @@ public class FragmentAssembler implements FragmentHandler
         }
     }
 
+    private void onWholeMessage(final Header header)
+    {
+        final BufferBuilder builder = builderBySessionIdMap.get(header.sessionId());
+        if (null != builder)
+        {
+            builder.reset();
+        }
+
+        final int frameOffset = header.offset();
+        header.offset(messageBuffer.endFrameOffset());
+        delegate.onFragment(messageBuffer, 0, messageBuffer.capacity(), header);
+        header.offset(frameOffset);
+    }
+
     /**
      * Free an existing session buffer to reduce memory pressure when an image goes inactive or no more
      * large messages are expected.
@@ -48,6 +48,7 @@ public class Image
     private final long correlationId;
     private final long joinPosition;
     private long finalPosition;
+    private long fragmentsConsumed;
     private final int sessionId;
     private final int initialTermId;
     private final int termLengthMask;
@@ -231,6 +232,18 @@ public class Image
         }
     }
 
+    /**
+     * The count of fragments consumed from this {@link Image} by the fragment polling methods, which can be used
+     * to check how consumption is shared between the {@link Image}s of a {@link Subscription}.
+     *
+     * @return the count of fragments consumed from this {@link Image} by the fragment polling methods.
+     * @see Subscription#weightedPoll(FragmentHandler, int)
+     */
+    public long fragmentsConsumed()
+    {
+        return fragmentsConsumed;
+    }
+
     /**
      * The counter id for the subscriber position counter.
      *
@@ -305,7 +318,7 @@ public class Image
 
         final long position = subscriberPosition.get();
 
-        return TermReader.read(
+        final int fragmentsRead = TermReader.read(
             activeTermBuffer(position),
             (int)position & termLengthMask,
             fragmentHandler,
@@ -314,6 +327,10 @@ public class Image
             errorHandler,
             position,
             subscriberPosition);
+
+        fragmentsConsumed += fragmentsRead;
+
+        return fragmentsRead;
     }
 
     /**
@@ -401,6 +418,8 @@ public class Image
             }
         }
 
+        fragmentsConsumed += fragmentsRead;
+
         return fragmentsRead;
     }
 
@@ -471,6 +490,8 @@ public class Image
             }
         }
 
+        fragmentsConsumed += fragmentsRead;
+
         return fragmentsRead;
     }
 
@@ -562,6 +583,8 @@ public class Image
             }
         }
 
+        fragmentsConsumed += fragmentsRead;
+
         return fragmentsRead;
     }
 
@@ -656,6 +679,64 @@ public class Image
         return resultingPosition;
     }
 
+    /**
+     * Poll for the most recent complete message in a stream, skipping any messages between the last consumed
+     * position and it. This suits conflatable data, such as market data prices, for which a slow consumer only needs
+     * the latest value. The fragments of the message are delivered to the {@link FragmentHandler} and the position
+     * is advanced past the message in one step.
+     * <p>
+     * The message is found by scanning backward from the end of the log so the cost is independent of how many
+     * messages are skipped. Frames are recognised by their header fields so this should not be used on streams
+     * where a payload may contain a data frame header for the same session at the term offset it occupies.
+     * <p>
+     * Use a {@link FragmentAssembler} to assemble messages which span multiple fragments.
+     *
+     * @param fragmentHandler to which the fragments of the most recent message are delivered.
+     * @return the number of fragments that have been consumed.
+     * @see TermConflationScanner
+     */
+    public int conflatedPoll(final FragmentHandler fragmentHandler)
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        final long initialPosition = subscriberPosition.get();
+        final long rawTail = LogBufferDescriptor.rawTailVolatile(logBuffers.metaDataBuffer());
+        long endPosition = LogBufferDescriptor.computePosition(
+            LogBufferDescriptor.termId(rawTail),
+            LogBufferDescriptor.termOffset(rawTail, termLengthMask + 1),
+            positionBitsToShift,
+            initialTermId);
+
+        while (endPosition > initialPosition)
+        {
+            final long termBeginPosition = (endPosition - 1) - ((endPosition - 1) & termLengthMask);
+            final long lowerPosition = Math.max(termBeginPosition, initialPosition);
+            final long outcome = TermConflationScanner.scanForLatestMessage(
+                activeTermBuffer(termBeginPosition),
+                LogBufferDescriptor.computeTermIdFromPosition(termBeginPosition, positionBitsToShift, initialTermId),
+                sessionId,
+                (int)(lowerPosition - termBeginPosition),
+                (int)(endPosition - termBeginPosition));
+
+            if (outcome >= 0)
+            {
+                return readMessage(fragmentHandler, termBeginPosition, outcome);
+            }
+
+            if (TermConflationScanner.UNKNOWN_BOUNDARY == outcome)
+            {
+                break;
+            }
+
+            endPosition = termBeginPosition;
+        }
+
+        return 0;
+    }
+
     /**
      * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
      * will be delivered to the {@link BlockHandler} up to a limited number of bytes.
@@ -760,6 +841,40 @@ public class Image
         return length;
     }
 
+    private int readMessage(final FragmentHandler fragmentHandler, final long termBeginPosition, final long outcome)
+    {
+        final UnsafeBuffer termBuffer = activeTermBuffer(termBeginPosition);
+        final int endOffset = TermConflationScanner.endOffset(outcome);
+        int offset = TermConflationScanner.beginOffset(outcome);
+        int fragmentsRead = 0;
+        final Header header = this.header;
+        header.buffer(termBuffer);
+
+        try
+        {
+            while (offset < endOffset)
+            {
+                final int length = frameLength(termBuffer, offset);
+                header.offset(offset);
+                fragmentHandler.onFragment(termBuffer, offset + HEADER_LENGTH, length - HEADER_LENGTH, header);
+                ++fragmentsRead;
+                offset += BitUtil.align(length, FRAME_ALIGNMENT);
+            }
+        }
+        catch (final Throwable t)
+        {
+            errorHandler.onError(t);
+        }
+        finally
+        {
+            subscriberPosition.setOrdered(termBeginPosition + endOffset);
+        }
+
+        fragmentsConsumed += fragmentsRead;
+
+        return fragmentsRead;
+    }
+
     private UnsafeBuffer activeTermBuffer(final long position)
     {
         return termBuffers[indexByPosition(position, positionBitsToShift)];
@@ -16,6 +16,7 @@
 package io.aeron;
 
 import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.FragmentedMessageBuffer;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 
@@ -29,6 +30,12 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
  * buffer for reassembly before delegation.
  * <p>
+ * When constructed to be zero copy, fragmented messages which are wholly available in the term when the first
+ * fragment is read are delegated as a {@link FragmentedMessageBuffer} which reads them in place, and the remaining
+ * fragments are skipped. Messages still being appended when the first fragment is read fall back to being copied.
+ * The action returned by the delegate for a message delegated in place applies to the first fragment, so a
+ * {@link Action#BREAK} or {@link Action#COMMIT} takes effect before the remaining fragments are consumed.
+ * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  *
  * @see Image#controlledPoll(ControlledFragmentHandler, int)
@@ -38,6 +45,7 @@ public class ImageControlledFragmentAssembler implements ControlledFragmentHandl
 {
     private final ControlledFragmentHandler delegate;
     private final BufferBuilder builder;
+    private final FragmentedMessageBuffer messageBuffer;
 
     /**
      * Construct an adapter to reassemble message fragments and delegate on whole messages.
@@ -69,9 +77,27 @@ public class ImageControlledFragmentAssembler implements ControlledFragmentHandl
      */
     public ImageControlledFragmentAssembler(
         final ControlledFragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this(delegate, initialBufferLength, isDirectByteBuffer, false);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate            onto which whole messages are forwarded.
+     * @param initialBufferLength to be used for the session.
+     * @param isDirectByteBuffer  is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @param isZeroCopy          should whole fragmented messages be delegated in place from the term without copy?
+     */
+    public ImageControlledFragmentAssembler(
+        final ControlledFragmentHandler delegate,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer,
+        final boolean isZeroCopy)
     {
         this.delegate = delegate;
         this.builder = new BufferBuilder(initialBufferLength, isDirectByteBuffer);
+        this.messageBuffer = isZeroCopy ? new FragmentedMessageBuffer() : null;
     }
 
     /**
@@ -94,6 +120,16 @@ public class ImageControlledFragmentAssembler implements ControlledFragmentHandl
         return builder;
     }
 
+    /**
+     * Are whole fragmented messages delegated in place from the term without copy?
+     *
+     * @return true if whole fragmented messages are delegated in place from the term without copy.
+     */
+    public boolean isZeroCopy()
+    {
+        return null != messageBuffer;
+    }
+
     /**
      * The implementation of {@link ControlledFragmentHandler} that reassembles and forwards whole messages.
      *
@@ -117,9 +153,21 @@ public class ImageControlledFragmentAssembler implements ControlledFragmentHandl
         {
             if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
             {
-                builder.reset().append(buffer, offset, length);
+                builder.reset();
+
+                if (null != messageBuffer && messageBuffer.wrapMessage(header))
+                {
+                    final int frameOffset = header.offset();
+                    header.offset(messageBuffer.endFrameOffset());
+                    action = delegate.onFragment(messageBuffer, 0, messageBuffer.capacity(), header);
+                    header.offset(frameOffset);
+                }
+                else
+                {
+                    builder.append(buffer, offset, length);
+                }
             }
-            else
+            else if (builder.limit() != 0)
             {
                 final int limit = builder.limit();
                 builder.append(buffer, offset, length);
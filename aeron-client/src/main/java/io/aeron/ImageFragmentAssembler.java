@@ -16,6 +16,7 @@
 package io.aeron;
 
 import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.FragmentedMessageBuffer;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 
@@ -29,12 +30,17 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
  * buffer for reassembly before delegation.
  * <p>
+ * When constructed to be zero copy, fragmented messages which are wholly available in the term when the first
+ * fragment is read are delegated as a {@link FragmentedMessageBuffer} which reads them in place, and the remaining
+ * fragments are skipped. Messages still being appended when the first fragment is read fall back to being copied.
+ * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  */
 public class ImageFragmentAssembler implements FragmentHandler
 {
     private final FragmentHandler delegate;
     private final BufferBuilder builder;
+    private final FragmentedMessageBuffer messageBuffer;
 
     /**
      * Construct an adapter to reassemble message fragments and delegate on only whole messages.
@@ -54,8 +60,7 @@ public class ImageFragmentAssembler implements FragmentHandler
      */
     public ImageFragmentAssembler(final FragmentHandler delegate, final int initialBufferLength)
     {
-        this.delegate = delegate;
-        this.builder = new BufferBuilder(initialBufferLength, false);
+        this(delegate, initialBufferLength, false);
     }
 
     /**
@@ -67,9 +72,27 @@ public class ImageFragmentAssembler implements FragmentHandler
      */
     public ImageFragmentAssembler(
         final FragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this(delegate, initialBufferLength, isDirectByteBuffer, false);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate            onto which whole messages are forwarded.
+     * @param initialBufferLength to be used for the session.
+     * @param isDirectByteBuffer  is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @param isZeroCopy          should whole fragmented messages be delegated in place from the term without copy?
+     */
+    public ImageFragmentAssembler(
+        final FragmentHandler delegate,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer,
+        final boolean isZeroCopy)
     {
         this.delegate = delegate;
         this.builder = new BufferBuilder(initialBufferLength, isDirectByteBuffer);
+        this.messageBuffer = isZeroCopy ? new FragmentedMessageBuffer() : null;
     }
 
     /**
@@ -92,6 +115,16 @@ public class ImageFragmentAssembler implements FragmentHandler
         return builder;
     }
 
+    /**
+     * Are whole fragmented messages delegated in place from the term without copy?
+     *
+     * @return true if whole fragmented messages are delegated in place from the term without copy.
+     */
+    public boolean isZeroCopy()
+    {
+        return null != messageBuffer;
+    }
+
     /**
      * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
      *
@@ -119,9 +152,21 @@ public class ImageFragmentAssembler implements FragmentHandler
     {
         if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
         {
-            builder.reset().append(buffer, offset, length);
+            builder.reset();
+
+            if (null != messageBuffer && messageBuffer.wrapMessage(header))
+            {
+                final int frameOffset = header.offset();
+                header.offset(messageBuffer.endFrameOffset());
+                delegate.onFragment(messageBuffer, 0, messageBuffer.capacity(), header);
+                header.offset(frameOffset);
+            }
+            else
+            {
+                builder.append(buffer, offset, length);
+            }
         }
-        else
+        else if (builder.limit() != 0)
         {
             builder.append(buffer, offset, length);
 
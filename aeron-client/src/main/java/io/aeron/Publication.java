@@ -22,8 +22,10 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
 
 /**
  * Aeron publisher API for sending messages to subscribers of a given channel and streamId pair. {@link Publication}s
@@ -475,6 +477,46 @@ public abstract class Publication implements AutoCloseable
      */
     public abstract long offer(DirectBufferVector[] vectors, ReservedValueSupplier reservedValueSupplier);
 
+    /**
+     * Non-blocking publish of a batch of messages, each described by a buffer vector, which are appended contiguously
+     * to the log with a single reservation of space. Each message must be no longer than {@link #maxPayloadLength()}
+     * so it is not fragmented, and the framed length of the batch must not exceed {@link #maxMessageLength()}.
+     * <p>
+     * The batch is appended in full or not at all, so if the batch would cross the end of a term then
+     * {@link #ADMIN_ACTION} is returned and the batch should be offered again.
+     *
+     * @param messages to be published with each vector being a message.
+     * @return The new stream position after the last message of the batch, otherwise a negative error value of
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED},
+     * or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if a message is longer than {@link #maxPayloadLength()} or the batch is
+     * longer than {@link #maxMessageLength()} when framed.
+     */
+    public final long offerBatch(final DirectBufferVector[] messages)
+    {
+        return offerBatch(messages, messages.length, null);
+    }
+
+    /**
+     * Non-blocking publish of a batch of messages, each described by a buffer vector, which are appended contiguously
+     * to the log with a single reservation of space. Each message must be no longer than {@link #maxPayloadLength()}
+     * so it is not fragmented, and the framed length of the batch must not exceed {@link #maxMessageLength()}.
+     * <p>
+     * The batch is appended in full or not at all, so if the batch would cross the end of a term then
+     * {@link #ADMIN_ACTION} is returned and the batch should be offered again.
+     *
+     * @param messages              to be published with each vector being a message.
+     * @param messageCount          of messages from the start of the array to be published.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position after the last message of the batch, otherwise a negative error value of
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED},
+     * or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if a message is longer than {@link #maxPayloadLength()} or the batch is
+     * longer than {@link #maxMessageLength()} when framed.
+     */
+    public abstract long offerBatch(
+        DirectBufferVector[] messages, int messageCount, ReservedValueSupplier reservedValueSupplier);
+
     /**
      * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
      * Once the message has been written then {@link BufferClaim#commit()} should be called thus making it available.
@@ -637,6 +679,35 @@ public abstract class Publication implements AutoCloseable
         }
     }
 
+    final int validateAndComputeBatchLength(final DirectBufferVector[] messages, final int messageCount)
+    {
+        if (messageCount < 1 || messageCount > messages.length)
+        {
+            throw new IllegalArgumentException(
+                "invalid messageCount: " + messageCount + ", messages.length=" + messages.length);
+        }
+
+        int batchLength = 0;
+        for (int i = 0; i < messageCount; i++)
+        {
+            final int length = messages[i].validate().length;
+            if (length > maxPayloadLength)
+            {
+                throw new IllegalArgumentException(
+                    "batch message exceeds maxPayloadLength of " + maxPayloadLength + ", length=" + length);
+            }
+
+            batchLength += align(length + HEADER_LENGTH, FRAME_ALIGNMENT);
+            if (batchLength > maxMessageLength)
+            {
+                throw new IllegalArgumentException(
+                    "batch exceeds maxMessageLength of " + maxMessageLength + ", messageCount=" + messageCount);
+            }
+        }
+
+        return batchLength;
+    }
+
     static int validateAndComputeLength(final int lengthOne, final int lengthTwo)
     {
         if (lengthOne < 0)
@@ -19,6 +19,7 @@ import io.aeron.exceptions.AeronException;
 import io.aeron.logbuffer.*;
 import io.aeron.status.ChannelEndpointStatus;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.Int2IntHashMap;
 
 import java.util.*;
 import java.util.function.Consumer;
@@ -32,6 +33,7 @@ class SubscriptionLhsPadding
 class SubscriptionFields extends SubscriptionLhsPadding
 {
     protected static final Image[] EMPTY_ARRAY = new Image[0];
+    protected static final int[] EMPTY_INT_ARRAY = new int[0];
 
     protected final long registrationId;
     protected final int streamId;
@@ -43,6 +45,14 @@ class SubscriptionFields extends SubscriptionLhsPadding
     protected final AvailableImageHandler availableImageHandler;
     protected final UnavailableImageHandler unavailableImageHandler;
     protected int channelStatusId = 0;
+    protected int weightedRoundRobinIndex = 0;
+    protected boolean isPollWeightingChanged = false;
+    protected Image[] weightedImagesSource = EMPTY_ARRAY;
+    protected Image[] weightedImages = EMPTY_ARRAY;
+    protected int[] weightedImagePriorities = EMPTY_INT_ARRAY;
+    protected int[] weightedImageWeights = EMPTY_INT_ARRAY;
+    protected final Int2IntHashMap sessionPollPriorityMap = new Int2IntHashMap(Subscription.DEFAULT_POLL_PRIORITY);
+    protected final Int2IntHashMap sessionPollWeightMap = new Int2IntHashMap(Subscription.DEFAULT_POLL_WEIGHT);
 
     protected SubscriptionFields(
         final long registrationId,
@@ -83,6 +93,16 @@ class SubscriptionFields extends SubscriptionLhsPadding
  */
 public class Subscription extends SubscriptionFields implements AutoCloseable
 {
+    /**
+     * Default priority class of an {@link Image} for {@link #weightedPoll(FragmentHandler, int)}.
+     */
+    public static final int DEFAULT_POLL_PRIORITY = 0;
+
+    /**
+     * Default weight of an {@link Image} within its priority class for {@link #weightedPoll(FragmentHandler, int)}.
+     */
+    public static final int DEFAULT_POLL_WEIGHT = 1;
+
     @SuppressWarnings("unused")
     protected long p1, p2, p3, p4, p5, p6, p7;
 
@@ -230,6 +250,153 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
         return fragmentsRead;
     }
 
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments by priority class and weight
+     * so that a busy publisher cannot crowd out other sessions on the same channel.
+     * <p>
+     * {@link Image}s are polled in descending order of the priority class of their session so latency critical
+     * sessions can be drained first. Within a class each {@link Image} is given a share of the remaining fragment
+     * limit in proportion to the weight of its session, with a minimum of one fragment, starting from a rotating
+     * index. Any share not used within a class is left for lower classes.
+     * <p>
+     * To assemble messages that span multiple fragments then use {@link FragmentAssembler}.
+     *
+     * @param fragmentHandler callback for handling each message fragment as it is read.
+     * @param fragmentLimit   number of message fragments to limit when polling across multiple {@link Image}s.
+     * @return the number of fragments received
+     * @see #sessionPollPriority(int, int)
+     * @see #sessionPollWeight(int, int)
+     * @see Image#fragmentsConsumed()
+     */
+    public int weightedPoll(final FragmentHandler fragmentHandler, final int fragmentLimit)
+    {
+        if (images != weightedImagesSource || isPollWeightingChanged)
+        {
+            updateWeightedImages();
+        }
+
+        final Image[] images = weightedImages;
+        final int[] priorities = weightedImagePriorities;
+        final int[] weights = weightedImageWeights;
+        final int length = images.length;
+        final int startingIndex = weightedRoundRobinIndex++ & Integer.MAX_VALUE;
+        int fragmentsRead = 0;
+        int classBegin = 0;
+
+        while (classBegin < length && fragmentsRead < fragmentLimit)
+        {
+            final int priority = priorities[classBegin];
+            long classWeight = 0;
+            int classEnd = classBegin;
+            while (classEnd < length && priorities[classEnd] == priority)
+            {
+                classWeight += weights[classEnd++];
+            }
+
+            final int classLength = classEnd - classBegin;
+            final long budget = fragmentLimit - fragmentsRead;
+            for (int i = 0; i < classLength && fragmentsRead < fragmentLimit; i++)
+            {
+                final int index = classBegin + ((startingIndex + i) % classLength);
+                final int share = (int)Math.max(1, (budget * weights[index]) / classWeight);
+                fragmentsRead += images[index].poll(fragmentHandler, Math.min(share, fragmentLimit - fragmentsRead));
+            }
+
+            classBegin = classEnd;
+        }
+
+        return fragmentsRead;
+    }
+
+    /**
+     * Set the priority class of a session for {@link #weightedPoll(FragmentHandler, int)}. Sessions in a higher
+     * class are polled before those in a lower class.
+     *
+     * @param sessionId of the {@link Image}.
+     * @param priority  class of the session with {@link #DEFAULT_POLL_PRIORITY} if not set.
+     */
+    public void sessionPollPriority(final int sessionId, final int priority)
+    {
+        if (DEFAULT_POLL_PRIORITY == priority)
+        {
+            sessionPollPriorityMap.remove(sessionId);
+        }
+        else
+        {
+            sessionPollPriorityMap.put(sessionId, priority);
+        }
+
+        isPollWeightingChanged = true;
+    }
+
+    /**
+     * Get the priority class of a session for {@link #weightedPoll(FragmentHandler, int)}.
+     *
+     * @param sessionId of the {@link Image}.
+     * @return the priority class of the session.
+     */
+    public int sessionPollPriority(final int sessionId)
+    {
+        return sessionPollPriorityMap.get(sessionId);
+    }
+
+    /**
+     * Set the weight of a session within its priority class for {@link #weightedPoll(FragmentHandler, int)}.
+     *
+     * @param sessionId of the {@link Image}.
+     * @param weight    of the session which must be positive with {@link #DEFAULT_POLL_WEIGHT} if not set.
+     */
+    public void sessionPollWeight(final int sessionId, final int weight)
+    {
+        if (weight < 1)
+        {
+            throw new IllegalArgumentException("weight must be positive: " + weight);
+        }
+
+        if (DEFAULT_POLL_WEIGHT == weight)
+        {
+            sessionPollWeightMap.remove(sessionId);
+        }
+        else
+        {
+            sessionPollWeightMap.put(sessionId, weight);
+        }
+
+        isPollWeightingChanged = true;
+    }
+
+    /**
+     * Get the weight of a session within its priority class for {@link #weightedPoll(FragmentHandler, int)}.
+     *
+     * @param sessionId of the {@link Image}.
+     * @return the weight of the session.
+     */
+    public int sessionPollWeight(final int sessionId)
+    {
+        return sessionPollWeightMap.get(sessionId);
+    }
+
+    /**
+     * Poll the {@link Image}s under the subscription for the most recent complete message from each, skipping any
+     * older messages which have not been consumed.
+     * <p>
+     * To assemble messages that span multiple fragments then use {@link FragmentAssembler}.
+     *
+     * @param fragmentHandler callback for handling each fragment of the most recent message from an {@link Image}.
+     * @return the number of fragments received
+     * @see Image#conflatedPoll(FragmentHandler)
+     */
+    public int conflatedPoll(final FragmentHandler fragmentHandler)
+    {
+        int fragmentsRead = 0;
+        for (final Image image : images)
+        {
+            fragmentsRead += image.conflatedPoll(fragmentHandler);
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Poll the {@link Image}s under the subscription for available message fragments in blocks.
      * <p>
@@ -495,6 +662,41 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
         conductor.closeImages(images, unavailableImageHandler);
     }
 
+    private void updateWeightedImages()
+    {
+        final Image[] images = this.images;
+        final int length = images.length;
+        final Image[] sortedImages = new Image[length];
+        final int[] priorities = new int[length];
+        final int[] weights = new int[length];
+
+        for (int i = 0; i < length; i++)
+        {
+            final Image image = images[i];
+            final int sessionId = image.sessionId();
+            final int priority = sessionPollPriorityMap.get(sessionId);
+
+            int j = i;
+            while (j > 0 && priorities[j - 1] < priority)
+            {
+                sortedImages[j] = sortedImages[j - 1];
+                priorities[j] = priorities[j - 1];
+                weights[j] = weights[j - 1];
+                j--;
+            }
+
+            sortedImages[j] = image;
+            priorities[j] = priority;
+            weights[j] = sessionPollWeightMap.get(sessionId);
+        }
+
+        weightedImages = sortedImages;
+        weightedImagePriorities = priorities;
+        weightedImageWeights = weights;
+        weightedImagesSource = images;
+        isPollWeightingChanged = false;
+    }
+
     void addImage(final Image image)
     {
         images = ArrayUtil.add(images, image);
@@ -27,6 +27,7 @@ import static io.aeron.logbuffer.LogBufferDescriptor.packTail;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.BitUtil.align;
 
@@ -50,6 +51,8 @@ public final class ExclusiveTermAppender
      */
     public static final int FAILED = -1;
 
+    private static final int BLOCK_COPY_CHUNK_LENGTH = 4096;
+
     private final long tailAddressOffset;
     private final UnsafeBuffer termBuffer;
 
@@ -598,6 +601,143 @@ public final class ExclusiveTermAppender
         return resultingOffset;
     }
 
+    /**
+     * Append a batch of unfragmented messages to the the term buffer so the messages are contiguous. If the batch does
+     * not fit in the remainder of the term then the remainder is padded and none of the batch is appended.
+     *
+     * @param termId                for the current term.
+     * @param termOffset            in the term at which to append.
+     * @param header                for writing the default header.
+     * @param messages              to be appended with each vector being a message of no more than max payload length.
+     * @param messageCount          of messages from the start of the array to be appended.
+     * @param batchLength           as the sum of the aligned frame lengths for the messages.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frames.
+     * @return the resulting offset of the term after the append on success otherwise {@link #FAILED}.
+     */
+    public int appendUnfragmentedBatch(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int messageCount,
+        final int batchLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        int resultingOffset = termOffset + batchLength;
+        putRawTailOrdered(termId, resultingOffset);
+
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int frameOffset = termOffset;
+            for (int i = 0; i < messageCount; i++)
+            {
+                final DirectBufferVector message = messages[i];
+                final int frameLength = message.length + HEADER_LENGTH;
+
+                header.write(termBuffer, frameOffset, frameLength, termId);
+                termBuffer.putBytes(frameOffset + HEADER_LENGTH, message.buffer, message.offset, message.length);
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, frameOffset, frameLength);
+                    termBuffer.putLong(frameOffset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, frameOffset, frameLength);
+                frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            }
+        }
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a block of existing frames, such as those read from a recording, to the term buffer in a single copy.
+     * The term offset, session id, stream id, and term id of each frame are rewritten for this log while the flags,
+     * type, reserved value, and payload are kept. The first frame is committed last so the block becomes available
+     * atomically.
+     * <p>
+     * The block must be a sequence of whole frames with a length which is a multiple of
+     * {@link FrameDescriptor#FRAME_ALIGNMENT}. If the block does not fit in the remainder of the term then the
+     * remainder is padded and none of the block is appended.
+     *
+     * @param termId     for the current term.
+     * @param termOffset in the term at which to append.
+     * @param header     for rewriting the ids of each frame header.
+     * @param srcBuffer  containing the block of frames.
+     * @param srcOffset  at which the block begins.
+     * @param length     of the block in bytes.
+     * @return the resulting offset of the term after the append on success otherwise {@link #FAILED}.
+     */
+    public int appendBlock(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final DirectBuffer srcBuffer,
+        final int srcOffset,
+        final int length)
+    {
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        int resultingOffset = termOffset + length;
+        putRawTailOrdered(termId, resultingOffset);
+
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            final int firstFrameLength = srcBuffer.getInt(srcOffset, LITTLE_ENDIAN);
+            final int srcDelta = srcOffset - termOffset;
+            int copiedOffset = termOffset + SIZE_OF_INT;
+            int frameOffset = termOffset;
+            int frameLength = firstFrameLength;
+
+            // copy in chunks so headers are rewritten while still in cache
+            while (frameOffset < resultingOffset)
+            {
+                if (frameOffset + HEADER_LENGTH > copiedOffset)
+                {
+                    final int copyLength = Math.min(
+                        Math.max(BLOCK_COPY_CHUNK_LENGTH, frameOffset + HEADER_LENGTH - copiedOffset),
+                        resultingOffset - copiedOffset);
+                    termBuffer.putBytes(copiedOffset, srcBuffer, copiedOffset + srcDelta, copyLength);
+                    copiedOffset += copyLength;
+                }
+
+                if (frameOffset != termOffset)
+                {
+                    frameLength = frameLength(termBuffer, frameOffset);
+                    if (frameLength <= 0)
+                    {
+                        break;
+                    }
+                }
+
+                header.rewriteIds(termBuffer, frameOffset, termId);
+                frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            }
+
+            if (copiedOffset < resultingOffset)
+            {
+                termBuffer.putBytes(copiedOffset, srcBuffer, copiedOffset + srcDelta, resultingOffset - copiedOffset);
+            }
+
+            frameLengthOrdered(termBuffer, termOffset, firstFrameLength);
+        }
+
+        return resultingOffset;
+    }
+
     private static int handleEndOfLogCondition(
         final UnsafeBuffer termBuffer,
         final long termOffset,
@@ -0,0 +1,542 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.*;
+import static org.agrona.BufferUtil.NATIVE_BYTE_ORDER;
+
+/**
+ * Read only {@link DirectBuffer} view of a fragmented message in place within a term so it can be read as if
+ * contiguous without copying. The headers interleaved between fragments are hidden by mapping each index in the
+ * message onto the payload of the fragment which contains it.
+ * <p>
+ * All fragments of a message are appended as a single block to a term so once all frames of a message have been
+ * committed the message can be read in place. Reads contained within a fragment delegate directly to the term buffer
+ * and reads which span fragments are assembled a byte at a time.
+ * <p>
+ * The view is only valid for the duration of the callback to which it is passed and cannot be wrapped, or its
+ * address taken, as there is no single underlying region of memory.
+ */
+public final class FragmentedMessageBuffer implements DirectBuffer
+{
+    private static final int NOT_CONTIGUOUS = -1;
+
+    private UnsafeBuffer termBuffer;
+    private int firstPayloadOffset;
+    private int fragmentPayloadLength;
+    private int frameStride;
+    private int length;
+    private int endFrameOffset;
+    private int contiguousOffset;
+    private int cachedFragmentIndex;
+    private int cachedFragmentTermOffset;
+    private final ExpandableArrayBuffer scratchBuffer = new ExpandableArrayBuffer();
+
+    /**
+     * Wrap the fragmented message which begins with the frame referenced by the header if all the fragments of the
+     * message have been committed to the term.
+     *
+     * @param header referencing the frame with the {@link FrameDescriptor#BEGIN_FRAG_FLAG} set for a message.
+     * @return true if the whole message is available in the term and has been wrapped otherwise false.
+     */
+    public boolean wrapMessage(final Header header)
+    {
+        final DirectBuffer buffer = header.buffer();
+        if (!(buffer instanceof UnsafeBuffer))
+        {
+            return false;
+        }
+
+        final UnsafeBuffer termBuffer = (UnsafeBuffer)buffer;
+        final int capacity = termBuffer.capacity();
+        final int firstFrameOffset = header.offset();
+        final int fragmentFrameLength = frameLengthVolatile(termBuffer, firstFrameOffset);
+        if (fragmentFrameLength <= HEADER_LENGTH)
+        {
+            return false;
+        }
+
+        final int frameStride = BitUtil.align(fragmentFrameLength, FRAME_ALIGNMENT);
+
+        int frameOffset = firstFrameOffset;
+        int frameLength = fragmentFrameLength;
+        int messageLength = 0;
+
+        while ((frameFlags(termBuffer, frameOffset) & END_FRAG_FLAG) != END_FRAG_FLAG)
+        {
+            if (frameLength != fragmentFrameLength)
+            {
+                return false;
+            }
+
+            messageLength += frameLength - HEADER_LENGTH;
+            frameOffset += frameStride;
+
+            if (frameOffset >= capacity)
+            {
+                return false;
+            }
+
+            frameLength = frameLengthVolatile(termBuffer, frameOffset);
+            if (frameLength <= HEADER_LENGTH || (frameFlags(termBuffer, frameOffset) & BEGIN_FRAG_FLAG) != 0)
+            {
+                return false;
+            }
+        }
+
+        this.termBuffer = termBuffer;
+        this.firstPayloadOffset = firstFrameOffset + HEADER_LENGTH;
+        this.fragmentPayloadLength = fragmentFrameLength - HEADER_LENGTH;
+        this.frameStride = frameStride;
+        this.length = messageLength + (frameLength - HEADER_LENGTH);
+        this.endFrameOffset = frameOffset;
+        this.cachedFragmentIndex = 0;
+        this.cachedFragmentTermOffset = firstPayloadOffset;
+
+        return true;
+    }
+
+    /**
+     * Offset in the term of the frame with the {@link FrameDescriptor#END_FRAG_FLAG} set for the wrapped message.
+     *
+     * @return offset in the term of the last frame for the wrapped message.
+     */
+    public int endFrameOffset()
+    {
+        return endFrameOffset;
+    }
+
+    public void wrap(final byte[] buffer)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public void wrap(final byte[] buffer, final int offset, final int length)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public void wrap(final ByteBuffer buffer)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public void wrap(final ByteBuffer buffer, final int offset, final int length)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public void wrap(final DirectBuffer buffer)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public void wrap(final DirectBuffer buffer, final int offset, final int length)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public void wrap(final long address, final int length)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public long addressOffset()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public byte[] byteArray()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public ByteBuffer byteBuffer()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public int wrapAdjustment()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public int capacity()
+    {
+        return length;
+    }
+
+    public void checkLimit(final int limit)
+    {
+        if (limit > length)
+        {
+            throw new IndexOutOfBoundsException("limit=" + limit + " is beyond capacity=" + length);
+        }
+    }
+
+    public void boundsCheck(final int index, final int length)
+    {
+        final long resultingPosition = index + (long)length;
+        if (index < 0 || length < 0 || resultingPosition > this.length)
+        {
+            throw new IndexOutOfBoundsException("index=" + index + " length=" + length + " capacity=" + this.length);
+        }
+    }
+
+    public long getLong(final int index, final ByteOrder byteOrder)
+    {
+        final int termOffset = contiguousTermOffset(index, SIZE_OF_LONG);
+        if (NOT_CONTIGUOUS != termOffset)
+        {
+            return termBuffer.getLong(termOffset, byteOrder);
+        }
+
+        return getSpanningFragments(index, SIZE_OF_LONG, byteOrder);
+    }
+
+    public long getLong(final int index)
+    {
+        return getLong(index, NATIVE_BYTE_ORDER);
+    }
+
+    public int getInt(final int index, final ByteOrder byteOrder)
+    {
+        final int termOffset = contiguousTermOffset(index, SIZE_OF_INT);
+        if (NOT_CONTIGUOUS != termOffset)
+        {
+            return termBuffer.getInt(termOffset, byteOrder);
+        }
+
+        return (int)getSpanningFragments(index, SIZE_OF_INT, byteOrder);
+    }
+
+    public int getInt(final int index)
+    {
+        return getInt(index, NATIVE_BYTE_ORDER);
+    }
+
+    public double getDouble(final int index, final ByteOrder byteOrder)
+    {
+        return Double.longBitsToDouble(getLong(index, byteOrder));
+    }
+
+    public double getDouble(final int index)
+    {
+        return getDouble(index, NATIVE_BYTE_ORDER);
+    }
+
+    public float getFloat(final int index, final ByteOrder byteOrder)
+    {
+        return Float.intBitsToFloat(getInt(index, byteOrder));
+    }
+
+    public float getFloat(final int index)
+    {
+        return getFloat(index, NATIVE_BYTE_ORDER);
+    }
+
+    public short getShort(final int index, final ByteOrder byteOrder)
+    {
+        final int termOffset = contiguousTermOffset(index, SIZE_OF_SHORT);
+        if (NOT_CONTIGUOUS != termOffset)
+        {
+            return termBuffer.getShort(termOffset, byteOrder);
+        }
+
+        return (short)getSpanningFragments(index, SIZE_OF_SHORT, byteOrder);
+    }
+
+    public short getShort(final int index)
+    {
+        return getShort(index, NATIVE_BYTE_ORDER);
+    }
+
+    public char getChar(final int index, final ByteOrder byteOrder)
+    {
+        return (char)getShort(index, byteOrder);
+    }
+
+    public char getChar(final int index)
+    {
+        return getChar(index, NATIVE_BYTE_ORDER);
+    }
+
+    public byte getByte(final int index)
+    {
+        boundsCheck0(index, SIZE_OF_BYTE);
+
+        return termBuffer.getByte(termOffset(index));
+    }
+
+    public void getBytes(final int index, final byte[] dst)
+    {
+        getBytes(index, dst, 0, dst.length);
+    }
+
+    public void getBytes(final int index, final byte[] dst, final int offset, final int length)
+    {
+        boundsCheck0(index, length);
+
+        int position = index;
+        int dstOffset = offset;
+        int remaining = length;
+        while (remaining > 0)
+        {
+            final int bytes = Math.min(remaining, fragmentPayloadLength - (position % fragmentPayloadLength));
+            termBuffer.getBytes(termOffset(position), dst, dstOffset, bytes);
+            position += bytes;
+            dstOffset += bytes;
+            remaining -= bytes;
+        }
+    }
+
+    public void getBytes(final int index, final MutableDirectBuffer dstBuffer, final int dstIndex, final int length)
+    {
+        boundsCheck0(index, length);
+
+        int position = index;
+        int dstOffset = dstIndex;
+        int remaining = length;
+        while (remaining > 0)
+        {
+            final int bytes = Math.min(remaining, fragmentPayloadLength - (position % fragmentPayloadLength));
+            dstBuffer.putBytes(dstOffset, termBuffer, termOffset(position), bytes);
+            position += bytes;
+            dstOffset += bytes;
+            remaining -= bytes;
+        }
+    }
+
+    public void getBytes(final int index, final ByteBuffer dstBuffer, final int length)
+    {
+        final int dstOffset = dstBuffer.position();
+        getBytes(index, dstBuffer, dstOffset, length);
+        dstBuffer.position(dstOffset + length);
+    }
+
+    public void getBytes(final int index, final ByteBuffer dstBuffer, final int dstOffset, final int length)
+    {
+        boundsCheck0(index, length);
+
+        int position = index;
+        int offset = dstOffset;
+        int remaining = length;
+        while (remaining > 0)
+        {
+            final int bytes = Math.min(remaining, fragmentPayloadLength - (position % fragmentPayloadLength));
+            termBuffer.getBytes(termOffset(position), dstBuffer, offset, bytes);
+            position += bytes;
+            offset += bytes;
+            remaining -= bytes;
+        }
+    }
+
+    public int parseNaturalIntAscii(final int index, final int length)
+    {
+        return contiguousBuffer(index, length).parseNaturalIntAscii(contiguousOffset, length);
+    }
+
+    public long parseNaturalLongAscii(final int index, final int length)
+    {
+        return contiguousBuffer(index, length).parseNaturalLongAscii(contiguousOffset, length);
+    }
+
+    public int parseIntAscii(final int index, final int length)
+    {
+        return contiguousBuffer(index, length).parseIntAscii(contiguousOffset, length);
+    }
+
+    public long parseLongAscii(final int index, final int length)
+    {
+        return contiguousBuffer(index, length).parseLongAscii(contiguousOffset, length);
+    }
+
+    public String getStringAscii(final int index)
+    {
+        return getStringWithoutLengthAscii(index + SIZE_OF_INT, getInt(index));
+    }
+
+    public int getStringAscii(final int index, final Appendable appendable)
+    {
+        return getStringWithoutLengthAscii(index + SIZE_OF_INT, getInt(index), appendable);
+    }
+
+    public String getStringAscii(final int index, final ByteOrder byteOrder)
+    {
+        return getStringWithoutLengthAscii(index + SIZE_OF_INT, getInt(index, byteOrder));
+    }
+
+    public int getStringAscii(final int index, final Appendable appendable, final ByteOrder byteOrder)
+    {
+        return getStringWithoutLengthAscii(index + SIZE_OF_INT, getInt(index, byteOrder), appendable);
+    }
+
+    public String getStringAscii(final int index, final int length)
+    {
+        return getStringWithoutLengthAscii(index + SIZE_OF_INT, length);
+    }
+
+    public int getStringAscii(final int index, final int length, final Appendable appendable)
+    {
+        return getStringWithoutLengthAscii(index + SIZE_OF_INT, length, appendable);
+    }
+
+    public String getStringWithoutLengthAscii(final int index, final int length)
+    {
+        return contiguousBuffer(index, length).getStringWithoutLengthAscii(contiguousOffset, length);
+    }
+
+    public int getStringWithoutLengthAscii(final int index, final int length, final Appendable appendable)
+    {
+        return contiguousBuffer(index, length).getStringWithoutLengthAscii(contiguousOffset, length, appendable);
+    }
+
+    public String getStringUtf8(final int index)
+    {
+        return getStringWithoutLengthUtf8(index + SIZE_OF_INT, getInt(index));
+    }
+
+    public String getStringUtf8(final int index, final ByteOrder byteOrder)
+    {
+        return getStringWithoutLengthUtf8(index + SIZE_OF_INT, getInt(index, byteOrder));
+    }
+
+    public String getStringUtf8(final int index, final int length)
+    {
+        return getStringWithoutLengthUtf8(index + SIZE_OF_INT, length);
+    }
+
+    public String getStringWithoutLengthUtf8(final int index, final int length)
+    {
+        return contiguousBuffer(index, length).getStringWithoutLengthUtf8(contiguousOffset, length);
+    }
+
+    public int compareTo(final DirectBuffer that)
+    {
+        final int thisCapacity = this.capacity();
+        final int thatCapacity = that.capacity();
+
+        for (int i = 0, length = Math.min(thisCapacity, thatCapacity); i < length; i++)
+        {
+            final int cmp = Byte.compare(this.getByte(i), that.getByte(i));
+            if (0 != cmp)
+            {
+                return cmp;
+            }
+        }
+
+        return Integer.compare(thisCapacity, thatCapacity);
+    }
+
+    public String toString()
+    {
+        return "FragmentedMessageBuffer{" +
+            "firstPayloadOffset=" + firstPayloadOffset +
+            ", fragmentPayloadLength=" + fragmentPayloadLength +
+            ", capacity=" + length +
+            '}';
+    }
+
+    private int termOffset(final int index)
+    {
+        final int fragmentOffset = fragmentOffset(index);
+
+        return cachedFragmentTermOffset + fragmentOffset;
+    }
+
+    private int contiguousTermOffset(final int index, final int length)
+    {
+        boundsCheck0(index, length);
+
+        final int fragmentOffset = fragmentOffset(index);
+        if (fragmentOffset + length > fragmentPayloadLength)
+        {
+            return NOT_CONTIGUOUS;
+        }
+
+        return cachedFragmentTermOffset + fragmentOffset;
+    }
+
+    private int fragmentOffset(final int index)
+    {
+        int fragmentOffset = index - cachedFragmentIndex;
+        if (fragmentOffset < 0 || fragmentOffset >= fragmentPayloadLength)
+        {
+            final int fragmentNumber = index / fragmentPayloadLength;
+            cachedFragmentIndex = fragmentNumber * fragmentPayloadLength;
+            cachedFragmentTermOffset = firstPayloadOffset + (fragmentNumber * frameStride);
+            fragmentOffset = index - cachedFragmentIndex;
+        }
+
+        return fragmentOffset;
+    }
+
+    private DirectBuffer contiguousBuffer(final int index, final int length)
+    {
+        final int termOffset = contiguousTermOffset(index, length);
+        if (NOT_CONTIGUOUS != termOffset)
+        {
+            contiguousOffset = termOffset;
+            return termBuffer;
+        }
+
+        getBytes(index, scratchBuffer, 0, length);
+        contiguousOffset = 0;
+
+        return scratchBuffer;
+    }
+
+    private long getSpanningFragments(final int index, final int length, final ByteOrder byteOrder)
+    {
+        long value = 0;
+
+        if (ByteOrder.BIG_ENDIAN == byteOrder)
+        {
+            for (int i = 0; i < length; i++)
+            {
+                value = (value << 8) | (termBuffer.getByte(termOffset(index + i)) & 0xFF);
+            }
+        }
+        else
+        {
+            for (int i = length - 1; i >= 0; i--)
+            {
+                value = (value << 8) | (termBuffer.getByte(termOffset(index + i)) & 0xFF);
+            }
+        }
+
+        return value;
+    }
+
+    private void boundsCheck0(final int index, final int length)
+    {
+        if (UnsafeBuffer.SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck(index, length);
+        }
+    }
+}
@@ -81,6 +81,20 @@ public class HeaderWriter
         termBuffer.putLong(offset + TERM_OFFSET_FIELD_OFFSET, sessionId | offset);
         termBuffer.putLong(offset + STREAM_ID_FIELD_OFFSET, streamId | (((long)termId) << 32));
     }
+
+    /**
+     * Rewrite the term offset, session id, stream id, and term id of an existing frame header in the term buffer,
+     * leaving the frame length, version, flags, type, and reserved value as they are.
+     *
+     * @param termBuffer to be written to.
+     * @param offset     at which the header begins.
+     * @param termId     of the current term buffer.
+     */
+    public void rewriteIds(final UnsafeBuffer termBuffer, final int offset, final int termId)
+    {
+        termBuffer.putLong(offset + TERM_OFFSET_FIELD_OFFSET, sessionId | offset);
+        termBuffer.putLong(offset + STREAM_ID_FIELD_OFFSET, streamId | (((long)termId) << 32));
+    }
 }
 
 class NativeBigEndianHeaderWriter extends HeaderWriter
@@ -102,4 +116,10 @@ class NativeBigEndianHeaderWriter extends HeaderWriter
         termBuffer.putLong(offset + TERM_OFFSET_FIELD_OFFSET, sessionId | ((((long)reverseBytes(offset))) << 32));
         termBuffer.putLong(offset + STREAM_ID_FIELD_OFFSET, streamId | (reverseBytes(termId) & 0xFFFF_FFFFL));
     }
+
+    public void rewriteIds(final UnsafeBuffer termBuffer, final int offset, final int termId)
+    {
+        termBuffer.putLong(offset + TERM_OFFSET_FIELD_OFFSET, sessionId | ((((long)reverseBytes(offset))) << 32));
+        termBuffer.putLong(offset + STREAM_ID_FIELD_OFFSET, streamId | (reverseBytes(termId) & 0xFFFF_FFFFL));
+    }
 }
\ No newline at end of file
@@ -595,6 +595,66 @@ public final class TermAppender
         return (int)resultingOffset;
     }
 
+    /**
+     * Append a batch of unfragmented messages to the the term buffer with a single reservation of the tail so the
+     * messages are contiguous. If the batch does not fit in the remainder of the term then the remainder is padded
+     * and none of the batch is appended.
+     *
+     * @param header                for writing the default header.
+     * @param messages              to be appended with each vector being a message of no more than max payload length.
+     * @param messageCount          of messages from the start of the array to be appended.
+     * @param batchLength           as the sum of the aligned frame lengths for the messages.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frames.
+     * @param activeTermId          used for flow control.
+     * @return the resulting offset of the term after the append on success otherwise {@link #FAILED}.
+     */
+    public int appendUnfragmentedBatch(
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int messageCount,
+        final int batchLength,
+        final ReservedValueSupplier reservedValueSupplier,
+        final int activeTermId)
+    {
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        final long rawTail = getAndAddRawTail(batchLength);
+        final int termId = termId(rawTail);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        checkTerm(activeTermId, termId);
+
+        long resultingOffset = termOffset + batchLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int frameOffset = (int)termOffset;
+            for (int i = 0; i < messageCount; i++)
+            {
+                final DirectBufferVector message = messages[i];
+                final int frameLength = message.length + HEADER_LENGTH;
+
+                header.write(termBuffer, frameOffset, frameLength, termId);
+                termBuffer.putBytes(frameOffset + HEADER_LENGTH, message.buffer, message.offset, message.length);
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, frameOffset, frameLength);
+                    termBuffer.putLong(frameOffset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, frameOffset, frameLength);
+                frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            }
+        }
+
+        return (int)resultingOffset;
+    }
+
     private static void checkTerm(final int expectedTermId, final int termId)
     {
         if (termId != expectedTermId)
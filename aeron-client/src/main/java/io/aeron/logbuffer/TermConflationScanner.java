@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Scans a term buffer backward from a known frame boundary for the most recent complete message so a consumer of
+ * conflatable data can skip to it without reading the messages before it.
+ * <p>
+ * Frames are located by stepping back in {@link FrameDescriptor#FRAME_ALIGNMENT} increments for a data or padding
+ * header, with the term offset, term id, and session id of the stream, that ends at the boundary. The cost is
+ * proportional to the length of the messages stepped over rather than the number of messages which precede them.
+ */
+public final class TermConflationScanner
+{
+    /**
+     * The scan reached the lower offset without finding a complete message and the lower offset is a frame boundary.
+     */
+    public static final long NO_MESSAGE = -1;
+
+    /**
+     * A frame ending at a boundary could not be found, such as when a frame header has yet to be written.
+     */
+    public static final long UNKNOWN_BOUNDARY = -2;
+
+    /**
+     * Scan the term buffer backward from the end offset for the most recent complete message which begins at or
+     * after the lower offset.
+     *
+     * @param termBuffer  to be scanned.
+     * @param termId      of the term buffer.
+     * @param sessionId   of the stream in the term buffer.
+     * @param lowerOffset at or after which the message must begin which must be a frame boundary.
+     * @param endOffset   at which the scan begins which must be a frame boundary.
+     * @return the begin and end offset of the message packed into a long, {@link #NO_MESSAGE}, or
+     * {@link #UNKNOWN_BOUNDARY}.
+     * @see #beginOffset(long)
+     * @see #endOffset(long)
+     */
+    public static long scanForLatestMessage(
+        final UnsafeBuffer termBuffer,
+        final int termId,
+        final int sessionId,
+        final int lowerOffset,
+        final int endOffset)
+    {
+        int boundary = endOffset;
+        int messageEndOffset = -1;
+
+        while (boundary > lowerOffset)
+        {
+            final int frameOffset = frameOffsetEndingAt(termBuffer, termId, sessionId, lowerOffset, boundary);
+            if (frameOffset < 0)
+            {
+                return UNKNOWN_BOUNDARY;
+            }
+
+            if (frameLengthVolatile(termBuffer, frameOffset) <= 0 || isPaddingFrame(termBuffer, frameOffset))
+            {
+                messageEndOffset = -1;
+            }
+            else
+            {
+                final byte flags = frameFlags(termBuffer, frameOffset);
+                if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+                {
+                    messageEndOffset = boundary;
+                }
+
+                if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+                {
+                    if (messageEndOffset > 0)
+                    {
+                        return pack(frameOffset, messageEndOffset);
+                    }
+                }
+            }
+
+            boundary = frameOffset;
+        }
+
+        return NO_MESSAGE;
+    }
+
+    /**
+     * Pack the begin and end offsets of a message into a long for returning on the stack.
+     *
+     * @param beginOffset of the first frame of the message.
+     * @param endOffset   after the last frame of the message.
+     * @return a long with both ints packed into it.
+     */
+    public static long pack(final int beginOffset, final int endOffset)
+    {
+        return ((long)beginOffset << 32) | endOffset;
+    }
+
+    /**
+     * The offset of the first frame of the message found by a scan.
+     *
+     * @param result into which the begin offset has been packed.
+     * @return the offset of the first frame of the message.
+     */
+    public static int beginOffset(final long result)
+    {
+        return (int)(result >>> 32);
+    }
+
+    /**
+     * The offset after the last frame of the message found by a scan.
+     *
+     * @param result into which the end offset has been packed.
+     * @return the offset after the last frame of the message.
+     */
+    public static int endOffset(final long result)
+    {
+        return (int)result;
+    }
+
+    private static int frameOffsetEndingAt(
+        final UnsafeBuffer termBuffer, final int termId, final int sessionId, final int lowerOffset, final int boundary)
+    {
+        for (int offset = boundary - FRAME_ALIGNMENT; offset >= lowerOffset; offset -= FRAME_ALIGNMENT)
+        {
+            if (termBuffer.getInt(offset + TERM_OFFSET, LITTLE_ENDIAN) == offset &&
+                termBuffer.getInt(offset + TERM_ID_OFFSET, LITTLE_ENDIAN) == termId &&
+                termBuffer.getInt(offset + SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN) == sessionId)
+            {
+                final int type = frameType(termBuffer, offset);
+                final int frameLength = Math.abs(frameLengthVolatile(termBuffer, offset));
+
+                if ((HDR_TYPE_DATA == type || HDR_TYPE_PAD == type) &&
+                    offset + align(frameLength, FRAME_ALIGNMENT) == boundary)
+                {
+                    return offset;
+                }
+            }
+        }
+
+        return -1;
+    }
+}
@@ -65,9 +65,50 @@ public class TermGapScanner
         final int termOffset,
         final int limitOffset,
         final GapHandler handler)
+    {
+        return scanForGaps(termBuffer, termId, termOffset, limitOffset, 1, handler);
+    }
+
+    /**
+     * Scan for multiple gaps from the scanOffset up to a limit offset. Gaps are reported to the {@link GapHandler}
+     * in order of term offset until the limit offset or maxGaps is reached.
+     *
+     * @param termBuffer  to be scanned for gaps.
+     * @param termId      of the current term buffer.
+     * @param termOffset  at which to start scanning.
+     * @param limitOffset at which to stop scanning.
+     * @param maxGaps     to be reported in a single scan.
+     * @param handler     to call for each gap found.
+     * @return offset of last contiguous frame
+     */
+    public static int scanForGaps(
+        final UnsafeBuffer termBuffer,
+        final int termId,
+        final int termOffset,
+        final int limitOffset,
+        final int maxGaps,
+        final GapHandler handler)
+    {
+        final int gapBeginOffset = scanFrames(termBuffer, termOffset, limitOffset);
+
+        int offset = gapBeginOffset;
+        int gapCount = 0;
+        while (offset < limitOffset && gapCount < maxGaps)
+        {
+            final int gapLength = scanGap(termBuffer, offset, limitOffset);
+            handler.onGap(termId, offset, gapLength);
+            gapCount++;
+
+            offset = scanFrames(termBuffer, offset + gapLength, limitOffset);
+        }
+
+        return gapBeginOffset;
+    }
+
+    private static int scanFrames(final UnsafeBuffer termBuffer, final int termOffset, final int limitOffset)
     {
         int offset = termOffset;
-        do
+        while (offset < limitOffset)
         {
             final int frameLength = frameLengthVolatile(termBuffer, offset);
             if (frameLength <= 0)
@@ -77,27 +118,25 @@ public class TermGapScanner
 
             offset += align(frameLength, FRAME_ALIGNMENT);
         }
-        while (offset < limitOffset);
 
-        final int gapBeginOffset = offset;
-        if (offset < limitOffset)
+        return offset;
+    }
+
+    private static int scanGap(final UnsafeBuffer termBuffer, final int gapBeginOffset, final int limitOffset)
+    {
+        int offset = gapBeginOffset;
+        final int limit = limitOffset - ALIGNED_HEADER_LENGTH;
+        while (offset < limit)
         {
-            final int limit = limitOffset - ALIGNED_HEADER_LENGTH;
-            while (offset < limit)
-            {
-                offset += FRAME_ALIGNMENT;
+            offset += FRAME_ALIGNMENT;
 
-                if (0 != termBuffer.getIntVolatile(offset))
-                {
-                    offset -= ALIGNED_HEADER_LENGTH;
-                    break;
-                }
+            if (0 != termBuffer.getIntVolatile(offset))
+            {
+                offset -= ALIGNED_HEADER_LENGTH;
+                break;
             }
-
-            final int gapLength = (offset - gapBeginOffset) + ALIGNED_HEADER_LENGTH;
-            handler.onGap(termId, gapBeginOffset, gapLength);
         }
 
-        return gapBeginOffset;
+        return (offset - gapBeginOffset) + ALIGNED_HEADER_LENGTH;
     }
 }
@@ -27,16 +27,22 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
  * <a target="_blank"
  *    href="https://github.com/real-logic/aeron/wiki/Protocol-Specification#data-recovery-via-retransmit-request">
  * Data Recovery</a> wiki page.
+ * <p>
+ * A NAK may carry additional ranges for the same term following the header. Each additional range is a term offset
+ * and length pair of {@link #RANGE_LENGTH} bytes, and the number of ranges is determined from the frame length.
  */
 public class NakFlyweight extends HeaderFlyweight
 {
     public static final int HEADER_LENGTH = 28;
+    public static final int RANGE_LENGTH = 8;
 
     private static final int SESSION_ID_FIELD_OFFSET = 8;
     private static final int STREAM_ID_FIELD_OFFSET = 12;
     private static final int TERM_ID_FIELD_OFFSET = 16;
     private static final int TERM_OFFSET_FIELD_OFFSET = 20;
     private static final int LENGTH_FIELD_OFFSET = 24;
+    private static final int RANGE_TERM_OFFSET_FIELD_OFFSET = 0;
+    private static final int RANGE_LENGTH_FIELD_OFFSET = 4;
 
     public NakFlyweight()
     {
@@ -167,6 +173,87 @@ public class NakFlyweight extends HeaderFlyweight
         return this;
     }
 
+    /**
+     * Frame length required to carry a given number of ranges.
+     *
+     * @param rangeCount to be carried in the NAK.
+     * @return frame length required to carry the ranges.
+     */
+    public static int frameLengthForRangeCount(final int rangeCount)
+    {
+        return HEADER_LENGTH + ((rangeCount - 1) * RANGE_LENGTH);
+    }
+
+    /**
+     * The number of ranges carried in the NAK based on the frame length.
+     *
+     * @return number of ranges carried in the NAK.
+     */
+    public int rangeCount()
+    {
+        return 1 + ((frameLength() - HEADER_LENGTH) / RANGE_LENGTH);
+    }
+
+    /**
+     * Set the frame length to carry a number of ranges.
+     *
+     * @param rangeCount to be carried in the NAK.
+     * @return flyweight
+     */
+    public NakFlyweight rangeCount(final int rangeCount)
+    {
+        frameLength(frameLengthForRangeCount(rangeCount));
+
+        return this;
+    }
+
+    /**
+     * The term offset for a range, index 0 being the term offset field of the header.
+     *
+     * @param index of the range.
+     * @return term offset for the range.
+     */
+    public int rangeTermOffset(final int index)
+    {
+        return 0 == index ? termOffset() : getInt(rangeOffset(index) + RANGE_TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * The length for a range, index 0 being the length field of the header.
+     *
+     * @param index of the range.
+     * @return length for the range.
+     */
+    public int rangeLength(final int index)
+    {
+        return 0 == index ? length() : getInt(rangeOffset(index) + RANGE_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set the term offset and length for a range, index 0 being the term offset and length fields of the header.
+     *
+     * @param index      of the range.
+     * @param termOffset for the range.
+     * @param length     for the range.
+     * @return flyweight
+     */
+    public NakFlyweight range(final int index, final int termOffset, final int length)
+    {
+        if (0 == index)
+        {
+            termOffset(termOffset);
+            length(length);
+        }
+        else
+        {
+            final int offset = rangeOffset(index);
+            putInt(offset + RANGE_TERM_OFFSET_FIELD_OFFSET, termOffset, LITTLE_ENDIAN);
+            putInt(offset + RANGE_LENGTH_FIELD_OFFSET, length, LITTLE_ENDIAN);
+        }
+
+        return this;
+    }
+
     public String toString()
     {
         return "NAK{" +
@@ -179,6 +266,12 @@ public class NakFlyweight extends HeaderFlyweight
             " stream-id=" + streamId() +
             " term-id=" + termId() +
             " length=" + length() +
+            " range-count=" + rangeCount() +
             "}";
     }
+
+    private static int rangeOffset(final int index)
+    {
+        return HEADER_LENGTH + ((index - 1) * RANGE_LENGTH);
+    }
 }
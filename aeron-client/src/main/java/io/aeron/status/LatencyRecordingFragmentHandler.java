@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+
+import static io.aeron.logbuffer.FrameDescriptor.END_FRAG_FLAG;
+
+/**
+ * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern to record the latency of messages stamped
+ * by a {@link TimestampReservedValueSupplier} in a {@link LatencyReport.Entry} before delegating them.
+ * <p>
+ * The latency is recorded for the last fragment of each message so it can sit either side of a
+ * {@link io.aeron.FragmentAssembler}. Fragments with a reserved value of zero are taken to not have been stamped
+ * and are delegated without recording.
+ * <p>
+ * Recording does not allocate so can be left enabled on production subscribers.
+ */
+public class LatencyRecordingFragmentHandler implements FragmentHandler
+{
+    private final FragmentHandler delegate;
+    private final LatencyReport.Entry entry;
+    private final NanoClock nanoClock;
+
+    /**
+     * Construct a handler which records latency using {@link System#nanoTime()}.
+     *
+     * @param delegate onto which fragments are forwarded after recording.
+     * @param entry    in which the latency is recorded.
+     */
+    public LatencyRecordingFragmentHandler(final FragmentHandler delegate, final LatencyReport.Entry entry)
+    {
+        this(delegate, entry, new SystemNanoClock());
+    }
+
+    /**
+     * Construct a handler which records latency using the given clock which should match that of the
+     * {@link TimestampReservedValueSupplier} used by the publisher.
+     *
+     * @param delegate  onto which fragments are forwarded after recording.
+     * @param entry     in which the latency is recorded.
+     * @param nanoClock for the time of receipt.
+     */
+    public LatencyRecordingFragmentHandler(
+        final FragmentHandler delegate, final LatencyReport.Entry entry, final NanoClock nanoClock)
+    {
+        this.delegate = delegate;
+        this.entry = entry;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Get the delegate unto which fragments are delegated.
+     *
+     * @return the delegate unto which fragments are delegated.
+     */
+    public FragmentHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that records the latency of a message and forwards it.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        if ((header.flags() & END_FRAG_FLAG) == END_FRAG_FLAG)
+        {
+            final long timestampNs = header.reservedValue();
+            if (0 != timestampNs)
+            {
+                entry.record(nanoClock.nanoTime() - timestampNs);
+            }
+        }
+
+        delegate.onFragment(buffer, offset, length, header);
+    }
+}
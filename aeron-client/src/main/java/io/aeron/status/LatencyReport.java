@@ -0,0 +1,244 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import org.agrona.BitUtil;
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.*;
+
+/**
+ * A report of latency histograms for message streams which is cheap enough to be updated for every message received.
+ * <p>
+ * The provided {@link AtomicBuffer} can wrap a memory-mapped file so the histograms can be read live by another
+ * process with a {@link LatencyReportReader}.
+ * <p>
+ * Values are counted in log-linear buckets with {@link #SUB_BUCKET_COUNT} buckets for each power of two, giving a
+ * precision of about 6%, which covers the full range of positive long values without allocation.
+ * <p>
+ * <b>Note:</b>This class is NOT threadsafe for creating entries from multiple threads and each
+ * {@link Entry} must have a single recording thread.
+ * <p>
+ * The entries are recorded to the buffer in the following format.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                         Entry Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                           Stream ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                         Total Count                           |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                          Max Value                            |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                Bucket Counts (BUCKET_COUNT longs)            ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                   Label encoded in US-ASCII                  ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ */
+public class LatencyReport
+{
+    /**
+     * Alignment to be applied for each entry offset.
+     */
+    public static final int ENTRY_ALIGNMENT = CACHE_LINE_LENGTH;
+
+    /**
+     * Number of bits of precision for the buckets within each power of two.
+     */
+    public static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * Number of buckets within each power of two.
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Number of buckets in a histogram for covering all positive long values.
+     */
+    public static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /**
+     * Offset within an entry at which the entry length field begins.
+     */
+    public static final int ENTRY_LENGTH_OFFSET = 0;
+
+    /**
+     * Offset within an entry at which the stream id field begins.
+     */
+    public static final int STREAM_ID_OFFSET = ENTRY_LENGTH_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within an entry at which the total count field begins.
+     */
+    public static final int TOTAL_COUNT_OFFSET = STREAM_ID_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within an entry at which the max value field begins.
+     */
+    public static final int MAX_VALUE_OFFSET = TOTAL_COUNT_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the bucket counts begin.
+     */
+    public static final int BUCKETS_OFFSET = MAX_VALUE_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the label field begins.
+     */
+    public static final int LABEL_OFFSET = BUCKETS_OFFSET + (BUCKET_COUNT * SIZE_OF_LONG);
+
+    private int nextEntryOffset = 0;
+    private final AtomicBuffer buffer;
+
+    /**
+     * Create a latency report which wraps a buffer which is ideally memory mapped so it can be read from another
+     * process.
+     *
+     * @param buffer to be wrapped.
+     */
+    public LatencyReport(final AtomicBuffer buffer)
+    {
+        buffer.verifyAlignment();
+        this.buffer = buffer;
+    }
+
+    /**
+     * Create a new entry for recording the latency of a stream.
+     * <p>
+     * If no space is remaining in the report then null is returned.
+     *
+     * @param streamId for the stream.
+     * @param label    to identify the stream, such as its channel.
+     * @return a new entry or null if the report has insufficient space.
+     */
+    public Entry createEntry(final int streamId, final String label)
+    {
+        Entry entry = null;
+
+        final int entryLength = BitUtil.align(LABEL_OFFSET + SIZE_OF_INT + label.length(), ENTRY_ALIGNMENT);
+
+        if (entryLength <= (buffer.capacity() - nextEntryOffset))
+        {
+            final int offset = nextEntryOffset;
+
+            buffer.putInt(offset + STREAM_ID_OFFSET, streamId);
+            buffer.putStringAscii(offset + LABEL_OFFSET, label);
+            buffer.putIntOrdered(offset + ENTRY_LENGTH_OFFSET, entryLength);
+
+            entry = new Entry(buffer, offset);
+            nextEntryOffset += entryLength;
+        }
+
+        return entry;
+    }
+
+    /**
+     * Index of the bucket in which a value is counted.
+     *
+     * @param value to be counted with negative values counted as zero.
+     * @return the index of the bucket in which the value is counted.
+     */
+    public static int bucketIndex(final long value)
+    {
+        if (value < SUB_BUCKET_COUNT)
+        {
+            return value <= 0 ? 0 : (int)value;
+        }
+
+        final int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int)((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    /**
+     * Lowest value counted in a bucket.
+     *
+     * @param index of the bucket.
+     * @return the lowest value counted in the bucket.
+     */
+    public static long bucketLowestValue(final int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+
+        final int shift = (index >> SUB_BUCKET_BITS) - 1;
+
+        return (long)(SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1))) << shift;
+    }
+
+    /**
+     * Highest value counted in a bucket.
+     *
+     * @param index of the bucket.
+     * @return the highest value counted in the bucket.
+     */
+    public static long bucketHighestValue(final int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+
+        return bucketLowestValue(index) + (1L << ((index >> SUB_BUCKET_BITS) - 1)) - 1;
+    }
+
+    /**
+     * Report entry for a specific stream. Once an entry has been created it can then be used repeatedly from a
+     * single thread to record values without allocation.
+     */
+    public static class Entry
+    {
+        private long maxValue;
+        private final AtomicBuffer buffer;
+        private final int offset;
+
+        Entry(final AtomicBuffer buffer, final int offset)
+        {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        /**
+         * Record a value, such as a latency in nanoseconds, in the histogram for the stream.
+         *
+         * @param value to be recorded.
+         */
+        public void record(final long value)
+        {
+            final AtomicBuffer buffer = this.buffer;
+            final int bucketOffset = offset + BUCKETS_OFFSET + (bucketIndex(value) * SIZE_OF_LONG);
+            final int totalCountOffset = offset + TOTAL_COUNT_OFFSET;
+
+            buffer.putLongOrdered(bucketOffset, buffer.getLong(bucketOffset) + 1);
+            buffer.putLongOrdered(totalCountOffset, buffer.getLong(totalCountOffset) + 1);
+
+            if (value > maxValue)
+            {
+                maxValue = value;
+                buffer.putLongOrdered(offset + MAX_VALUE_OFFSET, value);
+            }
+        }
+    }
+}
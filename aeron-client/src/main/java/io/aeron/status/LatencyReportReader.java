@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import static io.aeron.status.LatencyReport.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Reader that provides the function to read entries from a {@link LatencyReport}.
+ */
+public class LatencyReportReader
+{
+    /**
+     * Read a {@link LatencyReport} contained in the buffer. This can be done concurrently with recording.
+     *
+     * @param buffer        containing the latency report.
+     * @param bucketCounts  of length {@link LatencyReport#BUCKET_COUNT} into which the bucket counts of each
+     *                      entry are read before it is passed to the consumer.
+     * @param entryConsumer to be called to accept each entry in the report.
+     * @return the number of entries read.
+     */
+    public static int read(final AtomicBuffer buffer, final long[] bucketCounts, final EntryConsumer entryConsumer)
+    {
+        if (bucketCounts.length != BUCKET_COUNT)
+        {
+            throw new IllegalArgumentException("bucketCounts length must be " + BUCKET_COUNT);
+        }
+
+        final int capacity = buffer.capacity();
+
+        int entriesRead = 0;
+        int offset = 0;
+
+        while (offset < capacity)
+        {
+            final int entryLength = buffer.getIntVolatile(offset + ENTRY_LENGTH_OFFSET);
+            if (entryLength <= 0)
+            {
+                break;
+            }
+
+            ++entriesRead;
+
+            for (int i = 0; i < BUCKET_COUNT; i++)
+            {
+                bucketCounts[i] = buffer.getLongVolatile(offset + BUCKETS_OFFSET + (i * SIZE_OF_LONG));
+            }
+
+            entryConsumer.accept(
+                buffer.getInt(offset + STREAM_ID_OFFSET),
+                buffer.getStringAscii(offset + LABEL_OFFSET),
+                buffer.getLongVolatile(offset + TOTAL_COUNT_OFFSET),
+                buffer.getLongVolatile(offset + MAX_VALUE_OFFSET),
+                bucketCounts);
+
+            offset += entryLength;
+        }
+
+        return entriesRead;
+    }
+
+    /**
+     * Consumer function to be implemented by caller of the read method.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer
+    {
+        void accept(int streamId, String label, long totalCount, long maxValue, long[] bucketCounts);
+    }
+}
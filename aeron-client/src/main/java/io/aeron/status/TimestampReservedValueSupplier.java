@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import io.aeron.ReservedValueSupplier;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+
+/**
+ * {@link ReservedValueSupplier} which stamps each message fragment with the time it was offered so a
+ * {@link LatencyRecordingFragmentHandler} can record the latency on receipt.
+ * <p>
+ * The timestamps are from a {@link NanoClock} which by default is {@link System#nanoTime()} so are only comparable
+ * for publishers and subscribers on the same host.
+ */
+public class TimestampReservedValueSupplier implements ReservedValueSupplier
+{
+    private final NanoClock nanoClock;
+
+    /**
+     * Construct a supplier which stamps fragments with {@link System#nanoTime()}.
+     */
+    public TimestampReservedValueSupplier()
+    {
+        this(new SystemNanoClock());
+    }
+
+    /**
+     * Construct a supplier which stamps fragments with the time from a given clock.
+     *
+     * @param nanoClock for the timestamps.
+     */
+    public TimestampReservedValueSupplier(final NanoClock nanoClock)
+    {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long get(final DirectBuffer termBuffer, final int termOffset, final int frameLength)
+    {
+        return nanoClock.nanoTime();
+    }
+}
@@ -43,6 +43,8 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -302,6 +304,26 @@ public class ClientConductorTest
         conductor.addPublication(CHANNEL, STREAM_ID_1);
     }
 
+    @Test
+    public void shouldGetPublicationAddedAsynchronouslyOnceReady()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        assertThat(registrationId, is(CORRELATION_ID));
+        assertNull(conductor.getPublication(registrationId));
+        verify(logBuffersFactory, never()).map(anyString());
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+
+        final ConcurrentPublication publication = conductor.getPublication(registrationId);
+
+        assertNotNull(publication);
+        assertThat(publication.channel(), is(CHANNEL));
+        assertFalse(conductor.isCommandActive(registrationId));
+        verify(logBuffersFactory).map(SESSION_ID_1 + "-log");
+    }
+
     @Test
     public void closingPublicationDoesNotRemoveOtherPublications()
     {
@@ -437,6 +459,97 @@ public class ClientConductorTest
         conductor.addSubscription(CHANNEL, STREAM_ID_1);
     }
 
+    @Test(expected = RegistrationException.class)
+    public void shouldFailToGetSubscriptionAddedAsynchronouslyOnMediaDriverError()
+    {
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        assertNull(conductor.getSubscription(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+
+        try
+        {
+            conductor.getSubscription(registrationId);
+        }
+        finally
+        {
+            verify(mockClientErrorHandler, never()).onError(any(RegistrationException.class));
+        }
+    }
+
+    @Test
+    public void shouldNotCompleteAwaitedResponseWhenAsyncRegistrationIsReady()
+    {
+        conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_SUBSCRIPTION_READY,
+            subscriptionReadyBuffer,
+            (buffer) ->
+            {
+                subscriptionReady.correlationId(CORRELATION_ID);
+                return SubscriptionReadyFlyweight.LENGTH;
+            });
+
+        final DriverEventsAdapter driverEventsAdapter = conductor.driverListenerAdapter();
+        driverEventsAdapter.receive(UNKNOWN_CORRELATION_ID);
+
+        assertThat(driverEventsAdapter.receivedCorrelationId(), is((long)Aeron.NULL_VALUE));
+        assertFalse(conductor.isCommandActive(CORRELATION_ID));
+    }
+
+    @Test
+    public void shouldDiscardErrorWhenFailedAsyncSubscriptionIsRemoved()
+    {
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+
+        conductor.doWork();
+        conductor.asyncRemoveSubscription(registrationId);
+
+        assertNull(conductor.getSubscription(registrationId));
+        verify(driverProxy, never()).removeSubscription(registrationId);
+    }
+
+    @Test
+    public void shouldRemovePendingAsyncPublication()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        conductor.asyncRemovePublication(registrationId);
+
+        verify(driverProxy).removePublication(registrationId);
+        assertFalse(conductor.isCommandActive(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+
+        conductor.doWork();
+
+        assertNull(conductor.getPublication(registrationId));
+        verify(logBuffersFactory, never()).map(anyString());
+    }
+
     @Test
     public void clientNotifiedOfNewImageShouldMapLogFile()
     {
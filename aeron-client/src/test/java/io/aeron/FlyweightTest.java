@@ -157,6 +157,54 @@ public class FlyweightTest
         assertThat(decodeNakHeader.length(), is(512));
     }
 
+    @Test
+    public void shouldEncodeAndDecodeNakWithMultipleRangesCorrectly()
+    {
+        encodeNakHeader.wrap(aBuff);
+        encodeNakHeader.version((short)1);
+        encodeNakHeader.flags((byte)0);
+        encodeNakHeader.headerType(HeaderFlyweight.HDR_TYPE_NAK);
+        encodeNakHeader.rangeCount(3);
+        encodeNakHeader.sessionId(0xdeadbeef);
+        encodeNakHeader.streamId(0x44332211);
+        encodeNakHeader.termId(0x99887766);
+        encodeNakHeader.range(0, 0x22334, 512);
+        encodeNakHeader.range(1, 0x40000, 1024);
+        encodeNakHeader.range(2, 0x60020, 96);
+
+        decodeNakHeader.wrap(aBuff);
+        assertThat(decodeNakHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_NAK));
+        assertThat(decodeNakHeader.frameLength(), is(NakFlyweight.HEADER_LENGTH + (2 * NakFlyweight.RANGE_LENGTH)));
+        assertThat(decodeNakHeader.sessionId(), is(0xdeadbeef));
+        assertThat(decodeNakHeader.streamId(), is(0x44332211));
+        assertThat(decodeNakHeader.termId(), is(0x99887766));
+        assertThat(decodeNakHeader.termOffset(), is(0x22334));
+        assertThat(decodeNakHeader.length(), is(512));
+        assertThat(decodeNakHeader.rangeCount(), is(3));
+        assertThat(decodeNakHeader.rangeTermOffset(0), is(0x22334));
+        assertThat(decodeNakHeader.rangeLength(0), is(512));
+        assertThat(decodeNakHeader.rangeTermOffset(1), is(0x40000));
+        assertThat(decodeNakHeader.rangeLength(1), is(1024));
+        assertThat(decodeNakHeader.rangeTermOffset(2), is(0x60020));
+        assertThat(decodeNakHeader.rangeLength(2), is(96));
+    }
+
+    @Test
+    public void shouldDecodeSingleRangeNakAsOneRange()
+    {
+        encodeNakHeader.wrap(aBuff);
+        encodeNakHeader.headerType(HeaderFlyweight.HDR_TYPE_NAK);
+        encodeNakHeader.frameLength(NakFlyweight.HEADER_LENGTH);
+        encodeNakHeader.termOffset(0x22334);
+        encodeNakHeader.length(512);
+
+        decodeNakHeader.wrap(aBuff);
+        assertThat(decodeNakHeader.rangeCount(), is(1));
+        assertThat(NakFlyweight.frameLengthForRangeCount(1), is(NakFlyweight.HEADER_LENGTH));
+        assertThat(decodeNakHeader.rangeTermOffset(0), is(0x22334));
+        assertThat(decodeNakHeader.rangeLength(0), is(512));
+    }
+
     @Test
     public void shouldEncodeAndDecodeChannelsCorrectly()
     {
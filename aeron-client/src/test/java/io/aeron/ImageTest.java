@@ -77,6 +77,7 @@ public class ImageTest
         }
 
         final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(allocateDirect(LOG_META_DATA_LENGTH));
+        initialTermId(logMetaDataBuffer, INITIAL_TERM_ID);
 
         when(logBuffers.duplicateTermBuffers()).thenReturn(termBuffers);
         when(logBuffers.termLength()).thenReturn(TERM_BUFFER_LENGTH);
@@ -603,6 +604,63 @@ public class ImageTest
         inOrder.verify(position).setOrdered(TERM_BUFFER_LENGTH);
     }
 
+    @Test
+    public void shouldConflatedPollLatestMessageAndAdvancePosition()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+        publishTail(INITIAL_TERM_ID, offsetForFrame(3));
+
+        assertThat(image.conflatedPoll(mockFragmentHandler), is(1));
+
+        final InOrder inOrder = Mockito.inOrder(position, mockFragmentHandler);
+        inOrder.verify(mockFragmentHandler).onFragment(
+            any(UnsafeBuffer.class), eq(offsetForFrame(2) + HEADER_LENGTH), eq(DATA.length), any(Header.class));
+        inOrder.verify(position).setOrdered(initialPosition + offsetForFrame(3));
+        verifyNoMoreInteractions(mockFragmentHandler);
+    }
+
+    @Test
+    public void shouldNotConflatedPollWhenNoNewMessages()
+    {
+        final long initialPosition = computePosition(
+            INITIAL_TERM_ID, offsetForFrame(1), POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        publishTail(INITIAL_TERM_ID, offsetForFrame(1));
+
+        assertThat(image.conflatedPoll(mockFragmentHandler), is(0));
+
+        verifyNoMoreInteractions(mockFragmentHandler);
+        assertThat(image.position(), is(initialPosition));
+    }
+
+    @Test
+    public void shouldConflatedPollLatestMessageInPreviousTermWhenTailIsAtStartOfTerm()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+        final int frameOffset = TERM_BUFFER_LENGTH - ALIGNED_FRAME_LENGTH;
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, frameOffset);
+        publishTail(INITIAL_TERM_ID + 1, 0);
+
+        assertThat(image.conflatedPoll(mockFragmentHandler), is(1));
+
+        verify(mockFragmentHandler).onFragment(
+            any(UnsafeBuffer.class), eq(frameOffset + HEADER_LENGTH), eq(DATA.length), any(Header.class));
+        assertThat(image.position(), is(initialPosition + TERM_BUFFER_LENGTH));
+    }
+
     private Image createImage()
     {
         return new Image(subscription, SESSION_ID, position, logBuffers, errorHandler, SOURCE_IDENTITY, CORRELATION_ID);
@@ -641,6 +699,15 @@ public class ImageTest
         TermRebuilder.insert(termBuffers[activeIndex], termOffset, rcvBuffer, TERM_BUFFER_LENGTH - termOffset);
     }
 
+    private void publishTail(final int termId, final int termOffset)
+    {
+        final UnsafeBuffer logMetaDataBuffer = logBuffers.metaDataBuffer();
+        final int termCount = termId - INITIAL_TERM_ID;
+
+        rawTailVolatile(logMetaDataBuffer, indexByTermCount(termCount), packTail(termId, termOffset));
+        activeTermCountOrdered(logMetaDataBuffer, termCount);
+    }
+
     private static int offsetForFrame(final int index)
     {
         return index * ALIGNED_FRAME_LENGTH;
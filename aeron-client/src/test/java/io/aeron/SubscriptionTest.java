@@ -146,4 +146,57 @@ public class SubscriptionTest
 
         assertThat(subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT), is(2));
     }
+
+    @Test
+    public void shouldDrainHigherPriorityImageFirstInWeightedPoll()
+    {
+        addImagesWithData();
+        subscription.sessionPollPriority(2, 1);
+
+        assertThat(subscription.weightedPoll(fragmentHandler, 10), is(10));
+
+        verify(imageTwoMock).poll(fragmentHandler, 10);
+        verify(imageOneMock, never()).poll(any(FragmentHandler.class), anyInt());
+    }
+
+    @Test
+    public void shouldShareFragmentLimitByWeightInWeightedPoll()
+    {
+        addImagesWithData();
+        subscription.sessionPollWeight(1, 3);
+
+        assertThat(subscription.weightedPoll(fragmentHandler, 8), is(8));
+
+        verify(imageOneMock).poll(fragmentHandler, 6);
+        verify(imageTwoMock).poll(fragmentHandler, 2);
+    }
+
+    @Test
+    public void shouldPollEachImageAtLeastOnceInWeightedPoll()
+    {
+        addImagesWithData();
+        subscription.sessionPollWeight(1, 100);
+
+        assertThat(subscription.weightedPoll(fragmentHandler, 10), is(10));
+
+        verify(imageOneMock).poll(fragmentHandler, 9);
+        verify(imageTwoMock).poll(fragmentHandler, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectWeightWhichIsNotPositive()
+    {
+        subscription.sessionPollWeight(1, 0);
+    }
+
+    private void addImagesWithData()
+    {
+        when(imageOneMock.sessionId()).thenReturn(1);
+        when(imageTwoMock.sessionId()).thenReturn(2);
+        when(imageOneMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+        when(imageTwoMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+    }
 }
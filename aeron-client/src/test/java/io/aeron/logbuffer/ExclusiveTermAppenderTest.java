@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import static io.aeron.logbuffer.ExclusiveTermAppender.FAILED;
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.createDefaultHeader;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ExclusiveTermAppenderTest
+{
+    private static final int TERM_BUFFER_LENGTH = TERM_MIN_LENGTH;
+    private static final int PARTITION_INDEX = 0;
+    private static final int TERM_ID = 7;
+    private static final int SESSION_ID = 11;
+    private static final int STREAM_ID = 1001;
+    private static final int FRAME_LENGTH = 128;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(TERM_BUFFER_LENGTH));
+    private final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(allocateDirect(LOG_META_DATA_LENGTH));
+    private final HeaderWriter headerWriter =
+        HeaderWriter.newInstance(createDefaultHeader(SESSION_ID, STREAM_ID, TERM_ID));
+    private final ExclusiveTermAppender termAppender =
+        new ExclusiveTermAppender(termBuffer, logMetaDataBuffer, PARTITION_INDEX);
+    private final UnsafeBuffer blockBuffer = new UnsafeBuffer(allocateDirect(1024));
+    private final DataHeaderFlyweight headerFlyweight = new DataHeaderFlyweight();
+
+    @Test
+    public void shouldAppendBlockRewritingIdsOfEachFrame()
+    {
+        final int tail = 256;
+        final int blockOffset = 64;
+        writeFrame(blockOffset, tail, BEGIN_FRAG_FLAG, HDR_TYPE_DATA, 1);
+        writeFrame(blockOffset + FRAME_LENGTH, tail + FRAME_LENGTH, END_FRAG_FLAG, HDR_TYPE_DATA, 2);
+        writeFrame(blockOffset + (2 * FRAME_LENGTH), tail + (2 * FRAME_LENGTH), UNFRAGMENTED, HDR_TYPE_PAD, 3);
+        final int blockLength = 3 * FRAME_LENGTH;
+
+        assertThat(termAppender.appendBlock(TERM_ID, tail, headerWriter, blockBuffer, blockOffset, blockLength),
+            is(tail + blockLength));
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(packTail(TERM_ID, tail + blockLength)));
+
+        verifyFrame(tail, BEGIN_FRAG_FLAG, HDR_TYPE_DATA, 1);
+        verifyFrame(tail + FRAME_LENGTH, END_FRAG_FLAG, HDR_TYPE_DATA, 2);
+        verifyFrame(tail + (2 * FRAME_LENGTH), UNFRAGMENTED, HDR_TYPE_PAD, 3);
+    }
+
+    @Test
+    public void shouldPadLogWhenAppendingBlockWithInsufficientRemainingCapacity()
+    {
+        final int tail = TERM_BUFFER_LENGTH - FRAME_LENGTH;
+        writeFrame(0, tail, UNFRAGMENTED, HDR_TYPE_DATA, 1);
+        writeFrame(FRAME_LENGTH, tail + FRAME_LENGTH, UNFRAGMENTED, HDR_TYPE_DATA, 2);
+
+        assertThat(termAppender.appendBlock(TERM_ID, tail, headerWriter, blockBuffer, 0, 2 * FRAME_LENGTH),
+            is(FAILED));
+
+        assertThat(frameType(termBuffer, tail), is(PADDING_FRAME_TYPE));
+        assertThat(frameLengthVolatile(termBuffer, tail), is(FRAME_LENGTH));
+    }
+
+    private void writeFrame(final int offset, final int termOffset, final byte flags, final int type, final int value)
+    {
+        headerFlyweight.wrap(blockBuffer, offset, HEADER_LENGTH);
+        headerFlyweight
+            .termOffset(termOffset)
+            .sessionId(-1)
+            .streamId(-2)
+            .termId(-3)
+            .reservedValue(value)
+            .headerType(type)
+            .flags(flags)
+            .frameLength(FRAME_LENGTH);
+
+        blockBuffer.setMemory(offset + HEADER_LENGTH, FRAME_LENGTH - HEADER_LENGTH, (byte)value);
+    }
+
+    private void verifyFrame(final int termOffset, final byte flags, final int type, final int value)
+    {
+        headerFlyweight.wrap(termBuffer, termOffset, HEADER_LENGTH);
+
+        assertThat(headerFlyweight.frameLength(), is(FRAME_LENGTH));
+        assertThat(headerFlyweight.flags(), is((short)(flags & 0xFF)));
+        assertThat(headerFlyweight.headerType(), is(type));
+        assertThat(headerFlyweight.termOffset(), is(termOffset));
+        assertThat(headerFlyweight.sessionId(), is(SESSION_ID));
+        assertThat(headerFlyweight.streamId(), is(STREAM_ID));
+        assertThat(headerFlyweight.termId(), is(TERM_ID));
+        assertThat(headerFlyweight.reservedValue(), is((long)value));
+        assertThat(termBuffer.getByte(termOffset + FRAME_LENGTH - 1), is((byte)value));
+    }
+}
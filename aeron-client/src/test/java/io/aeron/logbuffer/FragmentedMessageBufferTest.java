@@ -0,0 +1,210 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.FragmentAssembler;
+import io.aeron.ImageControlledFragmentAssembler;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class FragmentedMessageBufferTest
+{
+    private static final int TERM_ID = 7;
+    private static final int MTU_LENGTH = 1408;
+    private static final int MAX_PAYLOAD_LENGTH = MTU_LENGTH - HEADER_LENGTH;
+    private static final int MESSAGE_LENGTH = (MAX_PAYLOAD_LENGTH * 3) + 100;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(new byte[TERM_MIN_LENGTH]);
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(LOG_META_DATA_LENGTH));
+    private final TermAppender termAppender = new TermAppender(termBuffer, metaDataBuffer, 0);
+    private final HeaderWriter headerWriter = HeaderWriter.newInstance(
+        DataHeaderFlyweight.createDefaultHeader(1, 2, TERM_ID));
+    private final Header header = new Header(TERM_ID, Integer.numberOfTrailingZeros(TERM_MIN_LENGTH));
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+    private final List<byte[]> messages = new ArrayList<>();
+    private final List<DirectBuffer> buffers = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    @Test
+    public void shouldDeliverWholeMessageInPlaceAndSkipRemainingFragments()
+    {
+        final int resultingOffset = appendMessage();
+
+        final long outcome = TermReader.read(
+            termBuffer, 0, new FragmentAssembler(this::onMessage, 0, false, true), 10, header, errorHandler);
+
+        assertThat(TermReader.fragmentsRead(outcome), is(4));
+        assertThat(TermReader.offset(outcome), is(resultingOffset));
+        assertThat(messages.size(), is(1));
+        assertThat(buffers.get(0), instanceOf(FragmentedMessageBuffer.class));
+        assertThat(positions.get(0), is((long)resultingOffset));
+        verifyMessage(messages.get(0));
+    }
+
+    @Test
+    public void shouldFallBackToCopyWhenMessageIsNotWhollyCommitted()
+    {
+        final int resultingOffset = appendMessage();
+        final int lastFrameOffset = MTU_LENGTH * 3;
+        final int lastFrameLength = FrameDescriptor.frameLength(termBuffer, lastFrameOffset);
+        FrameDescriptor.frameLengthOrdered(termBuffer, lastFrameOffset, 0);
+
+        final FragmentAssembler assembler = new FragmentAssembler(this::onMessage, 0, false, true);
+        long outcome = TermReader.read(termBuffer, 0, assembler, 10, header, errorHandler);
+        assertThat(TermReader.fragmentsRead(outcome), is(3));
+        assertThat(messages.size(), is(0));
+
+        FrameDescriptor.frameLengthOrdered(termBuffer, lastFrameOffset, lastFrameLength);
+        outcome = TermReader.read(termBuffer, TermReader.offset(outcome), assembler, 10, header, errorHandler);
+        assertThat(TermReader.offset(outcome), is(resultingOffset));
+        assertThat(messages.size(), is(1));
+        assertThat(buffers.get(0), not(instanceOf(FragmentedMessageBuffer.class)));
+        verifyMessage(messages.get(0));
+    }
+
+    @Test
+    public void shouldReadValuesSpanningFragments()
+    {
+        appendMessage();
+
+        final FragmentedMessageBuffer buffer = new FragmentedMessageBuffer();
+        header.buffer(termBuffer);
+        header.offset(0);
+
+        assertThat(buffer.wrapMessage(header), is(true));
+        assertThat(buffer.capacity(), is(MESSAGE_LENGTH));
+        assertThat(buffer.endFrameOffset(), is(MTU_LENGTH * 3));
+
+        for (int i = 0; i < MESSAGE_LENGTH - 8; i++)
+        {
+            assertThat(buffer.getLong(i, ByteOrder.LITTLE_ENDIAN), is(srcBuffer.getLong(i, ByteOrder.LITTLE_ENDIAN)));
+            assertThat(buffer.getLong(i, ByteOrder.BIG_ENDIAN), is(srcBuffer.getLong(i, ByteOrder.BIG_ENDIAN)));
+            assertThat(buffer.getInt(i, ByteOrder.BIG_ENDIAN), is(srcBuffer.getInt(i, ByteOrder.BIG_ENDIAN)));
+            assertThat(buffer.getShort(i), is(srcBuffer.getShort(i)));
+        }
+
+        final int index = MAX_PAYLOAD_LENGTH - 10;
+        assertThat(
+            buffer.getStringWithoutLengthAscii(index, 20), is(srcBuffer.getStringWithoutLengthAscii(index, 20)));
+        assertThat(buffer.compareTo(srcBuffer), is(0));
+    }
+
+    @Test
+    public void shouldRedeliverInPlaceMessageOnAbort()
+    {
+        final int resultingOffset = appendMessage();
+        final ControlledFragmentHandler.Action[] actions =
+        {
+            ControlledFragmentHandler.Action.ABORT, ControlledFragmentHandler.Action.CONTINUE
+        };
+        final int[] deliveries = { 0 };
+
+        final ImageControlledFragmentAssembler assembler = new ImageControlledFragmentAssembler(
+            (buffer, offset, length, header) ->
+            {
+                onMessage(buffer, offset, length, header);
+                return actions[deliveries[0]++];
+            },
+            0,
+            false,
+            true);
+
+        assertThat(TermReader.fragmentsRead(readControlled(0, assembler)), is(0));
+        final long outcome = readControlled(0, assembler);
+
+        assertThat(TermReader.offset(outcome), is(resultingOffset));
+        assertThat(messages.size(), is(2));
+        verifyMessage(messages.get(1));
+    }
+
+    private long readControlled(final int termOffset, final ControlledFragmentHandler handler)
+    {
+        int offset = termOffset;
+        int fragmentsRead = 0;
+        header.buffer(termBuffer);
+
+        while (offset < termBuffer.capacity())
+        {
+            final int frameLength = FrameDescriptor.frameLengthVolatile(termBuffer, offset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            header.offset(offset);
+            final ControlledFragmentHandler.Action action = handler.onFragment(
+                termBuffer, offset + HEADER_LENGTH, frameLength - HEADER_LENGTH, header);
+
+            if (ControlledFragmentHandler.Action.ABORT == action)
+            {
+                break;
+            }
+
+            offset += BitUtil.align(frameLength, FrameDescriptor.FRAME_ALIGNMENT);
+            fragmentsRead++;
+        }
+
+        return TermReader.pack(offset, fragmentsRead);
+    }
+
+    private int appendMessage()
+    {
+        metaDataBuffer.putLong(TERM_TAIL_COUNTERS_OFFSET, packTail(TERM_ID, 0));
+        for (int i = 0; i < MESSAGE_LENGTH; i++)
+        {
+            srcBuffer.putByte(i, (byte)(i * 31));
+        }
+
+        return termAppender.appendFragmentedMessage(
+            headerWriter, srcBuffer, 0, MESSAGE_LENGTH, MAX_PAYLOAD_LENGTH, null, TERM_ID);
+    }
+
+    private void onMessage(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte[] message = new byte[length];
+        buffer.getBytes(offset, message);
+        messages.add(message);
+        buffers.add(buffer);
+        positions.add(header.position());
+    }
+
+    private void verifyMessage(final byte[] message)
+    {
+        assertThat(message.length, is(MESSAGE_LENGTH));
+        for (int i = 0; i < MESSAGE_LENGTH; i++)
+        {
+            assertThat("at i=" + i, message[i], is(srcBuffer.getByte(i)));
+        }
+    }
+}
@@ -335,6 +335,74 @@ public class TermAppenderTest
         inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, frameTwoLength);
     }
 
+    @Test
+    public void shouldAppendBatchOfUnfragmentedMessagesToLog()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+        final int lengthOne = 20;
+        final int lengthTwo = 100;
+        final int alignedFrameLengthOne = align(lengthOne + headerLength, FRAME_ALIGNMENT);
+        final int batchLength = alignedFrameLengthOne + align(lengthTwo + headerLength, FRAME_ALIGNMENT);
+        final int tail = 64;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, packTail(TERM_ID, tail));
+
+        final DirectBufferVector[] messages = new DirectBufferVector[]
+        {
+            new DirectBufferVector(buffer, 0, lengthOne),
+            new DirectBufferVector(buffer, 8, lengthTwo)
+        };
+
+        assertThat(termAppender.appendUnfragmentedBatch(headerWriter, messages, 2, batchLength, RVS, TERM_ID),
+            is(tail + batchLength));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX),
+            is(packTail(TERM_ID, tail + batchLength)));
+
+        final int frameOffsetTwo = tail + alignedFrameLengthOne;
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, lengthOne + headerLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(tail + headerLength, buffer, 0, lengthOne);
+        inOrder.verify(termBuffer, times(1)).putLong(tail + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, lengthOne + headerLength);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, frameOffsetTwo, lengthTwo + headerLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(frameOffsetTwo + headerLength, buffer, 8, lengthTwo);
+        inOrder.verify(termBuffer, times(1)).putLong(frameOffsetTwo + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(frameOffsetTwo, lengthTwo + headerLength);
+    }
+
+    @Test
+    public void shouldPadLogWhenAppendingBatchWithInsufficientRemainingCapacity()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+        final int msgLength = 100;
+        final int alignedFrameLength = align(msgLength + headerLength, FRAME_ALIGNMENT);
+        final int batchLength = alignedFrameLength * 2;
+        final int tailValue = TERM_BUFFER_LENGTH - alignedFrameLength;
+        final int paddingLength = TERM_BUFFER_LENGTH - tailValue;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, packTail(TERM_ID, tailValue));
+
+        final DirectBufferVector[] messages = new DirectBufferVector[]
+        {
+            new DirectBufferVector(buffer, 0, msgLength),
+            new DirectBufferVector(buffer, 0, msgLength)
+        };
+
+        assertThat(termAppender.appendUnfragmentedBatch(headerWriter, messages, 2, batchLength, RVS, TERM_ID),
+            is(FAILED));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX),
+            is(packTail(TERM_ID, tailValue + batchLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tailValue, paddingLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putShort(typeOffset(tailValue), (short)PADDING_FRAME_TYPE, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tailValue, paddingLength);
+    }
+
     @Test(expected = AeronException.class)
     public void shouldDetectInvalidTerm()
     {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.logbuffer.TermConflationScanner.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TermConflationScannerTest
+{
+    private static final int TERM_ID = 7;
+    private static final int SESSION_ID = 1;
+    private static final int MTU_LENGTH = 1408;
+    private static final int MAX_PAYLOAD_LENGTH = MTU_LENGTH - HEADER_LENGTH;
+    private static final int MESSAGE_LENGTH = 100;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_MIN_LENGTH));
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(LOG_META_DATA_LENGTH));
+    private final TermAppender termAppender = new TermAppender(termBuffer, metaDataBuffer, 0);
+    private final HeaderWriter headerWriter = HeaderWriter.newInstance(
+        DataHeaderFlyweight.createDefaultHeader(SESSION_ID, 2, TERM_ID));
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MAX_PAYLOAD_LENGTH * 4]);
+
+    {
+        metaDataBuffer.putLong(TERM_TAIL_COUNTERS_OFFSET, packTail(TERM_ID, 0));
+    }
+
+    @Test
+    public void shouldFindLatestUnfragmentedMessage()
+    {
+        appendMessage(MESSAGE_LENGTH);
+        final int beginOffset = appendMessage(MESSAGE_LENGTH);
+        final int endOffset = appendMessage(MESSAGE_LENGTH);
+
+        final long outcome = scan(0, endOffset);
+
+        assertThat(beginOffset(outcome), is(beginOffset));
+        assertThat(endOffset(outcome), is(endOffset));
+    }
+
+    @Test
+    public void shouldFindLatestFragmentedMessage()
+    {
+        final int beginOffset = appendMessage(MESSAGE_LENGTH);
+        final int endOffset = appendMessage(MAX_PAYLOAD_LENGTH * 3);
+
+        final long outcome = scan(0, endOffset);
+
+        assertThat(beginOffset(outcome), is(beginOffset));
+        assertThat(endOffset(outcome), is(endOffset));
+    }
+
+    @Test
+    public void shouldSkipUncommittedMessage()
+    {
+        final int beginOffset = appendMessage(MESSAGE_LENGTH);
+        final int endOffset = appendMessage(MESSAGE_LENGTH);
+        final int resultingOffset = appendMessage(MESSAGE_LENGTH);
+        FrameDescriptor.frameLengthOrdered(termBuffer, endOffset, -(MESSAGE_LENGTH + HEADER_LENGTH));
+
+        final long outcome = scan(0, resultingOffset);
+
+        assertThat(beginOffset(outcome), is(beginOffset));
+        assertThat(endOffset(outcome), is(endOffset));
+    }
+
+    @Test
+    public void shouldSkipPaddingAtEndOfTerm()
+    {
+        int beginOffset = 0;
+        int endOffset = 0;
+        int resultingOffset;
+        while ((resultingOffset = appendMessage(MAX_PAYLOAD_LENGTH * 4)) > 0)
+        {
+            beginOffset = endOffset;
+            endOffset = resultingOffset;
+        }
+
+        assertThat(resultingOffset, is(TermAppender.FAILED));
+
+        final long outcome = scan(0, TERM_MIN_LENGTH);
+
+        assertThat(beginOffset(outcome), is(beginOffset));
+        assertThat(endOffset(outcome), is(endOffset));
+    }
+
+    @Test
+    public void shouldNotFindMessageWhichBeginsBeforeLowerOffset()
+    {
+        final int beginOffset = appendMessage(MESSAGE_LENGTH);
+        final int endOffset = appendMessage(MAX_PAYLOAD_LENGTH * 3);
+
+        assertThat(scan(beginOffset + MTU_LENGTH, endOffset), is(NO_MESSAGE));
+    }
+
+    @Test
+    public void shouldReportUnknownBoundaryWhenFrameHeaderIsNotWritten()
+    {
+        final int endOffset = appendMessage(MESSAGE_LENGTH);
+
+        assertThat(scan(0, endOffset + 256), is(UNKNOWN_BOUNDARY));
+    }
+
+    private long scan(final int lowerOffset, final int endOffset)
+    {
+        return scanForLatestMessage(termBuffer, TERM_ID, SESSION_ID, lowerOffset, endOffset);
+    }
+
+    private int appendMessage(final int length)
+    {
+        if (length <= MAX_PAYLOAD_LENGTH)
+        {
+            return termAppender.appendUnfragmentedMessage(headerWriter, srcBuffer, 0, length, null, TERM_ID);
+        }
+
+        return termAppender.appendFragmentedMessage(
+            headerWriter, srcBuffer, 0, length, MAX_PAYLOAD_LENGTH, null, TERM_ID);
+    }
+}
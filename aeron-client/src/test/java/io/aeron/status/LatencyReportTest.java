@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.Header;
+import org.agrona.BitUtil;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.aeron.status.LatencyReport.*;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class LatencyReportTest
+{
+    private static final int CAPACITY = 64 * 1024;
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY));
+    private final LatencyReport report = new LatencyReport(buffer);
+    private final long[] bucketCounts = new long[BUCKET_COUNT];
+    private final List<String> labels = new ArrayList<>();
+
+    @Test
+    public void shouldCountValuesInBucketsCoveringThem()
+    {
+        final long[] values = { 0, 1, 15, 16, 17, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE };
+
+        for (final long value : values)
+        {
+            final int index = bucketIndex(value);
+            assertThat(index < BUCKET_COUNT, is(true));
+            assertThat(bucketLowestValue(index) <= value, is(true));
+            assertThat(bucketHighestValue(index) >= value, is(true));
+        }
+
+        for (int i = 1; i < BUCKET_COUNT; i++)
+        {
+            assertThat(bucketLowestValue(i), is(bucketHighestValue(i - 1) + 1));
+        }
+
+        assertThat(bucketIndex(-5), is(0));
+        assertThat(bucketIndex(Long.MAX_VALUE), is(BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void shouldReadRecordedEntries()
+    {
+        final LatencyReport.Entry entryOne = report.createEntry(1001, "aeron:ipc");
+        final LatencyReport.Entry entryTwo = report.createEntry(1002, "aeron:udp?endpoint=localhost:40123");
+
+        entryOne.record(10);
+        entryOne.record(10);
+        entryOne.record(5_000);
+        entryTwo.record(7);
+
+        final int entriesRead = LatencyReportReader.read(
+            buffer,
+            bucketCounts,
+            (streamId, label, totalCount, maxValue, counts) ->
+            {
+                labels.add(label);
+                if (1001 == streamId)
+                {
+                    assertThat(totalCount, is(3L));
+                    assertThat(maxValue, is(5_000L));
+                    assertThat(counts[bucketIndex(10)], is(2L));
+                    assertThat(counts[bucketIndex(5_000)], is(1L));
+                }
+                else
+                {
+                    assertThat(streamId, is(1002));
+                    assertThat(totalCount, is(1L));
+                    assertThat(maxValue, is(7L));
+                    assertThat(counts[bucketIndex(7)], is(1L));
+                }
+            });
+
+        assertThat(entriesRead, is(2));
+        assertThat(labels.get(0), is("aeron:ipc"));
+        assertThat(labels.get(1), is("aeron:udp?endpoint=localhost:40123"));
+    }
+
+    @Test
+    public void shouldReturnNullEntryWhenReportIsFull()
+    {
+        int entries = 0;
+        while (null != report.createEntry(1001, "aeron:ipc"))
+        {
+            entries++;
+        }
+
+        assertThat(entries, is(CAPACITY / BitUtil.align(LABEL_OFFSET + 4 + "aeron:ipc".length(), ENTRY_ALIGNMENT)));
+        assertThat(report.createEntry(1001, "aeron:ipc"), nullValue());
+        assertThat(LatencyReportReader.read(buffer, bucketCounts, (s, l, t, m, c) -> {}), is(entries));
+    }
+
+    @Test
+    public void shouldRecordLatencyOfStampedMessagesOnLastFragment()
+    {
+        final NanoClock nanoClock = mock(NanoClock.class);
+        when(nanoClock.nanoTime()).thenReturn(1_500L);
+
+        final LatencyReport.Entry entry = report.createEntry(1001, "aeron:ipc");
+        final FragmentHandler delegate = mock(FragmentHandler.class);
+        final LatencyRecordingFragmentHandler handler = new LatencyRecordingFragmentHandler(delegate, entry, nanoClock);
+        final Header header = mock(Header.class);
+
+        when(header.flags()).thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG);
+        when(header.reservedValue()).thenReturn(1_000L);
+        handler.onFragment(buffer, 0, 8, header);
+
+        when(header.flags()).thenReturn(FrameDescriptor.END_FRAG_FLAG);
+        handler.onFragment(buffer, 0, 8, header);
+
+        when(header.flags()).thenReturn(FrameDescriptor.UNFRAGMENTED);
+        when(header.reservedValue()).thenReturn(0L);
+        handler.onFragment(buffer, 0, 8, header);
+
+        verify(delegate, times(3)).onFragment(buffer, 0, 8, header);
+
+        LatencyReportReader.read(
+            buffer,
+            bucketCounts,
+            (streamId, label, totalCount, maxValue, counts) ->
+            {
+                assertThat(totalCount, is(1L));
+                assertThat(maxValue, is(500L));
+                assertThat(counts[bucketIndex(500)], is(1L));
+            });
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import org.agrona.DeadlineTimerWheel;
 import org.agrona.concurrent.status.AtomicCounter;
 
 import java.util.concurrent.TimeUnit;
@@ -28,6 +29,7 @@ public class AeronClient implements DriverManagedResource
     private final long clientLivenessTimeoutMs;
     private final AtomicCounter clientTimeouts;
     private final AtomicCounter heartbeatTimestamp;
+    private long timerId = DeadlineTimerWheel.NULL_DEADLINE;
     private boolean reachedEndOfLife = false;
     private boolean closedByCommand = false;
 
@@ -93,4 +95,24 @@ public class AeronClient implements DriverManagedResource
         closedByCommand = true;
         heartbeatTimestamp.set(0);
     }
+
+    /**
+     * Time in milliseconds for epoch after which the client is considered timed out unless it sends a keepalive.
+     *
+     * @return time in milliseconds for epoch after which the client is considered timed out.
+     */
+    long livenessDeadlineMs()
+    {
+        return heartbeatTimestamp.get() + clientLivenessTimeoutMs;
+    }
+
+    long timerId()
+    {
+        return timerId;
+    }
+
+    void timerId(final long timerId)
+    {
+        this.timerId = timerId;
+    }
 }
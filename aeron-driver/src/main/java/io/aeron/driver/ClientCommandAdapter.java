@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import io.aeron.Aeron;
 import io.aeron.ErrorCode;
 import io.aeron.command.*;
 import io.aeron.exceptions.ControlProtocolException;
@@ -74,6 +75,7 @@ class ClientCommandAdapter implements MessageHandler
         @SuppressWarnings("unused") final int length)
     {
         long correlationId = 0;
+        long clientId = Aeron.NULL_VALUE;
 
         try
         {
@@ -86,6 +88,7 @@ class ClientCommandAdapter implements MessageHandler
                     publicationMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = publicationMsgFlyweight.correlationId();
+                    clientId = publicationMsgFlyweight.clientId();
                     addPublication(correlationId, false);
                     break;
                 }
@@ -97,7 +100,8 @@ class ClientCommandAdapter implements MessageHandler
                     removeMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = removeMsgFlyweight.correlationId();
-                    conductor.onRemovePublication(removeMsgFlyweight.registrationId(), correlationId);
+                    clientId = removeMsgFlyweight.clientId();
+                    conductor.onRemovePublication(removeMsgFlyweight.registrationId(), correlationId, clientId);
                     break;
                 }
 
@@ -108,6 +112,7 @@ class ClientCommandAdapter implements MessageHandler
                     publicationMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = publicationMsgFlyweight.correlationId();
+                    clientId = publicationMsgFlyweight.clientId();
                     addPublication(correlationId, true);
                     break;
                 }
@@ -119,8 +124,8 @@ class ClientCommandAdapter implements MessageHandler
                     subscriptionMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = subscriptionMsgFlyweight.correlationId();
+                    clientId = subscriptionMsgFlyweight.clientId();
                     final int streamId = subscriptionMsgFlyweight.streamId();
-                    final long clientId = subscriptionMsgFlyweight.clientId();
                     final String channel = subscriptionMsgFlyweight.channel();
 
                     if (channel.startsWith(IPC_CHANNEL))
@@ -145,7 +150,8 @@ class ClientCommandAdapter implements MessageHandler
                     removeMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = removeMsgFlyweight.correlationId();
-                    conductor.onRemoveSubscription(removeMsgFlyweight.registrationId(), correlationId);
+                    clientId = removeMsgFlyweight.clientId();
+                    conductor.onRemoveSubscription(removeMsgFlyweight.registrationId(), correlationId, clientId);
                     break;
                 }
 
@@ -156,10 +162,11 @@ class ClientCommandAdapter implements MessageHandler
                     destinationMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = destinationMsgFlyweight.correlationId();
+                    clientId = destinationMsgFlyweight.clientId();
                     final long channelRegistrationId = destinationMsgFlyweight.registrationCorrelationId();
                     final String channel = destinationMsgFlyweight.channel();
 
-                    conductor.onAddSendDestination(channelRegistrationId, channel, correlationId);
+                    conductor.onAddSendDestination(channelRegistrationId, channel, correlationId, clientId);
                     break;
                 }
 
@@ -170,10 +177,11 @@ class ClientCommandAdapter implements MessageHandler
                     destinationMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = destinationMsgFlyweight.correlationId();
+                    clientId = destinationMsgFlyweight.clientId();
                     final long channelRegistrationId = destinationMsgFlyweight.registrationCorrelationId();
                     final String channel = destinationMsgFlyweight.channel();
 
-                    conductor.onRemoveSendDestination(channelRegistrationId, channel, correlationId);
+                    conductor.onRemoveSendDestination(channelRegistrationId, channel, correlationId, clientId);
                     break;
                 }
 
@@ -194,6 +202,7 @@ class ClientCommandAdapter implements MessageHandler
                     counterMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = counterMsgFlyweight.correlationId();
+                    clientId = counterMsgFlyweight.clientId();
                     conductor.onAddCounter(
                         counterMsgFlyweight.typeId(),
                         buffer,
@@ -203,7 +212,7 @@ class ClientCommandAdapter implements MessageHandler
                         index + counterMsgFlyweight.labelBufferOffset(),
                         counterMsgFlyweight.labelBufferLength(),
                         correlationId,
-                        counterMsgFlyweight.clientId());
+                        clientId);
                     break;
                 }
 
@@ -214,7 +223,8 @@ class ClientCommandAdapter implements MessageHandler
                     removeMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = removeMsgFlyweight.correlationId();
-                    conductor.onRemoveCounter(removeMsgFlyweight.registrationId(), correlationId);
+                    clientId = removeMsgFlyweight.clientId();
+                    conductor.onRemoveCounter(removeMsgFlyweight.registrationId(), correlationId, clientId);
                     break;
                 }
 
@@ -235,10 +245,11 @@ class ClientCommandAdapter implements MessageHandler
                     destinationMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = destinationMsgFlyweight.correlationId();
+                    clientId = destinationMsgFlyweight.clientId();
                     final long channelRegistrationId = destinationMsgFlyweight.registrationCorrelationId();
                     final String channel = destinationMsgFlyweight.channel();
 
-                    conductor.onAddRcvDestination(channelRegistrationId, channel, correlationId);
+                    conductor.onAddRcvDestination(channelRegistrationId, channel, correlationId, clientId);
                     break;
                 }
 
@@ -249,10 +260,11 @@ class ClientCommandAdapter implements MessageHandler
                     destinationMsgFlyweight.validateLength(msgTypeId, length);
 
                     correlationId = destinationMsgFlyweight.correlationId();
+                    clientId = destinationMsgFlyweight.clientId();
                     final long channelRegistrationId = destinationMsgFlyweight.registrationCorrelationId();
                     final String channel = destinationMsgFlyweight.channel();
 
-                    conductor.onRemoveRcvDestination(channelRegistrationId, channel, correlationId);
+                    conductor.onRemoveRcvDestination(channelRegistrationId, channel, correlationId, clientId);
                     break;
                 }
 
@@ -275,20 +287,20 @@ class ClientCommandAdapter implements MessageHandler
                         ErrorCode.UNKNOWN_COMMAND_TYPE_ID,
                         "command type id " + msgTypeId + " unknown. correlationId=" + correlationId);
 
-                    clientProxy.onError(correlationId, ex.errorCode(), ex.getMessage());
+                    clientProxy.onError(clientId, correlationId, ex.errorCode(), ex.getMessage());
                     recordError(ex);
                 }
             }
         }
         catch (final ControlProtocolException ex)
         {
-            clientProxy.onError(correlationId, ex.errorCode(), ex.getMessage());
+            clientProxy.onError(clientId, correlationId, ex.errorCode(), ex.getMessage());
             recordError(ex);
         }
         catch (final Exception ex)
         {
             final String errorMessage = ex.getClass().getSimpleName() + " : " + ex.getMessage();
-            clientProxy.onError(correlationId, GENERIC_ERROR, errorMessage);
+            clientProxy.onError(clientId, correlationId, GENERIC_ERROR, errorMessage);
             recordError(ex);
         }
     }
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import io.aeron.Aeron;
 import io.aeron.ErrorCode;
 import io.aeron.command.*;
 import org.agrona.DirectBuffer;
@@ -22,15 +23,22 @@ import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.broadcast.BroadcastTransmitter;
 
+import static io.aeron.CncFileDescriptor.clientResponseBufferIndex;
 import static io.aeron.command.ControlProtocolEvents.*;
 
 /**
  * Proxy for communicating from the driver to the client conductor.
+ * <p>
+ * All events are transmitted on the to-clients buffer. When per client response buffers are configured, events
+ * for a specific client are also transmitted on its response buffer, and events of interest to all clients are
+ * transmitted on every response buffer, so clients reading a response buffer see only the events for themselves
+ * and the clients sharing it.
  */
 public class ClientProxy
 {
     private final MutableDirectBuffer buffer = new ExpandableArrayBuffer(1024);
     private final BroadcastTransmitter transmitter;
+    private final BroadcastTransmitter[] clientResponseTransmitters;
 
     private final ErrorResponseFlyweight errorResponse = new ErrorResponseFlyweight();
     private final PublicationBuffersReadyFlyweight publicationReady = new PublicationBuffersReadyFlyweight();
@@ -42,8 +50,15 @@ public class ClientProxy
     private final ClientTimeoutFlyweight clientTimeout = new ClientTimeoutFlyweight();
 
     public ClientProxy(final BroadcastTransmitter transmitter)
+    {
+        this(transmitter, new BroadcastTransmitter[0]);
+    }
+
+    public ClientProxy(
+        final BroadcastTransmitter transmitter, final BroadcastTransmitter[] clientResponseTransmitters)
     {
         this.transmitter = transmitter;
+        this.clientResponseTransmitters = clientResponseTransmitters;
 
         errorResponse.wrap(buffer, 0);
         imageReady.wrap(buffer, 0);
@@ -55,7 +70,8 @@ public class ClientProxy
         clientTimeout.wrap(buffer, 0);
     }
 
-    public void onError(final long correlationId, final ErrorCode errorCode, final String errorMessage)
+    public void onError(
+        final long clientId, final long correlationId, final ErrorCode errorCode, final String errorMessage)
     {
         final String msg = null == errorMessage ? "" : errorMessage;
 
@@ -64,10 +80,23 @@ public class ClientProxy
             .errorCode(errorCode)
             .errorMessage(msg);
 
-        transmit(ON_ERROR, buffer, 0, errorResponse.length());
+        transmit(clientId, ON_ERROR, buffer, 0, errorResponse.length());
+    }
+
+    public void onChannelEndpointError(final long statusIndicatorId, final String errorMessage)
+    {
+        final String msg = null == errorMessage ? "" : errorMessage;
+
+        errorResponse
+            .offendingCommandCorrelationId(statusIndicatorId)
+            .errorCode(ErrorCode.CHANNEL_ENDPOINT_ERROR)
+            .errorMessage(msg);
+
+        transmitToAll(ON_ERROR, buffer, 0, errorResponse.length());
     }
 
     public void onAvailableImage(
+        final long clientId,
         final long correlationId,
         final int streamId,
         final int sessionId,
@@ -85,10 +114,11 @@ public class ClientProxy
             .logFileName(logFileName)
             .sourceIdentity(sourceIdentity);
 
-        transmit(ON_AVAILABLE_IMAGE, buffer, 0, imageReady.length());
+        transmit(clientId, ON_AVAILABLE_IMAGE, buffer, 0, imageReady.length());
     }
 
     public void onPublicationReady(
+        final long clientId,
         final long correlationId,
         final long registrationId,
         final int streamId,
@@ -108,28 +138,32 @@ public class ClientProxy
             .logFileName(logFileName);
 
         final int msgTypeId = isExclusive ? ON_EXCLUSIVE_PUBLICATION_READY : ON_PUBLICATION_READY;
-        transmit(msgTypeId, buffer, 0, publicationReady.length());
+        transmit(clientId, msgTypeId, buffer, 0, publicationReady.length());
     }
 
     public void onSubscriptionReady(
-        final long correlationId, final int channelStatusCounterId)
+        final long clientId, final long correlationId, final int channelStatusCounterId)
     {
         subscriptionReady
             .correlationId(correlationId)
             .channelStatusCounterId(channelStatusCounterId);
 
-        transmit(ON_SUBSCRIPTION_READY, buffer, 0, SubscriptionReadyFlyweight.LENGTH);
+        transmit(clientId, ON_SUBSCRIPTION_READY, buffer, 0, SubscriptionReadyFlyweight.LENGTH);
     }
 
-    public void operationSucceeded(final long correlationId)
+    public void operationSucceeded(final long clientId, final long correlationId)
     {
         operationSucceeded.correlationId(correlationId);
 
-        transmit(ON_OPERATION_SUCCESS, buffer, 0, OperationSucceededFlyweight.LENGTH);
+        transmit(clientId, ON_OPERATION_SUCCESS, buffer, 0, OperationSucceededFlyweight.LENGTH);
     }
 
     public void onUnavailableImage(
-        final long correlationId, final long subscriptionRegistrationId, final int streamId, final String channel)
+        final long clientId,
+        final long correlationId,
+        final long subscriptionRegistrationId,
+        final int streamId,
+        final String channel)
     {
         imageMessage
             .correlationId(correlationId)
@@ -137,7 +171,7 @@ public class ClientProxy
             .streamId(streamId)
             .channel(channel);
 
-        transmit(ON_UNAVAILABLE_IMAGE, buffer, 0, imageMessage.length());
+        transmit(clientId, ON_UNAVAILABLE_IMAGE, buffer, 0, imageMessage.length());
     }
 
     public void onCounterReady(final long correlationId, final int counterId)
@@ -146,7 +180,7 @@ public class ClientProxy
             .correlationId(correlationId)
             .counterId(counterId);
 
-        transmit(ON_COUNTER_READY, buffer, 0, CounterUpdateFlyweight.LENGTH);
+        transmitToAll(ON_COUNTER_READY, buffer, 0, CounterUpdateFlyweight.LENGTH);
     }
 
     public void onUnavailableCounter(final long registrationId, final int counterId)
@@ -155,18 +189,42 @@ public class ClientProxy
             .correlationId(registrationId)
             .counterId(counterId);
 
-        transmit(ON_UNAVAILABLE_COUNTER, buffer, 0, CounterUpdateFlyweight.LENGTH);
+        transmitToAll(ON_UNAVAILABLE_COUNTER, buffer, 0, CounterUpdateFlyweight.LENGTH);
     }
 
     public void onClientTimeout(final long clientId)
     {
         clientTimeout.clientId(clientId);
 
-        transmit(ON_CLIENT_TIMEOUT, buffer, 0, ClientTimeoutFlyweight.LENGTH);
+        transmit(clientId, ON_CLIENT_TIMEOUT, buffer, 0, ClientTimeoutFlyweight.LENGTH);
     }
 
-    private void transmit(final int msgTypeId, final DirectBuffer buffer, final int index, final int length)
+    private void transmit(
+        final long clientId, final int msgTypeId, final DirectBuffer buffer, final int index, final int length)
     {
         transmitter.transmit(msgTypeId, buffer, index, length);
+
+        final BroadcastTransmitter[] clientResponseTransmitters = this.clientResponseTransmitters;
+        final int count = clientResponseTransmitters.length;
+        if (count > 0)
+        {
+            if (Aeron.NULL_VALUE == clientId)
+            {
+                for (final BroadcastTransmitter clientResponseTransmitter : clientResponseTransmitters)
+                {
+                    clientResponseTransmitter.transmit(msgTypeId, buffer, index, length);
+                }
+            }
+            else
+            {
+                clientResponseTransmitters[clientResponseBufferIndex(clientId, count)]
+                    .transmit(msgTypeId, buffer, index, length);
+            }
+        }
+    }
+
+    private void transmitToAll(final int msgTypeId, final DirectBuffer buffer, final int index, final int length)
+    {
+        transmit(Aeron.NULL_VALUE, msgTypeId, buffer, index, length);
     }
 }
@@ -144,6 +144,25 @@ public class Configuration
      */
     public static final long LOW_FILE_STORE_WARNING_THRESHOLD_DEFAULT = TERM_BUFFER_LENGTH_DEFAULT * 10L;
 
+    /**
+     * Property name for the number of pre-allocated logs kept in a pool for each of the publication and IPC term
+     * lengths so publications and images can be created without allocating a log on the conductor thread.
+     * Zero disables the pool.
+     */
+    public static final String LOG_POOL_SIZE_PROP_NAME = "aeron.log.pool.size";
+
+    /**
+     * Default number of pre-allocated logs kept in the pool for each term length.
+     */
+    public static final int LOG_POOL_SIZE_DEFAULT = 0;
+
+    /**
+     * Property name for the delay after a pooled log is freed before it can be reused, which must allow clients
+     * time to unmap it. If not set then the minimum allowed by
+     * {@link #minLogPoolRecycleDelayNs(long, long, long)} is used.
+     */
+    public static final String LOG_POOL_RECYCLE_DELAY_PROP_NAME = "aeron.log.pool.recycle.delay";
+
     /**
      * Length (in bytes) of the conductor buffer for control commands from the clients to the media driver conductor.
      */
@@ -164,6 +183,29 @@ public class Configuration
      */
     public static final int TO_CLIENTS_BUFFER_LENGTH_DEFAULT = (1024 * 1024) + BroadcastBufferDescriptor.TRAILER_LENGTH;
 
+    /**
+     * Number of per client response broadcast buffers allocated in the CnC file. Each client reads only the events
+     * for the clients sharing its response buffer rather than the events for all clients. Zero disables the response
+     * buffers so all clients read the to-clients buffer.
+     */
+    public static final String CLIENT_RESPONSE_BUFFER_COUNT_PROP_NAME = "aeron.client.response.buffer.count";
+
+    /**
+     * Default number of per client response buffers which is zero so they are not used.
+     */
+    public static final int CLIENT_RESPONSE_BUFFER_COUNT_DEFAULT = 0;
+
+    /**
+     * Length (in bytes) of each of the per client response broadcast buffers.
+     */
+    public static final String CLIENT_RESPONSE_BUFFER_LENGTH_PROP_NAME = "aeron.client.response.buffer.length";
+
+    /**
+     * Default length for each of the per client response broadcast buffers.
+     */
+    public static final int CLIENT_RESPONSE_BUFFER_LENGTH_DEFAULT =
+        (64 * 1024) + BroadcastBufferDescriptor.TRAILER_LENGTH;
+
     /**
      * Property name for length of the error buffer for the system counters.
      */
@@ -233,6 +275,17 @@ public class Configuration
      */
     public static final int SEND_TO_STATUS_POLL_RATIO_DEFAULT = 6;
 
+    /**
+     * Property name for the maximum number of datagrams the Receiver will read from a transport in a single poll
+     * while datagrams remain available.
+     */
+    public static final String RECEIVER_DATAGRAM_BUDGET_PROP_NAME = "aeron.receiver.datagram.budget";
+
+    /**
+     * Default is to read a single datagram from each transport per poll of the Receiver.
+     */
+    public static final int RECEIVER_DATAGRAM_BUDGET_DEFAULT = 1;
+
     /**
      * Property name for SO_RCVBUF setting on UDP sockets which must be sufficient for Bandwidth Delay Produce (BDP).
      */
@@ -304,6 +357,19 @@ public class Configuration
     public static final String IPC_PUBLICATION_TERM_WINDOW_LENGTH_PROP_NAME =
         "aeron.ipc.publication.term.window.length";
 
+    /**
+     * Property name for the max bytes of consumed term cleaned by the conductor in a single duty cycle for a
+     * publication or image. Cleaning is spread across duty cycles to bound the pause it adds to other conductor
+     * work, falling back to cleaning to the end of a term if it lags by more than a term. Zero cleans to the end of
+     * a term on each flow control limit change.
+     */
+    public static final String TERM_CLEANING_SLICE_LENGTH_PROP_NAME = "aeron.term.cleaning.slice.length";
+
+    /**
+     * Default max bytes of consumed term cleaned in a single duty cycle which is unbounded.
+     */
+    public static final int TERM_CLEANING_SLICE_LENGTH_DEFAULT = 0;
+
     /**
      * Property name for {@link Publication} unblock timeout.
      */
@@ -444,6 +510,17 @@ public class Configuration
      */
     public static final int MTU_LENGTH_DEFAULT = 1408;
 
+    /**
+     * Maximum number of bytes a network publication may send in a burst of datagrams per sender duty cycle.
+     * A value less than or equal to the MTU results in a single datagram per duty cycle.
+     */
+    public static final String PUBLICATION_BURST_LENGTH_PROP_NAME = "aeron.publication.burst.length";
+
+    /**
+     * Default is to send a single MTU per publication on each sender duty cycle.
+     */
+    public static final int PUBLICATION_BURST_LENGTH_DEFAULT = 0;
+
     /**
      * Length of the maximum transmission unit of the media driver's protocol for IPC.
      */
@@ -454,6 +531,39 @@ public class Configuration
      */
     public static final String THREADING_MODE_PROP_NAME = "aeron.threading.mode";
 
+    /**
+     * Property name for the number of {@link Sender} agents when running in {@link ThreadingMode#SHARDED_SENDER} or
+     * {@link ThreadingMode#SHARDED}.
+     */
+    public static final String SENDER_COUNT_PROP_NAME = "aeron.sender.count";
+
+    /**
+     * Default number of {@link Sender} agents when running in {@link ThreadingMode#SHARDED_SENDER}.
+     */
+    public static final int SENDER_COUNT_DEFAULT = 2;
+
+    /**
+     * Property name for the {@link SenderShardingStrategy} which assigns {@link SendChannelEndpoint}s to senders.
+     */
+    public static final String SENDER_SHARDING_STRATEGY_PROP_NAME = "aeron.SenderShardingStrategy";
+
+    /**
+     * Property name for the number of {@link Receiver} agents when running in {@link ThreadingMode#SHARDED_RECEIVER}
+     * or {@link ThreadingMode#SHARDED}.
+     */
+    public static final String RECEIVER_COUNT_PROP_NAME = "aeron.receiver.count";
+
+    /**
+     * Default number of {@link Receiver} agents when running in {@link ThreadingMode#SHARDED_RECEIVER}.
+     */
+    public static final int RECEIVER_COUNT_DEFAULT = 2;
+
+    /**
+     * Property name for the {@link ReceiverShardingStrategy} which assigns {@link ReceiveChannelEndpoint}s to
+     * receivers.
+     */
+    public static final String RECEIVER_SHARDING_STRATEGY_PROP_NAME = "aeron.ReceiverShardingStrategy";
+
     /**
      * Interval in between checks for timers and timeouts.
      */
@@ -572,6 +682,16 @@ public class Configuration
      */
     public static final long NAK_UNICAST_DELAY_DEFAULT_NS = TimeUnit.MILLISECONDS.toNanos(60);
 
+    /**
+     * Property name for the maximum number of gaps tracked per image and carried as ranges in a single NAK.
+     */
+    public static final String NAK_MAX_RANGES_PROP_NAME = "aeron.nak.max.ranges";
+
+    /**
+     * Default is to track and NAK a single gap at a time.
+     */
+    public static final int NAK_MAX_RANGES_DEFAULT = 1;
+
     /**
      * Property for setting how long to delay before sending a retransmit following a NAK.
      */
@@ -696,6 +816,16 @@ public class Configuration
         return getSizeAsInt(TO_CLIENTS_BUFFER_LENGTH_PROP_NAME, TO_CLIENTS_BUFFER_LENGTH_DEFAULT);
     }
 
+    public static int clientResponseBufferCount()
+    {
+        return getInteger(CLIENT_RESPONSE_BUFFER_COUNT_PROP_NAME, CLIENT_RESPONSE_BUFFER_COUNT_DEFAULT);
+    }
+
+    public static int clientResponseBufferLength()
+    {
+        return getSizeAsInt(CLIENT_RESPONSE_BUFFER_LENGTH_PROP_NAME, CLIENT_RESPONSE_BUFFER_LENGTH_DEFAULT);
+    }
+
     public static int counterValuesBufferLength()
     {
         return getSizeAsInt(COUNTERS_VALUES_BUFFER_LENGTH_PROP_NAME, COUNTERS_VALUES_BUFFER_LENGTH_DEFAULT);
@@ -721,6 +851,11 @@ public class Configuration
         return getDurationInNanos(NAK_UNICAST_DELAY_PROP_NAME, NAK_UNICAST_DELAY_DEFAULT_NS);
     }
 
+    public static int nakMaxRanges()
+    {
+        return getInteger(NAK_MAX_RANGES_PROP_NAME, NAK_MAX_RANGES_DEFAULT);
+    }
+
     public static long timerIntervalNs()
     {
         return getDurationInNanos(TIMER_INTERVAL_PROP_NAME, DEFAULT_TIMER_INTERVAL_NS);
@@ -731,6 +866,16 @@ public class Configuration
         return getSizeAsLong(LOW_FILE_STORE_WARNING_THRESHOLD_PROP_NAME, LOW_FILE_STORE_WARNING_THRESHOLD_DEFAULT);
     }
 
+    public static int logPoolSize()
+    {
+        return getInteger(LOG_POOL_SIZE_PROP_NAME, LOG_POOL_SIZE_DEFAULT);
+    }
+
+    public static long logPoolRecycleDelayNs()
+    {
+        return getDurationInNanos(LOG_POOL_RECYCLE_DELAY_PROP_NAME, Aeron.NULL_VALUE);
+    }
+
     public static int publicationTermWindowLength()
     {
         return getSizeAsInt(PUBLICATION_TERM_WINDOW_LENGTH_PROP_NAME, 0);
@@ -741,6 +886,11 @@ public class Configuration
         return getSizeAsInt(IPC_PUBLICATION_TERM_WINDOW_LENGTH_PROP_NAME, 0);
     }
 
+    public static int termCleaningSliceLength()
+    {
+        return getSizeAsInt(TERM_CLEANING_SLICE_LENGTH_PROP_NAME, TERM_CLEANING_SLICE_LENGTH_DEFAULT);
+    }
+
     public static long untetheredWindowLimitTimeoutNs()
     {
         return getDurationInNanos(
@@ -897,6 +1047,11 @@ public class Configuration
         return getSizeAsInt(IPC_MTU_LENGTH_PROP_NAME, MTU_LENGTH_DEFAULT);
     }
 
+    public static int publicationBurstLength()
+    {
+        return getSizeAsInt(PUBLICATION_BURST_LENGTH_PROP_NAME, PUBLICATION_BURST_LENGTH_DEFAULT);
+    }
+
     public static int filePageSize()
     {
         return getSizeAsInt(FILE_PAGE_SIZE_PROP_NAME, FILE_PAGE_SIZE_DEFAULT);
@@ -922,6 +1077,21 @@ public class Configuration
         return getInteger(SEND_TO_STATUS_POLL_RATIO_PROP_NAME, SEND_TO_STATUS_POLL_RATIO_DEFAULT);
     }
 
+    public static int receiverDatagramBudget()
+    {
+        return getInteger(RECEIVER_DATAGRAM_BUDGET_PROP_NAME, RECEIVER_DATAGRAM_BUDGET_DEFAULT);
+    }
+
+    public static int senderCount()
+    {
+        return getInteger(SENDER_COUNT_PROP_NAME, SENDER_COUNT_DEFAULT);
+    }
+
+    public static int receiverCount()
+    {
+        return getInteger(RECEIVER_COUNT_PROP_NAME, RECEIVER_COUNT_DEFAULT);
+    }
+
     public static long counterFreeToReuseTimeoutNs()
     {
         return getDurationInNanos(COUNTER_FREE_TO_REUSE_TIMEOUT_PROP_NAME, DEFAULT_COUNTER_FREE_TO_REUSE_TIMEOUT_NS);
@@ -1123,6 +1293,58 @@ public class Configuration
         return supplier;
     }
 
+    /**
+     * Get the {@link SenderShardingStrategy} to be used for assigning send channel endpoints to senders.
+     *
+     * @return the {@link SenderShardingStrategy} to be used for assigning send channel endpoints to senders.
+     */
+    public static SenderShardingStrategy senderShardingStrategy()
+    {
+        SenderShardingStrategy strategy = null;
+        try
+        {
+            final String className = getProperty(SENDER_SHARDING_STRATEGY_PROP_NAME);
+            if (null == className)
+            {
+                return new LeastLoadedSenderShardingStrategy();
+            }
+
+            strategy = (SenderShardingStrategy)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return strategy;
+    }
+
+    /**
+     * Get the {@link ReceiverShardingStrategy} to be used for assigning receive channel endpoints to receivers.
+     *
+     * @return the {@link ReceiverShardingStrategy} to be used for assigning receive channel endpoints to receivers.
+     */
+    public static ReceiverShardingStrategy receiverShardingStrategy()
+    {
+        ReceiverShardingStrategy strategy = null;
+        try
+        {
+            final String className = getProperty(RECEIVER_SHARDING_STRATEGY_PROP_NAME);
+            if (null == className)
+            {
+                return new LeastLoadedReceiverShardingStrategy();
+            }
+
+            strategy = (ReceiverShardingStrategy)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return strategy;
+    }
+
     /**
      * Validate that the initial window length is greater than MTU.
      *
@@ -1158,6 +1380,109 @@ public class Configuration
         }
     }
 
+    /**
+     * Validate that the publication burst length is not negative.
+     *
+     * @param burstLength to be validated.
+     * @throws ConfigurationException if the burst length is not valid.
+     */
+    public static void validatePublicationBurstLength(final int burstLength)
+    {
+        if (burstLength < 0)
+        {
+            throw new ConfigurationException("burstLength must be >= 0: " + burstLength);
+        }
+    }
+
+    /**
+     * Validate that the term cleaning slice length is zero for unbounded or a positive multiple of
+     * {@link FrameDescriptor#FRAME_ALIGNMENT}.
+     *
+     * @param sliceLength to be validated.
+     * @throws ConfigurationException if the slice length is not valid.
+     */
+    public static void validateTermCleaningSliceLength(final int sliceLength)
+    {
+        if (sliceLength < 0 || (sliceLength & (FrameDescriptor.FRAME_ALIGNMENT - 1)) != 0)
+        {
+            throw new ConfigurationException(
+                "termCleaningSliceLength must be 0 or a positive multiple of FRAME_ALIGNMENT: " + sliceLength);
+        }
+    }
+
+    /**
+     * Validate that the max NAK ranges is at least one and does not exceed the number of retransmits a sender can
+     * have active for a stream.
+     *
+     * @param maxRanges to be validated.
+     * @throws ConfigurationException if the max ranges is not valid.
+     */
+    public static void validateNakMaxRanges(final int maxRanges)
+    {
+        if (maxRanges < 1 || maxRanges > MAX_RETRANSMITS_DEFAULT)
+        {
+            throw new ConfigurationException(
+                "nakMaxRanges must be in the range 1 to " + MAX_RETRANSMITS_DEFAULT + ": " + maxRanges);
+        }
+    }
+
+    /**
+     * Validate that the receiver datagram budget allows for at least one datagram to be read per poll.
+     *
+     * @param datagramBudget to be validated.
+     * @throws ConfigurationException if the datagram budget is not valid.
+     */
+    public static void validateReceiverDatagramBudget(final int datagramBudget)
+    {
+        if (datagramBudget < 1)
+        {
+            throw new ConfigurationException("receiver datagram budget must be >= 1: " + datagramBudget);
+        }
+    }
+
+    /**
+     * Validate the number of per client response buffers.
+     *
+     * @param clientResponseBufferCount to be validated.
+     * @throws ConfigurationException if the count is negative.
+     */
+    public static void validateClientResponseBufferCount(final int clientResponseBufferCount)
+    {
+        if (clientResponseBufferCount < 0)
+        {
+            throw new ConfigurationException(
+                "client response buffer count must be >= 0: " + clientResponseBufferCount);
+        }
+    }
+
+    /**
+     * Validate that there is at least one sender.
+     *
+     * @param senderCount to be validated.
+     * @throws ConfigurationException if the sender count is not valid.
+     */
+    public static void validateSenderCount(final int senderCount)
+    {
+        if (senderCount < 1)
+        {
+            throw new ConfigurationException("sender count must be >= 1: " + senderCount);
+        }
+    }
+
+    /**
+     * Validate that there is at least one receiver.
+     *
+     * @param receiverCount to be validated.
+     * @throws ConfigurationException if the receiver count is not valid.
+     */
+    public static void validateReceiverCount(final int receiverCount)
+    {
+        if (receiverCount < 1)
+        {
+            throw new ConfigurationException("receiver count must be >= 1: " + receiverCount);
+        }
+    }
+
     /**
      * Validate the publication linger timeout is an appropriate value.
      *
@@ -1343,6 +1668,48 @@ public class Configuration
         }
     }
 
+    /**
+     * Minimum delay after a pooled log is freed before it can be reused. A client which is alive will have been told
+     * the log is no longer available within its liveness timeout, which the driver checks each timer interval, and
+     * unmaps the log once its resource linger duration has elapsed.
+     *
+     * @param clientLivenessTimeoutNs        after which a client will be considered not alive.
+     * @param timerIntervalNs                interval at which the driver will check timeouts.
+     * @param clientResourceLingerDurationNs for which clients keep resources mapped after they are closed.
+     * @return minimum delay in nanoseconds after a pooled log is freed before it can be reused.
+     */
+    public static long minLogPoolRecycleDelayNs(
+        final long clientLivenessTimeoutNs, final long timerIntervalNs, final long clientResourceLingerDurationNs)
+    {
+        return clientLivenessTimeoutNs + timerIntervalNs + clientResourceLingerDurationNs;
+    }
+
+    /**
+     * Validate that pooled logs are not reused while a client which is alive may still have them mapped.
+     *
+     * @param logPoolRecycleDelayNs          after a pooled log is freed before it can be reused.
+     * @param clientLivenessTimeoutNs        after which a client will be considered not alive.
+     * @param timerIntervalNs                interval at which the driver will check timeouts.
+     * @param clientResourceLingerDurationNs for which clients keep resources mapped after they are closed.
+     * @throws ConfigurationException if the values are not valid.
+     */
+    public static void validateLogPoolRecycleDelay(
+        final long logPoolRecycleDelayNs,
+        final long clientLivenessTimeoutNs,
+        final long timerIntervalNs,
+        final long clientResourceLingerDurationNs)
+    {
+        final long minRecycleDelayNs = minLogPoolRecycleDelayNs(
+            clientLivenessTimeoutNs, timerIntervalNs, clientResourceLingerDurationNs);
+
+        if (logPoolRecycleDelayNs < minRecycleDelayNs)
+        {
+            throw new ConfigurationException(
+                "logPoolRecycleDelayNs=" + logPoolRecycleDelayNs +
+                " < clientLivenessTimeoutNs + timerIntervalNs + clientResourceLingerDurationNs=" + minRecycleDelayNs);
+        }
+    }
+
     /**
      * Create a source identity for a given source address.
      *
@@ -26,6 +26,7 @@ public class CounterLink implements DriverManagedResource
     private final AtomicCounter counter;
     private final AeronClient client;
     private boolean reachedEndOfLife = false;
+    private int listIndex;
 
     public CounterLink(final AtomicCounter counter, final long registrationId, final AeronClient client)
     {
@@ -61,4 +62,14 @@ public class CounterLink implements DriverManagedResource
     {
         return reachedEndOfLife;
     }
+
+    int listIndex()
+    {
+        return listIndex;
+    }
+
+    void listIndex(final int listIndex)
+    {
+        this.listIndex = listIndex;
+    }
 }
@@ -29,8 +29,12 @@ import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.status.ChannelEndpointStatus;
 import org.agrona.BitUtil;
+import org.agrona.CloseHelper;
+import org.agrona.DeadlineTimerWheel;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.*;
@@ -40,6 +44,8 @@ import org.agrona.concurrent.status.*;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 import static io.aeron.CommonContext.IPC_MEDIA;
 import static io.aeron.CommonContext.InferableBoolean.FORCE_TRUE;
@@ -49,14 +55,21 @@ import static io.aeron.driver.PublicationParams.*;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.createDefaultHeader;
-import static org.agrona.collections.ArrayListUtil.fastUnorderedRemove;
 
 /**
  * Driver Conductor that takes commands from publishers and subscribers and orchestrates the media driver.
+ * <p>
+ * Managed resources are held in lists for iteration on the duty cycle and timer checks, with hashed indices by
+ * registration id, client id, tag, and channel and stream id so commands do not scan all resources as the number of
+ * clients grows. Each resource records its index in the lists which hold it so it can be removed in constant time.
  */
 public class DriverConductor implements Agent
 {
     private static final long CLOCK_UPDATE_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long TIMER_TICK_RESOLUTION_NS = 1L << 20;
+    private static final int TIMER_TICKS_PER_WHEEL = 1024;
+    private static final int TIMER_POLL_LIMIT = 100;
+    private static final ArrayList<SubscriptionLink> EMPTY_SUBSCRIPTION_LINKS = new ArrayList<>(0);
 
     private int nextSessionId = BitUtil.generateRandomisedId();
 
@@ -67,11 +80,16 @@ public class DriverConductor implements Agent
     private long lastConsumerCommandPosition;
     private long timeOfLastTimerCheckNs;
     private long clockUpdateDeadlineNs;
+    private boolean hasClientTimedOut;
 
     private final Context ctx;
     private final LogFactory logFactory;
     private final ReceiverProxy receiverProxy;
     private final SenderProxy senderProxy;
+    private final SenderShardingStrategy senderShardingStrategy;
+    private final int[] sendChannelEndpointCountBySender;
+    private final ReceiverShardingStrategy receiverShardingStrategy;
+    private final int[] receiveChannelEndpointCountByReceiver;
     private final ClientProxy clientProxy;
     private final RingBuffer toDriverCommands;
     private final ClientCommandAdapter clientCommandAdapter;
@@ -86,7 +104,32 @@ public class DriverConductor implements Agent
     private final ArrayList<PublicationLink> publicationLinks = new ArrayList<>();
     private final ArrayList<SubscriptionLink> subscriptionLinks = new ArrayList<>();
     private final ArrayList<CounterLink> counterLinks = new ArrayList<>();
-    private final ArrayList<AeronClient> clients = new ArrayList<>();
+    private final Long2ObjectHashMap<AeronClient> clientByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<AeronClient> clientByTimerIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<PublicationLink> publicationLinkByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<SubscriptionLink> subscriptionLinkByIdMap = new Long2ObjectHashMap<>();
+    private final Int2ObjectHashMap<ArrayList<SubscriptionLink>> subscriptionLinksByStreamIdMap =
+        new Int2ObjectHashMap<>();
+    private final Long2ObjectHashMap<CounterLink> counterLinkByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<NetworkPublication> networkPublicationByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<NetworkPublication> networkPublicationByTagMap = new Long2ObjectHashMap<>();
+    private final Object2ObjectHashMap<String, Int2ObjectHashMap<ArrayList<NetworkPublication>>>
+        networkPublicationsByChannelMap = new Object2ObjectHashMap<>();
+    private final Object2ObjectHashMap<String, Int2ObjectHashMap<NetworkPublication>>
+        sharedNetworkPublicationByChannelMap = new Object2ObjectHashMap<>();
+    private final Long2ObjectHashMap<IpcPublication> ipcPublicationByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<IpcPublication> ipcPublicationByTagMap = new Long2ObjectHashMap<>();
+    private final Int2ObjectHashMap<ArrayList<IpcPublication>> ipcPublicationsByStreamIdMap =
+        new Int2ObjectHashMap<>();
+    private final Int2ObjectHashMap<IpcPublication> sharedIpcPublicationByStreamIdMap = new Int2ObjectHashMap<>();
+    private final Object2ObjectHashMap<String, Int2ObjectHashMap<ArrayList<PublicationImage>>>
+        publicationImagesByChannelMap = new Object2ObjectHashMap<>();
+    private final Consumer<PublicationLink> removePublicationLink = this::removePublicationLink;
+    private final Consumer<SubscriptionLink> removeSubscriptionLink = this::removeSubscriptionLink;
+    private final Consumer<CounterLink> removeCounterLink = this::removeCounterLink;
+    private final Consumer<NetworkPublication> removeNetworkPublication = this::removeNetworkPublication;
+    private final Consumer<IpcPublication> removeIpcPublication = this::removeIpcPublication;
+    private final Consumer<PublicationImage> removePublicationImage = this::removePublicationImage;
     private final ObjectHashSet<SessionKey> activeSessionSet = new ObjectHashSet<>();
     private final EpochClock epochClock;
     private final NanoClock nanoClock;
@@ -96,6 +139,8 @@ public class DriverConductor implements Agent
     private final NetworkPublicationThreadLocals networkPublicationThreadLocals = new NetworkPublicationThreadLocals();
     private final MutableDirectBuffer tempBuffer;
     private final DataHeaderFlyweight defaultDataHeader = new DataHeaderFlyweight(createDefaultHeader(0, 0, 0));
+    private final DeadlineTimerWheel timerWheel;
+    private final DeadlineTimerWheel.TimerHandler clientTimerHandler = this::onClientTimerExpiry;
 
     public DriverConductor(final Context ctx)
     {
@@ -106,6 +151,10 @@ public class DriverConductor implements Agent
         driverCmdQueue = ctx.driverCommandQueue();
         receiverProxy = ctx.receiverProxy();
         senderProxy = ctx.senderProxy();
+        senderShardingStrategy = ctx.senderShardingStrategy();
+        sendChannelEndpointCountBySender = new int[ctx.senderShardCount()];
+        receiverShardingStrategy = ctx.receiverShardingStrategy();
+        receiveChannelEndpointCountByReceiver = new int[ctx.receiverShardCount()];
         logFactory = ctx.logFactory();
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
@@ -127,6 +176,8 @@ public class DriverConductor implements Agent
         final long nowNs = nanoClock.nanoTime();
         cachedNanoClock.update(nowNs);
         cachedEpochClock.update(epochClock.time());
+        timerWheel = new DeadlineTimerWheel(
+            TimeUnit.NANOSECONDS, nowNs, TIMER_TICK_RESOLUTION_NS, TIMER_TICKS_PER_WHEEL);
         timeOfLastTimerCheckNs = nowNs;
         timeOfLastToDriverPositionChangeNs = nowNs;
         lastConsumerCommandPosition = toDriverCommands.consumerPosition();
@@ -156,6 +207,7 @@ public class DriverConductor implements Agent
 
         workCount += clientCommandAdapter.receive();
         workCount += driverCmdQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
+        workCount += pollClientTimers(nowNs);
 
         final ArrayList<PublicationImage> publicationImages = this.publicationImages;
         for (int i = 0, size = publicationImages.size(); i < size; i++)
@@ -261,7 +313,9 @@ public class DriverConductor implements Agent
                 activeTermId,
                 initialTermOffset,
                 rawLog,
+                ctx.termCleaningSliceLength(),
                 feedbackDelayGenerator,
+                ctx.nakMaxRanges(),
                 subscriberPositions,
                 ReceiverHwm.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
                 ReceiverPos.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
@@ -271,9 +325,10 @@ public class DriverConductor implements Agent
                 ctx.systemCounters(),
                 sourceAddress,
                 congestionControl,
-                ctx.lossReport());
+                ctx.lossReport(),
+                ctx.receiverShardCount() > 1);
 
-            publicationImages.add(image);
+            addPublicationImage(image);
             receiverProxy.newPublicationImage(channelEndpoint, image);
 
             final String sourceIdentity = Configuration.sourceIdentity(sourceAddress);
@@ -284,6 +339,7 @@ public class DriverConductor implements Agent
                 position.addLink(image);
 
                 clientProxy.onAvailableImage(
+                    position.subscription().clientId(),
                     registrationId,
                     streamId,
                     sessionId,
@@ -298,7 +354,7 @@ public class DriverConductor implements Agent
     void onChannelEndpointError(final long statusIndicatorId, final Exception ex)
     {
         final String errorMessage = ex.getClass().getSimpleName() + " : " + ex.getMessage();
-        clientProxy.onError(statusIndicatorId, CHANNEL_ENDPOINT_ERROR, errorMessage);
+        clientProxy.onChannelEndpointError(statusIndicatorId, errorMessage);
     }
 
     void closeChannelEndpoints()
@@ -319,51 +375,22 @@ public class DriverConductor implements Agent
 
     IpcPublication getSharedIpcPublication(final long streamId)
     {
-        return findSharedIpcPublication(ipcPublications, streamId);
+        return findSharedIpcPublication(streamId);
     }
 
     IpcPublication getIpcPublication(final long registrationId)
     {
-        for (int i = 0, size = ipcPublications.size(); i < size; i++)
-        {
-            final IpcPublication publication = ipcPublications.get(i);
-            if (publication.registrationId() == registrationId)
-            {
-                return publication;
-            }
-        }
-
-        return null;
+        return ipcPublicationByIdMap.get(registrationId);
     }
 
     NetworkPublication findNetworkPublicationByTag(final long tag)
     {
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
-        {
-            final NetworkPublication publication = networkPublications.get(i);
-            final long publicationTag = publication.tag();
-            if (publicationTag == tag && publicationTag != ChannelUri.INVALID_TAG)
-            {
-                return publication;
-            }
-        }
-
-        return null;
+        return ChannelUri.INVALID_TAG != tag ? networkPublicationByTagMap.get(tag) : null;
     }
 
     IpcPublication findIpcPublicationByTag(final long tag)
     {
-        for (int i = 0, size = ipcPublications.size(); i < size; i++)
-        {
-            final IpcPublication publication = ipcPublications.get(i);
-            final long publicationTag = publication.tag();
-            if (publicationTag == tag && publicationTag != ChannelUri.INVALID_TAG)
-            {
-                return publication;
-            }
-        }
-
-        return null;
+        return ChannelUri.INVALID_TAG != tag ? ipcPublicationByTagMap.get(tag) : null;
     }
 
     void onAddNetworkPublication(
@@ -383,7 +410,7 @@ public class DriverConductor implements Agent
         NetworkPublication publication = null;
         if (!isExclusive)
         {
-            publication = findPublication(networkPublications, streamId, channelEndpoint);
+            publication = findSharedNetworkPublication(streamId, channelEndpoint);
         }
 
         if (null == publication)
@@ -401,9 +428,10 @@ public class DriverConductor implements Agent
             confirmMatch(channelUri, params, publication.rawLog(), publication.sessionId());
         }
 
-        publicationLinks.add(new PublicationLink(correlationId, getOrAddClient(clientId), publication));
+        addPublicationLink(new PublicationLink(correlationId, getOrAddClient(clientId), publication));
 
         clientProxy.onPublicationReady(
+            clientId,
             correlationId,
             publication.registrationId(),
             streamId,
@@ -416,21 +444,27 @@ public class DriverConductor implements Agent
 
     void cleanupSpies(final NetworkPublication publication)
     {
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamId(publication.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             final SubscriptionLink link = subscriptionLinks.get(i);
             if (link.isLinked(publication))
             {
                 clientProxy.onUnavailableImage(
-                    publication.registrationId(), link.registrationId(), publication.streamId(), publication.channel());
-                subscriptionLinks.get(i).unlink(publication);
+                    link.clientId(),
+                    publication.registrationId(),
+                    link.registrationId(),
+                    publication.streamId(),
+                    publication.channel());
+                link.unlink(publication);
             }
         }
     }
 
     void notifyUnavailableImageLink(final long resourceId, final SubscriptionLink link)
     {
-        clientProxy.onUnavailableImage(resourceId, link.registrationId(), link.streamId(), link.channel());
+        clientProxy.onUnavailableImage(
+            link.clientId(), resourceId, link.registrationId(), link.streamId(), link.channel());
     }
 
     void notifyAvailableImageLink(
@@ -446,7 +480,14 @@ public class DriverConductor implements Agent
 
         final int streamId = link.streamId();
         clientProxy.onAvailableImage(
-            resourceId, streamId, sessionId, link.registrationId(), positionCounterId, logFileName, sourceIdentity);
+            link.clientId(),
+            resourceId,
+            streamId,
+            sessionId,
+            link.registrationId(),
+            positionCounterId,
+            logFileName,
+            sourceIdentity);
     }
 
     void cleanupPublication(final NetworkPublication publication)
@@ -460,7 +501,8 @@ public class DriverConductor implements Agent
         {
             channelEndpoint.closeStatusIndicator();
             sendChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-            senderProxy.closeSendChannelEndpoint(channelEndpoint);
+            sendChannelEndpointCountBySender[channelEndpoint.senderIndex()]--;
+            senderProxy.closeSendChannelEndpoint(channelEndpoint, channelEndpoint.untrackAllDestinationCounters());
         }
     }
 
@@ -489,6 +531,7 @@ public class DriverConductor implements Agent
             {
                 channelEndpoint.closeStatusIndicator();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
+                receiveChannelEndpointCountByReceiver[channelEndpoint.receiverIndex()]--;
                 receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
@@ -498,6 +541,7 @@ public class DriverConductor implements Agent
     {
         boolean rejoin = true;
 
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamId(image.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             final SubscriptionLink link = subscriptionLinks.get(i);
@@ -505,7 +549,7 @@ public class DriverConductor implements Agent
             {
                 rejoin = link.isRejoin();
                 clientProxy.onUnavailableImage(
-                    image.correlationId(), link.registrationId(), image.streamId(), image.channel());
+                    link.clientId(), image.correlationId(), link.registrationId(), image.streamId(), image.channel());
             }
         }
 
@@ -517,12 +561,14 @@ public class DriverConductor implements Agent
 
     void transitionToLinger(final IpcPublication publication)
     {
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamId(publication.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             final SubscriptionLink link = subscriptionLinks.get(i);
             if (link.isLinked(publication))
             {
                 clientProxy.onUnavailableImage(
+                    link.clientId(),
                     publication.registrationId(),
                     link.registrationId(),
                     publication.streamId(),
@@ -533,6 +579,7 @@ public class DriverConductor implements Agent
 
     void cleanupImage(final PublicationImage image)
     {
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamId(image.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             subscriptionLinks.get(i).unlink(image);
@@ -543,6 +590,7 @@ public class DriverConductor implements Agent
     {
         activeSessionSet.remove(new SessionKey(publication.sessionId(), publication.streamId(), IPC_MEDIA));
 
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamId(publication.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             subscriptionLinks.get(i).unlink(publication);
@@ -562,11 +610,12 @@ public class DriverConductor implements Agent
         final boolean isExclusive)
     {
         final IpcPublication ipcPublication = getOrAddIpcPublication(correlationId, streamId, channel, isExclusive);
-        publicationLinks.add(new PublicationLink(correlationId, getOrAddClient(clientId), ipcPublication));
+        addPublicationLink(new PublicationLink(correlationId, getOrAddClient(clientId), ipcPublication));
 
         final ArrayList<SubscriberPosition> subscriberPositions = linkIpcSubscriptions(ipcPublication);
 
         clientProxy.onPublicationReady(
+            clientId,
             correlationId,
             ipcPublication.registrationId(),
             streamId,
@@ -581,6 +630,7 @@ public class DriverConductor implements Agent
             final SubscriberPosition subscriberPosition = subscriberPositions.get(i);
 
             clientProxy.onAvailableImage(
+                subscriberPosition.subscription().clientId(),
                 ipcPublication.registrationId(),
                 streamId,
                 ipcPublication.sessionId(),
@@ -591,84 +641,73 @@ public class DriverConductor implements Agent
         }
     }
 
-    void onRemovePublication(final long registrationId, final long correlationId)
+    void onRemovePublication(final long registrationId, final long correlationId, final long clientId)
     {
-        PublicationLink publicationLink = null;
-        final ArrayList<PublicationLink> publicationLinks = this.publicationLinks;
-        for (int i = 0, size = publicationLinks.size(); i < size; i++)
-        {
-            final PublicationLink publication = publicationLinks.get(i);
-            if (registrationId == publication.registrationId())
-            {
-                publicationLink = publication;
-                fastUnorderedRemove(publicationLinks, i);
-                break;
-            }
-        }
-
+        final PublicationLink publicationLink = publicationLinkByIdMap.get(registrationId);
         if (null == publicationLink)
         {
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "unknown publication: " + registrationId);
         }
 
+        removePublicationLink(publicationLink);
+
         publicationLink.close();
-        clientProxy.operationSucceeded(correlationId);
+        clientProxy.operationSucceeded(clientId, correlationId);
     }
 
-    void onAddSendDestination(final long registrationId, final String destinationChannel, final long correlationId)
+    void onAddSendDestination(
+        final long registrationId, final String destinationChannel, final long correlationId, final long clientId)
     {
-        SendChannelEndpoint sendChannelEndpoint = null;
-
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
-        {
-            final NetworkPublication publication = networkPublications.get(i);
-
-            if (registrationId == publication.registrationId())
-            {
-                sendChannelEndpoint = publication.channelEndpoint();
-                break;
-            }
-        }
-
-        if (null == sendChannelEndpoint)
+        final NetworkPublication publication = networkPublicationByIdMap.get(registrationId);
+        if (null == publication)
         {
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "unknown publication: " + registrationId);
         }
 
+        final SendChannelEndpoint sendChannelEndpoint = publication.channelEndpoint();
+
         sendChannelEndpoint.validateAllowsManualControl();
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri);
-        senderProxy.addDestination(sendChannelEndpoint, dstAddress);
-        clientProxy.operationSucceeded(correlationId);
-    }
-
-    void onRemoveSendDestination(final long registrationId, final String destinationChannel, final long correlationId)
-    {
-        SendChannelEndpoint sendChannelEndpoint = null;
-
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
+        if (sendChannelEndpoint.hasDestination(dstAddress))
         {
-            final NetworkPublication publication = networkPublications.get(i);
-
-            if (registrationId == publication.registrationId())
-            {
-                sendChannelEndpoint = publication.channelEndpoint();
-                break;
-            }
+            throw new IllegalStateException("destination already added: " + destinationChannel);
         }
 
-        if (null == sendChannelEndpoint)
+        final AtomicCounter sends = SendDestinationCounters.allocateSends(
+            tempBuffer, countersManager, destinationChannel);
+        final AtomicCounter shortSends = SendDestinationCounters.allocateShortSends(
+            tempBuffer, countersManager, destinationChannel);
+
+        sendChannelEndpoint.trackDestinationCounters(dstAddress, sends, shortSends);
+        senderProxy.addDestination(sendChannelEndpoint, dstAddress, sends, shortSends);
+        clientProxy.operationSucceeded(clientId, correlationId);
+    }
+
+    void onRemoveSendDestination(
+        final long registrationId, final String destinationChannel, final long correlationId, final long clientId)
+    {
+        final NetworkPublication publication = networkPublicationByIdMap.get(registrationId);
+        if (null == publication)
         {
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "unknown publication: " + registrationId);
         }
 
+        final SendChannelEndpoint sendChannelEndpoint = publication.channelEndpoint();
+
         sendChannelEndpoint.validateAllowsManualControl();
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri);
-        senderProxy.removeDestination(sendChannelEndpoint, dstAddress);
-        clientProxy.operationSucceeded(correlationId);
+        final AtomicCounter[] counters = sendChannelEndpoint.untrackDestinationCounters(dstAddress);
+        senderProxy.removeDestination(sendChannelEndpoint, dstAddress, counters);
+        clientProxy.operationSucceeded(clientId, correlationId);
+    }
+
+    void onCloseSendDestinationCounters(final AtomicCounter[] counters)
+    {
+        CloseHelper.closeAll(counters);
     }
 
     void onAddNetworkSubscription(
@@ -699,8 +738,8 @@ public class DriverConductor implements Agent
         final SubscriptionLink subscription = new NetworkSubscriptionLink(
             registrationId, channelEndpoint, streamId, channel, client, params);
 
-        subscriptionLinks.add(subscription);
-        clientProxy.onSubscriptionReady(registrationId, channelEndpoint.statusIndicatorCounterId());
+        addSubscriptionLink(subscription);
+        clientProxy.onSubscriptionReady(clientId, registrationId, channelEndpoint.statusIndicatorCounterId());
 
         linkMatchingImages(subscription);
     }
@@ -712,9 +751,10 @@ public class DriverConductor implements Agent
             registrationId, streamId, channel, getOrAddClient(clientId), params);
         final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
 
-        subscriptionLinks.add(subscriptionLink);
+        addSubscriptionLink(subscriptionLink);
 
-        for (int i = 0, size = ipcPublications.size(); i < size; i++)
+        final ArrayList<IpcPublication> ipcPublications = ipcPublicationsByStreamIdMap.get(streamId);
+        for (int i = 0, size = null != ipcPublications ? ipcPublications.size() : 0; i < size; i++)
         {
             final IpcPublication publication = ipcPublications.get(i);
             if (IpcPublication.State.ACTIVE == publication.state() && subscriptionLink.matches(publication))
@@ -724,7 +764,7 @@ public class DriverConductor implements Agent
             }
         }
 
-        clientProxy.onSubscriptionReady(registrationId, ChannelEndpointStatus.NO_ID_ALLOCATED);
+        clientProxy.onSubscriptionReady(clientId, registrationId, ChannelEndpointStatus.NO_ID_ALLOCATED);
 
         for (int i = 0, size = subscriberPositions.size(); i < size; i++)
         {
@@ -732,6 +772,7 @@ public class DriverConductor implements Agent
             final IpcPublication publication = (IpcPublication)subscriberPosition.subscribable();
 
             clientProxy.onAvailableImage(
+                clientId,
                 publication.registrationId(),
                 streamId,
                 publication.sessionId(),
@@ -751,9 +792,11 @@ public class DriverConductor implements Agent
         final SpySubscriptionLink subscriptionLink = new SpySubscriptionLink(
             registrationId, udpChannel, streamId, client, params);
 
-        subscriptionLinks.add(subscriptionLink);
+        addSubscriptionLink(subscriptionLink);
 
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
+        final ArrayList<NetworkPublication> networkPublications = listByChannelAndStream(
+            networkPublicationsByChannelMap, udpChannel.canonicalForm(), streamId);
+        for (int i = 0, size = null != networkPublications ? networkPublications.size() : 0; i < size; i++)
         {
             final NetworkPublication publication = networkPublications.get(i);
             if (NetworkPublication.State.ACTIVE == publication.state() && subscriptionLink.matches(publication))
@@ -763,7 +806,7 @@ public class DriverConductor implements Agent
             }
         }
 
-        clientProxy.onSubscriptionReady(registrationId, ChannelEndpointStatus.NO_ID_ALLOCATED);
+        clientProxy.onSubscriptionReady(clientId, registrationId, ChannelEndpointStatus.NO_ID_ALLOCATED);
 
         for (int i = 0, size = subscriberPositions.size(); i < size; i++)
         {
@@ -771,6 +814,7 @@ public class DriverConductor implements Agent
             final NetworkPublication publication = (NetworkPublication)subscriberPosition.subscribable();
 
             clientProxy.onAvailableImage(
+                clientId,
                 publication.registrationId(),
                 streamId,
                 publication.sessionId(),
@@ -781,14 +825,16 @@ public class DriverConductor implements Agent
         }
     }
 
-    void onRemoveSubscription(final long registrationId, final long correlationId)
+    void onRemoveSubscription(final long registrationId, final long correlationId, final long clientId)
     {
-        final SubscriptionLink subscription = removeSubscriptionLink(subscriptionLinks, registrationId);
+        final SubscriptionLink subscription = subscriptionLinkByIdMap.get(registrationId);
         if (null == subscription)
         {
             throw new ControlProtocolException(UNKNOWN_SUBSCRIPTION, "unknown subscription: " + registrationId);
         }
 
+        removeSubscriptionLink(subscription);
+
         subscription.close();
         final ReceiveChannelEndpoint channelEndpoint = subscription.channelEndpoint();
 
@@ -814,16 +860,17 @@ public class DriverConductor implements Agent
             {
                 channelEndpoint.closeStatusIndicator();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
+                receiveChannelEndpointCountByReceiver[channelEndpoint.receiverIndex()]--;
                 receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
 
-        clientProxy.operationSucceeded(correlationId);
+        clientProxy.operationSucceeded(clientId, correlationId);
     }
 
     void onClientKeepalive(final long clientId)
     {
-        final AeronClient client = findClient(clients, clientId);
+        final AeronClient client = clientByIdMap.get(clientId);
         if (null != client)
         {
             client.timeOfLastKeepaliveMs(cachedEpochClock.time());
@@ -845,58 +892,42 @@ public class DriverConductor implements Agent
         final AtomicCounter counter = countersManager.newCounter(
             typeId, keyBuffer, keyOffset, keyLength, labelBuffer, labelOffset, labelLength);
 
-        counterLinks.add(new CounterLink(counter, correlationId, client));
+        addCounterLink(new CounterLink(counter, correlationId, client));
         clientProxy.onCounterReady(correlationId, counter.id());
     }
 
-    void onRemoveCounter(final long registrationId, final long correlationId)
+    void onRemoveCounter(final long registrationId, final long correlationId, final long clientId)
     {
-        CounterLink counterLink = null;
-        final ArrayList<CounterLink> counterLinks = this.counterLinks;
-        for (int i = 0, size = counterLinks.size(); i < size; i++)
-        {
-            final CounterLink link = counterLinks.get(i);
-            if (registrationId == link.registrationId())
-            {
-                counterLink = link;
-                fastUnorderedRemove(counterLinks, i);
-                break;
-            }
-        }
-
+        final CounterLink counterLink = counterLinkByIdMap.get(registrationId);
         if (null == counterLink)
         {
             throw new ControlProtocolException(UNKNOWN_COUNTER, "unknown counter: " + registrationId);
         }
 
-        clientProxy.operationSucceeded(correlationId);
+        removeCounterLink(counterLink);
+
+        clientProxy.operationSucceeded(clientId, correlationId);
         clientProxy.onUnavailableCounter(registrationId, counterLink.counterId());
         counterLink.close();
     }
 
     void onClientClose(final long clientId)
     {
-        final AeronClient client = findClient(clients, clientId);
+        final AeronClient client = clientByIdMap.get(clientId);
         if (null != client)
         {
             client.onClosedByCommand();
+            cancelClientTimer(client);
+            scheduleClientTimer(client, cachedNanoClock.nanoTime());
         }
     }
 
-    void onAddRcvDestination(final long registrationId, final String destinationChannel, final long correlationId)
+    void onAddRcvDestination(
+        final long registrationId, final String destinationChannel, final long correlationId, final long clientId)
     {
-        ReceiveChannelEndpoint receiveChannelEndpoint = null;
-
-        for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
-        {
-            final SubscriptionLink subscriptionLink = subscriptionLinks.get(i);
-
-            if (registrationId == subscriptionLink.registrationId())
-            {
-                receiveChannelEndpoint = subscriptionLink.channelEndpoint();
-                break;
-            }
-        }
+        final SubscriptionLink subscriptionLink = subscriptionLinkByIdMap.get(registrationId);
+        final ReceiveChannelEndpoint receiveChannelEndpoint =
+            null != subscriptionLink ? subscriptionLink.channelEndpoint() : null;
 
         if (null == receiveChannelEndpoint)
         {
@@ -909,23 +940,15 @@ public class DriverConductor implements Agent
         final ReceiveDestinationUdpTransport transport = new ReceiveDestinationUdpTransport(udpChannel, ctx);
 
         receiverProxy.addDestination(receiveChannelEndpoint, transport);
-        clientProxy.operationSucceeded(correlationId);
+        clientProxy.operationSucceeded(clientId, correlationId);
     }
 
-    void onRemoveRcvDestination(final long registrationId, final String destinationChannel, final long correlationId)
+    void onRemoveRcvDestination(
+        final long registrationId, final String destinationChannel, final long correlationId, final long clientId)
     {
-        ReceiveChannelEndpoint receiveChannelEndpoint = null;
-
-        for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
-        {
-            final SubscriptionLink subscriptionLink = subscriptionLinks.get(i);
-
-            if (registrationId == subscriptionLink.registrationId())
-            {
-                receiveChannelEndpoint = subscriptionLink.channelEndpoint();
-                break;
-            }
-        }
+        final SubscriptionLink subscriptionLink = subscriptionLinkByIdMap.get(registrationId);
+        final ReceiveChannelEndpoint receiveChannelEndpoint =
+            null != subscriptionLink ? subscriptionLink.channelEndpoint() : null;
 
         if (null == receiveChannelEndpoint)
         {
@@ -935,7 +958,7 @@ public class DriverConductor implements Agent
         receiveChannelEndpoint.validateAllowsDestinationControl();
 
         receiverProxy.removeDestination(receiveChannelEndpoint, UdpChannel.parse(destinationChannel));
-        clientProxy.operationSucceeded(correlationId);
+        clientProxy.operationSucceeded(clientId, correlationId);
     }
 
     void onTerminateDriver(final DirectBuffer tokenBuffer, final int tokenOffset, final int tokenLength)
@@ -951,13 +974,75 @@ public class DriverConductor implements Agent
         final long nowMs = cachedEpochClock.time();
         toDriverCommands.consumerHeartbeatTime(nowMs);
 
-        checkManagedResources(clients, nowNs, nowMs);
-        checkManagedResources(publicationLinks, nowNs, nowMs);
-        checkManagedResources(networkPublications, nowNs, nowMs);
-        checkManagedResources(subscriptionLinks, nowNs, nowMs);
-        checkManagedResources(publicationImages, nowNs, nowMs);
-        checkManagedResources(ipcPublications, nowNs, nowMs);
-        checkManagedResources(counterLinks, nowNs, nowMs);
+        checkManagedResources(networkPublications, removeNetworkPublication, nowNs, nowMs);
+        checkManagedResources(publicationImages, removePublicationImage, nowNs, nowMs);
+        checkManagedResources(ipcPublications, removeIpcPublication, nowNs, nowMs);
+    }
+
+    private int pollClientTimers(final long nowNs)
+    {
+        int expired = 0;
+
+        while (expired < TIMER_POLL_LIMIT && timerWheel.currentTickTime() <= nowNs)
+        {
+            expired += timerWheel.poll(nowNs, clientTimerHandler, TIMER_POLL_LIMIT - expired);
+        }
+
+        if (hasClientTimedOut)
+        {
+            hasClientTimedOut = false;
+
+            final long nowMs = cachedEpochClock.time();
+            checkManagedResources(publicationLinks, removePublicationLink, nowNs, nowMs);
+            checkManagedResources(subscriptionLinks, removeSubscriptionLink, nowNs, nowMs);
+            checkManagedResources(counterLinks, removeCounterLink, nowNs, nowMs);
+        }
+
+        return expired;
+    }
+
+    private boolean onClientTimerExpiry(final TimeUnit timeUnit, final long nowNs, final long timerId)
+    {
+        final AeronClient client = clientByTimerIdMap.remove(timerId);
+        if (null != client)
+        {
+            client.timerId(DeadlineTimerWheel.NULL_DEADLINE);
+            client.onTimeEvent(nowNs, cachedEpochClock.time(), this);
+
+            if (client.hasReachedEndOfLife())
+            {
+                hasClientTimedOut = true;
+                clientByIdMap.remove(client.clientId());
+                client.close();
+            }
+            else
+            {
+                scheduleClientTimer(client, nowNs);
+            }
+        }
+
+        return true;
+    }
+
+    private void scheduleClientTimer(final AeronClient client, final long nowNs)
+    {
+        final long remainingMs = Math.max(client.livenessDeadlineMs() - cachedEpochClock.time(), 0);
+        final long deadlineNs = nowNs + TimeUnit.MILLISECONDS.toNanos(remainingMs) + timerIntervalNs;
+        final long timerId = timerWheel.scheduleTimer(deadlineNs);
+
+        client.timerId(timerId);
+        clientByTimerIdMap.put(timerId, client);
+    }
+
+    private void cancelClientTimer(final AeronClient client)
+    {
+        final long timerId = client.timerId();
+        if (DeadlineTimerWheel.NULL_DEADLINE != timerId)
+        {
+            timerWheel.cancelTimer(timerId);
+            clientByTimerIdMap.remove(timerId);
+            client.timerId(DeadlineTimerWheel.NULL_DEADLINE);
+        }
     }
 
     private void checkForBlockedToDriverCommands(final long nowNs)
@@ -986,6 +1071,7 @@ public class DriverConductor implements Agent
         final int sessionId, final int streamId, final ReceiveChannelEndpoint channelEndpoint, final long joinPosition)
     {
         final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamId(streamId);
 
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
@@ -1009,19 +1095,18 @@ public class DriverConductor implements Agent
         return subscriberPositions;
     }
 
-    private static NetworkPublication findPublication(
-        final ArrayList<NetworkPublication> publications,
-        final int streamId,
-        final SendChannelEndpoint channelEndpoint)
+    private NetworkPublication findSharedNetworkPublication(
+        final int streamId, final SendChannelEndpoint channelEndpoint)
     {
-        for (int i = 0, size = publications.size(); i < size; i++)
-        {
-            final NetworkPublication publication = publications.get(i);
+        final Int2ObjectHashMap<NetworkPublication> publicationByStreamIdMap =
+            sharedNetworkPublicationByChannelMap.get(channelEndpoint.udpChannel().canonicalForm());
 
-            if (streamId == publication.streamId() &&
+        if (null != publicationByStreamIdMap)
+        {
+            final NetworkPublication publication = publicationByStreamIdMap.get(streamId);
+            if (null != publication &&
                 channelEndpoint == publication.channelEndpoint() &&
-                NetworkPublication.State.ACTIVE == publication.state() &&
-                !publication.isExclusive())
+                NetworkPublication.State.ACTIVE == publication.state())
             {
                 return publication;
             }
@@ -1079,6 +1164,7 @@ public class DriverConductor implements Agent
             cachedNanoClock,
             newNetworkPublicationLog(sessionId, streamId, initialTermId, udpChannel, registrationId, params),
             Configuration.producerWindowLength(params.termLength, ctx.publicationTermWindowLength()),
+            ctx.termCleaningSliceLength(),
             publisherPosition,
             publisherLimit,
             senderPosition,
@@ -1096,12 +1182,14 @@ public class DriverConductor implements Agent
             ctx.untetheredWindowLimitTimeoutNs(),
             ctx.untetheredRestingTimeoutNs(),
             ctx.spiesSimulateConnection(),
-            isExclusive);
+            isExclusive,
+            ctx.senderShardCount() > 1);
 
         channelEndpoint.incRef();
-        networkPublications.add(publication);
+        addNetworkPublication(publication);
+
         senderProxy.newNetworkPublication(publication);
-        linkSpies(subscriptionLinks, publication);
+        linkSpies(subscriptionLinksByStreamId(streamId), publication);
         activeSessionSet.add(new SessionKey(sessionId, streamId, canonicalForm));
 
         return publication;
@@ -1224,11 +1312,15 @@ public class DriverConductor implements Agent
         SendChannelEndpoint channelEndpoint = findExistingSendChannelEndpoint(udpChannel);
         if (null == channelEndpoint)
         {
+            final int senderIndex = assignSender(udpChannel);
             channelEndpoint = ctx.sendChannelEndpointSupplier().newInstance(
                 udpChannel,
                 SendChannelStatus.allocate(tempBuffer, countersManager, udpChannel.originalUriString()),
                 ctx);
 
+            channelEndpoint.senderIndex(senderIndex);
+            sendChannelEndpointCountBySender[senderIndex]++;
+
             sendChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
             senderProxy.registerSendChannelEndpoint(channelEndpoint);
         }
@@ -1236,6 +1328,24 @@ public class DriverConductor implements Agent
         return channelEndpoint;
     }
 
+    private int assignSender(final UdpChannel udpChannel)
+    {
+        final int senderCount = sendChannelEndpointCountBySender.length;
+        if (1 == senderCount)
+        {
+            return 0;
+        }
+
+        final int senderIndex = senderShardingStrategy.senderIndex(udpChannel, sendChannelEndpointCountBySender);
+        if (senderIndex < 0 || senderIndex >= senderCount)
+        {
+            throw new IllegalStateException(
+                "sender index out of range 0 to " + (senderCount - 1) + ": " + senderIndex);
+        }
+
+        return senderIndex;
+    }
+
     private SendChannelEndpoint findExistingSendChannelEndpoint(final UdpChannel udpChannel)
     {
         if (udpChannel.hasTag())
@@ -1270,7 +1380,7 @@ public class DriverConductor implements Agent
         {
             final boolean isReliable = params.isReliable;
             final boolean isRejoin = params.isRejoin;
-            final ArrayList<SubscriptionLink> existingLinks = subscriptionLinks;
+            final ArrayList<SubscriptionLink> existingLinks = subscriptionLinksByStreamId(streamId);
             for (int i = 0, size = existingLinks.size(); i < size; i++)
             {
                 final SubscriptionLink subscription = existingLinks.get(i);
@@ -1294,8 +1404,10 @@ public class DriverConductor implements Agent
         final long registrationId = subscription.registrationId();
         final int streamId = subscription.streamId();
         final String channel = subscription.channel();
+        final ArrayList<PublicationImage> publicationImages = listByChannelAndStream(
+            publicationImagesByChannelMap, subscription.channelEndpoint().udpChannel().canonicalForm(), streamId);
 
-        for (int i = 0, size = publicationImages.size(); i < size; i++)
+        for (int i = 0, size = null != publicationImages ? publicationImages.size() : 0; i < size; i++)
         {
             final PublicationImage image = publicationImages.get(i);
             if (subscription.matches(image) && image.isAcceptingSubscriptions())
@@ -1310,6 +1422,7 @@ public class DriverConductor implements Agent
                 image.addSubscriber(subscription, position);
 
                 clientProxy.onAvailableImage(
+                    subscription.clientId(),
                     image.correlationId(),
                     streamId,
                     sessionId,
@@ -1323,7 +1436,7 @@ public class DriverConductor implements Agent
 
     private ArrayList<SubscriberPosition> linkIpcSubscriptions(final IpcPublication publication)
     {
-        final ArrayList<SubscriptionLink> subscriptionLinks = this.subscriptionLinks;
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamId(publication.streamId());
         final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
 
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
@@ -1380,12 +1493,16 @@ public class DriverConductor implements Agent
         ReceiveChannelEndpoint channelEndpoint = findExistingReceiveChannelEndpoint(udpChannel);
         if (null == channelEndpoint)
         {
+            final int receiverIndex = assignReceiver(udpChannel);
             channelEndpoint = ctx.receiveChannelEndpointSupplier().newInstance(
                 udpChannel,
-                new DataPacketDispatcher(ctx.driverConductorProxy(), receiverProxy.receiver()),
+                new DataPacketDispatcher(ctx.driverConductorProxy(), receiverProxy.receiver(receiverIndex)),
                 ReceiveChannelStatus.allocate(tempBuffer, countersManager, udpChannel.originalUriString()),
                 ctx);
 
+            channelEndpoint.receiverIndex(receiverIndex);
+            receiveChannelEndpointCountByReceiver[receiverIndex]++;
+
             receiveChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
             receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
         }
@@ -1393,6 +1510,25 @@ public class DriverConductor implements Agent
         return channelEndpoint;
     }
 
+    private int assignReceiver(final UdpChannel udpChannel)
+    {
+        final int receiverCount = receiveChannelEndpointCountByReceiver.length;
+        if (1 == receiverCount)
+        {
+            return 0;
+        }
+
+        final int receiverIndex = receiverShardingStrategy.receiverIndex(
+            udpChannel, receiveChannelEndpointCountByReceiver);
+        if (receiverIndex < 0 || receiverIndex >= receiverCount)
+        {
+            throw new IllegalStateException(
+                "receiver index out of range 0 to " + (receiverCount - 1) + ": " + receiverIndex);
+        }
+
+        return receiverIndex;
+    }
+
     private ReceiveChannelEndpoint findExistingReceiveChannelEndpoint(final UdpChannel udpChannel)
     {
         if (udpChannel.hasTag())
@@ -1418,7 +1554,7 @@ public class DriverConductor implements Agent
 
     private AeronClient getOrAddClient(final long clientId)
     {
-        AeronClient client = findClient(clients, clientId);
+        AeronClient client = clientByIdMap.get(clientId);
         if (null == client)
         {
             client = new AeronClient(
@@ -1427,7 +1563,8 @@ public class DriverConductor implements Agent
                 cachedEpochClock.time(),
                 ctx.systemCounters().get(SystemCounterDescriptor.CLIENT_TIMEOUTS),
                 ClientHeartbeatTimestamp.allocate(tempBuffer, countersManager, clientId));
-            clients.add(client);
+            clientByIdMap.put(clientId, client);
+            scheduleClientTimer(client, cachedNanoClock.nanoTime());
         }
 
         return client;
@@ -1442,7 +1579,7 @@ public class DriverConductor implements Agent
 
         if (!isExclusive)
         {
-            publication = findSharedIpcPublication(ipcPublications, streamId);
+            publication = findSharedIpcPublication(streamId);
         }
 
         if (null == publication)
@@ -1453,7 +1590,7 @@ public class DriverConductor implements Agent
             }
 
             validateMtuForMaxMessage(params);
-            publication = addIpcPublication(correlationId, streamId, channel, isExclusive, params);
+            publication = newIpcPublication(correlationId, streamId, channel, isExclusive, params);
         }
         else
         {
@@ -1463,7 +1600,7 @@ public class DriverConductor implements Agent
         return publication;
     }
 
-    private IpcPublication addIpcPublication(
+    private IpcPublication newIpcPublication(
         final long registrationId,
         final int streamId,
         final String channel,
@@ -1496,6 +1633,7 @@ public class DriverConductor implements Agent
             publisherLimit,
             rawLog,
             Configuration.producerWindowLength(params.termLength, ctx.ipcPublicationTermWindowLength()),
+            ctx.termCleaningSliceLength(),
             ctx.publicationUnblockTimeoutNs(),
             ctx.untetheredWindowLimitTimeoutNs(),
             ctx.untetheredRestingTimeoutNs(),
@@ -1503,66 +1641,201 @@ public class DriverConductor implements Agent
             ctx.systemCounters(),
             isExclusive);
 
-        ipcPublications.add(publication);
+        addIpcPublication(publication);
         activeSessionSet.add(new SessionKey(sessionId, streamId, IPC_MEDIA));
 
         return publication;
     }
 
-    private static AeronClient findClient(final ArrayList<AeronClient> clients, final long clientId)
+    private IpcPublication findSharedIpcPublication(final long streamId)
     {
-        AeronClient aeronClient = null;
+        final IpcPublication publication = sharedIpcPublicationByStreamIdMap.get((int)streamId);
+        if (null != publication && IpcPublication.State.ACTIVE == publication.state())
+        {
+            return publication;
+        }
+
+        return null;
+    }
+
+    private ArrayList<SubscriptionLink> subscriptionLinksByStreamId(final int streamId)
+    {
+        final ArrayList<SubscriptionLink> links = subscriptionLinksByStreamIdMap.get(streamId);
 
-        for (int i = 0, size = clients.size(); i < size; i++)
+        return null != links ? links : EMPTY_SUBSCRIPTION_LINKS;
+    }
+
+    private void addSubscriptionLink(final SubscriptionLink subscriptionLink)
+    {
+        addToList(subscriptionLinks, subscriptionLink, SubscriptionLink::listIndex);
+        subscriptionLinkByIdMap.put(subscriptionLink.registrationId(), subscriptionLink);
+        addToStreamList(
+            subscriptionLinksByStreamIdMap,
+            subscriptionLink.streamId(),
+            subscriptionLink,
+            SubscriptionLink::streamListIndex);
+    }
+
+    private void removeSubscriptionLink(final SubscriptionLink subscriptionLink)
+    {
+        removeFromList(subscriptionLinks, subscriptionLink.listIndex(), SubscriptionLink::listIndex);
+        subscriptionLinkByIdMap.remove(subscriptionLink.registrationId());
+        removeFromStreamList(
+            subscriptionLinksByStreamIdMap,
+            subscriptionLink.streamId(),
+            subscriptionLink.streamListIndex(),
+            SubscriptionLink::streamListIndex);
+    }
+
+    private void addPublicationLink(final PublicationLink publicationLink)
+    {
+        addToList(publicationLinks, publicationLink, PublicationLink::listIndex);
+        publicationLinkByIdMap.put(publicationLink.registrationId(), publicationLink);
+    }
+
+    private void removePublicationLink(final PublicationLink publicationLink)
+    {
+        removeFromList(publicationLinks, publicationLink.listIndex(), PublicationLink::listIndex);
+        publicationLinkByIdMap.remove(publicationLink.registrationId());
+    }
+
+    private void addCounterLink(final CounterLink counterLink)
+    {
+        addToList(counterLinks, counterLink, CounterLink::listIndex);
+        counterLinkByIdMap.put(counterLink.registrationId(), counterLink);
+    }
+
+    private void removeCounterLink(final CounterLink counterLink)
+    {
+        removeFromList(counterLinks, counterLink.listIndex(), CounterLink::listIndex);
+        counterLinkByIdMap.remove(counterLink.registrationId());
+    }
+
+    private void addNetworkPublication(final NetworkPublication publication)
+    {
+        final String channel = publication.channelEndpoint().udpChannel().canonicalForm();
+        final int streamId = publication.streamId();
+
+        addToList(networkPublications, publication, NetworkPublication::listIndex);
+        networkPublicationByIdMap.put(publication.registrationId(), publication);
+        addToStreamList(
+            networkPublicationsByChannelMap.computeIfAbsent(channel, (key) -> new Int2ObjectHashMap<>()),
+            streamId,
+            publication,
+            NetworkPublication::streamListIndex);
+
+        if (ChannelUri.INVALID_TAG != publication.tag())
         {
-            final AeronClient client = clients.get(i);
-            if (client.clientId() == clientId)
-            {
-                aeronClient = client;
-                break;
-            }
+            networkPublicationByTagMap.put(publication.tag(), publication);
         }
 
-        return aeronClient;
+        if (!publication.isExclusive())
+        {
+            sharedNetworkPublicationByChannelMap
+                .computeIfAbsent(channel, (key) -> new Int2ObjectHashMap<>())
+                .put(streamId, publication);
+        }
     }
 
-    private static SubscriptionLink removeSubscriptionLink(
-        final ArrayList<SubscriptionLink> subscriptionLinks, final long registrationId)
+    private void removeNetworkPublication(final NetworkPublication publication)
     {
-        SubscriptionLink subscriptionLink = null;
+        final String channel = publication.channelEndpoint().udpChannel().canonicalForm();
+        final int streamId = publication.streamId();
 
-        for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
+        removeFromList(networkPublications, publication.listIndex(), NetworkPublication::listIndex);
+        networkPublicationByIdMap.remove(publication.registrationId());
+
+        final Int2ObjectHashMap<ArrayList<NetworkPublication>> publicationsByStreamIdMap =
+            networkPublicationsByChannelMap.get(channel);
+        removeFromStreamList(
+            publicationsByStreamIdMap, streamId, publication.streamListIndex(), NetworkPublication::streamListIndex);
+        if (publicationsByStreamIdMap.isEmpty())
         {
-            final SubscriptionLink subscription = subscriptionLinks.get(i);
-            if (subscription.registrationId() == registrationId)
+            networkPublicationsByChannelMap.remove(channel);
+        }
+
+        if (publication == networkPublicationByTagMap.get(publication.tag()))
+        {
+            networkPublicationByTagMap.remove(publication.tag());
+        }
+
+        final Int2ObjectHashMap<NetworkPublication> publicationByStreamIdMap =
+            sharedNetworkPublicationByChannelMap.get(channel);
+        if (null != publicationByStreamIdMap && publication == publicationByStreamIdMap.get(streamId))
+        {
+            publicationByStreamIdMap.remove(streamId);
+            if (publicationByStreamIdMap.isEmpty())
             {
-                subscriptionLink = subscription;
-                fastUnorderedRemove(subscriptionLinks, i);
-                break;
+                sharedNetworkPublicationByChannelMap.remove(channel);
             }
         }
+    }
+
+    private void addIpcPublication(final IpcPublication publication)
+    {
+        final int streamId = publication.streamId();
+
+        addToList(ipcPublications, publication, IpcPublication::listIndex);
+        ipcPublicationByIdMap.put(publication.registrationId(), publication);
+        addToStreamList(ipcPublicationsByStreamIdMap, streamId, publication, IpcPublication::streamListIndex);
+
+        if (ChannelUri.INVALID_TAG != publication.tag())
+        {
+            ipcPublicationByTagMap.put(publication.tag(), publication);
+        }
 
-        return subscriptionLink;
+        if (!publication.isExclusive())
+        {
+            sharedIpcPublicationByStreamIdMap.put(streamId, publication);
+        }
     }
 
-    private static IpcPublication findSharedIpcPublication(
-        final ArrayList<IpcPublication> ipcPublications, final long streamId)
+    private void removeIpcPublication(final IpcPublication publication)
     {
-        IpcPublication ipcPublication = null;
+        final int streamId = publication.streamId();
 
-        for (int i = 0, size = ipcPublications.size(); i < size; i++)
+        removeFromList(ipcPublications, publication.listIndex(), IpcPublication::listIndex);
+        ipcPublicationByIdMap.remove(publication.registrationId());
+        removeFromStreamList(
+            ipcPublicationsByStreamIdMap, streamId, publication.streamListIndex(), IpcPublication::streamListIndex);
+
+        if (publication == ipcPublicationByTagMap.get(publication.tag()))
         {
-            final IpcPublication publication = ipcPublications.get(i);
-            if (publication.streamId() == streamId &&
-                !publication.isExclusive() &&
-                IpcPublication.State.ACTIVE == publication.state())
-            {
-                ipcPublication = publication;
-                break;
-            }
+            ipcPublicationByTagMap.remove(publication.tag());
+        }
+
+        if (publication == sharedIpcPublicationByStreamIdMap.get(streamId))
+        {
+            sharedIpcPublicationByStreamIdMap.remove(streamId);
         }
+    }
+
+    private void addPublicationImage(final PublicationImage image)
+    {
+        final String channel = image.channelEndpoint().udpChannel().canonicalForm();
 
-        return ipcPublication;
+        addToList(publicationImages, image, PublicationImage::listIndex);
+        addToStreamList(
+            publicationImagesByChannelMap.computeIfAbsent(channel, (key) -> new Int2ObjectHashMap<>()),
+            image.streamId(),
+            image,
+            PublicationImage::streamListIndex);
+    }
+
+    private void removePublicationImage(final PublicationImage image)
+    {
+        final String channel = image.channelEndpoint().udpChannel().canonicalForm();
+
+        removeFromList(publicationImages, image.listIndex(), PublicationImage::listIndex);
+
+        final Int2ObjectHashMap<ArrayList<PublicationImage>> imagesByStreamIdMap =
+            publicationImagesByChannelMap.get(channel);
+        removeFromStreamList(
+            imagesByStreamIdMap, image.streamId(), image.streamListIndex(), PublicationImage::streamListIndex);
+        if (imagesByStreamIdMap.isEmpty())
+        {
+            publicationImagesByChannelMap.remove(channel);
+        }
     }
 
     private void checkForSessionClash(final int sessionId, final int streamId, final String channel)
@@ -1597,11 +1870,11 @@ public class DriverConductor implements Agent
     }
 
     private <T extends DriverManagedResource> void checkManagedResources(
-        final ArrayList<T> list, final long nowNs, final long nowMs)
+        final ArrayList<T> list, final Consumer<T> removeResource, final long nowNs, final long nowMs)
     {
-        for (int lastIndex = list.size() - 1, i = lastIndex; i >= 0; i--)
+        for (int i = list.size() - 1; i >= 0; i--)
         {
-            final DriverManagedResource resource = list.get(i);
+            final T resource = list.get(i);
 
             resource.onTimeEvent(nowNs, nowMs, this);
 
@@ -1609,7 +1882,7 @@ public class DriverConductor implements Agent
             {
                 if (resource.free())
                 {
-                    fastUnorderedRemove(list, i, lastIndex--);
+                    removeResource.accept(resource);
                     resource.close();
                 }
                 else
@@ -1628,6 +1901,7 @@ public class DriverConductor implements Agent
             if (subscription.matches(publication) && !subscription.isLinked(publication))
             {
                 clientProxy.onAvailableImage(
+                    subscription.clientId(),
                     publication.registrationId(),
                     publication.streamId(),
                     publication.sessionId(),
@@ -1664,6 +1938,58 @@ public class DriverConductor implements Agent
         return workCount;
     }
 
+    private static <T> void addToList(final ArrayList<T> list, final T element, final ObjIntConsumer<T> listIndex)
+    {
+        listIndex.accept(element, list.size());
+        list.add(element);
+    }
+
+    private static <T> void removeFromList(final ArrayList<T> list, final int index, final ObjIntConsumer<T> listIndex)
+    {
+        final int lastIndex = list.size() - 1;
+        final T lastElement = list.remove(lastIndex);
+
+        if (index != lastIndex)
+        {
+            list.set(index, lastElement);
+            listIndex.accept(lastElement, index);
+        }
+    }
+
+    private static <T> void addToStreamList(
+        final Int2ObjectHashMap<ArrayList<T>> listByStreamIdMap,
+        final int streamId,
+        final T element,
+        final ObjIntConsumer<T> streamListIndex)
+    {
+        addToList(listByStreamIdMap.computeIfAbsent(streamId, (key) -> new ArrayList<>()), element, streamListIndex);
+    }
+
+    private static <T> void removeFromStreamList(
+        final Int2ObjectHashMap<ArrayList<T>> listByStreamIdMap,
+        final int streamId,
+        final int index,
+        final ObjIntConsumer<T> streamListIndex)
+    {
+        final ArrayList<T> list = listByStreamIdMap.get(streamId);
+        removeFromList(list, index, streamListIndex);
+
+        if (list.isEmpty())
+        {
+            listByStreamIdMap.remove(streamId);
+        }
+    }
+
+    private static <T> ArrayList<T> listByChannelAndStream(
+        final Object2ObjectHashMap<String, Int2ObjectHashMap<ArrayList<T>>> listByChannelMap,
+        final String channel,
+        final int streamId)
+    {
+        final Int2ObjectHashMap<ArrayList<T>> listByStreamIdMap = listByChannelMap.get(channel);
+
+        return null != listByStreamIdMap ? listByStreamIdMap.get(streamId) : null;
+    }
+
     private static boolean isOldestSubscriptionSparse(final ArrayList<SubscriberPosition> subscriberPositions)
     {
         final SubscriberPosition subscriberPosition = subscriberPositions.get(0);
@@ -105,6 +105,18 @@ public class DriverConductorProxy
         }
     }
 
+    public void closeSendDestinationCounters(final AtomicCounter[] counters)
+    {
+        if (notConcurrent())
+        {
+            driverConductor.onCloseSendDestinationCounters(counters);
+        }
+        else
+        {
+            offer(() -> driverConductor.onCloseSendDestinationCounters(counters));
+        }
+    }
+
     public boolean notConcurrent()
     {
         return threadingMode == SHARED || threadingMode == INVOKER;
@@ -29,6 +29,7 @@ import org.agrona.concurrent.status.ReadablePosition;
 
 import java.util.ArrayList;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.TERM_CLEANING_MAX_LAG;
 import static io.aeron.driver.status.SystemCounterDescriptor.UNBLOCKED_PUBLICATIONS;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
@@ -55,6 +56,8 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
     private final int tripGain;
     private final int termBufferLength;
     private final int termWindowLength;
+    private final int termCleaningSliceLength;
+    private final long termCleaningLagLimit;
     private final int positionBitsToShift;
     private final int initialTermId;
     private long tripLimit;
@@ -64,6 +67,8 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
     private long cleanPosition;
     private int refCount = 0;
     private boolean reachedEndOfLife = false;
+    private int listIndex;
+    private int streamListIndex;
     private final boolean isExclusive;
     private State state = State.ACTIVE;
     private final UnsafeBuffer[] termBuffers;
@@ -74,6 +79,7 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
     private final UnsafeBuffer metaDataBuffer;
     private final RawLog rawLog;
     private final AtomicCounter unblockedPublications;
+    private final AtomicCounter termCleaningMaxLag;
 
     public IpcPublication(
         final long registrationId,
@@ -84,6 +90,7 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
         final Position publisherLimit,
         final RawLog rawLog,
         final int termWindowLength,
+        final int termCleaningSliceLength,
         final long unblockTimeoutNs,
         final long untetheredWindowLimitTimeoutNs,
         final long untetheredRestingTimeoutNs,
@@ -103,6 +110,8 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
         this.termBufferLength = termLength;
         this.positionBitsToShift = LogBufferDescriptor.positionBitsToShift(termLength);
         this.termWindowLength = termWindowLength;
+        this.termCleaningSliceLength = termCleaningSliceLength;
+        this.termCleaningLagLimit = (2L * termLength) - termWindowLength;
         this.tripGain = termWindowLength >> 3;
         this.publisherPos = publisherPos;
         this.publisherLimit = publisherLimit;
@@ -111,6 +120,7 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
         this.untetheredWindowLimitTimeoutNs = untetheredWindowLimitTimeoutNs;
         this.untetheredRestingTimeoutNs = untetheredRestingTimeoutNs;
         this.unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
+        this.termCleaningMaxLag = systemCounters.get(TERM_CLEANING_MAX_LAG);
         this.metaDataBuffer = rawLog.metaData();
 
         consumerPosition = producerPosition();
@@ -315,6 +325,10 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
 
                 workCount = 1;
             }
+            else if (termCleaningSliceLength > 0)
+            {
+                workCount = cleanBufferTo(minSubscriberPosition);
+            }
         }
         else if (publisherLimit.get() > consumerPosition)
         {
@@ -349,6 +363,26 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
         return state;
     }
 
+    int listIndex()
+    {
+        return listIndex;
+    }
+
+    void listIndex(final int listIndex)
+    {
+        this.listIndex = listIndex;
+    }
+
+    int streamListIndex()
+    {
+        return streamListIndex;
+    }
+
+    void streamListIndex(final int streamListIndex)
+    {
+        this.streamListIndex = streamListIndex;
+    }
+
     private void checkUntetheredSubscriptions(final long nowNs, final DriverConductor conductor)
     {
         final ArrayList<UntetheredSubscription> untetheredSubscriptions = this.untetheredSubscriptions;
@@ -455,20 +489,31 @@ public final class IpcPublication implements DriverManagedResource, Subscribable
         return producerPosition > consumerPosition;
     }
 
-    private void cleanBufferTo(final long position)
+    private int cleanBufferTo(final long position)
     {
-        final long cleanPosition = this.cleanPosition;
+        long cleanPosition = this.cleanPosition;
         if (position > cleanPosition)
         {
-            final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
-            final int bytesForCleaning = (int)(position - cleanPosition);
             final int bufferCapacity = termBufferLength;
-            final int termOffset = (int)cleanPosition & (bufferCapacity - 1);
-            final int length = Math.min(bytesForCleaning, bufferCapacity - termOffset);
+            do
+            {
+                final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
+                final int termOffset = (int)cleanPosition & (bufferCapacity - 1);
+                final int length = TermCleaner.cleaningLength(
+                    cleanPosition, position, termOffset, bufferCapacity, termCleaningSliceLength, termCleaningLagLimit);
+
+                dirtyTerm.setMemory(termOffset + SIZE_OF_LONG, length - SIZE_OF_LONG, (byte)0);
+                dirtyTerm.putLongOrdered(termOffset, 0);
+                cleanPosition += length;
+            }
+            while (position - cleanPosition > termCleaningLagLimit);
 
-            dirtyTerm.setMemory(termOffset + SIZE_OF_LONG, length - SIZE_OF_LONG, (byte)0);
-            dirtyTerm.putLongOrdered(termOffset, 0);
-            this.cleanPosition = cleanPosition + length;
+            this.cleanPosition = cleanPosition;
+            termCleaningMaxLag.proposeMaxOrdered(position - cleanPosition);
+
+            return 1;
         }
+
+        return 0;
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpChannel;
+
+/**
+ * Assigns each new receive channel endpoint to the receiver which currently owns the fewest endpoints, with ties
+ * going to the lowest receiver index.
+ */
+public class LeastLoadedReceiverShardingStrategy implements ReceiverShardingStrategy
+{
+    /**
+     * {@inheritDoc}
+     */
+    public int receiverIndex(final UdpChannel udpChannel, final int[] endpointCountByReceiver)
+    {
+        int receiverIndex = 0;
+        for (int i = 1, length = endpointCountByReceiver.length; i < length; i++)
+        {
+            if (endpointCountByReceiver[i] < endpointCountByReceiver[receiverIndex])
+            {
+                receiverIndex = i;
+            }
+        }
+
+        return receiverIndex;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpChannel;
+
+/**
+ * Assigns each new send channel endpoint to the sender which currently owns the fewest endpoints, with ties going
+ * to the lowest sender index.
+ */
+public class LeastLoadedSenderShardingStrategy implements SenderShardingStrategy
+{
+    /**
+     * {@inheritDoc}
+     */
+    public int senderIndex(final UdpChannel udpChannel, final int[] endpointCountBySender)
+    {
+        int senderIndex = 0;
+        for (int i = 1, length = endpointCountBySender.length; i < length; i++)
+        {
+            if (endpointCountBySender[i] < endpointCountBySender[senderIndex])
+            {
+                senderIndex = i;
+            }
+        }
+
+        return senderIndex;
+    }
+}
@@ -19,38 +19,60 @@ import io.aeron.Aeron;
 import io.aeron.logbuffer.TermGapScanner;
 import org.agrona.concurrent.UnsafeBuffer;
 
-import static io.aeron.logbuffer.TermGapScanner.scanForGap;
+import static io.aeron.logbuffer.TermGapScanner.scanForGaps;
 
 /**
  * Detecting and handling of gaps in a message stream.
  * <p>
- * Each detector only notifies a single run of a gap in a message stream.
+ * Each detector tracks up to a maximum number of gaps within the term being rebuilt. When more than one gap is
+ * outstanding they are notified together so a single NAK can cover all the ranges.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
     private long deadlineNs = Aeron.NULL_VALUE;
 
     private int scannedTermId;
-    private int scannedTermOffset = -1;
-    private int scannedLength;
+    private int scannedGapCount;
+    private final int[] scannedTermOffsets;
+    private final int[] scannedLengths;
 
     private int activeTermId;
-    private int activeTermOffset = -1;
-    private int activeLength;
+    private int activeGapCount;
+    private final int[] activeTermOffsets;
+    private final int[] activeLengths;
 
+    private final int maxGaps;
     private final FeedbackDelayGenerator delayGenerator;
     private final LossHandler lossHandler;
 
     /**
-     * Create a loss detector for a channel.
+     * Create a loss detector for a channel which tracks a single gap at a time.
      *
      * @param delayGenerator to use for delay determination
      * @param lossHandler    to call when signalling a gap
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, 1);
+    }
+
+    /**
+     * Create a loss detector for a channel.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling gaps
+     * @param maxGaps        to be tracked and signalled together.
+     */
+    public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler, final int maxGaps)
     {
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+        this.maxGaps = maxGaps;
+
+        scannedTermOffsets = new int[maxGaps];
+        scannedLengths = new int[maxGaps];
+        activeTermOffsets = new int[maxGaps];
+        activeLengths = new int[maxGaps];
     }
 
     /**
@@ -88,14 +110,19 @@ public class LossDetector implements TermGapScanner.GapHandler
             final int hwmTermOffset = (int)hwmPosition & termLengthMask;
             final int limitOffset = rebuildTermCount == hwmTermCount ? hwmTermOffset : termLengthMask + 1;
 
-            rebuildOffset = scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
+            scannedGapCount = 0;
+            rebuildOffset = scanForGaps(termBuffer, rebuildTermId, rebuildOffset, limitOffset, maxGaps, this);
             if (rebuildOffset < limitOffset)
             {
-                if (scannedTermOffset != activeTermOffset || scannedTermId != activeTermId)
+                if (hasNewGap())
                 {
-                    activateGap(nowNs);
+                    activateGaps(nowNs);
                     lossFound = true;
                 }
+                else
+                {
+                    updateActiveGaps();
+                }
 
                 checkTimerExpiry(nowNs);
             }
@@ -106,9 +133,13 @@ public class LossDetector implements TermGapScanner.GapHandler
 
     public void onGap(final int termId, final int offset, final int length)
     {
-        scannedTermId = termId;
-        scannedTermOffset = offset;
-        scannedLength = length;
+        if (scannedGapCount < maxGaps)
+        {
+            scannedTermId = termId;
+            scannedTermOffsets[scannedGapCount] = offset;
+            scannedLengths[scannedGapCount] = length;
+            scannedGapCount++;
+        }
     }
 
     /**
@@ -145,11 +176,34 @@ public class LossDetector implements TermGapScanner.GapHandler
         return (int)(scanOutcome >>> 32);
     }
 
-    private void activateGap(final long nowNs)
+    private boolean hasNewGap()
     {
-        activeTermId = scannedTermId;
-        activeTermOffset = scannedTermOffset;
-        activeLength = scannedLength;
+        if (scannedTermId != activeTermId || 0 == activeGapCount)
+        {
+            return true;
+        }
+
+        int activeIndex = 0;
+        for (int i = 0; i < scannedGapCount; i++)
+        {
+            final int termOffset = scannedTermOffsets[i];
+            while (activeIndex < activeGapCount && activeTermOffsets[activeIndex] < termOffset)
+            {
+                activeIndex++;
+            }
+
+            if (activeIndex == activeGapCount || activeTermOffsets[activeIndex] != termOffset)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void activateGaps(final long nowNs)
+    {
+        updateActiveGaps();
 
         if (delayGenerator.shouldFeedbackImmediately())
         {
@@ -161,11 +215,27 @@ public class LossDetector implements TermGapScanner.GapHandler
         }
     }
 
+    private void updateActiveGaps()
+    {
+        activeTermId = scannedTermId;
+        activeGapCount = scannedGapCount;
+        System.arraycopy(scannedTermOffsets, 0, activeTermOffsets, 0, scannedGapCount);
+        System.arraycopy(scannedLengths, 0, activeLengths, 0, scannedGapCount);
+    }
+
     private void checkTimerExpiry(final long nowNs)
     {
         if (deadlineNs - nowNs <= 0)
         {
-            lossHandler.onGapDetected(activeTermId, activeTermOffset, activeLength);
+            if (1 == activeGapCount)
+            {
+                lossHandler.onGapDetected(activeTermId, activeTermOffsets[0], activeLengths[0]);
+            }
+            else
+            {
+                lossHandler.onGapsDetected(activeTermId, activeTermOffsets, activeLengths, activeGapCount);
+            }
+
             deadlineNs = nowNs + delayGenerator.generateDelay();
         }
     }
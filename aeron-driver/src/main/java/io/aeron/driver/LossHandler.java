@@ -29,4 +29,22 @@ public interface LossHandler
      * @param length     of the gap
      */
     void onGapDetected(int termId, int termOffset, int length);
+
+    /**
+     * Called when multiple gaps in the same term of a message stream have been detected in a single scan.
+     * <p>
+     * The default implementation notifies each gap in turn via {@link #onGapDetected(int, int, int)}.
+     *
+     * @param termId      for the gaps
+     * @param termOffsets for the beginning of each gap in ascending order
+     * @param lengths     of each gap
+     * @param gapCount    of valid entries in termOffsets and lengths
+     */
+    default void onGapsDetected(int termId, int[] termOffsets, int[] lengths, int gapCount)
+    {
+        for (int i = 0; i < gapCount; i++)
+        {
+            onGapDetected(termId, termOffsets[i], lengths[i]);
+        }
+    }
 }
@@ -15,10 +15,12 @@
  */
 package io.aeron.driver;
 
+import io.aeron.Aeron;
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
 import io.aeron.driver.buffer.FileStoreLogFactory;
 import io.aeron.driver.buffer.LogFactory;
+import io.aeron.driver.buffer.PooledLogFactory;
 import io.aeron.driver.exceptions.ActiveDriverException;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.DataTransportPoller;
@@ -74,22 +76,36 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static io.aeron.CncFileDescriptor.CNC_VERSION;
+import static io.aeron.CncFileDescriptor.createClientResponseBuffer;
 import static io.aeron.CncFileDescriptor.createCountersMetaDataBuffer;
 import static io.aeron.CncFileDescriptor.createCountersValuesBuffer;
 import static io.aeron.CncFileDescriptor.createErrorLogBuffer;
 import static io.aeron.CncFileDescriptor.createToClientsBuffer;
 import static io.aeron.CncFileDescriptor.createToDriverBuffer;
 import static io.aeron.driver.Configuration.CMD_QUEUE_CAPACITY;
+import static io.aeron.driver.Configuration.validateClientResponseBufferCount;
 import static io.aeron.driver.Configuration.validateInitialWindowLength;
+import static io.aeron.driver.Configuration.validateLogPoolRecycleDelay;
 import static io.aeron.driver.Configuration.validateMtuLength;
 import static io.aeron.driver.Configuration.validatePageSize;
+import static io.aeron.driver.Configuration.validatePublicationBurstLength;
+import static io.aeron.driver.Configuration.validateNakMaxRanges;
+import static io.aeron.driver.Configuration.validateReceiverCount;
+import static io.aeron.driver.Configuration.validateReceiverDatagramBudget;
+import static io.aeron.driver.Configuration.validateSenderCount;
 import static io.aeron.driver.Configuration.validateSessionIdRange;
 import static io.aeron.driver.Configuration.validateSocketBufferLengths;
+import static io.aeron.driver.Configuration.validateTermCleaningSliceLength;
 import static io.aeron.driver.Configuration.validateUnblockTimeout;
+import static io.aeron.driver.ThreadingMode.SHARDED;
+import static io.aeron.driver.ThreadingMode.SHARDED_RECEIVER;
+import static io.aeron.driver.ThreadingMode.SHARDED_SENDER;
 import static io.aeron.driver.reports.LossReportUtil.mapLossReport;
 import static io.aeron.driver.status.SystemCounterDescriptor.CONDUCTOR_PROXY_FAILS;
 import static io.aeron.driver.status.SystemCounterDescriptor.CONTROLLABLE_IDLE_STRATEGY;
 import static io.aeron.driver.status.SystemCounterDescriptor.ERRORS;
+import static io.aeron.driver.status.SystemCounterDescriptor.LOG_POOL_HITS;
+import static io.aeron.driver.status.SystemCounterDescriptor.LOG_POOL_MISSES;
 import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_PROXY_FAILS;
 import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_PROXY_FAILS;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -117,6 +133,8 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner conductorRunner;
     private final AgentRunner receiverRunner;
     private final AgentRunner senderRunner;
+    private final AgentRunner[] shardedSenderRunners;
+    private final AgentRunner[] shardedReceiverRunners;
     private final AgentInvoker sharedInvoker;
     private final Context ctx;
 
@@ -179,6 +197,8 @@ public final class MediaDriver implements AutoCloseable
                 conductorRunner = null;
                 receiverRunner = null;
                 senderRunner = null;
+                shardedSenderRunners = null;
+                shardedReceiverRunners = null;
                 break;
 
             case SHARED:
@@ -191,6 +211,8 @@ public final class MediaDriver implements AutoCloseable
                 conductorRunner = null;
                 receiverRunner = null;
                 senderRunner = null;
+                shardedSenderRunners = null;
+                shardedReceiverRunners = null;
                 sharedInvoker = null;
                 break;
 
@@ -201,6 +223,21 @@ public final class MediaDriver implements AutoCloseable
                 sharedRunner = null;
                 receiverRunner = null;
                 senderRunner = null;
+                shardedSenderRunners = null;
+                shardedReceiverRunners = null;
+                sharedInvoker = null;
+                break;
+
+            case SHARDED_SENDER:
+            case SHARDED_RECEIVER:
+            case SHARDED:
+                shardedSenderRunners = newSenderRunners(ctx, sender, errorHandler, errorCounter);
+                shardedReceiverRunners = newReceiverRunners(ctx, receiver, errorHandler, errorCounter);
+                conductorRunner = new AgentRunner(ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
+                senderRunner = null;
+                receiverRunner = null;
+                sharedNetworkRunner = null;
+                sharedRunner = null;
                 sharedInvoker = null;
                 break;
 
@@ -209,6 +246,8 @@ public final class MediaDriver implements AutoCloseable
                 senderRunner = new AgentRunner(ctx.senderIdleStrategy(), errorHandler, errorCounter, sender);
                 receiverRunner = new AgentRunner(ctx.receiverIdleStrategy(), errorHandler, errorCounter, receiver);
                 conductorRunner = new AgentRunner(ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
+                shardedSenderRunners = null;
+                shardedReceiverRunners = null;
                 sharedNetworkRunner = null;
                 sharedRunner = null;
                 sharedInvoker = null;
@@ -301,6 +340,8 @@ public final class MediaDriver implements AutoCloseable
         CloseHelper.close(sharedNetworkRunner);
         CloseHelper.close(receiverRunner);
         CloseHelper.close(senderRunner);
+        closeRunners(shardedReceiverRunners);
+        closeRunners(shardedSenderRunners);
         CloseHelper.close(conductorRunner);
         CloseHelper.close(sharedInvoker);
 
@@ -345,6 +386,9 @@ public final class MediaDriver implements AutoCloseable
             AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
         }
 
+        startRunners(shardedSenderRunners, ctx.senderThreadFactory());
+        startRunners(shardedReceiverRunners, ctx.receiverThreadFactory());
+
         if (null != receiverRunner)
         {
             AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
@@ -368,6 +412,68 @@ public final class MediaDriver implements AutoCloseable
         return this;
     }
 
+    private static AgentRunner[] newSenderRunners(
+        final Context ctx, final Sender sender, final ErrorHandler errorHandler, final AtomicCounter errorCounter)
+    {
+        final int senderCount = ctx.senderShardCount();
+        final AgentRunner[] runners = new AgentRunner[senderCount];
+        runners[0] = new AgentRunner(ctx.senderIdleStrategies()[0], errorHandler, errorCounter, sender);
+
+        for (int i = 1; i < senderCount; i++)
+        {
+            final Sender shardSender = new Sender(
+                ctx, i, ctx.senderCommandQueues()[i], ctx.controlTransportPollers()[i]);
+            ctx.senderProxy().sender(i, shardSender);
+            runners[i] = new AgentRunner(ctx.senderIdleStrategies()[i], errorHandler, errorCounter, shardSender);
+        }
+
+        return runners;
+    }
+
+    private static AgentRunner[] newReceiverRunners(
+        final Context ctx, final Receiver receiver, final ErrorHandler errorHandler, final AtomicCounter errorCounter)
+    {
+        final int receiverCount = ctx.receiverShardCount();
+        final AgentRunner[] runners = new AgentRunner[receiverCount];
+        runners[0] = new AgentRunner(ctx.receiverIdleStrategies()[0], errorHandler, errorCounter, receiver);
+
+        for (int i = 1; i < receiverCount; i++)
+        {
+            final Receiver shardReceiver = new Receiver(
+                ctx,
+                i,
+                ctx.receiverCommandQueues()[i],
+                ctx.dataTransportPollers()[i],
+                ctx.receiverThreadLocals()[i]);
+            ctx.receiverProxy().receiver(i, shardReceiver);
+            runners[i] = new AgentRunner(ctx.receiverIdleStrategies()[i], errorHandler, errorCounter, shardReceiver);
+        }
+
+        return runners;
+    }
+
+    private static void startRunners(final AgentRunner[] runners, final ThreadFactory threadFactory)
+    {
+        if (null != runners)
+        {
+            for (final AgentRunner runner : runners)
+            {
+                AgentRunner.startOnThread(runner, threadFactory);
+            }
+        }
+    }
+
+    private static void closeRunners(final AgentRunner[] runners)
+    {
+        if (null != runners)
+        {
+            for (final AgentRunner runner : runners)
+            {
+                CloseHelper.close(runner);
+            }
+        }
+    }
+
     private static void ensureDirectoryIsRecreated(final Context ctx)
     {
         if (ctx.aeronDirectory().isDirectory())
@@ -454,6 +560,8 @@ public final class MediaDriver implements AutoCloseable
         private boolean rejoinStream = Configuration.rejoinStream();
 
         private long lowStorageWarningThreshold = Configuration.lowStorageWarningThreshold();
+        private int logPoolSize = Configuration.logPoolSize();
+        private long logPoolRecycleDelayNs = Configuration.logPoolRecycleDelayNs();
         private long timerIntervalNs = Configuration.timerIntervalNs();
         private long clientLivenessTimeoutNs = Configuration.clientLivenessTimeoutNs();
         private long imageLivenessTimeoutNs = Configuration.imageLivenessTimeoutNs();
@@ -470,6 +578,8 @@ public final class MediaDriver implements AutoCloseable
         private long nakMulticastMaxBackoffNs = Configuration.nakMulticastMaxBackoffNs();
         private int conductorBufferLength = Configuration.conductorBufferLength();
         private int toClientsBufferLength = Configuration.toClientsBufferLength();
+        private int clientResponseBufferCount = Configuration.clientResponseBufferCount();
+        private int clientResponseBufferLength = Configuration.clientResponseBufferLength();
         private int counterValuesBufferLength = Configuration.counterValuesBufferLength();
         private int errorBufferLength = Configuration.errorBufferLength();
         private int nakMulticastGroupSize = Configuration.nakMulticastGroupSize();
@@ -477,17 +587,23 @@ public final class MediaDriver implements AutoCloseable
         private int ipcTermBufferLength = Configuration.ipcTermBufferLength();
         private int publicationTermWindowLength = Configuration.publicationTermWindowLength();
         private int ipcPublicationTermWindowLength = Configuration.ipcPublicationTermWindowLength();
+        private int termCleaningSliceLength = Configuration.termCleaningSliceLength();
         private int initialWindowLength = Configuration.initialWindowLength();
         private int socketSndbufLength = Configuration.socketSndbufLength();
         private int socketRcvbufLength = Configuration.socketRcvbufLength();
         private int socketMulticastTtl = Configuration.socketMulticastTtl();
         private int mtuLength = Configuration.mtuLength();
         private int ipcMtuLength = Configuration.ipcMtuLength();
+        private int publicationBurstLength = Configuration.publicationBurstLength();
         private int filePageSize = Configuration.filePageSize();
         private int publicationReservedSessionIdLow = Configuration.publicationReservedSessionIdLow();
         private int publicationReservedSessionIdHigh = Configuration.publicationReservedSessionIdHigh();
         private int lossReportBufferLength = Configuration.lossReportBufferLength();
         private int sendToStatusMessagePollRatio = Configuration.sendToStatusMessagePollRatio();
+        private int receiverDatagramBudget = Configuration.receiverDatagramBudget();
+        private int nakMaxRanges = Configuration.nakMaxRanges();
+        private int senderCount = Configuration.senderCount();
+        private int receiverCount = Configuration.receiverCount();
 
         private InferableBoolean receiverGroupConsideration = Configuration.receiverGroupConsideration();
 
@@ -501,6 +617,7 @@ public final class MediaDriver implements AutoCloseable
         private ThreadFactory receiverThreadFactory;
         private ThreadFactory sharedThreadFactory;
         private ThreadFactory sharedNetworkThreadFactory;
+        private ThreadFactory logPoolThreadFactory;
         private IdleStrategy conductorIdleStrategy;
         private IdleStrategy senderIdleStrategy;
         private IdleStrategy receiverIdleStrategy;
@@ -514,6 +631,8 @@ public final class MediaDriver implements AutoCloseable
         private FlowControlSupplier multicastFlowControlSupplier;
         private byte[] applicationSpecificFeedback;
         private CongestionControlSupplier congestionControlSupplier;
+        private SenderShardingStrategy senderShardingStrategy;
+        private ReceiverShardingStrategy receiverShardingStrategy;
         private FeedbackDelayGenerator unicastFeedbackDelayGenerator;
         private FeedbackDelayGenerator multicastFeedbackDelayGenerator;
         private FeedbackDelayGenerator retransmitUnicastDelayGenerator;
@@ -534,6 +653,13 @@ public final class MediaDriver implements AutoCloseable
         private ManyToOneConcurrentArrayQueue<Runnable> driverCommandQueue;
         private OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue;
         private OneToOneConcurrentArrayQueue<Runnable> senderCommandQueue;
+        private OneToOneConcurrentArrayQueue<Runnable>[] senderCommandQueues;
+        private ControlTransportPoller[] controlTransportPollers;
+        private IdleStrategy[] senderIdleStrategies;
+        private OneToOneConcurrentArrayQueue<Runnable>[] receiverCommandQueues;
+        private DataTransportPoller[] dataTransportPollers;
+        private ReceiveChannelEndpointThreadLocals[] receiverThreadLocals;
+        private IdleStrategy[] receiverIdleStrategies;
         private ReceiverProxy receiverProxy;
         private SenderProxy senderProxy;
         private DriverConductorProxy driverConductorProxy;
@@ -597,6 +723,13 @@ public final class MediaDriver implements AutoCloseable
 
                 validateMtuLength(mtuLength);
                 validateMtuLength(ipcMtuLength);
+                validatePublicationBurstLength(publicationBurstLength);
+                validateReceiverDatagramBudget(receiverDatagramBudget);
+                validateNakMaxRanges(nakMaxRanges);
+                validateTermCleaningSliceLength(termCleaningSliceLength);
+                validateSenderCount(senderCount);
+                validateClientResponseBufferCount(clientResponseBufferCount);
+                validateReceiverCount(receiverCount);
                 validatePageSize(filePageSize);
                 validateSessionIdRange(publicationReservedSessionIdLow, publicationReservedSessionIdHigh);
 
@@ -604,6 +737,7 @@ public final class MediaDriver implements AutoCloseable
                 LogBufferDescriptor.checkTermLength(ipcTermBufferLength);
                 validateInitialWindowLength(initialWindowLength, mtuLength);
                 validateUnblockTimeout(publicationUnblockTimeoutNs, clientLivenessTimeoutNs, timerIntervalNs);
+                concludeLogPoolRecycleDelay();
 
                 cncByteBuffer = mapNewFile(
                     cncFile(),
@@ -612,7 +746,8 @@ public final class MediaDriver implements AutoCloseable
                             toClientsBufferLength +
                             Configuration.countersMetadataBufferLength(counterValuesBufferLength) +
                             counterValuesBufferLength +
-                            errorBufferLength,
+                            errorBufferLength +
+                            (clientResponseBufferCount * clientResponseBufferLength),
                         filePageSize));
 
                 cncMetaDataBuffer = CncFileDescriptor.createMetaDataBuffer(cncByteBuffer);
@@ -625,7 +760,9 @@ public final class MediaDriver implements AutoCloseable
                     clientLivenessTimeoutNs,
                     errorBufferLength,
                     epochClock.time(),
-                    SystemUtil.getPid());
+                    SystemUtil.getPid(),
+                    clientResponseBufferCount,
+                    clientResponseBufferLength);
 
                 concludeCounters();
                 concludeDependantProperties();
@@ -875,6 +1012,56 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Number of per client response buffers allocated in the CnC file for sending events to clients so each
+         * client only reads the events for itself and the other clients sharing its buffer.
+         *
+         * @return number of per client response buffers, or zero if they are not used.
+         * @see Configuration#CLIENT_RESPONSE_BUFFER_COUNT_PROP_NAME
+         */
+        public int clientResponseBufferCount()
+        {
+            return clientResponseBufferCount;
+        }
+
+        /**
+         * Number of per client response buffers allocated in the CnC file for sending events to clients so each
+         * client only reads the events for itself and the other clients sharing its buffer.
+         *
+         * @param count of per client response buffers, or zero if they are not to be used.
+         * @return this for a fluent API.
+         * @see Configuration#CLIENT_RESPONSE_BUFFER_COUNT_PROP_NAME
+         */
+        public Context clientResponseBufferCount(final int count)
+        {
+            clientResponseBufferCount = count;
+            return this;
+        }
+
+        /**
+         * Length of each of the per client response {@link BroadcastTransmitter} buffers.
+         *
+         * @return length of each of the per client response {@link BroadcastTransmitter} buffers.
+         * @see Configuration#CLIENT_RESPONSE_BUFFER_LENGTH_PROP_NAME
+         */
+        public int clientResponseBufferLength()
+        {
+            return clientResponseBufferLength;
+        }
+
+        /**
+         * Length of each of the per client response {@link BroadcastTransmitter} buffers.
+         *
+         * @param length of each of the per client response {@link BroadcastTransmitter} buffers.
+         * @return this for a fluent API.
+         * @see Configuration#CLIENT_RESPONSE_BUFFER_LENGTH_PROP_NAME
+         */
+        public Context clientResponseBufferLength(final int length)
+        {
+            clientResponseBufferLength = length;
+            return this;
+        }
+
         /**
          * Length of the buffer for storing values by the {@link CountersManager}.
          *
@@ -971,6 +1158,58 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Number of pre-allocated logs kept in a pool for each of the publication and IPC term lengths.
+         *
+         * @return number of pre-allocated logs kept in a pool for each term length, or zero if not pooled.
+         * @see Configuration#LOG_POOL_SIZE_PROP_NAME
+         */
+        public int logPoolSize()
+        {
+            return logPoolSize;
+        }
+
+        /**
+         * Number of pre-allocated logs kept in a pool for each of the publication and IPC term lengths.
+         *
+         * @param logPoolSize number of pre-allocated logs kept in a pool for each term length, or zero if not pooled.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_POOL_SIZE_PROP_NAME
+         */
+        public Context logPoolSize(final int logPoolSize)
+        {
+            this.logPoolSize = logPoolSize;
+            return this;
+        }
+
+        /**
+         * Delay after a pooled log is freed before it can be reused.
+         *
+         * @return delay in nanoseconds after a pooled log is freed before it can be reused.
+         * @see Configuration#LOG_POOL_RECYCLE_DELAY_PROP_NAME
+         * @see Configuration#minLogPoolRecycleDelayNs(long, long, long)
+         */
+        public long logPoolRecycleDelayNs()
+        {
+            return logPoolRecycleDelayNs;
+        }
+
+        /**
+         * Delay after a pooled log is freed before it can be reused. This must be at least the client liveness
+         * timeout plus the timer interval plus the client resource linger duration so a client which is alive has
+         * unmapped the log before it is reused.
+         *
+         * @param logPoolRecycleDelayNs in nanoseconds after a pooled log is freed before it can be reused.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_POOL_RECYCLE_DELAY_PROP_NAME
+         * @see Configuration#minLogPoolRecycleDelayNs(long, long, long)
+         */
+        public Context logPoolRecycleDelayNs(final long logPoolRecycleDelayNs)
+        {
+            this.logPoolRecycleDelayNs = logPoolRecycleDelayNs;
+            return this;
+        }
+
         /**
          * The length in bytes of the loss report buffer.
          *
@@ -1637,6 +1876,30 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Max bytes of consumed term cleaned by the conductor in a single duty cycle for a publication or image.
+         *
+         * @return max bytes of consumed term cleaned in a single duty cycle, or zero if unbounded.
+         * @see Configuration#TERM_CLEANING_SLICE_LENGTH_PROP_NAME
+         */
+        public int termCleaningSliceLength()
+        {
+            return termCleaningSliceLength;
+        }
+
+        /**
+         * Max bytes of consumed term cleaned by the conductor in a single duty cycle for a publication or image.
+         *
+         * @param sliceLength max bytes of consumed term cleaned in a single duty cycle, or zero if unbounded.
+         * @return this for a fluent API.
+         * @see Configuration#TERM_CLEANING_SLICE_LENGTH_PROP_NAME
+         */
+        public Context termCleaningSliceLength(final int sliceLength)
+        {
+            this.termCleaningSliceLength = sliceLength;
+            return this;
+        }
+
         /**
          * The initial window for in flight data on a connection which must be less than
          * {@link Configuration#SOCKET_RCVBUF_LENGTH_PROP_NAME}. This needs to be configured for throughput respecting
@@ -1769,6 +2032,38 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Maximum number of bytes a network publication may send in a burst of datagrams per sender duty cycle.
+         * <p>
+         * Larger bursts allow a single hot stream to fill more of the available flow control window each duty
+         * cycle. A value less than or equal to the MTU results in a single datagram being sent per duty cycle.
+         *
+         * @return maximum number of bytes a network publication may send in a burst per duty cycle.
+         * @see Configuration#PUBLICATION_BURST_LENGTH_PROP_NAME
+         * @see io.aeron.CommonContext#BURST_LENGTH_PARAM_NAME
+         */
+        public int publicationBurstLength()
+        {
+            return publicationBurstLength;
+        }
+
+        /**
+         * Maximum number of bytes a network publication may send in a burst of datagrams per sender duty cycle.
+         * <p>
+         * Larger bursts allow a single hot stream to fill more of the available flow control window each duty
+         * cycle. A value less than or equal to the MTU results in a single datagram being sent per duty cycle.
+         *
+         * @param burstLength in bytes a network publication may send in a burst per duty cycle.
+         * @return this for a fluent API.
+         * @see Configuration#PUBLICATION_BURST_LENGTH_PROP_NAME
+         * @see io.aeron.CommonContext#BURST_LENGTH_PARAM_NAME
+         */
+        public Context publicationBurstLength(final int burstLength)
+        {
+            this.publicationBurstLength = burstLength;
+            return this;
+        }
+
         /**
          * MTU in bytes for datagrams sent over shared memory. Messages larger than this are fragmented.
          * <p>
@@ -1925,7 +2220,8 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * {@link ThreadFactory} to be used for creating agent thread for the {@link Sender} when running in
-         * {@link ThreadingMode#DEDICATED}.
+         * {@link ThreadingMode#DEDICATED}, or the threads for each sender in {@link ThreadingMode#SHARDED_SENDER} and
+         * {@link ThreadingMode#SHARDED}.
          * <p>
          * If none is provided then this will default a simple new operation.
          *
@@ -1951,7 +2247,8 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * {@link ThreadFactory} to be used for creating agent thread for the {@link Receiver} when running in
-         * {@link ThreadingMode#DEDICATED}.
+         * {@link ThreadingMode#DEDICATED}, or the threads for each receiver in {@link ThreadingMode#SHARDED_RECEIVER}
+         * and {@link ThreadingMode#SHARDED}.
          * <p>
          * If none is provided then this will default a simple new operation.
          *
@@ -2042,6 +2339,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * {@link ThreadFactory} to be used for creating the thread which refills the pool of logs when
+         * {@link #logPoolSize()} is greater than zero.
+         *
+         * @return {@link ThreadFactory} to be used for creating the thread which refills the pool of logs.
+         */
+        public ThreadFactory logPoolThreadFactory()
+        {
+            return logPoolThreadFactory;
+        }
+
+        /**
+         * {@link ThreadFactory} to be used for creating the thread which refills the pool of logs when
+         * {@link #logPoolSize()} is greater than zero.
+         * <p>
+         * If none is provided then this will default a simple new operation.
+         *
+         * @param factory to be used for creating the thread which refills the pool of logs.
+         * @return this for a fluent API.
+         */
+        public Context logPoolThreadFactory(final ThreadFactory factory)
+        {
+            logPoolThreadFactory = factory;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link Sender} when in {@link ThreadingMode#DEDICATED}.
          *
@@ -2055,6 +2378,9 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * {@link IdleStrategy} to be used by the {@link Sender} when in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * When senders are sharded this is used by the first sender and the others each use a new instance as
+         * configured by {@link Configuration#SENDER_IDLE_STRATEGY_PROP_NAME}.
          *
          * @param strategy to be used by the {@link Sender} when in {@link ThreadingMode#DEDICATED}.
          * @return this for a fluent API.
@@ -2079,6 +2405,9 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * {@link IdleStrategy} to be used by the {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * When receivers are sharded this is used by the first receiver and the others each use a new instance as
+         * configured by {@link Configuration#RECEIVER_IDLE_STRATEGY_PROP_NAME}.
          *
          * @param strategy to be used by the {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
          * @return this for a fluent API.
@@ -2362,6 +2691,108 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Number of {@link Sender} agents to run when in {@link ThreadingMode#SHARDED_SENDER}.
+         *
+         * @return number of {@link Sender} agents to run when in {@link ThreadingMode#SHARDED_SENDER}.
+         * @see Configuration#SENDER_COUNT_PROP_NAME
+         */
+        public int senderCount()
+        {
+            return senderCount;
+        }
+
+        /**
+         * Number of {@link Sender} agents to run when in {@link ThreadingMode#SHARDED_SENDER}. Each sender runs on
+         * its own thread created by the {@link #senderThreadFactory()}.
+         *
+         * @param senderCount number of {@link Sender} agents to run when in {@link ThreadingMode#SHARDED_SENDER}.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_COUNT_PROP_NAME
+         */
+        public Context senderCount(final int senderCount)
+        {
+            this.senderCount = senderCount;
+            return this;
+        }
+
+        /**
+         * Strategy for assigning send channel endpoints to senders when in {@link ThreadingMode#SHARDED_SENDER}.
+         *
+         * @return strategy for assigning send channel endpoints to senders.
+         * @see Configuration#SENDER_SHARDING_STRATEGY_PROP_NAME
+         */
+        public SenderShardingStrategy senderShardingStrategy()
+        {
+            return senderShardingStrategy;
+        }
+
+        /**
+         * Strategy for assigning send channel endpoints to senders when in {@link ThreadingMode#SHARDED_SENDER}.
+         *
+         * @param strategy for assigning send channel endpoints to senders.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_SHARDING_STRATEGY_PROP_NAME
+         */
+        public Context senderShardingStrategy(final SenderShardingStrategy strategy)
+        {
+            this.senderShardingStrategy = strategy;
+            return this;
+        }
+
+        /**
+         * Number of {@link Receiver} agents to run when in {@link ThreadingMode#SHARDED_RECEIVER} or
+         * {@link ThreadingMode#SHARDED}.
+         *
+         * @return number of {@link Receiver} agents to run when receivers are sharded.
+         * @see Configuration#RECEIVER_COUNT_PROP_NAME
+         */
+        public int receiverCount()
+        {
+            return receiverCount;
+        }
+
+        /**
+         * Number of {@link Receiver} agents to run when in {@link ThreadingMode#SHARDED_RECEIVER} or
+         * {@link ThreadingMode#SHARDED}. Each receiver runs on its own thread created by the
+         * {@link #receiverThreadFactory()}.
+         *
+         * @param receiverCount number of {@link Receiver} agents to run when receivers are sharded.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_COUNT_PROP_NAME
+         */
+        public Context receiverCount(final int receiverCount)
+        {
+            this.receiverCount = receiverCount;
+            return this;
+        }
+
+        /**
+         * Strategy for assigning receive channel endpoints to receivers when in
+         * {@link ThreadingMode#SHARDED_RECEIVER} or {@link ThreadingMode#SHARDED}.
+         *
+         * @return strategy for assigning receive channel endpoints to receivers.
+         * @see Configuration#RECEIVER_SHARDING_STRATEGY_PROP_NAME
+         */
+        public ReceiverShardingStrategy receiverShardingStrategy()
+        {
+            return receiverShardingStrategy;
+        }
+
+        /**
+         * Strategy for assigning receive channel endpoints to receivers when in
+         * {@link ThreadingMode#SHARDED_RECEIVER} or {@link ThreadingMode#SHARDED}.
+         *
+         * @param strategy for assigning receive channel endpoints to receivers.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_SHARDING_STRATEGY_PROP_NAME
+         */
+        public Context receiverShardingStrategy(final ReceiverShardingStrategy strategy)
+        {
+            this.receiverShardingStrategy = strategy;
+            return this;
+        }
+
         /**
          * {@link ErrorHandler} to be used for reporting errors during {@link Agent}s operations.
          *
@@ -2713,6 +3144,57 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the maximum number of datagrams the Receiver will read from a transport in a single poll while
+         * datagrams remain available.
+         *
+         * @return maximum number of datagrams read from a transport in a single poll.
+         * @see Configuration#RECEIVER_DATAGRAM_BUDGET_PROP_NAME
+         */
+        public int receiverDatagramBudget()
+        {
+            return receiverDatagramBudget;
+        }
+
+        /**
+         * Set the maximum number of datagrams the Receiver will read from a transport in a single poll while
+         * datagrams remain available. This should be sized along with SO_RCVBUF to absorb bursts.
+         *
+         * @param datagramBudget maximum number of datagrams read from a transport in a single poll.
+         * @return this for fluent API.
+         * @see Configuration#RECEIVER_DATAGRAM_BUDGET_PROP_NAME
+         */
+        public Context receiverDatagramBudget(final int datagramBudget)
+        {
+            this.receiverDatagramBudget = datagramBudget;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of gaps tracked per image which can be carried as ranges in a single NAK.
+         *
+         * @return maximum number of gaps tracked per image which can be carried as ranges in a single NAK.
+         * @see Configuration#NAK_MAX_RANGES_PROP_NAME
+         */
+        public int nakMaxRanges()
+        {
+            return nakMaxRanges;
+        }
+
+        /**
+         * Set the maximum number of gaps tracked per image which can be carried as ranges in a single NAK. Senders
+         * which predate multi-range NAKs will only retransmit the first range.
+         *
+         * @param maxRanges maximum number of gaps tracked per image which can be carried as ranges in a single NAK.
+         * @return this for fluent API.
+         * @see Configuration#NAK_MAX_RANGES_PROP_NAME
+         */
+        public Context nakMaxRanges(final int maxRanges)
+        {
+            this.nakMaxRanges = maxRanges;
+            return this;
+        }
+
         OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue()
         {
             return receiverCommandQueue;
@@ -2795,6 +3277,63 @@ public final class MediaDriver implements AutoCloseable
             return controlTransportPoller;
         }
 
+        ControlTransportPoller[] controlTransportPollers()
+        {
+            return controlTransportPollers;
+        }
+
+        OneToOneConcurrentArrayQueue<Runnable>[] senderCommandQueues()
+        {
+            return senderCommandQueues;
+        }
+
+        IdleStrategy[] senderIdleStrategies()
+        {
+            return senderIdleStrategies;
+        }
+
+        OneToOneConcurrentArrayQueue<Runnable>[] receiverCommandQueues()
+        {
+            return receiverCommandQueues;
+        }
+
+        DataTransportPoller[] dataTransportPollers()
+        {
+            return dataTransportPollers;
+        }
+
+        ReceiveChannelEndpointThreadLocals[] receiverThreadLocals()
+        {
+            return receiverThreadLocals;
+        }
+
+        IdleStrategy[] receiverIdleStrategies()
+        {
+            return receiverIdleStrategies;
+        }
+
+        /**
+         * Number of {@link Sender} agents which will run given the {@link #threadingMode()} and
+         * {@link #senderCount()}.
+         *
+         * @return number of {@link Sender} agents which will run.
+         */
+        public int senderShardCount()
+        {
+            return SHARDED_SENDER == threadingMode || SHARDED == threadingMode ? senderCount : 1;
+        }
+
+        /**
+         * Number of {@link Receiver} agents which will run given the {@link #threadingMode()} and
+         * {@link #receiverCount()}.
+         *
+         * @return number of {@link Receiver} agents which will run.
+         */
+        public int receiverShardCount()
+        {
+            return SHARDED_RECEIVER == threadingMode || SHARDED == threadingMode ? receiverCount : 1;
+        }
+
         Context controlTransportPoller(final ControlTransportPoller transportPoller)
         {
             this.controlTransportPoller = transportPoller;
@@ -2882,11 +3421,6 @@ public final class MediaDriver implements AutoCloseable
                 receiveChannelEndpointSupplier = Configuration.receiveChannelEndpointSupplier();
             }
 
-            if (null == dataTransportPoller)
-            {
-                dataTransportPoller = new DataTransportPoller();
-            }
-
             if (null == controlTransportPoller)
             {
                 controlTransportPoller = new ControlTransportPoller();
@@ -2907,6 +3441,16 @@ public final class MediaDriver implements AutoCloseable
                 congestionControlSupplier = Configuration.congestionControlSupplier();
             }
 
+            if (null == senderShardingStrategy)
+            {
+                senderShardingStrategy = Configuration.senderShardingStrategy();
+            }
+
+            if (null == receiverShardingStrategy)
+            {
+                receiverShardingStrategy = Configuration.receiverShardingStrategy();
+            }
+
             if (null == driverCommandQueue)
             {
                 driverCommandQueue = new ManyToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
@@ -2956,8 +3500,17 @@ public final class MediaDriver implements AutoCloseable
 
         private void concludeDependantProperties()
         {
-            clientProxy = new ClientProxy(new BroadcastTransmitter(
-                createToClientsBuffer(cncByteBuffer, cncMetaDataBuffer)));
+            final BroadcastTransmitter[] clientResponseTransmitters =
+                new BroadcastTransmitter[clientResponseBufferCount];
+            for (int i = 0; i < clientResponseBufferCount; i++)
+            {
+                clientResponseTransmitters[i] = new BroadcastTransmitter(
+                    createClientResponseBuffer(cncByteBuffer, cncMetaDataBuffer, i));
+            }
+
+            clientProxy = new ClientProxy(
+                new BroadcastTransmitter(createToClientsBuffer(cncByteBuffer, cncMetaDataBuffer)),
+                clientResponseTransmitters);
 
             toDriverCommands = new ManyToOneRingBuffer(createToDriverBuffer(cncByteBuffer, cncMetaDataBuffer));
 
@@ -2971,23 +3524,119 @@ public final class MediaDriver implements AutoCloseable
                 errorHandler = new LoggingErrorHandler(errorLog);
             }
 
-            receiverProxy = new ReceiverProxy(
-                threadingMode, receiverCommandQueue, systemCounters.get(RECEIVER_PROXY_FAILS));
-            senderProxy = new SenderProxy(
-                threadingMode, senderCommandQueue, systemCounters.get(SENDER_PROXY_FAILS));
+            if (null == dataTransportPoller)
+            {
+                dataTransportPoller = new DataTransportPoller(
+                    receiverDatagramBudget, systemCounters, receiverShardCount() > 1);
+            }
+
+            concludeReceiverShards();
+            concludeSenderShards();
             driverConductorProxy = new DriverConductorProxy(
                 threadingMode, driverCommandQueue, systemCounters.get(CONDUCTOR_PROXY_FAILS));
 
             if (null == logFactory)
             {
-                logFactory = new FileStoreLogFactory(
-                    aeronDirectoryName(), filePageSize, performStorageChecks, lowStorageWarningThreshold, errorHandler);
+                if (logPoolSize > 0)
+                {
+                    if (null == logPoolThreadFactory)
+                    {
+                        logPoolThreadFactory = Thread::new;
+                    }
+
+                    logFactory = new PooledLogFactory(
+                        aeronDirectoryName(),
+                        filePageSize,
+                        performStorageChecks,
+                        lowStorageWarningThreshold,
+                        errorHandler,
+                        new int[]{ publicationTermBufferLength, ipcTermBufferLength },
+                        logPoolSize,
+                        logPoolRecycleDelayNs,
+                        nanoClock,
+                        systemCounters.get(LOG_POOL_HITS),
+                        systemCounters.get(LOG_POOL_MISSES),
+                        logPoolThreadFactory);
+                }
+                else
+                {
+                    logFactory = new FileStoreLogFactory(
+                        aeronDirectoryName(),
+                        filePageSize,
+                        performStorageChecks,
+                        lowStorageWarningThreshold,
+                        errorHandler);
+                }
             }
 
             lossReportBuffer = mapLossReport(aeronDirectoryName(), align(lossReportBufferLength, filePageSize));
             lossReport = new LossReport(new UnsafeBuffer(lossReportBuffer));
         }
 
+        private void concludeLogPoolRecycleDelay()
+        {
+            final long clientResourceLingerDurationNs = Aeron.Configuration.resourceLingerDurationNs();
+
+            if (Aeron.NULL_VALUE == logPoolRecycleDelayNs)
+            {
+                logPoolRecycleDelayNs = Configuration.minLogPoolRecycleDelayNs(
+                    clientLivenessTimeoutNs, timerIntervalNs, clientResourceLingerDurationNs);
+            }
+            else if (logPoolSize > 0)
+            {
+                validateLogPoolRecycleDelay(
+                    logPoolRecycleDelayNs, clientLivenessTimeoutNs, timerIntervalNs, clientResourceLingerDurationNs);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void concludeReceiverShards()
+        {
+            final int receiverCount = receiverShardCount();
+            receiverCommandQueues = new OneToOneConcurrentArrayQueue[receiverCount];
+            dataTransportPollers = new DataTransportPoller[receiverCount];
+            receiverThreadLocals = new ReceiveChannelEndpointThreadLocals[receiverCount];
+            final AtomicCounter[] receiverFailCounts = new AtomicCounter[receiverCount];
+
+            receiverCommandQueues[0] = receiverCommandQueue;
+            dataTransportPollers[0] = dataTransportPoller;
+            receiverThreadLocals[0] = receiveChannelEndpointThreadLocals;
+            receiverFailCounts[0] = systemCounters.get(RECEIVER_PROXY_FAILS, 0);
+            for (int i = 1; i < receiverCount; i++)
+            {
+                receiverCommandQueues[i] = new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+                dataTransportPollers[i] = new DataTransportPoller(receiverDatagramBudget, systemCounters, true);
+                receiverThreadLocals[i] = new ReceiveChannelEndpointThreadLocals(
+                    this, receiveChannelEndpointThreadLocals.receiverId());
+                receiverFailCounts[i] = systemCounters.get(RECEIVER_PROXY_FAILS, i);
+            }
+
+            receiverProxy = new ReceiverProxy(
+                threadingMode, receiverCommandQueues, systemCounters.get(RECEIVER_PROXY_FAILS), receiverFailCounts);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void concludeSenderShards()
+        {
+            final int senderCount = senderShardCount();
+            senderCommandQueues = new OneToOneConcurrentArrayQueue[senderCount];
+            controlTransportPollers = new ControlTransportPoller[senderCount];
+            final AtomicCounter[] senderFailCounts = new AtomicCounter[senderCount];
+
+            senderCommandQueues[0] = senderCommandQueue;
+            controlTransportPollers[0] = controlTransportPoller;
+            senderFailCounts[0] = systemCounters.get(SENDER_PROXY_FAILS, 0);
+            for (int i = 1; i < senderCount; i++)
+            {
+                senderCommandQueues[i] = new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+                controlTransportPollers[i] = new ControlTransportPoller();
+                senderFailCounts[i] = systemCounters.get(SENDER_PROXY_FAILS, i);
+            }
+
+            senderProxy = new SenderProxy(
+                threadingMode, senderCommandQueues, systemCounters.get(SENDER_PROXY_FAILS), senderFailCounts);
+        }
+
         private void concludeCounters()
         {
             if (null == countersManager)
@@ -3029,7 +3678,7 @@ public final class MediaDriver implements AutoCloseable
 
             if (null == systemCounters)
             {
-                systemCounters = new SystemCounters(countersManager);
+                systemCounters = new SystemCounters(countersManager, senderShardCount(), receiverShardCount());
             }
         }
 
@@ -3074,6 +3723,9 @@ public final class MediaDriver implements AutoCloseable
                     break;
 
                 case DEDICATED:
+                case SHARDED_SENDER:
+                case SHARDED_RECEIVER:
+                case SHARDED:
                     if (null == conductorThreadFactory)
                     {
                         conductorThreadFactory = Thread::new;
@@ -3100,6 +3752,22 @@ public final class MediaDriver implements AutoCloseable
                     }
                     break;
             }
+
+            final int senderCount = senderShardCount();
+            senderIdleStrategies = new IdleStrategy[senderCount];
+            senderIdleStrategies[0] = senderIdleStrategy;
+            for (int i = 1; i < senderCount; i++)
+            {
+                senderIdleStrategies[i] = Configuration.senderIdleStrategy(indicator);
+            }
+
+            final int receiverCount = receiverShardCount();
+            receiverIdleStrategies = new IdleStrategy[receiverCount];
+            receiverIdleStrategies[0] = receiverIdleStrategy;
+            for (int i = 1; i < receiverCount; i++)
+            {
+                receiverIdleStrategies[i] = Configuration.receiverIdleStrategy(indicator);
+            }
         }
 
         @SuppressWarnings("MethodLength")
@@ -3124,9 +3792,13 @@ public final class MediaDriver implements AutoCloseable
                 "\n    receiverGroupConsideration=" + receiverGroupConsideration +
                 "\n    conductorBufferLength=" + conductorBufferLength +
                 "\n    toClientsBufferLength=" + toClientsBufferLength +
+                "\n    clientResponseBufferCount=" + clientResponseBufferCount +
+                "\n    clientResponseBufferLength=" + clientResponseBufferLength +
                 "\n    counterValuesBufferLength=" + counterValuesBufferLength +
                 "\n    errorBufferLength=" + errorBufferLength +
                 "\n    lowStorageWarningThreshold=" + lowStorageWarningThreshold +
+                "\n    logPoolSize=" + logPoolSize +
+                "\n    logPoolRecycleDelayNs=" + logPoolRecycleDelayNs +
                 "\n    timerIntervalNs=" + timerIntervalNs +
                 "\n    clientLivenessTimeoutNs=" + clientLivenessTimeoutNs +
                 "\n    imageLivenessTimeoutNs=" + imageLivenessTimeoutNs +
@@ -3146,12 +3818,14 @@ public final class MediaDriver implements AutoCloseable
                 "\n    ipcTermBufferLength=" + ipcTermBufferLength +
                 "\n    publicationTermWindowLength=" + publicationTermWindowLength +
                 "\n    ipcPublicationTermWindowLength=" + ipcPublicationTermWindowLength +
+                "\n    termCleaningSliceLength=" + termCleaningSliceLength +
                 "\n    initialWindowLength=" + initialWindowLength +
                 "\n    socketSndbufLength=" + socketSndbufLength +
                 "\n    socketRcvbufLength=" + socketRcvbufLength +
                 "\n    socketMulticastTtl=" + socketMulticastTtl +
                 "\n    mtuLength=" + mtuLength +
                 "\n    ipcMtuLength=" + ipcMtuLength +
+                "\n    publicationBurstLength=" + publicationBurstLength +
                 "\n    filePageSize=" + filePageSize +
                 "\n    publicationReservedSessionIdLow=" + publicationReservedSessionIdLow +
                 "\n    publicationReservedSessionIdHigh=" + publicationReservedSessionIdHigh +
@@ -3161,11 +3835,16 @@ public final class MediaDriver implements AutoCloseable
                 "\n    cachedEpochClock=" + cachedEpochClock +
                 "\n    cachedNanoClock=" + cachedNanoClock +
                 "\n    threadingMode=" + threadingMode +
+                "\n    senderCount=" + senderCount +
+                "\n    senderShardingStrategy=" + senderShardingStrategy +
+                "\n    receiverCount=" + receiverCount +
+                "\n    receiverShardingStrategy=" + receiverShardingStrategy +
                 "\n    conductorThreadFactory=" + conductorThreadFactory +
                 "\n    senderThreadFactory=" + senderThreadFactory +
                 "\n    receiverThreadFactory=" + receiverThreadFactory +
                 "\n    sharedThreadFactory=" + sharedThreadFactory +
                 "\n    sharedNetworkThreadFactory=" + sharedNetworkThreadFactory +
+                "\n    logPoolThreadFactory=" + logPoolThreadFactory +
                 "\n    conductorIdleStrategy=" + conductorIdleStrategy +
                 "\n    senderIdleStrategy=" + senderIdleStrategy +
                 "\n    receiverIdleStrategy=" + receiverIdleStrategy +
@@ -3182,6 +3861,8 @@ public final class MediaDriver implements AutoCloseable
                 "\n    terminationValidator=" + terminationValidator +
                 "\n    terminationHook=" + terminationHook +
                 "\n    sendToStatusMessagePollRatio=" + sendToStatusMessagePollRatio +
+                "\n    receiverDatagramBudget=" + receiverDatagramBudget +
+                "\n    nakMaxRanges=" + nakMaxRanges +
                 "\n    unicastFeedbackDelayGenerator=" + unicastFeedbackDelayGenerator +
                 "\n    multicastFeedbackDelayGenerator=" + multicastFeedbackDelayGenerator +
                 "\n    retransmitUnicastDelayGenerator=" + retransmitUnicastDelayGenerator +
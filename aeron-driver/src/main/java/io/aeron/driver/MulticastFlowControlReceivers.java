@@ -0,0 +1,307 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+/**
+ * Receivers tracked by multicast flow control strategies which need the minimum position of a group.
+ * <p>
+ * Receivers are indexed by receiver id, held in a min-heap on position plus window so the minimum is available in
+ * constant time, and kept in order of last Status Message so timeouts only visit receivers which have expired.
+ * Applying a Status Message is therefore O(log n) in the number of receivers rather than O(n).
+ * <p>
+ * Timeout ordering relies on Status Messages being applied with a non-decreasing time as provided by the sender clock.
+ */
+final class MulticastFlowControlReceivers
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long receiverTimeoutNs;
+    private final Long2ObjectHashMap<Receiver> receiverByIdMap = new Long2ObjectHashMap<>();
+    private Receiver[] heap = new Receiver[INITIAL_CAPACITY];
+    private int size = 0;
+    private Receiver oldest = null;
+    private Receiver newest = null;
+
+    MulticastFlowControlReceivers(final long receiverTimeoutNs)
+    {
+        this.receiverTimeoutNs = receiverTimeoutNs;
+    }
+
+    /**
+     * Apply a Status Message from a receiver, tracking it if not already tracked.
+     *
+     * @param receiverId      of the receiver which sent the Status Message.
+     * @param position        consumption position reported by the receiver.
+     * @param windowLength    of the receiver.
+     * @param timeNs          at which the Status Message was received.
+     * @param receiverAddress from which the Status Message was received.
+     */
+    void onStatusMessage(
+        final long receiverId,
+        final long position,
+        final long windowLength,
+        final long timeNs,
+        final InetSocketAddress receiverAddress)
+    {
+        final Receiver receiver = receiverByIdMap.get(receiverId);
+        if (null == receiver)
+        {
+            add(new Receiver(position, position + windowLength, timeNs, receiverId, receiverAddress));
+        }
+        else
+        {
+            receiver.lastPosition = Math.max(position, receiver.lastPosition);
+            receiver.lastPositionPlusWindow = position + windowLength;
+            receiver.timeOfLastStatusMessageNs = timeNs;
+
+            siftUpOrDown(receiver.heapIndex);
+            moveToNewest(receiver);
+        }
+    }
+
+    /**
+     * Stop tracking receivers which have not sent a Status Message within the timeout.
+     *
+     * @param timeNs current time.
+     */
+    void removeTimedOut(final long timeNs)
+    {
+        Receiver receiver;
+        while (null != (receiver = oldest) && (receiver.timeOfLastStatusMessageNs + receiverTimeoutNs) - timeNs < 0)
+        {
+            receiverByIdMap.remove(receiver.receiverId);
+            unlink(receiver);
+            removeFromHeap(receiver.heapIndex);
+        }
+    }
+
+    /**
+     * Minimum position plus window of the tracked receivers.
+     *
+     * @return minimum position plus window of the tracked receivers or {@link Long#MAX_VALUE} if none are tracked.
+     */
+    long minPositionPlusWindow()
+    {
+        return size > 0 ? heap[0].lastPositionPlusWindow : Long.MAX_VALUE;
+    }
+
+    /**
+     * Number of receivers being tracked.
+     *
+     * @return number of receivers being tracked.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Find a tracked receiver by its id.
+     *
+     * @param receiverId to look up.
+     * @return the tracked receiver or null if not tracked.
+     */
+    Receiver receiver(final long receiverId)
+    {
+        return receiverByIdMap.get(receiverId);
+    }
+
+    static final class Receiver
+    {
+        long lastPosition;
+        long lastPositionPlusWindow;
+        long timeOfLastStatusMessageNs;
+        int heapIndex;
+        Receiver older;
+        Receiver newer;
+        final long receiverId;
+        final InetSocketAddress address;
+
+        Receiver(
+            final long lastPosition,
+            final long lastPositionPlusWindow,
+            final long timeNs,
+            final long receiverId,
+            final InetSocketAddress receiverAddress)
+        {
+            this.lastPosition = lastPosition;
+            this.lastPositionPlusWindow = lastPositionPlusWindow;
+            this.timeOfLastStatusMessageNs = timeNs;
+            this.receiverId = receiverId;
+            this.address = receiverAddress;
+        }
+    }
+
+    private void add(final Receiver receiver)
+    {
+        receiverByIdMap.put(receiver.receiverId, receiver);
+        linkAsNewest(receiver);
+
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+
+        final int index = size++;
+        heap[index] = receiver;
+        receiver.heapIndex = index;
+        siftUp(index);
+    }
+
+    private void removeFromHeap(final int index)
+    {
+        final int lastIndex = --size;
+        final Receiver last = heap[lastIndex];
+        heap[lastIndex] = null;
+
+        if (index != lastIndex)
+        {
+            heap[index] = last;
+            last.heapIndex = index;
+            siftUpOrDown(index);
+        }
+    }
+
+    private void siftUpOrDown(final int index)
+    {
+        if (siftUp(index) == index)
+        {
+            siftDown(index);
+        }
+    }
+
+    private int siftUp(final int index)
+    {
+        final Receiver[] heap = this.heap;
+        final Receiver receiver = heap[index];
+        final long value = receiver.lastPositionPlusWindow;
+        int i = index;
+
+        while (i > 0)
+        {
+            final int parentIndex = (i - 1) >>> 1;
+            final Receiver parent = heap[parentIndex];
+            if (parent.lastPositionPlusWindow <= value)
+            {
+                break;
+            }
+
+            heap[i] = parent;
+            parent.heapIndex = i;
+            i = parentIndex;
+        }
+
+        heap[i] = receiver;
+        receiver.heapIndex = i;
+
+        return i;
+    }
+
+    private void siftDown(final int index)
+    {
+        final Receiver[] heap = this.heap;
+        final int size = this.size;
+        final Receiver receiver = heap[index];
+        final long value = receiver.lastPositionPlusWindow;
+        int i = index;
+
+        while (true)
+        {
+            int childIndex = (i << 1) + 1;
+            if (childIndex >= size)
+            {
+                break;
+            }
+
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].lastPositionPlusWindow < heap[childIndex].lastPositionPlusWindow)
+            {
+                childIndex = rightIndex;
+            }
+
+            final Receiver child = heap[childIndex];
+            if (value <= child.lastPositionPlusWindow)
+            {
+                break;
+            }
+
+            heap[i] = child;
+            child.heapIndex = i;
+            i = childIndex;
+        }
+
+        heap[i] = receiver;
+        receiver.heapIndex = i;
+    }
+
+    private void moveToNewest(final Receiver receiver)
+    {
+        if (receiver != newest)
+        {
+            unlink(receiver);
+            linkAsNewest(receiver);
+        }
+    }
+
+    private void linkAsNewest(final Receiver receiver)
+    {
+        receiver.older = newest;
+        receiver.newer = null;
+
+        if (null == newest)
+        {
+            oldest = receiver;
+        }
+        else
+        {
+            newest.newer = receiver;
+        }
+
+        newest = receiver;
+    }
+
+    private void unlink(final Receiver receiver)
+    {
+        final Receiver older = receiver.older;
+        final Receiver newer = receiver.newer;
+
+        if (null == older)
+        {
+            oldest = newer;
+        }
+        else
+        {
+            older.newer = newer;
+        }
+
+        if (null == newer)
+        {
+            newest = older;
+        }
+        else
+        {
+            newer.older = older;
+        }
+
+        receiver.older = null;
+        receiver.newer = null;
+    }
+}
@@ -109,32 +109,40 @@ public class NetworkPublication
     private final int termBufferLength;
     private final int termLengthMask;
     private final int mtuLength;
+    private final int burstLength;
     private final int termWindowLength;
+    private final int termCleaningSliceLength;
+    private final int termCleaningLagLimit;
     private final int sessionId;
     private final int streamId;
     private final boolean isExclusive;
     private final boolean spiesSimulateConnection;
     private final boolean signalEos;
+    private final boolean hasMultipleSenders;
     private volatile boolean hasReceivers;
     private volatile boolean hasSpies;
     private volatile boolean isConnected;
     private volatile boolean isEndOfStream;
     private volatile boolean hasSenderReleased;
     private State state = State.ACTIVE;
+    private int listIndex;
+    private int streamListIndex;
 
     private final UnsafeBuffer[] termBuffers;
     private final ByteBuffer[] sendBuffers;
+    private final int[] batchFrameOffsets;
+    private final int[] batchFrameLengths;
     private final Position publisherPos;
     private final Position publisherLimit;
     private final Position senderPosition;
     private final Position senderLimit;
     private final SendChannelEndpoint channelEndpoint;
-    private final ByteBuffer heartbeatBuffer;
-    private final DataHeaderFlyweight heartbeatDataHeader;
-    private final ByteBuffer setupBuffer;
-    private final SetupFlyweight setupHeader;
-    private final ByteBuffer rttMeasurementBuffer;
-    private final RttMeasurementFlyweight rttMeasurementHeader;
+    private ByteBuffer heartbeatBuffer;
+    private DataHeaderFlyweight heartbeatDataHeader;
+    private ByteBuffer setupBuffer;
+    private SetupFlyweight setupHeader;
+    private ByteBuffer rttMeasurementBuffer;
+    private RttMeasurementFlyweight rttMeasurementHeader;
     private final FlowControl flowControl;
     private final CachedNanoClock nanoClock;
     private final RetransmitHandler retransmitHandler;
@@ -146,6 +154,9 @@ public class NetworkPublication
     private final AtomicCounter senderBpe;
     private final AtomicCounter shortSends;
     private final AtomicCounter unblockedPublications;
+    private final AtomicCounter senderBursts;
+    private final AtomicCounter senderBurstDatagrams;
+    private final AtomicCounter termCleaningMaxLag;
 
     public NetworkPublication(
         final long registrationId,
@@ -154,6 +165,7 @@ public class NetworkPublication
         final CachedNanoClock nanoClock,
         final RawLog rawLog,
         final int termWindowLength,
+        final int termCleaningSliceLength,
         final Position publisherPos,
         final Position publisherLimit,
         final Position senderPosition,
@@ -171,7 +183,8 @@ public class NetworkPublication
         final long untetheredWindowLimitTimeoutNs,
         final long untetheredRestingTimeoutNs,
         final boolean spiesSimulateConnection,
-        final boolean isExclusive)
+        final boolean isExclusive,
+        final boolean hasMultipleSenders)
     {
         this.registrationId = registrationId;
         this.unblockTimeoutNs = unblockTimeoutNs;
@@ -190,31 +203,43 @@ public class NetworkPublication
         this.publisherPos = publisherPos;
         this.publisherLimit = publisherLimit;
         this.mtuLength = params.mtuLength;
+        this.burstLength = Math.max(params.burstLength, params.mtuLength);
         this.initialTermId = initialTermId;
         this.sessionId = sessionId;
         this.streamId = streamId;
         this.spiesSimulateConnection = spiesSimulateConnection;
         this.isExclusive = isExclusive;
+        this.hasMultipleSenders = hasMultipleSenders;
         this.signalEos = params.signalEos;
 
         metaDataBuffer = rawLog.metaData();
-        setupBuffer = threadLocals.setupBuffer();
-        setupHeader = threadLocals.setupHeader();
-        heartbeatBuffer = threadLocals.heartbeatBuffer();
-        heartbeatDataHeader = threadLocals.heartbeatDataHeader();
-        rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
-        rttMeasurementHeader = threadLocals.rttMeasurementHeader();
+        threadLocals(threadLocals);
 
         heartbeatsSent = systemCounters.get(HEARTBEATS_SENT);
         shortSends = systemCounters.get(SHORT_SENDS);
         retransmitsSent = systemCounters.get(RETRANSMITS_SENT);
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
+        senderBursts = systemCounters.get(SENDER_BURSTS);
+        senderBurstDatagrams = systemCounters.get(SENDER_BURST_DATAGRAMS);
+        termCleaningMaxLag = systemCounters.get(TERM_CLEANING_MAX_LAG);
         this.senderBpe = senderBpe;
 
         termBuffers = rawLog.termBuffers();
         sendBuffers = rawLog.sliceTerms();
 
+        if (channelEndpoint.isMultiDestination())
+        {
+            final int batchCapacity = (burstLength / mtuLength) + 1;
+            batchFrameOffsets = new int[batchCapacity + 1];
+            batchFrameLengths = new int[batchCapacity];
+        }
+        else
+        {
+            batchFrameOffsets = null;
+            batchFrameLengths = null;
+        }
+
         final int termLength = rawLog.termLength();
         termBufferLength = termLength;
         termLengthMask = termLength - 1;
@@ -227,6 +252,8 @@ public class NetworkPublication
 
         positionBitsToShift = LogBufferDescriptor.positionBitsToShift(termLength);
         this.termWindowLength = termWindowLength;
+        this.termCleaningSliceLength = termCleaningSliceLength;
+        this.termCleaningLagLimit = termLength - termWindowLength;
 
         lastSenderPosition = senderPosition.get();
         cleanPosition = lastSenderPosition;
@@ -277,6 +304,11 @@ public class NetworkPublication
         return mtuLength;
     }
 
+    public int burstLength()
+    {
+        return burstLength;
+    }
+
     public long registrationId()
     {
         return registrationId;
@@ -381,7 +413,14 @@ public class NetworkPublication
             }
             while (remainingBytes > 0);
 
-            retransmitsSent.incrementOrdered();
+            if (hasMultipleSenders)
+            {
+                retransmitsSent.increment();
+            }
+            else
+            {
+                retransmitsSent.incrementOrdered();
+            }
         }
     }
 
@@ -521,6 +560,10 @@ public class NetworkPublication
                 this.publisherLimit.setOrdered(proposedPublisherLimit);
                 workCount = 1;
             }
+            else if (termCleaningSliceLength > 0)
+            {
+                workCount = cleanBufferTo(minConsumerPosition - termBufferLength);
+            }
         }
         else if (publisherLimit.get() > senderPosition)
         {
@@ -548,30 +591,83 @@ public class NetworkPublication
     private int sendData(final long nowNs, final long senderPosition, final int termOffset)
     {
         int bytesSent = 0;
-        final int availableWindow = (int)(senderLimit.get() - senderPosition);
-        if (availableWindow > 0)
+        final long senderLimit = this.senderLimit.get();
+        if (senderLimit - senderPosition > 0)
         {
-            final int scanLimit = Math.min(availableWindow, mtuLength);
-            final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+            long position = senderPosition;
+            int offset = termOffset;
+            int remainingBurst = burstLength;
+            int datagramsSent = 0;
 
-            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
-            final int available = available(scanOutcome);
-            if (available > 0)
+            if (null != batchFrameOffsets)
             {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
-
-                if (available == channelEndpoint.send(sendBuffer))
+                datagramsSent = sendDataBatch(senderLimit, position, offset);
+                if (datagramsSent > 0)
                 {
-                    timeOfLastSendOrHeartbeatNs = nowNs;
-                    trackSenderLimits = true;
+                    position = senderPosition + (batchFrameOffsets[datagramsSent] - termOffset);
+                    for (int i = 0; i < datagramsSent; i++)
+                    {
+                        bytesSent += batchFrameLengths[i];
+                    }
+                }
+            }
+            else
+            {
+                do
+                {
+                    final int availableWindow = (int)(senderLimit - position);
+                    if (availableWindow <= 0)
+                    {
+                        break;
+                    }
+
+                    final int scanLimit = Math.min(Math.min(availableWindow, mtuLength), remainingBurst);
+                    final int activeIndex = indexByPosition(position, positionBitsToShift);
+
+                    final long scanOutcome = scanForAvailability(termBuffers[activeIndex], offset, scanLimit);
+                    final int available = available(scanOutcome);
+                    if (available <= 0)
+                    {
+                        break;
+                    }
+
+                    final ByteBuffer sendBuffer = sendBuffers[activeIndex];
+                    sendBuffer.limit(offset + available).position(offset);
+
+                    if (available != channelEndpoint.send(sendBuffer))
+                    {
+                        shortSends.increment();
+                        break;
+                    }
 
-                    bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
+                    final int length = available + padding(scanOutcome);
+                    bytesSent += available;
+                    datagramsSent++;
+                    position += length;
+                    offset = (int)position & termLengthMask;
+                    remainingBurst -= length;
                 }
-                else
+                while (remainingBurst > 0);
+            }
+
+            if (datagramsSent > 0)
+            {
+                timeOfLastSendOrHeartbeatNs = nowNs;
+                trackSenderLimits = true;
+                this.senderPosition.setOrdered(position);
+
+                if (datagramsSent > 1)
                 {
-                    shortSends.increment();
+                    if (hasMultipleSenders)
+                    {
+                        senderBursts.increment();
+                        senderBurstDatagrams.getAndAdd(datagramsSent);
+                    }
+                    else
+                    {
+                        senderBursts.incrementOrdered();
+                        senderBurstDatagrams.getAndAddOrdered(datagramsSent);
+                    }
                 }
             }
         }
@@ -579,12 +675,71 @@ public class NetworkPublication
         {
             trackSenderLimits = false;
             senderBpe.incrementOrdered();
-            senderFlowControlLimits.incrementOrdered();
+            if (hasMultipleSenders)
+            {
+                senderFlowControlLimits.increment();
+            }
+            else
+            {
+                senderFlowControlLimits.incrementOrdered();
+            }
         }
 
         return bytesSent;
     }
 
+    private int sendDataBatch(final long senderLimit, final long senderPosition, final int termOffset)
+    {
+        final int[] frameOffsets = batchFrameOffsets;
+        final int[] frameLengths = batchFrameLengths;
+        final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+        final UnsafeBuffer termBuffer = termBuffers[activeIndex];
+        long position = senderPosition;
+        int offset = termOffset;
+        int remainingBurst = burstLength;
+        int frameCount = 0;
+
+        do
+        {
+            final int availableWindow = (int)(senderLimit - position);
+            if (availableWindow <= 0)
+            {
+                break;
+            }
+
+            final int scanLimit = Math.min(Math.min(availableWindow, mtuLength), remainingBurst);
+            final long scanOutcome = scanForAvailability(termBuffer, offset, scanLimit);
+            final int available = available(scanOutcome);
+            if (available <= 0)
+            {
+                break;
+            }
+
+            final int length = available + padding(scanOutcome);
+            frameOffsets[frameCount] = offset;
+            frameLengths[frameCount] = available;
+            frameCount++;
+
+            position += length;
+            offset += length;
+            remainingBurst -= length;
+        }
+        while (remainingBurst > 0 && frameCount < frameLengths.length && offset < termBufferLength);
+
+        int framesSent = 0;
+        if (frameCount > 0)
+        {
+            frameOffsets[frameCount] = offset;
+            framesSent = channelEndpoint.send(sendBuffers[activeIndex], frameOffsets, frameLengths, frameCount);
+            if (framesSent < frameCount)
+            {
+                shortSends.increment();
+            }
+        }
+
+        return framesSent;
+    }
+
     private void setupMessageCheck(final long nowNs, final int activeTermId, final int termOffset)
     {
         if ((timeOfLastSetupNs + PUBLICATION_SETUP_TIMEOUT_NS) - nowNs < 0)
@@ -637,26 +792,45 @@ public class NetworkPublication
             }
 
             timeOfLastSendOrHeartbeatNs = nowNs;
-            heartbeatsSent.incrementOrdered();
+            if (hasMultipleSenders)
+            {
+                heartbeatsSent.increment();
+            }
+            else
+            {
+                heartbeatsSent.incrementOrdered();
+            }
         }
 
         return bytesSent;
     }
 
-    private void cleanBufferTo(final long position)
+    private int cleanBufferTo(final long position)
     {
-        final long cleanPosition = this.cleanPosition;
+        long cleanPosition = this.cleanPosition;
         if (position > cleanPosition)
         {
-            final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
-            final int bytesForCleaning = (int)(position - cleanPosition);
-            final int termOffset = (int)cleanPosition & termLengthMask;
-            final int length = Math.min(bytesForCleaning, termBufferLength - termOffset);
+            do
+            {
+                final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
+                final int termOffset = (int)cleanPosition & termLengthMask;
+                final int length = TermCleaner.cleaningLength(
+                    cleanPosition, position, termOffset, termBufferLength, termCleaningSliceLength,
+                    termCleaningLagLimit);
+
+                dirtyTerm.setMemory(termOffset + SIZE_OF_LONG, length - SIZE_OF_LONG, (byte)0);
+                dirtyTerm.putLongOrdered(termOffset, 0);
+                cleanPosition += length;
+            }
+            while (position - cleanPosition > termCleaningLagLimit);
+
+            this.cleanPosition = cleanPosition;
+            termCleaningMaxLag.proposeMaxOrdered(position - cleanPosition);
 
-            dirtyTerm.setMemory(termOffset + SIZE_OF_LONG, length - SIZE_OF_LONG, (byte)0);
-            dirtyTerm.putLongOrdered(termOffset, 0);
-            this.cleanPosition = cleanPosition + length;
+            return 1;
         }
+
+        return 0;
     }
 
     private void checkForBlockedPublisher(final long producerPosition, final long senderPosition, final long nowNs)
@@ -890,6 +1064,22 @@ public class NetworkPublication
         hasSenderReleased = true;
     }
 
+    /**
+     * Use the buffers of the sender which owns this publication for sending setup, heartbeat, and RTT measurement
+     * frames. Must be called from the owning sender before it sends for the publication.
+     *
+     * @param threadLocals of the sender which owns this publication.
+     */
+    void threadLocals(final NetworkPublicationThreadLocals threadLocals)
+    {
+        setupBuffer = threadLocals.setupBuffer();
+        setupHeader = threadLocals.setupHeader();
+        heartbeatBuffer = threadLocals.heartbeatBuffer();
+        heartbeatDataHeader = threadLocals.heartbeatDataHeader();
+        rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
+        rttMeasurementHeader = threadLocals.rttMeasurementHeader();
+    }
+
     long producerPosition()
     {
         final long rawTail = rawTailVolatile(metaDataBuffer);
@@ -902,4 +1092,24 @@ public class NetworkPublication
     {
         return senderPosition.getVolatile();
     }
+
+    int listIndex()
+    {
+        return listIndex;
+    }
+
+    void listIndex(final int listIndex)
+    {
+        this.listIndex = listIndex;
+    }
+
+    int streamListIndex()
+    {
+        return streamListIndex;
+    }
+
+    void streamListIndex(final int streamListIndex)
+    {
+        this.streamListIndex = streamListIndex;
+    }
 }
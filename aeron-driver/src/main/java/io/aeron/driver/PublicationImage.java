@@ -55,6 +55,7 @@ class PublicationImagePadding1
 class PublicationImageConductorFields extends PublicationImagePadding1
 {
     protected long cleanPosition;
+    protected long tailPosition;
     protected final ArrayList<UntetheredSubscription> untetheredSubscriptions = new ArrayList<>();
     protected ReadablePosition[] subscriberPositions;
     protected LossReport lossReport;
@@ -106,8 +107,11 @@ public class PublicationImage
     private volatile long beginLossChange = Aeron.NULL_VALUE;
     private volatile long endLossChange = Aeron.NULL_VALUE;
     private int lossTermId;
-    private int lossTermOffset;
-    private int lossLength;
+    private int lossGapCount;
+    private final int[] lossTermOffsets;
+    private final int[] lossLengths;
+    private final int[] pendingLossTermOffsets;
+    private final int[] pendingLossLengths;
 
     private long timeOfLastStateChangeNs;
 
@@ -119,10 +123,15 @@ public class PublicationImage
     private final int streamId;
     private final int positionBitsToShift;
     private final int termLengthMask;
+    private final int termCleaningSliceLength;
+    private final int termCleaningLagLimit;
     private final int initialTermId;
     private final boolean isReliable;
+    private final boolean hasMultipleReceivers;
 
     private boolean isTrackingRebuild = true;
+    private int listIndex;
+    private int streamListIndex;
     private volatile State state = INIT;
 
     private final NanoClock nanoClock;
@@ -140,6 +149,7 @@ public class PublicationImage
     private final AtomicCounter flowControlUnderRuns;
     private final AtomicCounter flowControlOverRuns;
     private final AtomicCounter lossGapFills;
+    private final AtomicCounter termCleaningMaxLag;
     private final CachedEpochClock cachedEpochClock;
     private final RawLog rawLog;
 
@@ -157,7 +167,9 @@ public class PublicationImage
         final int activeTermId,
         final int initialTermOffset,
         final RawLog rawLog,
+        final int termCleaningSliceLength,
         final FeedbackDelayGenerator lossFeedbackDelayGenerator,
+        final int nakMaxRanges,
         final ArrayList<SubscriberPosition> subscriberPositions,
         final Position hwmPosition,
         final Position rebuildPosition,
@@ -167,7 +179,8 @@ public class PublicationImage
         final SystemCounters systemCounters,
         final InetSocketAddress sourceAddress,
         final CongestionControl congestionControl,
-        final LossReport lossReport)
+        final LossReport lossReport,
+        final boolean hasMultipleReceivers)
     {
         this.correlationId = correlationId;
         this.imageLivenessTimeoutNs = imageLivenessTimeoutNs;
@@ -183,6 +196,8 @@ public class PublicationImage
         this.initialTermId = initialTermId;
         this.congestionControl = congestionControl;
         this.lossReport = lossReport;
+        this.hasMultipleReceivers = hasMultipleReceivers;
+        this.termCleaningSliceLength = termCleaningSliceLength;
 
         this.nanoClock = nanoClock;
         this.cachedNanoClock = cachedNanoClock;
@@ -201,15 +216,21 @@ public class PublicationImage
         flowControlUnderRuns = systemCounters.get(FLOW_CONTROL_UNDER_RUNS);
         flowControlOverRuns = systemCounters.get(FLOW_CONTROL_OVER_RUNS);
         lossGapFills = systemCounters.get(LOSS_GAP_FILLS);
+        termCleaningMaxLag = systemCounters.get(TERM_CLEANING_MAX_LAG);
 
         imageConnections = ArrayUtil.ensureCapacity(imageConnections, transportIndex + 1);
         imageConnections[transportIndex] = new ImageConnection(nowNs, controlAddress);
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, nakMaxRanges);
+        lossTermOffsets = new int[nakMaxRanges];
+        lossLengths = new int[nakMaxRanges];
+        pendingLossTermOffsets = new int[nakMaxRanges];
+        pendingLossLengths = new int[nakMaxRanges];
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
+        termCleaningLagLimit = termLength - (termLength >> 1);
         positionBitsToShift = LogBufferDescriptor.positionBitsToShift(termLength);
 
         final long position = computePosition(activeTermId, initialTermOffset, positionBitsToShift, initialTermId);
@@ -221,6 +242,7 @@ public class PublicationImage
 
         hwmPosition.setOrdered(position);
         rebuildPosition.setOrdered(position);
+        publishTail(position);
     }
 
     /**
@@ -347,24 +369,36 @@ public class PublicationImage
         beginLossChange = changeNumber;
 
         lossTermId = termId;
-        lossTermOffset = termOffset;
-        lossLength = length;
+        lossGapCount = 1;
+        lossTermOffsets[0] = termOffset;
+        lossLengths[0] = length;
 
         endLossChange = changeNumber;
 
-        if (null != reportEntry)
-        {
-            reportEntry.recordObservation(length, cachedEpochClock.time());
-        }
-        else if (null != lossReport)
-        {
-            reportEntry = lossReport.createEntry(
-                length, cachedEpochClock.time(), sessionId, streamId, channel(), sourceAddress.toString());
+        recordLoss(length);
+    }
 
-            if (null == reportEntry)
-            {
-                lossReport = null;
-            }
+    /**
+     * Called from the {@link LossDetector} when multiple gaps are detected by the {@link DriverConductor} thread.
+     *
+     * {@inheritDoc}
+     */
+    public void onGapsDetected(final int termId, final int[] termOffsets, final int[] lengths, final int gapCount)
+    {
+        final long changeNumber = beginLossChange + 1;
+
+        beginLossChange = changeNumber;
+
+        lossTermId = termId;
+        lossGapCount = gapCount;
+        System.arraycopy(termOffsets, 0, lossTermOffsets, 0, gapCount);
+        System.arraycopy(lengths, 0, lossLengths, 0, gapCount);
+
+        endLossChange = changeNumber;
+
+        for (int i = 0; i < gapCount; i++)
+        {
+            recordLoss(lengths[i]);
         }
     }
 
@@ -485,6 +519,10 @@ public class PublicationImage
         final int rebuildTermOffset = (int)rebuildPosition & termLengthMask;
         final long newRebuildPosition = (rebuildPosition - rebuildTermOffset) + rebuildOffset(scanOutcome);
         this.rebuildPosition.proposeMaxOrdered(newRebuildPosition);
+        if (newRebuildPosition > tailPosition)
+        {
+            publishTail(newRebuildPosition);
+        }
 
         final long ccOutcome = congestionControl.onTrackRebuild(
             nowNs,
@@ -505,6 +543,10 @@ public class PublicationImage
             cleanBufferTo(minSubscriberPosition - (termLengthMask + 1));
             scheduleStatusMessage(nowNs, minSubscriberPosition, windowLength);
         }
+        else if (termCleaningSliceLength > 0)
+        {
+            cleanBufferTo(minSubscriberPosition - (termLengthMask + 1));
+        }
     }
 
     /**
@@ -567,7 +609,7 @@ public class PublicationImage
                         isEndOfStream = true;
                     }
 
-                    heartbeatsReceived.incrementOrdered();
+                    incrementSharedCounter(heartbeatsReceived);
                 }
                 else
                 {
@@ -633,7 +675,7 @@ public class PublicationImage
                     channelEndpoint.sendStatusMessage(
                         imageConnections, sessionId, streamId, termId, termOffset, receiverWindowLength, (byte)0);
 
-                    statusMessagesSent.incrementOrdered();
+                    incrementSharedCounter(statusMessagesSent);
 
                     lastSmPosition = smPosition;
                     lastSmWindowLimit = smPosition + receiverWindowLength;
@@ -662,8 +704,9 @@ public class PublicationImage
         if (changeNumber != lastLossChangeNumber)
         {
             final int termId = lossTermId;
-            final int termOffset = lossTermOffset;
-            final int length = lossLength;
+            final int gapCount = lossGapCount;
+            System.arraycopy(lossTermOffsets, 0, pendingLossTermOffsets, 0, gapCount);
+            System.arraycopy(lossLengths, 0, pendingLossLengths, 0, gapCount);
 
             UNSAFE.loadFence();
 
@@ -671,15 +714,40 @@ public class PublicationImage
             {
                 if (isReliable)
                 {
-                    channelEndpoint.sendNakMessage(imageConnections, sessionId, streamId, termId, termOffset, length);
-                    nakMessagesSent.incrementOrdered();
+                    if (1 == gapCount)
+                    {
+                        channelEndpoint.sendNakMessage(
+                            imageConnections,
+                            sessionId,
+                            streamId,
+                            termId,
+                            pendingLossTermOffsets[0],
+                            pendingLossLengths[0]);
+                    }
+                    else
+                    {
+                        channelEndpoint.sendNakMessage(
+                            imageConnections,
+                            sessionId,
+                            streamId,
+                            termId,
+                            pendingLossTermOffsets,
+                            pendingLossLengths,
+                            gapCount);
+                    }
+
+                    incrementSharedCounter(nakMessagesSent);
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
-                    if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
+                    for (int i = 0; i < gapCount; i++)
                     {
-                        lossGapFills.incrementOrdered();
+                        if (tryFillGap(
+                            rawLog.metaData(), termBuffer, termId, pendingLossTermOffsets[i], pendingLossLengths[i]))
+                        {
+                            incrementSharedCounter(lossGapFills);
+                        }
                     }
                 }
 
@@ -792,6 +860,26 @@ public class PublicationImage
         return State.DONE == state;
     }
 
+    int listIndex()
+    {
+        return listIndex;
+    }
+
+    void listIndex(final int listIndex)
+    {
+        this.listIndex = listIndex;
+    }
+
+    int streamListIndex()
+    {
+        return streamListIndex;
+    }
+
+    void streamListIndex(final int streamListIndex)
+    {
+        this.streamListIndex = streamListIndex;
+    }
+
     private boolean isDrained()
     {
         final long rebuildPosition = this.rebuildPosition.get();
@@ -818,7 +906,7 @@ public class PublicationImage
 
         if (isFlowControlUnderRun)
         {
-            flowControlUnderRuns.incrementOrdered();
+            incrementSharedCounter(flowControlUnderRuns);
         }
 
         return isFlowControlUnderRun;
@@ -830,25 +918,50 @@ public class PublicationImage
 
         if (isFlowControlOverRun)
         {
-            flowControlOverRuns.incrementOrdered();
+            incrementSharedCounter(flowControlOverRuns);
         }
 
         return isFlowControlOverRun;
     }
 
+    /**
+     * Publish the rebuild position as the tail of the log so consumers can find the end of the contiguous data
+     * in the same way as for a publication log.
+     *
+     * @param position up to which the log is contiguous.
+     */
+    private void publishTail(final long position)
+    {
+        final int termCount = (int)(position >>> positionBitsToShift);
+        final int termOffset = (int)position & termLengthMask;
+        final UnsafeBuffer metaDataBuffer = rawLog.metaData();
+
+        rawTailVolatile(metaDataBuffer, indexByTermCount(termCount), packTail(initialTermId + termCount, termOffset));
+        activeTermCountOrdered(metaDataBuffer, termCount);
+        tailPosition = position;
+    }
+
     private void cleanBufferTo(final long position)
     {
-        final long cleanPosition = this.cleanPosition;
+        long cleanPosition = this.cleanPosition;
         if (position > cleanPosition)
         {
-            final int bytesForCleaning = (int)(position - cleanPosition);
-            final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
-            final int termOffset = (int)cleanPosition & termLengthMask;
-            final int length = Math.min(bytesForCleaning, dirtyTerm.capacity() - termOffset);
+            do
+            {
+                final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
+                final int termOffset = (int)cleanPosition & termLengthMask;
+                final int length = TermCleaner.cleaningLength(
+                    cleanPosition, position, termOffset, dirtyTerm.capacity(), termCleaningSliceLength,
+                    termCleaningLagLimit);
+
+                dirtyTerm.setMemory(termOffset, length - SIZE_OF_LONG, (byte)0);
+                dirtyTerm.putLongOrdered(termOffset + (length - SIZE_OF_LONG), 0);
+                cleanPosition += length;
+            }
+            while (position - cleanPosition > termCleaningLagLimit);
 
-            dirtyTerm.setMemory(termOffset, length - SIZE_OF_LONG, (byte)0);
-            dirtyTerm.putLongOrdered(termOffset + (length - SIZE_OF_LONG), 0);
-            this.cleanPosition = cleanPosition + length;
+            this.cleanPosition = cleanPosition;
+            termCleaningMaxLag.proposeMaxOrdered(position - cleanPosition);
         }
     }
 
@@ -1011,4 +1124,34 @@ public class PublicationImage
 
         return positions;
     }
+
+    private void incrementSharedCounter(final AtomicCounter counter)
+    {
+        if (hasMultipleReceivers)
+        {
+            counter.increment();
+        }
+        else
+        {
+            counter.incrementOrdered();
+        }
+    }
+
+    private void recordLoss(final int length)
+    {
+        if (null != reportEntry)
+        {
+            reportEntry.recordObservation(length, cachedEpochClock.time());
+        }
+        else if (null != lossReport)
+        {
+            reportEntry = lossReport.createEntry(
+                length, cachedEpochClock.time(), sessionId, streamId, channel(), sourceAddress.toString());
+
+            if (null == reportEntry)
+            {
+                lossReport = null;
+            }
+        }
+    }
 }
@@ -24,6 +24,7 @@ public class PublicationLink implements DriverManagedResource
     private final Object publication;
     private final AeronClient client;
     private boolean reachedEndOfLife = false;
+    private int listIndex;
 
     public PublicationLink(final long registrationId, final AeronClient client, final NetworkPublication publication)
     {
@@ -72,4 +73,14 @@ public class PublicationLink implements DriverManagedResource
     {
         return reachedEndOfLife;
     }
+
+    int listIndex()
+    {
+        return listIndex;
+    }
+
+    void listIndex(final int listIndex)
+    {
+        this.listIndex = listIndex;
+    }
 }
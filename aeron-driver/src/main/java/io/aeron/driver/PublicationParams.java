@@ -30,6 +30,7 @@ final class PublicationParams
     long entityTag = ChannelUri.INVALID_TAG;
     int termLength;
     int mtuLength;
+    int burstLength;
     int initialTermId = 0;
     int termId = 0;
     int termOffset = 0;
@@ -57,6 +58,7 @@ final class PublicationParams
         params.getSessionId(channelUri, driverConductor);
         params.getTermBufferLength(channelUri);
         params.getMtuLength(channelUri);
+        params.getBurstLength(channelUri);
         params.getLingerTimeoutNs(channelUri);
         params.getSparse(channelUri);
         params.getEos(channelUri);
@@ -124,6 +126,7 @@ final class PublicationParams
     {
         termLength = isIpc ? context.ipcTermBufferLength() : context.publicationTermBufferLength();
         mtuLength = isIpc ? context.ipcMtuLength() : context.mtuLength();
+        burstLength = context.publicationBurstLength();
         lingerTimeoutNs = context.publicationLingerTimeoutNs();
         isSparse = context.termBufferSparseFile();
     }
@@ -163,6 +166,17 @@ final class PublicationParams
         }
     }
 
+    private void getBurstLength(final ChannelUri channelUri)
+    {
+        final String burstLengthParam = channelUri.get(BURST_LENGTH_PARAM_NAME);
+        if (null != burstLengthParam)
+        {
+            final int burstLength = (int)SystemUtil.parseSize(BURST_LENGTH_PARAM_NAME, burstLengthParam);
+            Configuration.validatePublicationBurstLength(burstLength);
+            this.burstLength = burstLength;
+        }
+    }
+
     static void validateMtuForMaxMessage(final PublicationParams params)
     {
         final int termLength = params.termLength;
@@ -295,6 +309,7 @@ final class PublicationParams
             ", entityTag=" + entityTag +
             ", termLength=" + termLength +
             ", mtuLength=" + mtuLength +
+            ", burstLength=" + burstLength +
             ", initialTermId=" + initialTermId +
             ", termId=" + termId +
             ", termOffset=" + termOffset +
@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.driver.media.DataTransportPoller;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
 import io.aeron.driver.media.ReceiveDestinationUdpTransport;
 import io.aeron.driver.media.UdpChannel;
 import org.agrona.CloseHelper;
@@ -36,12 +37,20 @@ import static io.aeron.driver.status.SystemCounterDescriptor.BYTES_RECEIVED;
 
 /**
  * Receiver agent for JVM based media driver, uses an event loop with command buffer
+ * <p>
+ * When running in {@link ThreadingMode#SHARDED_RECEIVER} or {@link ThreadingMode#SHARDED} each receiver owns a
+ * disjoint set of {@link ReceiveChannelEndpoint}s and the images on them, with its own command queue, data transport
+ * poller, and buffers for sending status messages.
  */
 public class Receiver implements Agent
 {
+    private final boolean hasMultipleReceivers;
+    private final String roleName;
     private final DataTransportPoller dataTransportPoller;
     private final OneToOneConcurrentArrayQueue<Runnable> commandQueue;
+    private final ReceiveChannelEndpointThreadLocals threadLocals;
     private final AtomicCounter totalBytesReceived;
+    private final AtomicCounter receiverBytesReceived;
     private final NanoClock nanoClock;
     private final ArrayList<PublicationImage> publicationImages = new ArrayList<>();
     private final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = new ArrayList<>();
@@ -49,9 +58,23 @@ public class Receiver implements Agent
 
     public Receiver(final MediaDriver.Context ctx)
     {
-        dataTransportPoller = ctx.dataTransportPoller();
-        commandQueue = ctx.receiverCommandQueue();
+        this(ctx, 0, ctx.receiverCommandQueue(), ctx.dataTransportPoller(), ctx.receiveChannelEndpointThreadLocals());
+    }
+
+    public Receiver(
+        final MediaDriver.Context ctx,
+        final int receiverIndex,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final DataTransportPoller dataTransportPoller,
+        final ReceiveChannelEndpointThreadLocals threadLocals)
+    {
+        this.hasMultipleReceivers = ctx.receiverShardCount() > 1;
+        this.roleName = hasMultipleReceivers ? "receiver-" + receiverIndex : "receiver";
+        this.dataTransportPoller = dataTransportPoller;
+        this.commandQueue = commandQueue;
+        this.threadLocals = threadLocals;
         totalBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED);
+        receiverBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED, receiverIndex);
         nanoClock = ctx.cachedNanoClock();
         conductorProxy = ctx.driverConductorProxy();
     }
@@ -63,14 +86,27 @@ public class Receiver implements Agent
 
     public String roleName()
     {
-        return "receiver";
+        return roleName;
     }
 
     public int doWork()
     {
         int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
         final int bytesReceived = dataTransportPoller.pollTransports();
-        totalBytesReceived.getAndAddOrdered(bytesReceived);
+        if (hasMultipleReceivers)
+        {
+            // the total is shared by all receivers when sharded so must be an atomic add
+            totalBytesReceived.getAndAdd(bytesReceived);
+        }
+        else
+        {
+            totalBytesReceived.getAndAddOrdered(bytesReceived);
+        }
+
+        if (null != receiverBytesReceived)
+        {
+            receiverBytesReceived.getAndAddOrdered(bytesReceived);
+        }
         final long nowNs = nanoClock.nanoTime();
 
         final ArrayList<PublicationImage> publicationImages = this.publicationImages;
@@ -140,6 +176,8 @@ public class Receiver implements Agent
 
     public void onRegisterReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
     {
+        channelEndpoint.threadLocals(threadLocals);
+
         if (!channelEndpoint.hasDestinationControl())
         {
             channelEndpoint.openChannel(conductorProxy);
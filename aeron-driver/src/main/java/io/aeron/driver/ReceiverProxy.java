@@ -27,151 +27,193 @@ import static io.aeron.driver.ThreadingMode.SHARED;
 
 /**
  * Proxy for offering into the {@link Receiver} Thread's command queue.
+ * <p>
+ * When running more than one {@link Receiver} the command queues are partitioned by receiver and commands are routed
+ * to the receiver which owns the {@link ReceiveChannelEndpoint} as given by
+ * {@link ReceiveChannelEndpoint#receiverIndex()}.
  */
 public class ReceiverProxy
 {
     private final ThreadingMode threadingMode;
-    private final Queue<Runnable> commandQueue;
+    private final Queue<Runnable>[] commandQueues;
     private final AtomicCounter failCount;
+    private final AtomicCounter[] receiverFailCounts;
+    private final Receiver[] receivers;
 
-    private Receiver receiver;
-
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public ReceiverProxy(
         final ThreadingMode threadingMode, final Queue<Runnable> commandQueue, final AtomicCounter failCount)
+    {
+        this(threadingMode, new Queue[]{ commandQueue }, failCount, new AtomicCounter[1]);
+    }
+
+    public ReceiverProxy(
+        final ThreadingMode threadingMode,
+        final Queue<Runnable>[] commandQueues,
+        final AtomicCounter failCount,
+        final AtomicCounter[] receiverFailCounts)
     {
         this.threadingMode = threadingMode;
-        this.commandQueue = commandQueue;
+        this.commandQueues = commandQueues;
         this.failCount = failCount;
+        this.receiverFailCounts = receiverFailCounts;
+        this.receivers = new Receiver[commandQueues.length];
     }
 
     public void receiver(final Receiver receiver)
     {
-        this.receiver = receiver;
+        receivers[0] = receiver;
+    }
+
+    public void receiver(final int receiverIndex, final Receiver receiver)
+    {
+        receivers[receiverIndex] = receiver;
     }
 
     public Receiver receiver()
     {
-        return receiver;
+        return receivers[0];
+    }
+
+    public Receiver receiver(final int receiverIndex)
+    {
+        return receivers[receiverIndex];
+    }
+
+    public int receiverCount()
+    {
+        return receivers.length;
     }
 
     public void addSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId)
     {
+        final int receiverIndex = mediaEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onAddSubscription(mediaEndpoint, streamId);
+            receivers[receiverIndex].onAddSubscription(mediaEndpoint, streamId);
         }
         else
         {
-            offer(() -> receiver.onAddSubscription(mediaEndpoint, streamId));
+            offer(receiverIndex, () -> receivers[receiverIndex].onAddSubscription(mediaEndpoint, streamId));
         }
     }
 
     public void addSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId, final int sessionId)
     {
+        final int receiverIndex = mediaEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onAddSubscription(mediaEndpoint, streamId, sessionId);
+            receivers[receiverIndex].onAddSubscription(mediaEndpoint, streamId, sessionId);
         }
         else
         {
-            offer(() -> receiver.onAddSubscription(mediaEndpoint, streamId, sessionId));
+            offer(receiverIndex, () -> receivers[receiverIndex].onAddSubscription(mediaEndpoint, streamId, sessionId));
         }
     }
 
     public void removeSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId)
     {
+        final int receiverIndex = mediaEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onRemoveSubscription(mediaEndpoint, streamId);
+            receivers[receiverIndex].onRemoveSubscription(mediaEndpoint, streamId);
         }
         else
         {
-            offer(() -> receiver.onRemoveSubscription(mediaEndpoint, streamId));
+            offer(receiverIndex, () -> receivers[receiverIndex].onRemoveSubscription(mediaEndpoint, streamId));
         }
     }
 
     public void removeSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId, final int sessionId)
     {
+        final int receiverIndex = mediaEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onRemoveSubscription(mediaEndpoint, streamId, sessionId);
+            receivers[receiverIndex].onRemoveSubscription(mediaEndpoint, streamId, sessionId);
         }
         else
         {
-            offer(() -> receiver.onRemoveSubscription(mediaEndpoint, streamId, sessionId));
+            offer(
+                receiverIndex, () -> receivers[receiverIndex].onRemoveSubscription(mediaEndpoint, streamId, sessionId));
         }
     }
 
     public void newPublicationImage(final ReceiveChannelEndpoint channelEndpoint, final PublicationImage image)
     {
+        final int receiverIndex = channelEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onNewPublicationImage(channelEndpoint, image);
+            receivers[receiverIndex].onNewPublicationImage(channelEndpoint, image);
         }
         else
         {
-            offer(() -> receiver.onNewPublicationImage(channelEndpoint, image));
+            offer(receiverIndex, () -> receivers[receiverIndex].onNewPublicationImage(channelEndpoint, image));
         }
     }
 
     public void registerReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
     {
+        final int receiverIndex = channelEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onRegisterReceiveChannelEndpoint(channelEndpoint);
+            receivers[receiverIndex].onRegisterReceiveChannelEndpoint(channelEndpoint);
         }
         else
         {
-            offer(() -> receiver.onRegisterReceiveChannelEndpoint(channelEndpoint));
+            offer(receiverIndex, () -> receivers[receiverIndex].onRegisterReceiveChannelEndpoint(channelEndpoint));
         }
     }
 
     public void closeReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
     {
+        final int receiverIndex = channelEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onCloseReceiveChannelEndpoint(channelEndpoint);
+            receivers[receiverIndex].onCloseReceiveChannelEndpoint(channelEndpoint);
         }
         else
         {
-            offer(() -> receiver.onCloseReceiveChannelEndpoint(channelEndpoint));
+            offer(receiverIndex, () -> receivers[receiverIndex].onCloseReceiveChannelEndpoint(channelEndpoint));
         }
     }
 
     public void removeCoolDown(final ReceiveChannelEndpoint channelEndpoint, final int sessionId, final int streamId)
     {
+        final int receiverIndex = channelEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onRemoveCoolDown(channelEndpoint, sessionId, streamId);
+            receivers[receiverIndex].onRemoveCoolDown(channelEndpoint, sessionId, streamId);
         }
         else
         {
-            offer(() -> receiver.onRemoveCoolDown(channelEndpoint, sessionId, streamId));
+            offer(receiverIndex, () -> receivers[receiverIndex].onRemoveCoolDown(channelEndpoint, sessionId, streamId));
         }
     }
 
     public void addDestination(
         final ReceiveChannelEndpoint channelEndpoint, final ReceiveDestinationUdpTransport transport)
     {
+        final int receiverIndex = channelEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onAddDestination(channelEndpoint, transport);
+            receivers[receiverIndex].onAddDestination(channelEndpoint, transport);
         }
         else
         {
-            offer(() -> receiver.onAddDestination(channelEndpoint, transport));
+            offer(receiverIndex, () -> receivers[receiverIndex].onAddDestination(channelEndpoint, transport));
         }
     }
 
     public void removeDestination(final ReceiveChannelEndpoint channelEndpoint, final UdpChannel udpChannel)
     {
+        final int receiverIndex = channelEndpoint.receiverIndex();
         if (notConcurrent())
         {
-            receiver.onRemoveDestination(channelEndpoint, udpChannel);
+            receivers[receiverIndex].onRemoveDestination(channelEndpoint, udpChannel);
         }
         else
         {
-            offer(() -> receiver.onRemoveDestination(channelEndpoint, udpChannel));
+            offer(receiverIndex, () -> receivers[receiverIndex].onRemoveDestination(channelEndpoint, udpChannel));
         }
     }
 
@@ -180,8 +222,9 @@ public class ReceiverProxy
         return threadingMode == SHARED || threadingMode == INVOKER;
     }
 
-    private void offer(final Runnable cmd)
+    private void offer(final int receiverIndex, final Runnable cmd)
     {
+        final Queue<Runnable> commandQueue = commandQueues[receiverIndex];
         while (!commandQueue.offer(cmd))
         {
             if (Thread.currentThread().isInterrupted())
@@ -189,6 +232,10 @@ public class ReceiverProxy
                 break;
             }
             failCount.incrementOrdered();
+            if (null != receiverFailCounts[receiverIndex])
+            {
+                receiverFailCounts[receiverIndex].incrementOrdered();
+            }
             Thread.yield();
         }
     }
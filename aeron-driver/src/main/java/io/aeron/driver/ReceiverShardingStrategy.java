@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
+
+/**
+ * Strategy for assigning each new {@link ReceiveChannelEndpoint} to one of the {@link Receiver} agents when running
+ * in {@link ThreadingMode#SHARDED_RECEIVER} or {@link ThreadingMode#SHARDED}. All images on an endpoint are received
+ * by the receiver which owns it.
+ */
+@FunctionalInterface
+public interface ReceiverShardingStrategy
+{
+    /**
+     * Select the receiver which will own a new {@link ReceiveChannelEndpoint}.
+     *
+     * @param udpChannel              for the new endpoint.
+     * @param endpointCountByReceiver number of endpoints currently owned by each receiver, indexed by receiver.
+     * @return the index of the receiver, which must be in the range 0 to endpointCountByReceiver.length - 1.
+     */
+    int receiverIndex(UdpChannel udpChannel, int[] endpointCountByReceiver);
+}
@@ -48,6 +48,10 @@ class SenderRhsPadding extends SenderHotFields
 
 /**
  * Agent that iterates over {@link NetworkPublication}s for sending them to registered subscribers.
+ * <p>
+ * When running in {@link ThreadingMode#SHARDED_SENDER} each sender owns a disjoint set of
+ * {@link SendChannelEndpoint}s and the publications on them, with its own command queue, control poller, and
+ * buffers for sending setup, heartbeat, and RTT measurement frames.
  */
 public class Sender extends SenderRhsPadding implements Agent
 {
@@ -55,19 +59,35 @@ public class Sender extends SenderRhsPadding implements Agent
 
     private final long statusMessageReadTimeoutNs;
     private final int dutyCycleRatio;
+    private final boolean hasMultipleSenders;
+    private final String roleName;
     private final ControlTransportPoller controlTransportPoller;
     private final OneToOneConcurrentArrayQueue<Runnable> commandQueue;
     private final AtomicCounter totalBytesSent;
+    private final AtomicCounter senderBytesSent;
     private final NanoClock nanoClock;
     private final DriverConductorProxy conductorProxy;
+    private final NetworkPublicationThreadLocals threadLocals = new NetworkPublicationThreadLocals();
 
     private NetworkPublication[] networkPublications = EMPTY_PUBLICATIONS;
 
     public Sender(final MediaDriver.Context ctx)
     {
-        this.controlTransportPoller = ctx.controlTransportPoller();
-        this.commandQueue = ctx.senderCommandQueue();
+        this(ctx, 0, ctx.senderCommandQueue(), ctx.controlTransportPoller());
+    }
+
+    public Sender(
+        final MediaDriver.Context ctx,
+        final int senderIndex,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final ControlTransportPoller controlTransportPoller)
+    {
+        this.hasMultipleSenders = ctx.senderShardCount() > 1;
+        this.roleName = hasMultipleSenders ? "sender-" + senderIndex : "sender";
+        this.controlTransportPoller = controlTransportPoller;
+        this.commandQueue = commandQueue;
         this.totalBytesSent = ctx.systemCounters().get(BYTES_SENT);
+        this.senderBytesSent = ctx.systemCounters().get(BYTES_SENT, senderIndex);
         this.nanoClock = ctx.cachedNanoClock();
         this.statusMessageReadTimeoutNs = ctx.statusMessageTimeoutNs() >> 1;
         this.dutyCycleRatio = ctx.sendToStatusMessagePollRatio();
@@ -99,7 +119,7 @@ public class Sender extends SenderRhsPadding implements Agent
 
     public String roleName()
     {
-        return "sender";
+        return roleName;
     }
 
     public void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
@@ -109,13 +129,19 @@ public class Sender extends SenderRhsPadding implements Agent
         channelEndpoint.indicateActive();
     }
 
-    public void onCloseSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
+    public void onCloseSendChannelEndpoint(
+        final SendChannelEndpoint channelEndpoint, final AtomicCounter[] destinationCounters)
     {
         channelEndpoint.close();
+        if (destinationCounters.length > 0)
+        {
+            conductorProxy.closeSendDestinationCounters(destinationCounters);
+        }
     }
 
     public void onNewNetworkPublication(final NetworkPublication publication)
     {
+        publication.threadLocals(threadLocals);
         networkPublications = ArrayUtil.add(networkPublications, publication);
         publication.channelEndpoint().registerForSend(publication);
     }
@@ -127,14 +153,23 @@ public class Sender extends SenderRhsPadding implements Agent
         publication.senderRelease();
     }
 
-    public void onAddDestination(final SendChannelEndpoint channelEndpoint, final InetSocketAddress address)
+    public void onAddDestination(
+        final SendChannelEndpoint channelEndpoint,
+        final InetSocketAddress address,
+        final AtomicCounter sends,
+        final AtomicCounter shortSends)
     {
-        channelEndpoint.addDestination(address);
+        channelEndpoint.addDestination(address, sends, shortSends);
     }
 
-    public void onRemoveDestination(final SendChannelEndpoint channelEndpoint, final InetSocketAddress address)
+    public void onRemoveDestination(
+        final SendChannelEndpoint channelEndpoint, final InetSocketAddress address, final AtomicCounter[] counters)
     {
         channelEndpoint.removeDestination(address);
+        if (null != counters)
+        {
+            conductorProxy.closeSendDestinationCounters(counters);
+        }
     }
 
     private int doSend(final long nowNs)
@@ -159,7 +194,20 @@ public class Sender extends SenderRhsPadding implements Agent
             bytesSent += publications[i].send(nowNs);
         }
 
-        totalBytesSent.getAndAddOrdered(bytesSent);
+        if (hasMultipleSenders)
+        {
+            // the total is shared by all senders when sharded so must be an atomic add
+            totalBytesSent.getAndAdd(bytesSent);
+        }
+        else
+        {
+            totalBytesSent.getAndAddOrdered(bytesSent);
+        }
+
+        if (null != senderBytesSent)
+        {
+            senderBytesSent.getAndAddOrdered(bytesSent);
+        }
 
         return bytesSent;
     }
@@ -26,96 +26,137 @@ import static io.aeron.driver.ThreadingMode.SHARED;
 
 /**
  * Proxy for offering into the Sender Thread's command queue.
+ * <p>
+ * When running more than one {@link Sender} the command queues are partitioned by sender and commands are routed to
+ * the sender which owns the {@link SendChannelEndpoint} as given by {@link SendChannelEndpoint#senderIndex()}.
  */
 public class SenderProxy
 {
     private final ThreadingMode threadingMode;
-    private final Queue<Runnable> commandQueue;
+    private final Queue<Runnable>[] commandQueues;
     private final AtomicCounter failCount;
-    private Sender sender;
+    private final AtomicCounter[] senderFailCounts;
+    private final Sender[] senders;
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public SenderProxy(
         final ThreadingMode threadingMode, final Queue<Runnable> commandQueue, final AtomicCounter failCount)
+    {
+        this(threadingMode, new Queue[]{ commandQueue }, failCount, new AtomicCounter[1]);
+    }
+
+    public SenderProxy(
+        final ThreadingMode threadingMode,
+        final Queue<Runnable>[] commandQueues,
+        final AtomicCounter failCount,
+        final AtomicCounter[] senderFailCounts)
     {
         this.threadingMode = threadingMode;
-        this.commandQueue = commandQueue;
+        this.commandQueues = commandQueues;
         this.failCount = failCount;
+        this.senderFailCounts = senderFailCounts;
+        this.senders = new Sender[commandQueues.length];
     }
 
     public void sender(final Sender sender)
     {
-        this.sender = sender;
+        senders[0] = sender;
+    }
+
+    public void sender(final int senderIndex, final Sender sender)
+    {
+        senders[senderIndex] = sender;
+    }
+
+    public int senderCount()
+    {
+        return senders.length;
     }
 
     public void registerSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
     {
+        final int senderIndex = channelEndpoint.senderIndex();
         if (notConcurrent())
         {
-            sender.onRegisterSendChannelEndpoint(channelEndpoint);
+            senders[senderIndex].onRegisterSendChannelEndpoint(channelEndpoint);
         }
         else
         {
-            offer(() -> sender.onRegisterSendChannelEndpoint(channelEndpoint));
+            offer(senderIndex, () -> senders[senderIndex].onRegisterSendChannelEndpoint(channelEndpoint));
         }
     }
 
-    public void closeSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
+    public void closeSendChannelEndpoint(
+        final SendChannelEndpoint channelEndpoint, final AtomicCounter[] destinationCounters)
     {
+        final int senderIndex = channelEndpoint.senderIndex();
         if (notConcurrent())
         {
-            sender.onCloseSendChannelEndpoint(channelEndpoint);
+            senders[senderIndex].onCloseSendChannelEndpoint(channelEndpoint, destinationCounters);
         }
         else
         {
-            offer(() -> sender.onCloseSendChannelEndpoint(channelEndpoint));
+            offer(
+                senderIndex,
+                () -> senders[senderIndex].onCloseSendChannelEndpoint(channelEndpoint, destinationCounters));
         }
     }
 
     public void removeNetworkPublication(final NetworkPublication publication)
     {
+        final int senderIndex = publication.channelEndpoint().senderIndex();
         if (notConcurrent())
         {
-            sender.onRemoveNetworkPublication(publication);
+            senders[senderIndex].onRemoveNetworkPublication(publication);
         }
         else
         {
-            offer(() -> sender.onRemoveNetworkPublication(publication));
+            offer(senderIndex, () -> senders[senderIndex].onRemoveNetworkPublication(publication));
         }
     }
 
     public void newNetworkPublication(final NetworkPublication publication)
     {
+        final int senderIndex = publication.channelEndpoint().senderIndex();
         if (notConcurrent())
         {
-            sender.onNewNetworkPublication(publication);
+            senders[senderIndex].onNewNetworkPublication(publication);
         }
         else
         {
-            offer(() -> sender.onNewNetworkPublication(publication));
+            offer(senderIndex, () -> senders[senderIndex].onNewNetworkPublication(publication));
         }
     }
 
-    public void addDestination(final SendChannelEndpoint channelEndpoint, final InetSocketAddress address)
+    public void addDestination(
+        final SendChannelEndpoint channelEndpoint,
+        final InetSocketAddress address,
+        final AtomicCounter sends,
+        final AtomicCounter shortSends)
     {
+        final int senderIndex = channelEndpoint.senderIndex();
         if (notConcurrent())
         {
-            sender.onAddDestination(channelEndpoint, address);
+            senders[senderIndex].onAddDestination(channelEndpoint, address, sends, shortSends);
         }
         else
         {
-            offer(() -> sender.onAddDestination(channelEndpoint, address));
+            offer(
+                senderIndex, () -> senders[senderIndex].onAddDestination(channelEndpoint, address, sends, shortSends));
         }
     }
 
-    public void removeDestination(final SendChannelEndpoint channelEndpoint, final InetSocketAddress address)
+    public void removeDestination(
+        final SendChannelEndpoint channelEndpoint, final InetSocketAddress address, final AtomicCounter[] counters)
     {
+        final int senderIndex = channelEndpoint.senderIndex();
         if (notConcurrent())
         {
-            sender.onRemoveDestination(channelEndpoint, address);
+            senders[senderIndex].onRemoveDestination(channelEndpoint, address, counters);
         }
         else
         {
-            offer(() -> sender.onRemoveDestination(channelEndpoint, address));
+            offer(senderIndex, () -> senders[senderIndex].onRemoveDestination(channelEndpoint, address, counters));
         }
     }
 
@@ -124,8 +165,9 @@ public class SenderProxy
         return threadingMode == SHARED || threadingMode == INVOKER;
     }
 
-    private void offer(final Runnable cmd)
+    private void offer(final int senderIndex, final Runnable cmd)
     {
+        final Queue<Runnable> commandQueue = commandQueues[senderIndex];
         while (!commandQueue.offer(cmd))
         {
             if (Thread.currentThread().isInterrupted())
@@ -133,6 +175,10 @@ public class SenderProxy
                 break;
             }
             failCount.incrementOrdered();
+            if (null != senderFailCounts[senderIndex])
+            {
+                senderFailCounts[senderIndex].incrementOrdered();
+            }
             Thread.yield();
         }
     }
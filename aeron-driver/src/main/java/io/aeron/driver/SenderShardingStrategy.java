@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
+
+/**
+ * Strategy for assigning each new {@link SendChannelEndpoint} to one of the {@link Sender} agents when running in
+ * {@link ThreadingMode#SHARDED_SENDER} or {@link ThreadingMode#SHARDED}. All publications on an endpoint are sent by
+ * the sender which owns it.
+ */
+@FunctionalInterface
+public interface SenderShardingStrategy
+{
+    /**
+     * Select the sender which will own a new {@link SendChannelEndpoint}.
+     *
+     * @param udpChannel             for the new endpoint.
+     * @param endpointCountBySender  number of endpoints currently owned by each sender, indexed by sender.
+     * @return the index of the sender, which must be in the range 0 to endpointCountBySender.length - 1.
+     */
+    int senderIndex(UdpChannel udpChannel, int[] endpointCountBySender);
+}
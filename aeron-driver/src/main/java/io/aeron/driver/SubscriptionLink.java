@@ -34,6 +34,8 @@ public abstract class SubscriptionLink implements DriverManagedResource
     protected final boolean isSparse;
     protected final boolean isTether;
     protected boolean reachedEndOfLife = false;
+    private int listIndex;
+    private int streamListIndex;
     protected final CommonContext.InferableBoolean group;
     protected final String channel;
     protected final AeronClient aeronClient;
@@ -64,6 +66,11 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return registrationId;
     }
 
+    public long clientId()
+    {
+        return aeronClient.clientId();
+    }
+
     public int streamId()
     {
         return streamId;
@@ -174,6 +181,26 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return reachedEndOfLife;
     }
 
+    int listIndex()
+    {
+        return listIndex;
+    }
+
+    void listIndex(final int listIndex)
+    {
+        this.listIndex = listIndex;
+    }
+
+    int streamListIndex()
+    {
+        return streamListIndex;
+    }
+
+    void streamListIndex(final int streamListIndex)
+    {
+        this.streamListIndex = streamListIndex;
+    }
+
     public boolean isWildcardOrSessionIdMatch(final int sessionId)
     {
         return !hasSessionId || this.sessionId == sessionId;
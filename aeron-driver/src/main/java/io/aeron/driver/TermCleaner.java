@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * Bounds the length of consumed term which is cleaned in a single duty cycle so the cleaning of large terms can be
+ * spread over many duty cycles rather than adding a latency spike to one.
+ * <p>
+ * The bound is only applied while the position to be cleaned is no more than a lag limit ahead of the clean position.
+ * Beyond that, enough is cleaned to bring the lag back within the limit. The lag limit is chosen by the owner of the
+ * log so a term is always clean before a producer, constrained by its window, can wrap around and reuse it.
+ */
+final class TermCleaner
+{
+    private TermCleaner()
+    {
+    }
+
+    /**
+     * Length of the term to be cleaned from the clean position in this duty cycle.
+     *
+     * @param cleanPosition up to which the log has been cleaned.
+     * @param position      up to which the log should be cleaned.
+     * @param termOffset    of the clean position within its term.
+     * @param termLength    of the log.
+     * @param sliceLength   to which cleaning is bounded in a duty cycle, or zero for unbounded.
+     * @param lagLimit      beyond which the clean position must not trail the position to be cleaned.
+     * @return length of the term to be cleaned from the clean position.
+     */
+    static int cleaningLength(
+        final long cleanPosition,
+        final long position,
+        final int termOffset,
+        final int termLength,
+        final int sliceLength,
+        final long lagLimit)
+    {
+        final long bytesForCleaning = position - cleanPosition;
+        final int length = (int)Math.min(bytesForCleaning, termLength - termOffset);
+
+        if (sliceLength > 0)
+        {
+            return (int)Math.min(length, Math.max(sliceLength, bytesForCleaning - lagLimit));
+        }
+
+        return length;
+    }
+}
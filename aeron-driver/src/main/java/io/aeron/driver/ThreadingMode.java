@@ -43,4 +43,25 @@ public enum ThreadingMode
      * 3 Threads, one dedicated to each of the {@link org.agrona.concurrent.Agent}s.
      */
     DEDICATED,
+
+    /**
+     * One thread for each of the {@link DriverConductor} and {@link Receiver}, plus
+     * {@link MediaDriver.Context#senderCount()} threads each running a {@link Sender} which owns a disjoint set of
+     * {@link io.aeron.driver.media.SendChannelEndpoint}s assigned by the {@link SenderShardingStrategy}.
+     */
+    SHARDED_SENDER,
+
+    /**
+     * One thread for each of the {@link DriverConductor} and {@link Sender}, plus
+     * {@link MediaDriver.Context#receiverCount()} threads each running a {@link Receiver} with its own
+     * {@link io.aeron.driver.media.DataTransportPoller} which owns a disjoint set of
+     * {@link io.aeron.driver.media.ReceiveChannelEndpoint}s assigned by the {@link ReceiverShardingStrategy}.
+     */
+    SHARDED_RECEIVER,
+
+    /**
+     * Combination of {@link #SHARDED_SENDER} and {@link #SHARDED_RECEIVER} with one thread for the
+     * {@link DriverConductor} plus threads for each of the {@link Sender}s and {@link Receiver}s.
+     */
+    SHARDED,
 }
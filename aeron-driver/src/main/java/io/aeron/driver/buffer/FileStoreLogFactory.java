@@ -86,6 +86,16 @@ public class FileStoreLogFactory implements LogFactory
         CloseHelper.close(blankChannel);
     }
 
+    File publicationsDir()
+    {
+        return publicationsDir;
+    }
+
+    File imagesDir()
+    {
+        return imagesDir;
+    }
+
     /**
      * Create new {@link RawLog} in the publications directory for the supplied triplet.
      *
@@ -131,7 +141,7 @@ public class FileStoreLogFactory implements LogFactory
         return newInstance(imagesDir, channel, sessionId, streamId, correlationId, termBufferLength, useSparseFiles);
     }
 
-    private RawLog newInstance(
+    MappedRawLog newInstance(
         final File rootDir,
         final String channel,
         final int sessionId,
@@ -199,7 +209,7 @@ public class FileStoreLogFactory implements LogFactory
         return usableSpace;
     }
 
-    private static File streamLocation(
+    static File streamLocation(
         final File rootDir,
         final String channel,
         final int sessionId,
@@ -207,6 +207,36 @@ class MappedRawLog implements RawLog
         return logFile.getAbsolutePath();
     }
 
+    /**
+     * Move the log file to a new location while it remains mapped.
+     *
+     * @param location to which the log file should be moved.
+     * @return true if the file was moved otherwise false.
+     */
+    boolean move(final File location)
+    {
+        if (null != logFile && logFile.renameTo(location))
+        {
+            logFile = location;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Zero the terms and meta data so the log can be reused as if newly allocated.
+     */
+    void zero()
+    {
+        for (final UnsafeBuffer termBuffer : termBuffers)
+        {
+            termBuffer.setMemory(0, termLength, (byte)0);
+        }
+
+        logMetaDataBuffer.setMemory(0, LOG_META_DATA_LENGTH, (byte)0);
+    }
+
     private static void allocatePages(final FileChannel blankChannel, final FileChannel logChannel, final long length)
         throws IOException
     {
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.*;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.computeLogLength;
+
+/**
+ * Factory for creating {@link RawLog}s which keeps a pool of pre-allocated and pre-touched logs for each of a set of
+ * term lengths so publications and images can be created without allocating and faulting in a log file on the
+ * conductor thread.
+ * <p>
+ * The pool is refilled on a background thread. Logs taken from the pool are moved to the publications or images
+ * directory as appropriate. When freed, a log is moved back to the pool and zeroed for reuse once the recycle delay
+ * has elapsed. The delay must be long enough for any client which is alive to have unmapped the log, see
+ * {@link io.aeron.driver.Configuration#minLogPoolRecycleDelayNs(long, long, long)}. Requests for sparse logs, or for term lengths which are not pooled,
+ * and requests made when the pool is empty are delegated to a {@link FileStoreLogFactory}.
+ */
+public class PooledLogFactory implements LogFactory
+{
+    private static final String POOL = "pool";
+    private static final long REFILL_RETRY_INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int poolSize;
+    private final int filePageSize;
+    private final long recycleDelayNs;
+    private final ErrorHandler errorHandler;
+    private final NanoClock nanoClock;
+    private final AtomicCounter poolHits;
+    private final AtomicCounter poolMisses;
+    private final int[] pooledTermLengths;
+    private final File poolDir;
+    private final AtomicLong nextPoolFileId = new AtomicLong();
+    private final FileStoreLogFactory fileStoreLogFactory;
+    private final Int2ObjectHashMap<ManyToManyConcurrentArrayQueue<MappedRawLog>> availableLogsByTermLength =
+        new Int2ObjectHashMap<>();
+    private final ManyToOneConcurrentLinkedQueue<RecycledLog> recycledLogQueue =
+        new ManyToOneConcurrentLinkedQueue<>();
+    private final AgentRunner poolRunner;
+    private volatile boolean isClosed;
+
+    /**
+     * Construct a pool of logs which is refilled by a background thread started on construction.
+     *
+     * @param dataDirectoryName          in which the logs are created.
+     * @param filePageSize               for aligning the log files.
+     * @param checkStorage               should storage be checked when a log is delegated to the file store.
+     * @param lowStorageWarningThreshold below which a warning is issued when storage is checked.
+     * @param errorHandler               for errors which occur when managing the pool.
+     * @param termLengths                for which logs are pooled.
+     * @param poolSize                   number of logs to keep available for each term length.
+     * @param recycleDelayNs             after which a freed log can be reused.
+     * @param nanoClock                  for measuring the recycle delay.
+     * @param poolHits                   counter of logs taken from the pool.
+     * @param poolMisses                 counter of non-sparse logs which could not be taken from the pool.
+     * @param threadFactory              for creating the thread which refills the pool.
+     */
+    public PooledLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final int[] termLengths,
+        final int poolSize,
+        final long recycleDelayNs,
+        final NanoClock nanoClock,
+        final AtomicCounter poolHits,
+        final AtomicCounter poolMisses,
+        final ThreadFactory threadFactory)
+    {
+        this.filePageSize = filePageSize;
+        this.errorHandler = errorHandler;
+        this.poolSize = poolSize;
+        this.recycleDelayNs = recycleDelayNs;
+        this.nanoClock = nanoClock;
+        this.poolHits = poolHits;
+        this.poolMisses = poolMisses;
+
+        fileStoreLogFactory = new FileStoreLogFactory(
+            dataDirectoryName, filePageSize, checkStorage, lowStorageWarningThreshold, errorHandler);
+
+        poolDir = new File(dataDirectoryName, POOL);
+        IoUtil.delete(poolDir, true);
+        IoUtil.ensureDirectoryExists(poolDir, POOL);
+
+        for (final int termLength : termLengths)
+        {
+            if (!availableLogsByTermLength.containsKey(termLength))
+            {
+                availableLogsByTermLength.put(termLength, new ManyToManyConcurrentArrayQueue<>(poolSize));
+            }
+        }
+        pooledTermLengths = Arrays.stream(termLengths).distinct().toArray();
+
+        poolRunner = new AgentRunner(new SleepingMillisIdleStrategy(1), errorHandler, null, new LogPoolAgent());
+        AgentRunner.startOnThread(poolRunner, threadFactory);
+    }
+
+    public void close()
+    {
+        isClosed = true;
+        CloseHelper.close(poolRunner);
+        CloseHelper.close(fileStoreLogFactory);
+    }
+
+    /**
+     * Create new {@link RawLog} in the publications directory for the supplied triplet.
+     *
+     * @param channel          address on the media to send to.
+     * @param sessionId        under which transmissions are made.
+     * @param streamId         within the channel address to separate message flows.
+     * @param correlationId    to use to distinguish this publication
+     * @param termBufferLength length of each term
+     * @param useSparseFiles   for the log buffer.
+     * @return the newly allocated {@link RawLog}
+     */
+    public RawLog newPublication(
+        final String channel,
+        final int sessionId,
+        final int streamId,
+        final long correlationId,
+        final int termBufferLength,
+        final boolean useSparseFiles)
+    {
+        return newInstance(
+            fileStoreLogFactory.publicationsDir(),
+            channel,
+            sessionId,
+            streamId,
+            correlationId,
+            termBufferLength,
+            useSparseFiles);
+    }
+
+    /**
+     * Create new {@link RawLog} in the rebuilt publication images directory for the supplied triplet.
+     *
+     * @param channel          address on the media to listened to.
+     * @param sessionId        under which transmissions are made.
+     * @param streamId         within the channel address to separate message flows.
+     * @param correlationId    to use to distinguish this connection
+     * @param termBufferLength to use for the log buffer
+     * @param useSparseFiles   for the log buffer.
+     * @return the newly allocated {@link RawLog}
+     */
+    public RawLog newImage(
+        final String channel,
+        final int sessionId,
+        final int streamId,
+        final long correlationId,
+        final int termBufferLength,
+        final boolean useSparseFiles)
+    {
+        return newInstance(
+            fileStoreLogFactory.imagesDir(),
+            channel,
+            sessionId,
+            streamId,
+            correlationId,
+            termBufferLength,
+            useSparseFiles);
+    }
+
+    /**
+     * Return a log which has been freed to the pool so it can be reused once the recycle delay has elapsed.
+     *
+     * @param log to be recycled.
+     * @return true if the log will be recycled or false if it should be freed.
+     */
+    boolean recycle(final MappedRawLog log)
+    {
+        if (isClosed || !log.move(poolLocation(log.termLength())))
+        {
+            return false;
+        }
+
+        recycledLogQueue.offer(new RecycledLog(log, nanoClock.nanoTime() + recycleDelayNs));
+
+        return true;
+    }
+
+    int availableLogCount(final int termLength)
+    {
+        final ManyToManyConcurrentArrayQueue<MappedRawLog> availableLogs = availableLogsByTermLength.get(termLength);
+
+        return null != availableLogs ? availableLogs.size() : 0;
+    }
+
+    private RawLog newInstance(
+        final File rootDir,
+        final String channel,
+        final int sessionId,
+        final int streamId,
+        final long correlationId,
+        final int termLength,
+        final boolean useSparseFiles)
+    {
+        if (useSparseFiles)
+        {
+            return fileStoreLogFactory.newInstance(
+                rootDir, channel, sessionId, streamId, correlationId, termLength, true);
+        }
+
+        final ManyToManyConcurrentArrayQueue<MappedRawLog> availableLogs = availableLogsByTermLength.get(termLength);
+        if (null != availableLogs)
+        {
+            final MappedRawLog log = availableLogs.poll();
+            if (null != log)
+            {
+                if (log.move(FileStoreLogFactory.streamLocation(rootDir, channel, sessionId, streamId, correlationId)))
+                {
+                    poolHits.incrementOrdered();
+                    return new PooledRawLog(log, this);
+                }
+
+                log.close();
+            }
+        }
+
+        poolMisses.incrementOrdered();
+
+        final MappedRawLog log = fileStoreLogFactory.newInstance(
+            rootDir, channel, sessionId, streamId, correlationId, termLength, false);
+
+        return null != availableLogs ? new PooledRawLog(log, this) : log;
+    }
+
+    private File poolLocation(final int termLength)
+    {
+        return new File(poolDir, Integer.toHexString(termLength) + '-' +
+            Long.toHexString(nextPoolFileId.getAndIncrement()) + ".logbuffer");
+    }
+
+    static final class RecycledLog
+    {
+        final MappedRawLog log;
+        final long deadlineNs;
+
+        RecycledLog(final MappedRawLog log, final long deadlineNs)
+        {
+            this.log = log;
+            this.deadlineNs = deadlineNs;
+        }
+    }
+
+    final class LogPoolAgent implements Agent
+    {
+        private final ArrayDeque<RecycledLog> pendingLogs = new ArrayDeque<>();
+        private final RandomAccessFile blankFile;
+        private final FileChannel blankChannel;
+        private long blankTemplateLength;
+        private long refillDeadlineNs;
+
+        LogPoolAgent()
+        {
+            try
+            {
+                blankFile = new RandomAccessFile(new File(poolDir, "blank.template"), "rw");
+                blankChannel = blankFile.getChannel();
+            }
+            catch (final IOException ex)
+            {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        public int doWork()
+        {
+            final long nowNs = nanoClock.nanoTime();
+            int workCount = 0;
+
+            RecycledLog recycledLog;
+            while (null != (recycledLog = recycledLogQueue.poll()))
+            {
+                pendingLogs.addLast(recycledLog);
+            }
+
+            while (null != (recycledLog = pendingLogs.peekFirst()) && nowNs - recycledLog.deadlineNs >= 0)
+            {
+                pendingLogs.pollFirst();
+                reuse(recycledLog.log);
+                workCount++;
+            }
+
+            if (nowNs - refillDeadlineNs >= 0)
+            {
+                workCount += refill(nowNs);
+            }
+
+            return workCount;
+        }
+
+        public void onClose()
+        {
+            RecycledLog recycledLog;
+            while (null != (recycledLog = recycledLogQueue.poll()))
+            {
+                recycledLog.log.close();
+            }
+
+            while (null != (recycledLog = pendingLogs.pollFirst()))
+            {
+                recycledLog.log.close();
+            }
+
+            for (final int termLength : pooledTermLengths)
+            {
+                final ManyToManyConcurrentArrayQueue<MappedRawLog> availableLogs =
+                    availableLogsByTermLength.get(termLength);
+
+                MappedRawLog log;
+                while (null != (log = availableLogs.poll()))
+                {
+                    log.close();
+                }
+            }
+
+            CloseHelper.close(blankChannel);
+        }
+
+        public String roleName()
+        {
+            return "log-pool";
+        }
+
+        private void reuse(final MappedRawLog log)
+        {
+            final ManyToManyConcurrentArrayQueue<MappedRawLog> availableLogs =
+                availableLogsByTermLength.get(log.termLength());
+
+            if (availableLogs.size() < poolSize)
+            {
+                log.zero();
+                availableLogs.offer(log);
+            }
+            else
+            {
+                log.close();
+            }
+        }
+
+        private int refill(final long nowNs)
+        {
+            int workCount = 0;
+
+            try
+            {
+                for (final int termLength : pooledTermLengths)
+                {
+                    final ManyToManyConcurrentArrayQueue<MappedRawLog> availableLogs =
+                        availableLogsByTermLength.get(termLength);
+
+                    if (availableLogs.size() < poolSize)
+                    {
+                        availableLogs.offer(newPooledLog(termLength));
+                        workCount++;
+                    }
+                }
+            }
+            catch (final RuntimeException ex)
+            {
+                refillDeadlineNs = nowNs + REFILL_RETRY_INTERVAL_NS;
+                errorHandler.onError(ex);
+            }
+
+            return workCount;
+        }
+
+        private MappedRawLog newPooledLog(final int termLength)
+        {
+            final long logLength = computeLogLength(termLength, filePageSize);
+            if (logLength > blankTemplateLength)
+            {
+                try
+                {
+                    blankFile.setLength(logLength);
+                }
+                catch (final IOException ex)
+                {
+                    throw new UncheckedIOException(ex);
+                }
+
+                blankTemplateLength = logLength;
+            }
+
+            return new MappedRawLog(
+                poolLocation(termLength), blankChannel, false, logLength, termLength, filePageSize, errorHandler);
+        }
+    }
+}
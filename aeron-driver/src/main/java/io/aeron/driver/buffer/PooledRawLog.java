@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link RawLog} taken from a {@link PooledLogFactory} which is returned to the pool for recycling when freed.
+ */
+class PooledRawLog implements RawLog
+{
+    private final MappedRawLog log;
+    private final PooledLogFactory pool;
+    private boolean isInactive;
+    private boolean isRecycled;
+
+    PooledRawLog(final MappedRawLog log, final PooledLogFactory pool)
+    {
+        this.log = log;
+        this.pool = pool;
+    }
+
+    public int termLength()
+    {
+        return log.termLength();
+    }
+
+    public UnsafeBuffer[] termBuffers()
+    {
+        return log.termBuffers();
+    }
+
+    public UnsafeBuffer metaData()
+    {
+        return log.metaData();
+    }
+
+    public ByteBuffer[] sliceTerms()
+    {
+        return log.sliceTerms();
+    }
+
+    public String fileName()
+    {
+        return log.fileName();
+    }
+
+    public boolean free()
+    {
+        recycle();
+
+        return isRecycled || log.free();
+    }
+
+    public boolean isInactive()
+    {
+        return isInactive;
+    }
+
+    public void close()
+    {
+        recycle();
+
+        if (!isRecycled)
+        {
+            log.close();
+        }
+    }
+
+    private void recycle()
+    {
+        if (!isInactive)
+        {
+            isInactive = true;
+            isRecycled = pool.recycle(log);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControl.packOutcome;
+
+/**
+ * BBR style model based congestion control manipulation of the receiver window length.
+ * <p>
+ * <a target="_blank" href="https://queue.acm.org/detail.cfm?id=3022184">
+ *     https://queue.acm.org/detail.cfm?id=3022184</a>
+ * <p>
+ * Rather than backing off on loss the window is set from a model of the path as
+ * {@code gain * windowGain * BtlBw * RTprop} where:
+ * <p>
+ * {@code BtlBw} = max delivery rate of the rebuilt stream over the last {@code bandwidthFilterRounds} rounds
+ * {@code RTprop} = min RTT measured to the sender over the last {@code minRttWindow}
+ * <p>
+ * A round is a period of at least {@code RTprop}. The gain cycles through the states of {@link #STARTUP} which grows
+ * the window until the bandwidth stops increasing, {@link #DRAIN} which drains the queue built up in startup,
+ * {@link #PROBE_BW} which cycles the gain to probe for more bandwidth, and {@link #PROBE_RTT} which reduces the
+ * window to a few MTUs when the min RTT has not been refreshed so queues drain for it to be measured again.
+ * <p>
+ * As the sender is limited only by the window this paces the sender at approximately the estimated bottleneck
+ * bandwidth. Loss does not reduce the window so throughput is held on lossy links where loss is not a signal of
+ * congestion. RTT measurement to the sender is always enabled.
+ */
+public class BbrCongestionControl implements CongestionControl
+{
+    /**
+     * Value of the state counter when growing the window to find the bottleneck bandwidth.
+     */
+    public static final int STARTUP = 0;
+
+    /**
+     * Value of the state counter when draining the queue built up during startup.
+     */
+    public static final int DRAIN = 1;
+
+    /**
+     * Value of the state counter when cycling the gain to probe for more bandwidth.
+     */
+    public static final int PROBE_BW = 2;
+
+    /**
+     * Value of the state counter when reducing the window to measure the min RTT.
+     */
+    public static final int PROBE_RTT = 3;
+
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RTT_MEASUREMENT_TIMEOUT_NS = SECOND_IN_NS;
+    private static final long RTT_MEASUREMENT_INTERVAL_NS =
+        BbrCongestionControlConfiguration.RTT_MEASUREMENT_INTERVAL_NS;
+    private static final long MIN_RTT_WINDOW_NS = BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS;
+    private static final long PROBE_RTT_DURATION_NS = BbrCongestionControlConfiguration.PROBE_RTT_DURATION_NS;
+    private static final double WINDOW_GAIN = BbrCongestionControlConfiguration.WINDOW_GAIN;
+
+    private static final double HIGH_GAIN = 2.0 / Math.log(2.0);
+    private static final double DRAIN_GAIN = 1.0 / HIGH_GAIN;
+    private static final double[] PROBE_BW_GAINS = { 1.25, 0.75, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+    private static final double FULL_BANDWIDTH_GROWTH = 1.25;
+    private static final int FULL_BANDWIDTH_ROUNDS = 3;
+    private static final int MIN_WINDOW_MTUS = 4;
+    private static final int INITIAL_WINDOW_MTUS = 10;
+
+    private final int minWindow;
+    private final int maxWindow;
+    private final int initialWindow;
+    private int window;
+    private int state = STARTUP;
+    private int probeBwGainIndex;
+    private int fullBandwidthRounds;
+    private boolean isFullBandwidthReached;
+
+    private final long[] bandwidthSamples;
+    private int bandwidthSampleIndex;
+    private long bottleneckBandwidth;
+    private long fullBandwidth;
+
+    private long roundStartNs;
+    private long roundStartPosition = Long.MIN_VALUE;
+
+    private long minRttNs;
+    private long minRttTimestampNs;
+    private boolean isMinRttMeasured;
+    private boolean isMinRttSampledInProbe;
+    private long probeRttDoneNs;
+
+    private long lastRttMeasurementNs;
+    private boolean isRttMeasurementOutstanding;
+
+    private final AtomicCounter rttIndicator;
+    private final AtomicCounter windowIndicator;
+    private final AtomicCounter bandwidthIndicator;
+    private final AtomicCounter stateIndicator;
+
+    public BbrCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final InetSocketAddress controlAddress,
+        final InetSocketAddress sourceAddress,
+        final NanoClock clock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        maxWindow = Math.min(termLength >> 1, context.initialWindowLength());
+        minWindow = Math.min(maxWindow, MIN_WINDOW_MTUS * senderMtuLength);
+        initialWindow = Math.min(maxWindow, INITIAL_WINDOW_MTUS * senderMtuLength);
+        window = initialWindow;
+
+        bandwidthSamples = new long[BbrCongestionControlConfiguration.BANDWIDTH_FILTER_ROUNDS];
+        minRttNs = BbrCongestionControlConfiguration.INITIAL_RTT_NS;
+        minRttTimestampNs = clock.nanoTime();
+
+        final String channel = udpChannel.originalUriString();
+        rttIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(), "rcv-cc-bbr-rtt", countersManager, registrationId, sessionId, streamId, channel);
+        windowIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(), "rcv-cc-bbr-wnd", countersManager, registrationId, sessionId, streamId, channel);
+        bandwidthIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(), "rcv-cc-bbr-bw", countersManager, registrationId, sessionId, streamId, channel);
+        stateIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(), "rcv-cc-bbr-state", countersManager, registrationId, sessionId, streamId, channel);
+
+        rttIndicator.setOrdered(0);
+        windowIndicator.setOrdered(window);
+        bandwidthIndicator.setOrdered(0);
+        stateIndicator.setOrdered(state);
+    }
+
+    public boolean shouldMeasureRtt(final long nowNs)
+    {
+        final long timeoutNs = isRttMeasurementOutstanding ? RTT_MEASUREMENT_TIMEOUT_NS : RTT_MEASUREMENT_INTERVAL_NS;
+
+        return (lastRttMeasurementNs + timeoutNs) - nowNs < 0;
+    }
+
+    public void onRttMeasurementSent(final long nowNs)
+    {
+        lastRttMeasurementNs = nowNs;
+        isRttMeasurementOutstanding = true;
+    }
+
+    public void onRttMeasurement(final long nowNs, final long rttNs, final InetSocketAddress srcAddress)
+    {
+        isRttMeasurementOutstanding = false;
+
+        if (rttNs > 0)
+        {
+            final boolean isProbeSample = PROBE_RTT == state && !isMinRttSampledInProbe;
+            if (!isMinRttMeasured || isProbeSample || rttNs <= minRttNs)
+            {
+                minRttNs = rttNs;
+                minRttTimestampNs = nowNs;
+                isMinRttMeasured = true;
+                isMinRttSampledInProbe |= PROBE_RTT == state;
+                rttIndicator.setOrdered(rttNs);
+            }
+        }
+    }
+
+    public long onTrackRebuild(
+        final long nowNs,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        final int initialState = state;
+
+        if (Long.MIN_VALUE == roundStartPosition)
+        {
+            startRound(nowNs, endingRebuildPosition);
+        }
+
+        if ((nowNs - roundStartNs) >= minRttNs)
+        {
+            onRoundEnd(nowNs, endingRebuildPosition);
+        }
+
+        checkProbeRtt(nowNs, endingRebuildPosition);
+
+        window = nextWindow();
+        windowIndicator.setOrdered(window);
+
+        if (state != initialState)
+        {
+            stateIndicator.setOrdered(state);
+        }
+
+        return packOutcome(window, state != initialState);
+    }
+
+    public int initialWindowLength()
+    {
+        return initialWindow;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(rttIndicator);
+        CloseHelper.close(windowIndicator);
+        CloseHelper.close(bandwidthIndicator);
+        CloseHelper.close(stateIndicator);
+    }
+
+    private void startRound(final long nowNs, final long position)
+    {
+        roundStartNs = nowNs;
+        roundStartPosition = position;
+    }
+
+    private void onRoundEnd(final long nowNs, final long position)
+    {
+        final long sample = (long)((double)(position - roundStartPosition) * SECOND_IN_NS / (nowNs - roundStartNs));
+
+        // rounds in which nothing was sent say nothing about the path so should not age out earlier samples
+        final boolean isValidSample = position > roundStartPosition;
+        if (isValidSample)
+        {
+            bandwidthSamples[bandwidthSampleIndex] = sample;
+            bandwidthSampleIndex = (bandwidthSampleIndex + 1) % bandwidthSamples.length;
+
+            long maxSample = 0;
+            for (final long bandwidthSample : bandwidthSamples)
+            {
+                maxSample = Math.max(maxSample, bandwidthSample);
+            }
+
+            bottleneckBandwidth = maxSample;
+            bandwidthIndicator.setOrdered(maxSample);
+        }
+
+        switch (state)
+        {
+            case STARTUP:
+                if (isValidSample && isFullBandwidthReached())
+                {
+                    state = DRAIN;
+                }
+                break;
+
+            case DRAIN:
+                state = PROBE_BW;
+                probeBwGainIndex = 2;
+                break;
+
+            case PROBE_BW:
+                probeBwGainIndex = (probeBwGainIndex + 1) % PROBE_BW_GAINS.length;
+                break;
+        }
+
+        startRound(nowNs, position);
+    }
+
+    private boolean isFullBandwidthReached()
+    {
+        if (bottleneckBandwidth >= fullBandwidth * FULL_BANDWIDTH_GROWTH)
+        {
+            fullBandwidth = bottleneckBandwidth;
+            fullBandwidthRounds = 0;
+        }
+        else if (++fullBandwidthRounds >= FULL_BANDWIDTH_ROUNDS)
+        {
+            isFullBandwidthReached = true;
+        }
+
+        return isFullBandwidthReached;
+    }
+
+    private void checkProbeRtt(final long nowNs, final long position)
+    {
+        if (PROBE_RTT != state)
+        {
+            if ((nowNs - minRttTimestampNs) > MIN_RTT_WINDOW_NS)
+            {
+                state = PROBE_RTT;
+                isMinRttSampledInProbe = false;
+                probeRttDoneNs = nowNs + Math.max(PROBE_RTT_DURATION_NS, minRttNs);
+            }
+        }
+        else if (nowNs - probeRttDoneNs >= 0)
+        {
+            minRttTimestampNs = nowNs;
+            state = isFullBandwidthReached ? PROBE_BW : STARTUP;
+            startRound(nowNs, position);
+        }
+    }
+
+    private int nextWindow()
+    {
+        if (PROBE_RTT == state)
+        {
+            return minWindow;
+        }
+
+        if (0 == bottleneckBandwidth)
+        {
+            return Math.max(window, initialWindow);
+        }
+
+        final double gain;
+        switch (state)
+        {
+            case STARTUP:
+                gain = HIGH_GAIN;
+                break;
+
+            case DRAIN:
+                gain = DRAIN_GAIN;
+                break;
+
+            default:
+                gain = PROBE_BW_GAINS[probeBwGainIndex];
+                break;
+        }
+
+        final double bdp = (double)bottleneckBandwidth * minRttNs / SECOND_IN_NS;
+        final long targetWindow = (long)(gain * WINDOW_GAIN * bdp);
+        final long newWindow = STARTUP == state ? Math.max(window, targetWindow) : targetWindow;
+
+        return (int)Math.max(minWindow, Math.min(maxWindow, newWindow));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.lang.System.getProperty;
+
+/**
+ * Configuration options to be applied when {@link BbrCongestionControl} is loaded.
+ */
+public class BbrCongestionControlConfiguration
+{
+    /**
+     * Property name for the initial RTT estimate in nanoseconds used before the first measurement.
+     */
+    public static final String INITIAL_RTT_NS_PROP_NAME = "aeron.BbrCongestionControl.initialRtt";
+
+    /**
+     * Default initial RTT estimate in nanoseconds.
+     */
+    public static final long INITIAL_RTT_NS_DEFAULT = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Property name for the interval in nanoseconds between RTT measurements to the sender.
+     */
+    public static final String RTT_MEASUREMENT_INTERVAL_NS_PROP_NAME =
+        "aeron.BbrCongestionControl.rttMeasurementInterval";
+
+    /**
+     * Default interval in nanoseconds between RTT measurements to the sender.
+     */
+    public static final long RTT_MEASUREMENT_INTERVAL_NS_DEFAULT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Property name for the length of time in nanoseconds for which the min RTT estimate is valid before
+     * the window is reduced to probe for a new min RTT.
+     */
+    public static final String MIN_RTT_WINDOW_NS_PROP_NAME = "aeron.BbrCongestionControl.minRttWindow";
+
+    /**
+     * Default length of time in nanoseconds for which the min RTT estimate is valid.
+     */
+    public static final long MIN_RTT_WINDOW_NS_DEFAULT = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Property name for the length of time in nanoseconds for which the window is reduced when probing for the
+     * min RTT.
+     */
+    public static final String PROBE_RTT_DURATION_NS_PROP_NAME = "aeron.BbrCongestionControl.probeRttDuration";
+
+    /**
+     * Default length of time in nanoseconds for which the window is reduced when probing for the min RTT.
+     */
+    public static final long PROBE_RTT_DURATION_NS_DEFAULT = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /**
+     * Property name for the number of rounds, each of at least the min RTT, over which the max delivery rate is
+     * taken as the bottleneck bandwidth estimate.
+     */
+    public static final String BANDWIDTH_FILTER_ROUNDS_PROP_NAME = "aeron.BbrCongestionControl.bandwidthFilterRounds";
+
+    /**
+     * Default number of rounds over which the max delivery rate is taken as the bottleneck bandwidth estimate.
+     */
+    public static final int BANDWIDTH_FILTER_ROUNDS_DEFAULT = 10;
+
+    /**
+     * Property name for the gain applied to the bandwidth-delay product to give the window, allowing for the
+     * delay in status messages reaching the sender.
+     */
+    public static final String WINDOW_GAIN_PROP_NAME = "aeron.BbrCongestionControl.windowGain";
+
+    /**
+     * Default gain applied to the bandwidth-delay product to give the window.
+     */
+    public static final double WINDOW_GAIN_DEFAULT = 2.0;
+
+    public static final long INITIAL_RTT_NS = getLong(INITIAL_RTT_NS_PROP_NAME, INITIAL_RTT_NS_DEFAULT);
+    public static final long RTT_MEASUREMENT_INTERVAL_NS =
+        getLong(RTT_MEASUREMENT_INTERVAL_NS_PROP_NAME, RTT_MEASUREMENT_INTERVAL_NS_DEFAULT);
+    public static final long MIN_RTT_WINDOW_NS = getLong(MIN_RTT_WINDOW_NS_PROP_NAME, MIN_RTT_WINDOW_NS_DEFAULT);
+    public static final long PROBE_RTT_DURATION_NS =
+        getLong(PROBE_RTT_DURATION_NS_PROP_NAME, PROBE_RTT_DURATION_NS_DEFAULT);
+    public static final int BANDWIDTH_FILTER_ROUNDS =
+        getInteger(BANDWIDTH_FILTER_ROUNDS_PROP_NAME, BANDWIDTH_FILTER_ROUNDS_DEFAULT);
+    public static final double WINDOW_GAIN =
+        Double.parseDouble(getProperty(WINDOW_GAIN_PROP_NAME, Double.toString(WINDOW_GAIN_DEFAULT)));
+}
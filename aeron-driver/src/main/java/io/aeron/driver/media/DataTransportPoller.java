@@ -16,6 +16,7 @@
 package io.aeron.driver.media;
 
 import io.aeron.driver.Configuration;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
@@ -23,6 +24,7 @@ import org.agrona.BufferUtil;
 import org.agrona.LangUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -31,14 +33,25 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
+import static io.aeron.driver.status.SystemCounterDescriptor.*;
 import static io.aeron.protocol.HeaderFlyweight.*;
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of data {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * Each transport is read until no datagrams remain available or the datagram budget for the poll is exhausted.
  */
 public class DataTransportPoller extends UdpTransportPoller
 {
+    private final int datagramBudget;
+    private final boolean hasMultipleReceivers;
+    private final AtomicCounter datagramsPolled;
+    private final AtomicCounter transportPolls;
+    private final AtomicCounter datagramBudgetExhausted;
+    private int transportPollCount;
+    private int datagramBudgetExhaustedCount;
+    private int datagramCount;
     private final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
         Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
     private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
@@ -47,6 +60,16 @@ public class DataTransportPoller extends UdpTransportPoller
     private final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
     private ChannelAndTransport[] channelAndTransports = new ChannelAndTransport[0];
 
+    public DataTransportPoller(
+        final int datagramBudget, final SystemCounters systemCounters, final boolean hasMultipleReceivers)
+    {
+        this.datagramBudget = datagramBudget;
+        this.hasMultipleReceivers = hasMultipleReceivers;
+        this.datagramsPolled = systemCounters.get(RECEIVER_DATAGRAMS_POLLED);
+        this.transportPolls = systemCounters.get(RECEIVER_TRANSPORT_POLLS);
+        this.datagramBudgetExhausted = systemCounters.get(RECEIVER_DATAGRAM_BUDGET_EXHAUSTED);
+    }
+
     public void close()
     {
         for (final ChannelAndTransport channelEndpoint : channelAndTransports)
@@ -88,6 +111,35 @@ public class DataTransportPoller extends UdpTransportPoller
             LangUtil.rethrowUnchecked(ex);
         }
 
+        if (datagramCount > 0)
+        {
+            if (hasMultipleReceivers)
+            {
+                datagramsPolled.getAndAdd(datagramCount);
+                transportPolls.getAndAdd(transportPollCount);
+            }
+            else
+            {
+                datagramsPolled.getAndAddOrdered(datagramCount);
+                transportPolls.getAndAddOrdered(transportPollCount);
+            }
+            datagramCount = 0;
+            transportPollCount = 0;
+
+            if (datagramBudgetExhaustedCount > 0)
+            {
+                if (hasMultipleReceivers)
+                {
+                    datagramBudgetExhausted.getAndAdd(datagramBudgetExhaustedCount);
+                }
+                else
+                {
+                    datagramBudgetExhausted.getAndAddOrdered(datagramBudgetExhaustedCount);
+                }
+                datagramBudgetExhaustedCount = 0;
+            }
+        }
+
         return bytesReceived;
     }
 
@@ -144,34 +196,64 @@ public class DataTransportPoller extends UdpTransportPoller
     private int poll(final ChannelAndTransport channelAndTransport)
     {
         int bytesReceived = 0;
-        final InetSocketAddress srcAddress = channelAndTransport.transport.receive(byteBuffer);
+        int datagramsReceived = 0;
 
-        if (null != srcAddress)
+        do
         {
-            final int length = byteBuffer.position();
-            final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+            final InetSocketAddress srcAddress = channelAndTransport.transport.receive(byteBuffer);
+            if (null == srcAddress)
+            {
+                break;
+            }
 
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+            datagramsReceived++;
+            bytesReceived += onDatagram(channelAndTransport, srcAddress);
+        }
+        while (datagramsReceived < datagramBudget);
+
+        if (datagramsReceived > 0)
+        {
+            datagramCount += datagramsReceived;
+            transportPollCount++;
+
+            // only count an exhausted budget once datagrams are found to have been left waiting by it
+            if (channelAndTransport.isBudgetExhausted)
             {
-                channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
-                final int transportIndex = channelAndTransport.transportIndex;
+                datagramBudgetExhaustedCount++;
+            }
+        }
 
-                final int frameType = frameType(unsafeBuffer, 0);
-                if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
-                {
-                    bytesReceived = channelEndpoint.onDataPacket(
-                        dataMessage, unsafeBuffer, length, srcAddress, transportIndex);
-                }
-                else if (HDR_TYPE_SETUP == frameType)
-                {
-                    channelEndpoint.onSetupMessage(
-                        setupMessage, unsafeBuffer, length, srcAddress, transportIndex);
-                }
-                else if (HDR_TYPE_RTTM == frameType)
-                {
-                    channelEndpoint.onRttMeasurement(
-                        rttMeasurement, unsafeBuffer, length, srcAddress, transportIndex);
-                }
+        channelAndTransport.isBudgetExhausted = datagramsReceived >= datagramBudget;
+
+        return bytesReceived;
+    }
+
+    private int onDatagram(final ChannelAndTransport channelAndTransport, final InetSocketAddress srcAddress)
+    {
+        int bytesReceived = 0;
+        final int length = byteBuffer.position();
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+
+        if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        {
+            channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+            final int transportIndex = channelAndTransport.transportIndex;
+
+            final int frameType = frameType(unsafeBuffer, 0);
+            if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
+            {
+                bytesReceived = channelEndpoint.onDataPacket(
+                    dataMessage, unsafeBuffer, length, srcAddress, transportIndex);
+            }
+            else if (HDR_TYPE_SETUP == frameType)
+            {
+                channelEndpoint.onSetupMessage(
+                    setupMessage, unsafeBuffer, length, srcAddress, transportIndex);
+            }
+            else if (HDR_TYPE_RTTM == frameType)
+            {
+                channelEndpoint.onRttMeasurement(
+                    rttMeasurement, unsafeBuffer, length, srcAddress, transportIndex);
             }
         }
 
@@ -183,6 +265,7 @@ public class DataTransportPoller extends UdpTransportPoller
         final ReceiveChannelEndpoint channelEndpoint;
         final UdpChannelTransport transport;
         final int transportIndex;
+        boolean isBudgetExhausted;
 
         ChannelAndTransport(
             final ReceiveChannelEndpoint channelEndpoint, final UdpChannelTransport transport, final int transportIndex)
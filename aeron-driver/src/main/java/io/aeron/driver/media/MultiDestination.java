@@ -17,6 +17,7 @@ package io.aeron.driver.media;
 
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -30,14 +31,49 @@ abstract class MultiDestination
 {
     abstract int send(DatagramChannel channel, ByteBuffer buffer, SendChannelEndpoint channelEndpoint, int bytesToSend);
 
+    abstract int send(
+        DatagramChannel channel,
+        ByteBuffer buffer,
+        SendChannelEndpoint channelEndpoint,
+        int[] frameOffsets,
+        int[] frameLengths,
+        int frameCount);
+
     abstract void onStatusMessage(StatusMessageFlyweight msg, InetSocketAddress address);
 
     abstract boolean isManualControlMode();
 
-    abstract void addDestination(InetSocketAddress address);
+    abstract void addDestination(InetSocketAddress address, AtomicCounter sends, AtomicCounter shortSends);
 
     abstract void removeDestination(InetSocketAddress address);
 
+    static int send(
+        final DatagramChannel datagramChannel,
+        final ByteBuffer buffer,
+        final SendChannelEndpoint channelEndpoint,
+        final int[] frameOffsets,
+        final int[] frameLengths,
+        final int frameCount,
+        final InetSocketAddress destination)
+    {
+        int framesSent = 0;
+        while (framesSent < frameCount)
+        {
+            final int offset = frameOffsets[framesSent];
+            final int length = frameLengths[framesSent];
+
+            buffer.limit(offset + length);
+            if (length != send(datagramChannel, buffer, channelEndpoint, length, offset, destination))
+            {
+                break;
+            }
+
+            framesSent++;
+        }
+
+        return framesSent;
+    }
+
     static int send(
         final DatagramChannel datagramChannel,
         final ByteBuffer buffer,
@@ -146,8 +182,46 @@ class DynamicMultiDestination extends MultiDestination
         return minBytesSent;
     }
 
+    int send(
+        final DatagramChannel channel,
+        final ByteBuffer buffer,
+        final SendChannelEndpoint channelEndpoint,
+        final int[] frameOffsets,
+        final int[] frameLengths,
+        final int frameCount)
+    {
+        final long nowNs = nanoClock.nanoTime();
+        int minFramesSent = frameCount;
+        int removed = 0;
+
+        for (int lastIndex = destinations.length - 1, i = lastIndex; i >= 0; i--)
+        {
+            final Destination destination = destinations[i];
+            if ((destination.timeOfLastActivityNs + destinationTimeoutNs) - nowNs < 0)
+            {
+                if (i != lastIndex)
+                {
+                    destinations[i] = destinations[lastIndex--];
+                }
+                removed++;
+            }
+            else
+            {
+                final int framesSent = send(
+                    channel, buffer, channelEndpoint, frameOffsets, frameLengths, frameCount, destination.address);
+                minFramesSent = Math.min(minFramesSent, framesSent);
+            }
+        }
+
+        if (removed > 0)
+        {
+            truncateDestinations(removed);
+        }
+
+        return minFramesSent;
+    }
 
-    void addDestination(final InetSocketAddress address)
+    void addDestination(final InetSocketAddress address, final AtomicCounter sends, final AtomicCounter shortSends)
     {
     }
 
@@ -185,9 +259,9 @@ class DynamicMultiDestination extends MultiDestination
 
 class ManualMultiDestination extends MultiDestination
 {
-    private static final InetSocketAddress[] EMPTY_DESTINATIONS = new InetSocketAddress[0];
+    private static final ManualDestination[] EMPTY_DESTINATIONS = new ManualDestination[0];
 
-    private InetSocketAddress[] destinations = EMPTY_DESTINATIONS;
+    private ManualDestination[] destinations = EMPTY_DESTINATIONS;
 
     boolean isManualControlMode()
     {
@@ -207,22 +281,58 @@ class ManualMultiDestination extends MultiDestination
         final int position = buffer.position();
         int minBytesSent = bytesToSend;
 
-        for (final InetSocketAddress destination : destinations)
+        for (final ManualDestination destination : destinations)
         {
-            minBytesSent = Math.min(
-                minBytesSent, send(channel, buffer, channelEndpoint, bytesToSend, position, destination));
+            final int bytesSent = send(channel, buffer, channelEndpoint, bytesToSend, position, destination.address);
+            if (bytesToSend == bytesSent)
+            {
+                destination.sends.incrementOrdered();
+            }
+            else
+            {
+                destination.shortSends.incrementOrdered();
+            }
+
+            minBytesSent = Math.min(minBytesSent, bytesSent);
         }
 
         return minBytesSent;
     }
 
-    void addDestination(final InetSocketAddress address)
+    int send(
+        final DatagramChannel channel,
+        final ByteBuffer buffer,
+        final SendChannelEndpoint channelEndpoint,
+        final int[] frameOffsets,
+        final int[] frameLengths,
+        final int frameCount)
+    {
+        int minFramesSent = frameCount;
+
+        for (final ManualDestination destination : destinations)
+        {
+            final int framesSent = send(
+                channel, buffer, channelEndpoint, frameOffsets, frameLengths, frameCount, destination.address);
+
+            destination.sends.getAndAddOrdered(framesSent);
+            if (framesSent < frameCount)
+            {
+                destination.shortSends.incrementOrdered();
+            }
+
+            minFramesSent = Math.min(minFramesSent, framesSent);
+        }
+
+        return minFramesSent;
+    }
+
+    void addDestination(final InetSocketAddress address, final AtomicCounter sends, final AtomicCounter shortSends)
     {
         final int length = destinations.length;
-        final InetSocketAddress[] newElements = new InetSocketAddress[length + 1];
+        final ManualDestination[] newElements = new ManualDestination[length + 1];
 
         System.arraycopy(destinations, 0, newElements, 0, length);
-        newElements[length] = address;
+        newElements[length] = new ManualDestination(address, sends, shortSends);
         destinations = newElements;
     }
 
@@ -230,9 +340,9 @@ class ManualMultiDestination extends MultiDestination
     {
         boolean found = false;
         int index = 0;
-        for (final InetSocketAddress destination : destinations)
+        for (final ManualDestination destination : destinations)
         {
-            if (destination.equals(address))
+            if (destination.address.equals(address))
             {
                 found = true;
                 break;
@@ -243,7 +353,7 @@ class ManualMultiDestination extends MultiDestination
 
         if (found)
         {
-            final InetSocketAddress[] oldElements = destinations;
+            final ManualDestination[] oldElements = destinations;
             final int length = oldElements.length;
             final int newLength = length - 1;
 
@@ -253,7 +363,7 @@ class ManualMultiDestination extends MultiDestination
             }
             else
             {
-                final InetSocketAddress[] newElements = new InetSocketAddress[newLength];
+                final ManualDestination[] newElements = new ManualDestination[newLength];
 
                 for (int i = 0, j = 0; i < length; i++)
                 {
@@ -269,6 +379,20 @@ class ManualMultiDestination extends MultiDestination
     }
 }
 
+final class ManualDestination
+{
+    final InetSocketAddress address;
+    final AtomicCounter sends;
+    final AtomicCounter shortSends;
+
+    ManualDestination(final InetSocketAddress address, final AtomicCounter sends, final AtomicCounter shortSends)
+    {
+        this.address = address;
+        this.sends = sends;
+        this.shortSends = shortSends;
+    }
+}
+
 final class Destination
 {
     long timeOfLastActivityNs;
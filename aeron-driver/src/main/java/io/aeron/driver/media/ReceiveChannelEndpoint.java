@@ -48,12 +48,12 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     private static final long DESTINATION_ADDRESS_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
 
     private final DataPacketDispatcher dispatcher;
-    private final ByteBuffer smBuffer;
-    private final StatusMessageFlyweight statusMessageFlyweight;
-    private final ByteBuffer nakBuffer;
-    private final NakFlyweight nakFlyweight;
-    private final ByteBuffer rttMeasurementBuffer;
-    private final RttMeasurementFlyweight rttMeasurementFlyweight;
+    private ByteBuffer smBuffer;
+    private StatusMessageFlyweight statusMessageFlyweight;
+    private ByteBuffer nakBuffer;
+    private NakFlyweight nakFlyweight;
+    private ByteBuffer rttMeasurementBuffer;
+    private RttMeasurementFlyweight rttMeasurementFlyweight;
     private final AtomicCounter shortSends;
     private final AtomicCounter possibleTtlAsymmetry;
     private final AtomicCounter statusIndicator;
@@ -62,6 +62,8 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     private final MultiRcvDestination multiRcvDestination;
 
     private final long receiverId;
+    private final boolean hasMultipleReceivers;
+    private int receiverIndex = 0;
 
     public ReceiveChannelEndpoint(
         final UdpChannel udpChannel,
@@ -73,17 +75,13 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
         this.dispatcher = dispatcher;
         this.statusIndicator = statusIndicator;
+        this.hasMultipleReceivers = context.receiverShardCount() > 1;
 
         shortSends = context.systemCounters().get(SHORT_SENDS);
         possibleTtlAsymmetry = context.systemCounters().get(POSSIBLE_TTL_ASYMMETRY);
 
         final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals();
-        smBuffer = threadLocals.smBuffer();
-        statusMessageFlyweight = threadLocals.statusMessageFlyweight();
-        nakBuffer = threadLocals.nakBuffer();
-        nakFlyweight = threadLocals.nakFlyweight();
-        rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
-        rttMeasurementFlyweight = threadLocals.rttMeasurementFlyweight();
+        threadLocals(threadLocals);
         receiverId = threadLocals.receiverId();
 
         multiRcvDestination = udpChannel.isManualControlMode() ?
@@ -135,6 +133,42 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         return statusIndicator.id();
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Receiver} which owns this endpoint when running more than one receiver.
+     *
+     * @return index of the receiver which owns this endpoint.
+     */
+    public int receiverIndex()
+    {
+        return receiverIndex;
+    }
+
+    /**
+     * Index of the {@link io.aeron.driver.Receiver} which owns this endpoint when running more than one receiver.
+     *
+     * @param receiverIndex of the receiver which owns this endpoint.
+     */
+    public void receiverIndex(final int receiverIndex)
+    {
+        this.receiverIndex = receiverIndex;
+    }
+
+    /**
+     * Use the buffers of the receiver which owns this endpoint for sending status, NAK, and RTT measurement frames.
+     * Must be called from the owning receiver before the channel is opened.
+     *
+     * @param threadLocals of the receiver which owns this endpoint.
+     */
+    public void threadLocals(final ReceiveChannelEndpointThreadLocals threadLocals)
+    {
+        smBuffer = threadLocals.smBuffer();
+        statusMessageFlyweight = threadLocals.statusMessageFlyweight();
+        nakBuffer = threadLocals.nakBuffer();
+        nakFlyweight = threadLocals.nakFlyweight();
+        rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
+        rttMeasurementFlyweight = threadLocals.rttMeasurementFlyweight();
+    }
+
     public void indicateActive()
     {
         final long currentStatus = statusIndicator.get();
@@ -194,7 +228,14 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     public void possibleTtlAsymmetryEncountered()
     {
-        possibleTtlAsymmetry.incrementOrdered();
+        if (hasMultipleReceivers)
+        {
+            possibleTtlAsymmetry.increment();
+        }
+        else
+        {
+            possibleTtlAsymmetry.incrementOrdered();
+        }
     }
 
     public int incRefToStream(final int streamId)
@@ -483,18 +524,47 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     {
         if (!isClosed)
         {
-            nakBuffer.clear();
+            nakBuffer.clear().limit(NakFlyweight.HEADER_LENGTH);
             nakFlyweight
                 .streamId(streamId)
                 .sessionId(sessionId)
                 .termId(termId)
                 .termOffset(termOffset)
-                .length(length);
+                .length(length)
+                .rangeCount(1);
 
             send(nakBuffer, NakFlyweight.HEADER_LENGTH, controlAddresses);
         }
     }
 
+    public void sendNakMessage(
+        final ImageConnection[] controlAddresses,
+        final int sessionId,
+        final int streamId,
+        final int termId,
+        final int[] termOffsets,
+        final int[] lengths,
+        final int rangeCount)
+    {
+        if (!isClosed)
+        {
+            final int frameLength = NakFlyweight.frameLengthForRangeCount(rangeCount);
+            nakBuffer.clear().limit(frameLength);
+            nakFlyweight
+                .streamId(streamId)
+                .sessionId(sessionId)
+                .termId(termId)
+                .rangeCount(rangeCount);
+
+            for (int i = 0; i < rangeCount; i++)
+            {
+                nakFlyweight.range(i, termOffsets[i], lengths[i]);
+            }
+
+            send(nakBuffer, frameLength, controlAddresses);
+        }
+    }
+
     public void sendRttMeasurement(
         final ImageConnection[] controlAddresses,
         final int sessionId,
@@ -45,16 +45,28 @@ public class ReceiveChannelEndpointThreadLocals
 
     public ReceiveChannelEndpointThreadLocals(final MediaDriver.Context context)
     {
+        this(context, newReceiverId());
+    }
+
+    /**
+     * Construct thread locals for an additional receiver agent which identifies itself with the same receiver id so
+     * a driver appears as a single receiver however its endpoints are spread across receivers.
+     *
+     * @param context    for the driver configuration.
+     * @param receiverId to be carried in status messages.
+     */
+    public ReceiveChannelEndpointThreadLocals(final MediaDriver.Context context, final long receiverId)
+    {
+        this.receiverId = receiverId;
+
         final byte[] applicationSpecificFeedback = context.applicationSpecificFeedback();
         final int smLength = StatusMessageFlyweight.HEADER_LENGTH + applicationSpecificFeedback.length;
+        final int nakLength = NakFlyweight.frameLengthForRangeCount(context.nakMaxRanges());
         final int bufferLength =
             BitUtil.align(smLength, CACHE_LINE_LENGTH) +
-            BitUtil.align(NakFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH) +
+            BitUtil.align(nakLength, CACHE_LINE_LENGTH) +
             BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH);
 
-        final UUID uuid = UUID.randomUUID();
-        receiverId = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
-
         final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(bufferLength, CACHE_LINE_LENGTH);
 
         byteBuffer.limit(smLength);
@@ -62,11 +74,11 @@ public class ReceiveChannelEndpointThreadLocals
         statusMessageFlyweight = new StatusMessageFlyweight(smBuffer);
 
         final int nakMessageOffset = BitUtil.align(smLength, FRAME_ALIGNMENT);
-        byteBuffer.limit(nakMessageOffset + NakFlyweight.HEADER_LENGTH).position(nakMessageOffset);
+        byteBuffer.limit(nakMessageOffset + nakLength).position(nakMessageOffset);
         nakBuffer = byteBuffer.slice();
         nakFlyweight = new NakFlyweight(nakBuffer);
 
-        final int rttMeasurementOffset = nakMessageOffset + BitUtil.align(NakFlyweight.HEADER_LENGTH, FRAME_ALIGNMENT);
+        final int rttMeasurementOffset = nakMessageOffset + BitUtil.align(nakLength, FRAME_ALIGNMENT);
         byteBuffer.limit(rttMeasurementOffset + RttMeasurementFlyweight.HEADER_LENGTH).position(rttMeasurementOffset);
         rttMeasurementBuffer = byteBuffer.slice();
         rttMeasurementFlyweight = new RttMeasurementFlyweight(rttMeasurementBuffer);
@@ -124,4 +136,10 @@ public class ReceiveChannelEndpointThreadLocals
     {
         return receiverId;
     }
+
+    private static long newReceiverId()
+    {
+        final UUID uuid = UUID.randomUUID();
+        return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+    }
 }
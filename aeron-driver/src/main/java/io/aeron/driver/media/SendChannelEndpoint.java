@@ -23,6 +23,7 @@ import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.collections.BiInt2ObjectMap;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 
@@ -45,11 +46,15 @@ public class SendChannelEndpoint extends UdpChannelTransport
     private static final long DESTINATION_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
 
     private int refCount = 0;
+    private int senderIndex = 0;
     private final BiInt2ObjectMap<NetworkPublication> publicationBySessionAndStreamId = new BiInt2ObjectMap<>();
+    private final Object2ObjectHashMap<InetSocketAddress, AtomicCounter[]> destinationCountersByAddressMap =
+        new Object2ObjectHashMap<>();
     private final MultiDestination multiDestination;
     private final AtomicCounter statusMessagesReceived;
     private final AtomicCounter nakMessagesReceived;
     private final AtomicCounter statusIndicator;
+    private final boolean hasMultipleSenders;
 
     public SendChannelEndpoint(
         final UdpChannel udpChannel, final AtomicCounter statusIndicator, final MediaDriver.Context context)
@@ -64,6 +69,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
         nakMessagesReceived = context.systemCounters().get(NAK_MESSAGES_RECEIVED);
         statusMessagesReceived = context.systemCounters().get(STATUS_MESSAGES_RECEIVED);
         this.statusIndicator = statusIndicator;
+        this.hasMultipleSenders = context.senderShardCount() > 1;
 
         MultiDestination multiDestination = null;
         if (udpChannel.isManualControlMode())
@@ -88,6 +94,26 @@ public class SendChannelEndpoint extends UdpChannelTransport
         ++refCount;
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Sender} which owns this endpoint when running more than one sender.
+     *
+     * @return index of the sender which owns this endpoint.
+     */
+    public int senderIndex()
+    {
+        return senderIndex;
+    }
+
+    /**
+     * Index of the {@link io.aeron.driver.Sender} which owns this endpoint when running more than one sender.
+     *
+     * @param senderIndex of the sender which owns this endpoint.
+     */
+    public void senderIndex(final int senderIndex)
+    {
+        this.senderIndex = senderIndex;
+    }
+
     public void openChannel(final DriverConductorProxy conductorProxy)
     {
         if (conductorProxy.notConcurrent())
@@ -131,6 +157,9 @@ public class SendChannelEndpoint extends UdpChannelTransport
         statusIndicator.setOrdered(ChannelEndpointStatus.ACTIVE);
     }
 
+    /**
+     * Called by the {@link DriverConductor} to close the status indicator.
+     */
     public void closeStatusIndicator()
     {
         if (!statusIndicator.isClosed())
@@ -140,6 +169,76 @@ public class SendChannelEndpoint extends UdpChannelTransport
         }
     }
 
+    /**
+     * Called by the {@link DriverConductor} to check if a destination has been manually added.
+     *
+     * @param address of the destination.
+     * @return true if the destination has been added and not yet removed.
+     */
+    public boolean hasDestination(final InetSocketAddress address)
+    {
+        return destinationCountersByAddressMap.containsKey(address);
+    }
+
+    /**
+     * Called by the {@link DriverConductor} to retain the counters of a manually added destination until the
+     * destination is removed or the endpoint is closed.
+     *
+     * @param address    of the destination.
+     * @param sends      counter of datagrams sent to the destination.
+     * @param shortSends counter of short sends to the destination.
+     */
+    public void trackDestinationCounters(
+        final InetSocketAddress address, final AtomicCounter sends, final AtomicCounter shortSends)
+    {
+        destinationCountersByAddressMap.put(address, new AtomicCounter[]{ sends, shortSends });
+    }
+
+    /**
+     * Called by the {@link DriverConductor} to stop tracking the counters of a manually removed destination. The
+     * counters must not be closed until the {@link Sender} has removed the destination.
+     *
+     * @param address of the destination.
+     * @return the counters of the destination or null if the destination is unknown.
+     */
+    public AtomicCounter[] untrackDestinationCounters(final InetSocketAddress address)
+    {
+        return destinationCountersByAddressMap.remove(address);
+    }
+
+    /**
+     * Called by the {@link DriverConductor} to stop tracking the counters of all remaining destinations when the
+     * endpoint is to be closed. The counters must not be closed until the {@link Sender} has closed the endpoint.
+     *
+     * @return the counters of all remaining destinations.
+     */
+    public AtomicCounter[] untrackAllDestinationCounters()
+    {
+        final AtomicCounter[] counters = new AtomicCounter[destinationCountersByAddressMap.size() * 2];
+        int i = 0;
+        for (final AtomicCounter[] destinationCounters : destinationCountersByAddressMap.values())
+        {
+            for (final AtomicCounter counter : destinationCounters)
+            {
+                counters[i++] = counter;
+            }
+        }
+
+        destinationCountersByAddressMap.clear();
+
+        return counters;
+    }
+
+    /**
+     * Does this endpoint send to multiple destinations via manual or dynamic control.
+     *
+     * @return true if this endpoint sends to multiple destinations.
+     */
+    public boolean isMultiDestination()
+    {
+        return null != multiDestination;
+    }
+
     /**
      * Called by the {@link DriverConductor} to determine if the channel endpoint should be closed.
      *
@@ -212,6 +311,51 @@ public class SendChannelEndpoint extends UdpChannelTransport
         return bytesSent;
     }
 
+    /**
+     * Send a batch of frames from a {@link ByteBuffer} to the connected address or to each destination in turn.
+     * <p>
+     * Each destination is sent all the frames of the batch before moving to the next destination so destination
+     * bookkeeping is done once per batch rather than once per frame. Sending to a destination stops at the first
+     * frame which is not sent in full.
+     *
+     * @param buffer       containing the frames.
+     * @param frameOffsets of the frames in the buffer.
+     * @param frameLengths of the frames.
+     * @param frameCount   number of frames in the batch.
+     * @return number of frames, from the start of the batch, which were sent in full to all destinations.
+     */
+    public int send(final ByteBuffer buffer, final int[] frameOffsets, final int[] frameLengths, final int frameCount)
+    {
+        int framesSent = 0;
+
+        if (null != sendDatagramChannel)
+        {
+            if (null == multiDestination)
+            {
+                while (framesSent < frameCount)
+                {
+                    final int offset = frameOffsets[framesSent];
+                    final int length = frameLengths[framesSent];
+
+                    buffer.limit(offset + length).position(offset);
+                    if (length != send(buffer))
+                    {
+                        break;
+                    }
+
+                    framesSent++;
+                }
+            }
+            else
+            {
+                framesSent = multiDestination.send(
+                    sendDatagramChannel, buffer, this, frameOffsets, frameLengths, frameCount);
+            }
+        }
+
+        return framesSent;
+    }
+
     public void onStatusMessage(
         final StatusMessageFlyweight msg,
         final UnsafeBuffer buffer,
@@ -229,7 +373,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
             if (0 == sessionId && 0 == streamId && SEND_SETUP_FLAG == (msg.flags() & SEND_SETUP_FLAG))
             {
                 publicationBySessionAndStreamId.forEach(NetworkPublication::triggerSendSetupFrame);
-                statusMessagesReceived.incrementOrdered();
+                incrementStatusMessagesReceived();
             }
         }
 
@@ -244,7 +388,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
                 publication.onStatusMessage(msg, srcAddress);
             }
 
-            statusMessagesReceived.incrementOrdered();
+            incrementStatusMessagesReceived();
         }
     }
 
@@ -258,8 +402,21 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         if (null != publication)
         {
-            publication.onNak(msg.termId(), msg.termOffset(), msg.length());
-            nakMessagesReceived.incrementOrdered();
+            final int termId = msg.termId();
+            final int rangeCount = msg.frameLength() <= length ? msg.rangeCount() : 1;
+            for (int i = 0; i < rangeCount; i++)
+            {
+                publication.onNak(termId, msg.rangeTermOffset(i), msg.rangeLength(i));
+            }
+
+            if (hasMultipleSenders)
+            {
+                nakMessagesReceived.increment();
+            }
+            else
+            {
+                nakMessagesReceived.incrementOrdered();
+            }
         }
     }
 
@@ -285,13 +442,26 @@ public class SendChannelEndpoint extends UdpChannelTransport
         }
     }
 
-    public void addDestination(final InetSocketAddress address)
+    public void addDestination(
+        final InetSocketAddress address, final AtomicCounter sends, final AtomicCounter shortSends)
     {
-        multiDestination.addDestination(address);
+        multiDestination.addDestination(address, sends, shortSends);
     }
 
     public void removeDestination(final InetSocketAddress address)
     {
         multiDestination.removeDestination(address);
     }
+
+    private void incrementStatusMessagesReceived()
+    {
+        if (hasMultipleSenders)
+        {
+            statusMessagesReceived.increment();
+        }
+        else
+        {
+            statusMessagesReceived.incrementOrdered();
+        }
+    }
 }
@@ -53,6 +53,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
     protected DatagramChannel sendDatagramChannel;
     protected DatagramChannel receiveDatagramChannel;
     protected int multicastTtl = 0;
+    protected boolean isReceiveChannelConnected = false;
     protected boolean isClosed = false;
 
     public UdpChannelTransport(
@@ -127,6 +128,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
             if (null != connectAddress)
             {
                 sendDatagramChannel.connect(connectAddress);
+                isReceiveChannelConnected = receiveDatagramChannel == sendDatagramChannel;
             }
 
             if (0 != context.socketSndbufLength())
@@ -320,11 +322,26 @@ public abstract class UdpChannelTransport implements AutoCloseable
     {
     }
 
+    /**
+     * Is the channel used for receiving connected to a fixed remote address so that the source of each datagram
+     * is known without it being returned from the socket.
+     *
+     * @return true if the receive channel is connected to a fixed remote address.
+     */
+    public boolean isReceiveChannelConnected()
+    {
+        return isReceiveChannelConnected;
+    }
+
     /**
      * Receive a datagram from the media layer.
+     * <p>
+     * When the receive channel is connected then the datagram is read without the source address being looked up
+     * and the connected address is returned. Otherwise the source address is returned from the socket which reuses
+     * the same instance while datagrams continue to arrive from the same source.
      *
      * @param buffer into which the datagram will be received.
-     * @return the source address of the datagram if one is available otherwise false.
+     * @return the source address of the datagram if one is available otherwise null.
      */
     public InetSocketAddress receive(final ByteBuffer buffer)
     {
@@ -335,7 +352,17 @@ public abstract class UdpChannelTransport implements AutoCloseable
         {
             if (receiveDatagramChannel.isOpen())
             {
-                address = (InetSocketAddress)receiveDatagramChannel.receive(buffer);
+                if (isReceiveChannelConnected)
+                {
+                    if (receiveDatagramChannel.read(buffer) > 0)
+                    {
+                        address = connectAddress;
+                    }
+                }
+                else
+                {
+                    address = (InetSocketAddress)receiveDatagramChannel.receive(buffer);
+                }
             }
         }
         catch (final PortUnreachableException ignored)
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.status.ChannelEndpointStatus;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Counts of datagrams sent, and short sends, to a destination of a multi-destination-cast publication. These are
+ * per-destination counts for that which is aggregated in {@link SystemCounterDescriptor#SHORT_SENDS}.
+ */
+public class SendDestinationCounters
+{
+    /**
+     * Type id of a send destination datagrams sent counter.
+     */
+    public static final int SEND_DESTINATION_SENDS_TYPE_ID = 16;
+
+    /**
+     * Type id of a send destination short sends counter.
+     */
+    public static final int SEND_DESTINATION_SHORT_SENDS_TYPE_ID = 17;
+
+    /**
+     * Human readable name for the datagrams sent counter.
+     */
+    public static final String SENDS_NAME = "snd-dst-sends";
+
+    /**
+     * Human readable name for the short sends counter.
+     */
+    public static final String SHORT_SENDS_NAME = "snd-dst-short-sends";
+
+    public static AtomicCounter allocateSends(
+        final MutableDirectBuffer tempBuffer, final CountersManager countersManager, final String destinationChannel)
+    {
+        return ChannelEndpointStatus.allocate(
+            tempBuffer, SENDS_NAME, SEND_DESTINATION_SENDS_TYPE_ID, countersManager, destinationChannel);
+    }
+
+    public static AtomicCounter allocateShortSends(
+        final MutableDirectBuffer tempBuffer, final CountersManager countersManager, final String destinationChannel)
+    {
+        return ChannelEndpointStatus.allocate(
+            tempBuffer, SHORT_SENDS_NAME, SEND_DESTINATION_SHORT_SENDS_TYPE_ID, countersManager, destinationChannel);
+    }
+}
@@ -18,6 +18,8 @@ package io.aeron.driver.status;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.status.*;
 
+import static org.agrona.BitUtil.SIZE_OF_INT;
+
 /**
  * System wide counters for monitoring. These are separate from counters used for position tracking on streams.
  */
@@ -47,13 +49,33 @@ public enum SystemCounterDescriptor
     POSSIBLE_TTL_ASYMMETRY(21, "Possible TTL Asymmetry"),
     CONTROLLABLE_IDLE_STRATEGY(22, "ControllableIdleStrategy status"),
     LOSS_GAP_FILLS(23, "Loss gap fills"),
-    CLIENT_TIMEOUTS(24, "Client liveness timeouts");
+    CLIENT_TIMEOUTS(24, "Client liveness timeouts"),
+    SENDER_BURSTS(25, "Sender bursts of more than one datagram"),
+    SENDER_BURST_DATAGRAMS(26, "Datagrams sent in sender bursts"),
+    RECEIVER_DATAGRAMS_POLLED(27, "Datagrams read by receiver transport polls"),
+    RECEIVER_TRANSPORT_POLLS(28, "Receiver transport polls which read datagrams"),
+    RECEIVER_DATAGRAM_BUDGET_EXHAUSTED(29, "Datagram budgets exhausted with datagrams left pending"),
+    LOG_POOL_HITS(30, "Log buffers taken from the pool"),
+    LOG_POOL_MISSES(31, "Log buffers allocated on a pool miss"),
+    TERM_CLEANING_MAX_LAG(32, "Max bytes of consumed term awaiting cleaning");
 
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Other types can exist.
      */
     public static final int SYSTEM_COUNTER_TYPE_ID = 0;
 
+    /**
+     * Type id for the break down of a system counter by sender when running more than one sender. The key holds the
+     * descriptor id followed by the sender index.
+     */
+    public static final int SENDER_SYSTEM_COUNTER_TYPE_ID = 14;
+
+    /**
+     * Type id for the break down of a system counter by receiver when running more than one receiver. The key holds
+     * the descriptor id followed by the receiver index.
+     */
+    public static final int RECEIVER_SYSTEM_COUNTER_TYPE_ID = 15;
+
     private static final Int2ObjectHashMap<SystemCounterDescriptor> DESCRIPTOR_BY_ID_MAP = new Int2ObjectHashMap<>();
 
     static
@@ -117,4 +139,41 @@ public enum SystemCounterDescriptor
     {
         return countersManager.newCounter(label, SYSTEM_COUNTER_TYPE_ID, (buffer) -> buffer.putInt(0, id));
     }
+
+    /**
+     * Create a new counter for the enumerated descriptor which is specific to a sender.
+     *
+     * @param countersManager for managing the underlying storage.
+     * @param senderIndex     of the sender the counter is for.
+     * @return a new counter for the enumerated descriptor which is specific to a sender.
+     */
+    public AtomicCounter newSenderCounter(final CountersManager countersManager, final int senderIndex)
+    {
+        return newAgentCounter(countersManager, SENDER_SYSTEM_COUNTER_TYPE_ID, "sender-", senderIndex);
+    }
+
+    /**
+     * Create a new counter for the enumerated descriptor which is specific to a receiver.
+     *
+     * @param countersManager for managing the underlying storage.
+     * @param receiverIndex   of the receiver the counter is for.
+     * @return a new counter for the enumerated descriptor which is specific to a receiver.
+     */
+    public AtomicCounter newReceiverCounter(final CountersManager countersManager, final int receiverIndex)
+    {
+        return newAgentCounter(countersManager, RECEIVER_SYSTEM_COUNTER_TYPE_ID, "receiver-", receiverIndex);
+    }
+
+    private AtomicCounter newAgentCounter(
+        final CountersManager countersManager, final int typeId, final String agentPrefix, final int agentIndex)
+    {
+        return countersManager.newCounter(
+            label + ": " + agentPrefix + agentIndex,
+            typeId,
+            (buffer) ->
+            {
+                buffer.putInt(0, id);
+                buffer.putInt(SIZE_OF_INT, agentIndex);
+            });
+    }
 }
@@ -19,14 +19,27 @@ import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.CountersManager;
 
 import java.util.EnumMap;
+import java.util.EnumSet;
+
+import static io.aeron.driver.status.SystemCounterDescriptor.BYTES_RECEIVED;
+import static io.aeron.driver.status.SystemCounterDescriptor.BYTES_SENT;
+import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_PROXY_FAILS;
+import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_PROXY_FAILS;
 
 /**
  * Aggregate entry point for managing counters of system status.
  */
 public class SystemCounters implements AutoCloseable
 {
+    private static final EnumSet<SystemCounterDescriptor> SENDER_DESCRIPTORS =
+        EnumSet.of(BYTES_SENT, SENDER_PROXY_FAILS);
+    private static final EnumSet<SystemCounterDescriptor> RECEIVER_DESCRIPTORS =
+        EnumSet.of(BYTES_RECEIVED, RECEIVER_PROXY_FAILS);
+
     private final EnumMap<SystemCounterDescriptor, AtomicCounter> counterByDescriptorMap =
         new EnumMap<>(SystemCounterDescriptor.class);
+    private final EnumMap<SystemCounterDescriptor, AtomicCounter[]> agentCountersByDescriptorMap =
+        new EnumMap<>(SystemCounterDescriptor.class);
 
     /**
      * Construct the counters for this system.
@@ -34,11 +47,54 @@ public class SystemCounters implements AutoCloseable
      * @param countersManager which will manage the underlying storage.
      */
     public SystemCounters(final CountersManager countersManager)
+    {
+        this(countersManager, 1, 1);
+    }
+
+    /**
+     * Construct the counters for this system with {@link SystemCounterDescriptor#BYTES_SENT} and
+     * {@link SystemCounterDescriptor#SENDER_PROXY_FAILS} also broken down by sender when there is more than one, and
+     * likewise {@link SystemCounterDescriptor#BYTES_RECEIVED} and {@link SystemCounterDescriptor#RECEIVER_PROXY_FAILS}
+     * by receiver.
+     *
+     * @param countersManager which will manage the underlying storage.
+     * @param senderCount     number of senders run by the driver.
+     * @param receiverCount   number of receivers run by the driver.
+     */
+    public SystemCounters(final CountersManager countersManager, final int senderCount, final int receiverCount)
     {
         for (final SystemCounterDescriptor descriptor : SystemCounterDescriptor.values())
         {
             counterByDescriptorMap.put(descriptor, descriptor.newCounter(countersManager));
         }
+
+        if (senderCount > 1)
+        {
+            for (final SystemCounterDescriptor descriptor : SENDER_DESCRIPTORS)
+            {
+                final AtomicCounter[] counters = new AtomicCounter[senderCount];
+                for (int i = 0; i < senderCount; i++)
+                {
+                    counters[i] = descriptor.newSenderCounter(countersManager, i);
+                }
+
+                agentCountersByDescriptorMap.put(descriptor, counters);
+            }
+        }
+
+        if (receiverCount > 1)
+        {
+            for (final SystemCounterDescriptor descriptor : RECEIVER_DESCRIPTORS)
+            {
+                final AtomicCounter[] counters = new AtomicCounter[receiverCount];
+                for (int i = 0; i < receiverCount; i++)
+                {
+                    counters[i] = descriptor.newReceiverCounter(countersManager, i);
+                }
+
+                agentCountersByDescriptorMap.put(descriptor, counters);
+            }
+        }
     }
 
     /**
@@ -52,6 +108,20 @@ public class SystemCounters implements AutoCloseable
         return counterByDescriptorMap.get(descriptor);
     }
 
+    /**
+     * Get the counter for a particular descriptor which is specific to a sender or receiver agent.
+     *
+     * @param descriptor by which the counter should be looked up.
+     * @param agentIndex of the sender or receiver the counter is for.
+     * @return the counter for the given descriptor and agent or null if not broken down by agent.
+     */
+    public AtomicCounter get(final SystemCounterDescriptor descriptor, final int agentIndex)
+    {
+        final AtomicCounter[] counters = agentCountersByDescriptorMap.get(descriptor);
+
+        return null == counters || agentIndex >= counters.length ? null : counters[agentIndex];
+    }
+
     /**
      * Close all the counters.
      */
@@ -61,5 +131,13 @@ public class SystemCounters implements AutoCloseable
         {
             counter.close();
         }
+
+        for (final AtomicCounter[] counters : agentCountersByDescriptorMap.values())
+        {
+            for (final AtomicCounter counter : counters)
+            {
+                counter.close();
+            }
+        }
     }
 }
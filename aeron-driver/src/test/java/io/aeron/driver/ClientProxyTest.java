@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.broadcast.BroadcastReceiver;
+import org.agrona.concurrent.broadcast.BroadcastTransmitter;
+import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.aeron.CncFileDescriptor.clientResponseBufferIndex;
+import static io.aeron.command.ControlProtocolEvents.ON_COUNTER_READY;
+import static io.aeron.command.ControlProtocolEvents.ON_OPERATION_SUCCESS;
+import static org.agrona.concurrent.broadcast.BroadcastBufferDescriptor.TRAILER_LENGTH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+public class ClientProxyTest
+{
+    private static final int BUFFER_LENGTH = (16 * 1024) + TRAILER_LENGTH;
+    private static final int RESPONSE_BUFFER_COUNT = 2;
+    private static final long CLIENT_ID = 7;
+
+    private final UnsafeBuffer toClientsBuffer = new UnsafeBuffer(new byte[BUFFER_LENGTH]);
+    private final UnsafeBuffer[] responseBuffers = new UnsafeBuffer[RESPONSE_BUFFER_COUNT];
+    private final List<CopyBroadcastReceiver> receivers = new ArrayList<>();
+    private final List<List<Integer>> receivedMsgTypeIds = new ArrayList<>();
+    private final ClientProxy clientProxy;
+
+    public ClientProxyTest()
+    {
+        final BroadcastTransmitter[] responseTransmitters = new BroadcastTransmitter[RESPONSE_BUFFER_COUNT];
+        for (int i = 0; i < RESPONSE_BUFFER_COUNT; i++)
+        {
+            responseBuffers[i] = new UnsafeBuffer(new byte[BUFFER_LENGTH]);
+            responseTransmitters[i] = new BroadcastTransmitter(responseBuffers[i]);
+        }
+
+        clientProxy = new ClientProxy(new BroadcastTransmitter(toClientsBuffer), responseTransmitters);
+    }
+
+    @Test
+    public void shouldTransmitClientEventOnSharedBufferAndOnlyResponseBufferForClient()
+    {
+        final List<Integer> toClients = attach(toClientsBuffer);
+        final List<Integer> forClient = attach(responseBuffers[responseBufferIndex(CLIENT_ID)]);
+        final List<Integer> forOthers = attach(responseBuffers[responseBufferIndex(CLIENT_ID + 1)]);
+
+        clientProxy.operationSucceeded(CLIENT_ID, 101);
+
+        receive();
+        assertThat(toClients, contains(ON_OPERATION_SUCCESS));
+        assertThat(forClient, contains(ON_OPERATION_SUCCESS));
+        assertThat(forOthers, empty());
+    }
+
+    @Test
+    public void shouldTransmitCounterEventOnAllResponseBuffers()
+    {
+        final List<Integer> toClients = attach(toClientsBuffer);
+        final List<Integer> responseOne = attach(responseBuffers[0]);
+        final List<Integer> responseTwo = attach(responseBuffers[1]);
+
+        clientProxy.onCounterReady(101, 3);
+
+        receive();
+        assertThat(toClients, contains(ON_COUNTER_READY));
+        assertThat(responseOne, contains(ON_COUNTER_READY));
+        assertThat(responseTwo, contains(ON_COUNTER_READY));
+    }
+
+    private List<Integer> attach(final UnsafeBuffer buffer)
+    {
+        final List<Integer> msgTypeIds = new ArrayList<>();
+        receivers.add(new CopyBroadcastReceiver(new BroadcastReceiver(buffer)));
+        receivedMsgTypeIds.add(msgTypeIds);
+
+        return msgTypeIds;
+    }
+
+    private static int responseBufferIndex(final long clientId)
+    {
+        return clientResponseBufferIndex(clientId, RESPONSE_BUFFER_COUNT);
+    }
+
+    private void receive()
+    {
+        for (int i = 0; i < receivers.size(); i++)
+        {
+            final List<Integer> msgTypeIds = receivedMsgTypeIds.get(i);
+            receivers.get(i).receive((msgTypeId, buffer, index, length) -> msgTypeIds.add(msgTypeId));
+        }
+    }
+}
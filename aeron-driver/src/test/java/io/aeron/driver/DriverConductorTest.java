@@ -69,6 +69,7 @@ public class DriverConductorTest
     private static final String CHANNEL_4000_TAG_ID_1 = "aeron:udp?endpoint=localhost:4000|tags=1001";
     private static final String CHANNEL_TAG_ID_1 = "aeron:udp?tags=1001";
     private static final String CHANNEL_SUB_CONTROL_MODE_MANUAL = "aeron:udp?control-mode=manual";
+    private static final String CHANNEL_PUB_CONTROL_MODE_MANUAL = "aeron:udp?control-mode=manual";
     private static final String CHANNEL_IPC = "aeron:ipc";
     private static final String INVALID_URI = "aeron:udp://";
     private static final String COUNTER_LABEL = "counter label";
@@ -210,7 +211,7 @@ public class DriverConductorTest
         assertThat(publication.streamId(), is(STREAM_ID_1));
 
         verify(mockClientProxy).onPublicationReady(
-            anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+            anyLong(), anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
     }
 
     @Test
@@ -245,7 +246,7 @@ public class DriverConductorTest
         assertThat(publication.consumerPosition(), is(expectedPosition));
 
         verify(mockClientProxy).onPublicationReady(
-            anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(true));
+            anyLong(), anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(true));
     }
 
     @Test
@@ -267,7 +268,7 @@ public class DriverConductorTest
 
         final ArgumentCaptor<Long> captor = ArgumentCaptor.forClass(Long.class);
         verify(mockClientProxy).onPublicationReady(
-            anyLong(), captor.capture(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(true));
+            anyLong(), anyLong(), captor.capture(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(true));
 
         final long registrationId = captor.getValue();
         final IpcPublication publication = driverConductor.getIpcPublication(registrationId);
@@ -287,7 +288,7 @@ public class DriverConductorTest
 
         verify(receiverProxy).registerReceiveChannelEndpoint(any());
         verify(receiverProxy).addSubscription(any(), eq(STREAM_ID_1));
-        verify(mockClientProxy).onSubscriptionReady(eq(id), anyInt());
+        verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(id), anyInt());
 
         assertNotNull(driverConductor.receiverChannelEndpoint(UdpChannel.parse(CHANNEL_4000)));
     }
@@ -403,6 +404,71 @@ public class DriverConductorTest
         assertNull(driverConductor.receiverChannelEndpoint(udpChannel));
     }
 
+    @Test
+    public void shouldRemoveSubscriptionsOnSameStreamInAnyOrder()
+    {
+        final long id1 = driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+        final long id2 = driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+        final long id3 = driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+        final long id4 = driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+
+        driverProxy.removeSubscription(id2);
+        driverProxy.removeSubscription(id4);
+        driverProxy.removeSubscription(id1);
+        driverProxy.removeSubscription(id2);
+        driverProxy.removeSubscription(id3);
+
+        driverConductor.doWork();
+
+        verify(mockClientProxy, times(4)).operationSucceeded(anyLong(), anyLong());
+        verify(mockClientProxy).onError(anyLong(), anyLong(), eq(UNKNOWN_SUBSCRIPTION), anyString());
+        verify(receiverProxy).removeSubscription(any(), eq(STREAM_ID_1));
+        assertNull(driverConductor.receiverChannelEndpoint(UdpChannel.parse(CHANNEL_4000)));
+    }
+
+    @Test
+    public void shouldErrorOnAddingSameSendDestinationTwice()
+    {
+        final long id = driverProxy.addPublication(CHANNEL_PUB_CONTROL_MODE_MANUAL, STREAM_ID_1);
+        driverConductor.doWork();
+
+        driverProxy.addDestination(id, CHANNEL_4000);
+        driverProxy.addDestination(id, CHANNEL_4000);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<AtomicCounter> sendsCaptor = ArgumentCaptor.forClass(AtomicCounter.class);
+        verify(senderProxy).addDestination(any(), any(), sendsCaptor.capture(), any());
+        verify(mockClientProxy).onError(anyLong(), anyLong(), eq(GENERIC_ERROR), anyString());
+        assertFalse(sendsCaptor.getValue().isClosed());
+    }
+
+    @Test
+    public void shouldNotCloseSendDestinationCountersUntilSenderHasRemovedDestination()
+    {
+        final long id = driverProxy.addPublication(CHANNEL_PUB_CONTROL_MODE_MANUAL, STREAM_ID_1);
+        driverConductor.doWork();
+
+        driverProxy.addDestination(id, CHANNEL_4000);
+        driverProxy.removeDestination(id, CHANNEL_4000);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<AtomicCounter> sendsCaptor = ArgumentCaptor.forClass(AtomicCounter.class);
+        final ArgumentCaptor<AtomicCounter> shortSendsCaptor = ArgumentCaptor.forClass(AtomicCounter.class);
+        final ArgumentCaptor<AtomicCounter[]> countersCaptor = ArgumentCaptor.forClass(AtomicCounter[].class);
+        verify(senderProxy).addDestination(any(), any(), sendsCaptor.capture(), shortSendsCaptor.capture());
+        verify(senderProxy).removeDestination(any(), any(), countersCaptor.capture());
+
+        final AtomicCounter[] counters = countersCaptor.getValue();
+        assertThat(counters, Matchers.arrayContaining(sendsCaptor.getValue(), shortSendsCaptor.getValue()));
+        assertFalse(counters[0].isClosed());
+        assertFalse(counters[1].isClosed());
+
+        driverConductor.onCloseSendDestinationCounters(counters);
+
+        assertTrue(counters[0].isClosed());
+        assertTrue(counters[1].isClosed());
+    }
+
     @Test
     public void shouldErrorOnRemovePublicationOnUnknownRegistrationId()
     {
@@ -415,8 +481,8 @@ public class DriverConductorTest
 
         inOrder.verify(senderProxy).newNetworkPublication(any());
         inOrder.verify(mockClientProxy).onPublicationReady(
-            anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
-        inOrder.verify(mockClientProxy).onError(anyLong(), eq(UNKNOWN_PUBLICATION), anyString());
+            anyLong(), anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+        inOrder.verify(mockClientProxy).onError(anyLong(), anyLong(), eq(UNKNOWN_PUBLICATION), anyString());
         inOrder.verifyNoMoreInteractions();
 
         verify(mockErrorCounter).increment();
@@ -449,8 +515,8 @@ public class DriverConductorTest
         final InOrder inOrder = inOrder(receiverProxy, mockClientProxy);
 
         inOrder.verify(receiverProxy).addSubscription(any(), anyInt());
-        inOrder.verify(mockClientProxy).onSubscriptionReady(eq(id1), anyInt());
-        inOrder.verify(mockClientProxy).onError(anyLong(), eq(UNKNOWN_SUBSCRIPTION), anyString());
+        inOrder.verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(id1), anyInt());
+        inOrder.verify(mockClientProxy).onError(anyLong(), anyLong(), eq(UNKNOWN_SUBSCRIPTION), anyString());
         inOrder.verifyNoMoreInteractions();
 
         verify(mockErrorHandler).onError(any(Throwable.class));
@@ -466,8 +532,8 @@ public class DriverConductorTest
 
         verify(senderProxy, never()).newNetworkPublication(any());
 
-        verify(mockClientProxy).onError(anyLong(), eq(INVALID_CHANNEL), anyString());
-        verify(mockClientProxy, never()).operationSucceeded(anyLong());
+        verify(mockClientProxy).onError(anyLong(), anyLong(), eq(INVALID_CHANNEL), anyString());
+        verify(mockClientProxy, never()).operationSucceeded(anyLong(), anyLong());
 
         verify(mockErrorCounter).increment();
         verify(mockErrorHandler).onError(any(Throwable.class));
@@ -493,6 +559,22 @@ public class DriverConductorTest
         assertNull(driverConductor.senderChannelEndpoint(UdpChannel.parse(CHANNEL_4000)));
     }
 
+    @Test
+    public void shouldAddNewPublicationAfterSharedPublicationAndClientTimeout()
+    {
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        driverConductor.doWork();
+
+        doWorkUntil(() -> (CLIENT_LIVENESS_TIMEOUT_NS + PUBLICATION_LINGER_TIMEOUT_NS * 2) - nanoClock.nanoTime() <= 0);
+
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy, times(2)).newNetworkPublication(captor.capture());
+        assertNotEquals(captor.getAllValues().get(0), captor.getAllValues().get(1));
+    }
+
     @Test
     public void shouldNotTimeoutPublicationOnKeepAlive()
     {
@@ -654,7 +736,7 @@ public class DriverConductorTest
         assertThat(publicationImage.streamId(), is(STREAM_ID_1));
 
         verify(mockClientProxy).onAvailableImage(
-            anyLong(), eq(STREAM_ID_1), eq(SESSION_ID), anyLong(), anyInt(), anyString(), anyString());
+            anyLong(), anyLong(), eq(STREAM_ID_1), eq(SESSION_ID), anyLong(), anyInt(), anyString(), anyString());
     }
 
     @Test
@@ -678,7 +760,7 @@ public class DriverConductorTest
 
         verify(receiverProxy, never()).newPublicationImage(any(), any());
         verify(mockClientProxy, never()).onAvailableImage(
-            anyLong(), anyInt(), anyInt(), anyLong(), anyInt(), anyString(), anyString());
+            anyLong(), anyLong(), anyInt(), anyInt(), anyLong(), anyInt(), anyString(), anyString());
     }
 
     @Test
@@ -711,7 +793,7 @@ public class DriverConductorTest
         doWorkUntil(() -> nanoClock.nanoTime() >= imageLivenessTimeoutNs() + 1000);
 
         verify(mockClientProxy).onUnavailableImage(
-            eq(publicationImage.correlationId()), eq(subId), eq(STREAM_ID_1), anyString());
+            anyLong(), eq(publicationImage.correlationId()), eq(subId), eq(STREAM_ID_1), anyString());
     }
 
     @Test
@@ -750,7 +832,7 @@ public class DriverConductorTest
 
         final InOrder inOrder = inOrder(mockClientProxy);
         inOrder.verify(mockClientProxy, times(2)).onAvailableImage(
-            eq(publicationImage.correlationId()),
+            anyLong(), eq(publicationImage.correlationId()),
             eq(STREAM_ID_1),
             eq(SESSION_ID),
             anyLong(),
@@ -758,9 +840,9 @@ public class DriverConductorTest
             anyString(),
             anyString());
         inOrder.verify(mockClientProxy, times(1)).onUnavailableImage(
-            eq(publicationImage.correlationId()), eq(subId1), eq(STREAM_ID_1), anyString());
+            anyLong(), eq(publicationImage.correlationId()), eq(subId1), eq(STREAM_ID_1), anyString());
         inOrder.verify(mockClientProxy, times(1)).onUnavailableImage(
-            eq(publicationImage.correlationId()), eq(subId2), eq(STREAM_ID_1), anyString());
+            anyLong(), eq(publicationImage.correlationId()), eq(subId2), eq(STREAM_ID_1), anyString());
     }
 
     @Test
@@ -801,9 +883,9 @@ public class DriverConductorTest
         driverConductor.doWork();
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy, times(1)).onSubscriptionReady(eq(subOneId), anyInt());
+        inOrder.verify(mockClientProxy, times(1)).onSubscriptionReady(anyLong(), eq(subOneId), anyInt());
         inOrder.verify(mockClientProxy, times(1)).onAvailableImage(
-            eq(publicationImage.correlationId()),
+            anyLong(), eq(publicationImage.correlationId()),
             eq(STREAM_ID_1),
             eq(SESSION_ID),
             anyLong(),
@@ -811,8 +893,8 @@ public class DriverConductorTest
             anyString(),
             anyString());
         inOrder.verify(mockClientProxy, times(1)).onUnavailableImage(
-            eq(publicationImage.correlationId()), eq(subOneId), eq(STREAM_ID_1), anyString());
-        inOrder.verify(mockClientProxy, times(1)).onSubscriptionReady(eq(subTwoId), anyInt());
+            anyLong(), eq(publicationImage.correlationId()), eq(subOneId), eq(STREAM_ID_1), anyString());
+        inOrder.verify(mockClientProxy, times(1)).onSubscriptionReady(anyLong(), eq(subTwoId), anyInt());
         inOrder.verifyNoMoreInteractions();
     }
 
@@ -825,7 +907,7 @@ public class DriverConductorTest
 
         assertNotNull(driverConductor.getSharedIpcPublication(STREAM_ID_1));
         verify(mockClientProxy).onPublicationReady(
-            anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+            anyLong(), anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
     }
 
     @Test
@@ -841,10 +923,10 @@ public class DriverConductorTest
 
         final InOrder inOrder = inOrder(mockClientProxy);
         inOrder.verify(mockClientProxy).onPublicationReady(
-            anyLong(), eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
-        inOrder.verify(mockClientProxy).onSubscriptionReady(eq(idSub), anyInt());
+            anyLong(), anyLong(), eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+        inOrder.verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(idSub), anyInt());
         inOrder.verify(mockClientProxy).onAvailableImage(
-            eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
+            anyLong(), eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
             anyLong(), anyInt(), eq(ipcPublication.rawLog().fileName()), anyString());
     }
 
@@ -868,17 +950,17 @@ public class DriverConductorTest
         assertNotNull(ipcPublicationTwo);
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy).onSubscriptionReady(eq(idSub), anyInt());
+        inOrder.verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(idSub), anyInt());
         inOrder.verify(mockClientProxy).onPublicationReady(
-            anyLong(), eq(idPubOne), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+            anyLong(), anyLong(), eq(idPubOne), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
         inOrder.verify(mockClientProxy).onAvailableImage(
-            eq(ipcPublicationOne.registrationId()), eq(STREAM_ID_1), eq(ipcPublicationOne.sessionId()),
+            anyLong(), eq(ipcPublicationOne.registrationId()), eq(STREAM_ID_1), eq(ipcPublicationOne.sessionId()),
             anyLong(), anyInt(), eq(ipcPublicationOne.rawLog().fileName()), anyString());
-        inOrder.verify(mockClientProxy).operationSucceeded(eq(idPubOneRemove));
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(idPubOneRemove));
         inOrder.verify(mockClientProxy).onPublicationReady(
-            anyLong(), eq(idPubTwo), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+            anyLong(), anyLong(), eq(idPubTwo), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
         inOrder.verify(mockClientProxy).onAvailableImage(
-            eq(ipcPublicationTwo.registrationId()), eq(STREAM_ID_1), eq(ipcPublicationTwo.sessionId()),
+            anyLong(), eq(ipcPublicationTwo.registrationId()), eq(STREAM_ID_1), eq(ipcPublicationTwo.sessionId()),
             anyLong(), anyInt(), eq(ipcPublicationTwo.rawLog().fileName()), anyString());
     }
 
@@ -894,11 +976,11 @@ public class DriverConductorTest
         assertNotNull(ipcPublication);
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy).onSubscriptionReady(eq(idSub), anyInt());
+        inOrder.verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(idSub), anyInt());
         inOrder.verify(mockClientProxy).onPublicationReady(
-            anyLong(), eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+            anyLong(), anyLong(), eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
         inOrder.verify(mockClientProxy).onAvailableImage(
-            eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
+            anyLong(), eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
             anyLong(), anyInt(), eq(ipcPublication.rawLog().fileName()), anyString());
     }
 
@@ -1011,7 +1093,7 @@ public class DriverConductorTest
 
         verify(receiverProxy, never()).registerReceiveChannelEndpoint(any());
         verify(receiverProxy, never()).addSubscription(any(), eq(STREAM_ID_1));
-        verify(mockClientProxy).onSubscriptionReady(eq(id), anyInt());
+        verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(id), anyInt());
 
         assertNull(driverConductor.receiverChannelEndpoint(UdpChannel.parse(CHANNEL_4000)));
     }
@@ -1031,9 +1113,9 @@ public class DriverConductorTest
         assertTrue(publication.hasSpies());
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy).onSubscriptionReady(eq(idSpy), anyInt());
+        inOrder.verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(idSpy), anyInt());
         inOrder.verify(mockClientProxy).onAvailableImage(
-            eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
+            anyLong(), eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
             anyLong(), anyInt(), eq(publication.rawLog().fileName()), anyString());
     }
 
@@ -1052,9 +1134,9 @@ public class DriverConductorTest
         assertTrue(publication.hasSpies());
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy).onSubscriptionReady(eq(idSpy), anyInt());
+        inOrder.verify(mockClientProxy).onSubscriptionReady(anyLong(), eq(idSpy), anyInt());
         inOrder.verify(mockClientProxy).onAvailableImage(
-            eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
+            anyLong(), eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
             anyLong(), anyInt(), eq(publication.rawLog().fileName()), anyString());
     }
 
@@ -1142,7 +1224,7 @@ public class DriverConductorTest
         doWorkUntil(() -> (CLIENT_LIVENESS_TIMEOUT_NS * 2) - nanoClock.nanoTime() <= 0);
 
         verify(mockClientProxy).onUnavailableImage(
-            eq(networkPublicationCorrelationId(publication)), eq(subId), eq(STREAM_ID_1), anyString());
+            anyLong(), eq(networkPublicationCorrelationId(publication)), eq(subId), eq(STREAM_ID_1), anyString());
     }
 
     @Test
@@ -1159,7 +1241,7 @@ public class DriverConductorTest
             return (PUBLICATION_LINGER_TIMEOUT_NS * 2) - nanoClock.nanoTime() <= 0;
         });
 
-        verify(senderProxy, times(1)).closeSendChannelEndpoint(any());
+        verify(senderProxy, times(1)).closeSendChannelEndpoint(any(), any());
     }
 
     @Test
@@ -1188,7 +1270,7 @@ public class DriverConductorTest
         final long id2 = driverProxy.addSubscription(CHANNEL_4000 + "|reliable=false", STREAM_ID_1);
         driverConductor.doWork();
 
-        verify(mockClientProxy).onError(eq(id2), any(ErrorCode.class), anyString());
+        verify(mockClientProxy).onError(anyLong(), eq(id2), any(ErrorCode.class), anyString());
     }
 
     @Test
@@ -1200,7 +1282,7 @@ public class DriverConductorTest
         final long id2 = driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
         driverConductor.doWork();
 
-        verify(mockClientProxy).onError(eq(id2), any(ErrorCode.class), anyString());
+        verify(mockClientProxy).onError(anyLong(), eq(id2), any(ErrorCode.class), anyString());
     }
 
     @Test
@@ -1212,7 +1294,7 @@ public class DriverConductorTest
         final long id2 = driverProxy.addSubscription(CHANNEL_4000 + "|reliable=true", STREAM_ID_1);
         driverConductor.doWork();
 
-        verify(mockClientProxy).onError(eq(id2), any(ErrorCode.class), anyString());
+        verify(mockClientProxy).onError(anyLong(), eq(id2), any(ErrorCode.class), anyString());
     }
 
     @Test
@@ -1261,7 +1343,7 @@ public class DriverConductorTest
 
         final InOrder inOrder = inOrder(mockClientProxy);
         inOrder.verify(mockClientProxy).onCounterReady(eq(registrationId), captor.capture());
-        inOrder.verify(mockClientProxy).operationSucceeded(removeCorrelationId);
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(removeCorrelationId));
 
         verify(spyCountersManager).free(captor.getValue());
     }
@@ -1337,7 +1419,7 @@ public class DriverConductorTest
 
         final InOrder inOrder = inOrder(mockClientProxy);
         inOrder.verify(mockClientProxy).onCounterReady(eq(registrationId), captor.capture());
-        inOrder.verify(mockClientProxy).operationSucceeded(removeCorrelationId);
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(removeCorrelationId));
         inOrder.verify(mockClientProxy).onUnavailableCounter(eq(registrationId), captor.capture());
 
         verify(spyCountersManager).free(captor.getValue());
@@ -1388,7 +1470,8 @@ public class DriverConductorTest
         driverConductor.doWork();
 
         verify(mockClientProxy, times(2)).onPublicationReady(
-            anyLong(), anyLong(), eq(STREAM_ID_1), eq(sessionId), anyString(), anyInt(), anyInt(), eq(false));
+            anyLong(), anyLong(), anyLong(), eq(STREAM_ID_1),
+            eq(sessionId), anyString(), anyInt(), anyInt(), eq(false));
     }
 
     @Test
@@ -1406,9 +1489,11 @@ public class DriverConductorTest
         driverConductor.doWork();
 
         verify(mockClientProxy).onPublicationReady(
-            anyLong(), anyLong(), eq(STREAM_ID_1), eq(sessionId), anyString(), anyInt(), anyInt(), eq(false));
+            anyLong(), anyLong(), anyLong(), eq(STREAM_ID_1),
+            eq(sessionId), anyString(), anyInt(), anyInt(), eq(false));
         verify(mockClientProxy).onPublicationReady(
-            anyLong(), anyLong(), eq(STREAM_ID_1), eq(sessionId + 1), anyString(), anyInt(), anyInt(), eq(true));
+            anyLong(), anyLong(), anyLong(), eq(STREAM_ID_1),
+            eq(sessionId + 1), anyString(), anyInt(), anyInt(), eq(true));
     }
 
     @Test
@@ -1425,7 +1510,7 @@ public class DriverConductorTest
         final long correlationId = driverProxy.addPublication(CHANNEL_4000 + sessionIdParam, STREAM_ID_1);
         driverConductor.doWork();
 
-        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+        verify(mockClientProxy).onError(anyLong(), eq(correlationId), eq(GENERIC_ERROR), anyString());
         verify(mockErrorCounter).increment();
         verify(mockErrorHandler).onError(any(Throwable.class));
     }
@@ -1444,7 +1529,7 @@ public class DriverConductorTest
         final long correlationId = driverProxy.addExclusivePublication(CHANNEL_4000 + sessionIdParam, STREAM_ID_1);
         driverConductor.doWork();
 
-        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+        verify(mockClientProxy).onError(anyLong(), eq(correlationId), eq(GENERIC_ERROR), anyString());
         verify(mockErrorCounter).increment();
         verify(mockErrorHandler).onError(any(Throwable.class));
     }
@@ -1465,7 +1550,7 @@ public class DriverConductorTest
         assertNotNull(ipcPublication);
 
         verify(mockClientProxy).onAvailableImage(
-            eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
+            anyLong(), eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
             anyLong(), anyInt(), eq(ipcPublication.rawLog().fileName()), anyString());
     }
 
@@ -1485,7 +1570,7 @@ public class DriverConductorTest
         assertNotNull(ipcPublication);
 
         verify(mockClientProxy).onAvailableImage(
-            eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
+            anyLong(), eq(ipcPublication.registrationId()), eq(STREAM_ID_1), eq(ipcPublication.sessionId()),
             anyLong(), anyInt(), eq(ipcPublication.rawLog().fileName()), anyString());
     }
 
@@ -1506,7 +1591,7 @@ public class DriverConductorTest
         assertNotNull(ipcPublication);
 
         verify(mockClientProxy, never()).onAvailableImage(
-            anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
+            anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
     }
 
     @Test
@@ -1526,7 +1611,7 @@ public class DriverConductorTest
         assertNotNull(ipcPublication);
 
         verify(mockClientProxy, never()).onAvailableImage(
-            anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
+            anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
     }
 
     @Test
@@ -1546,7 +1631,7 @@ public class DriverConductorTest
         assertTrue(publication.hasSpies());
 
         verify(mockClientProxy).onAvailableImage(
-            eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
+            anyLong(), eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
             anyLong(), anyInt(), eq(publication.rawLog().fileName()), anyString());
     }
 
@@ -1569,7 +1654,7 @@ public class DriverConductorTest
         assertFalse(publication.hasSpies());
 
         verify(mockClientProxy, never()).onAvailableImage(
-            anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
+            anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
     }
 
     @Test
@@ -1589,7 +1674,7 @@ public class DriverConductorTest
         assertTrue(publication.hasSpies());
 
         verify(mockClientProxy).onAvailableImage(
-            eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
+            anyLong(), eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
             anyLong(), anyInt(), eq(publication.rawLog().fileName()), anyString());
     }
 
@@ -1612,7 +1697,7 @@ public class DriverConductorTest
         assertFalse(publication.hasSpies());
 
         verify(mockClientProxy, never()).onAvailableImage(
-            anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
+            anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
     }
 
     @Test
@@ -1633,7 +1718,7 @@ public class DriverConductorTest
         doWorkUntil(
             () -> (PUBLICATION_LINGER_TIMEOUT_NS * 2 + CLIENT_LIVENESS_TIMEOUT_NS * 2) - nanoClock.nanoTime() <= 0);
 
-        verify(senderProxy).closeSendChannelEndpoint(any());
+        verify(senderProxy).closeSendChannelEndpoint(any(), any());
     }
 
     @Test
@@ -1654,7 +1739,7 @@ public class DriverConductorTest
         doWorkUntil(
             () -> (PUBLICATION_LINGER_TIMEOUT_NS * 2 + CLIENT_LIVENESS_TIMEOUT_NS * 2) - nanoClock.nanoTime() <= 0);
 
-        verify(senderProxy).closeSendChannelEndpoint(any());
+        verify(senderProxy).closeSendChannelEndpoint(any(), any());
     }
 
     @Test
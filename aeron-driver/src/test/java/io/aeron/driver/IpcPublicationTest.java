@@ -25,6 +25,8 @@ import io.aeron.DriverProxy;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.AtomicLongPosition;
 import org.agrona.concurrent.status.CountersManager;
 import org.agrona.concurrent.status.Position;
 import org.agrona.concurrent.status.UnsafeBufferPosition;
@@ -32,17 +34,23 @@ import org.agrona.concurrent.status.UnsafeBufferPosition;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
+import static io.aeron.logbuffer.LogBufferDescriptor.indexByPosition;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class IpcPublicationTest
 {
     private static final long CLIENT_ID = 7L;
     private static final int STREAM_ID = 10;
     private static final int TERM_BUFFER_LENGTH = LogBufferDescriptor.TERM_MIN_LENGTH;
+    private static final int POSITION_BITS_TO_SHIFT = LogBufferDescriptor.positionBitsToShift(TERM_BUFFER_LENGTH);
+    private static final int TERM_CLEANING_SLICE_LENGTH = 256;
     private static final int BUFFER_LENGTH = 16 * 1024;
 
     private Position publisherLimit;
@@ -65,9 +73,13 @@ public class IpcPublicationTest
         final CountersManager countersManager = new CountersManager(
             new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH * 2)), counterBuffer, StandardCharsets.US_ASCII);
 
+        final SystemCounters systemCounters = mock(SystemCounters.class);
+        when(systemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
+
         final MediaDriver.Context ctx = new MediaDriver.Context()
             .tempBuffer(new UnsafeBuffer(new byte[METADATA_LENGTH]))
             .ipcTermBufferLength(TERM_BUFFER_LENGTH)
+            .termCleaningSliceLength(TERM_CLEANING_SLICE_LENGTH)
             .toDriverCommands(toDriverCommands)
             .logFactory(new TestLogFactory())
             .clientProxy(mock(ClientProxy.class))
@@ -76,7 +88,7 @@ public class IpcPublicationTest
             .cachedEpochClock(new CachedEpochClock())
             .cachedNanoClock(new CachedNanoClock())
             .countersManager(countersManager)
-            .systemCounters(mock(SystemCounters.class))
+            .systemCounters(systemCounters)
             .nanoClock(nanoClock);
 
         ctx.countersValuesBuffer(counterBuffer);
@@ -119,4 +131,59 @@ public class IpcPublicationTest
 
         assertThat(publisherLimit.get(), is(greaterThan(0L)));
     }
+
+    @Test
+    public void shouldCleanTermBeforePublisherCanReuseItWhenCleaningIsSliced()
+    {
+        final SubscriptionLink subscriptionLink = mock(SubscriptionLink.class);
+        when(subscriptionLink.isTether()).thenReturn(Boolean.TRUE);
+        final Position subscriberPosition = new AtomicLongPosition();
+        ipcPublication.addSubscriber(subscriptionLink, subscriberPosition);
+
+        final UnsafeBuffer[] termBuffers = ipcPublication.rawLog().termBuffers();
+        long producerPosition = 0;
+        long consumerPosition = 0;
+
+        for (int dutyCycle = 0; consumerPosition < TERM_BUFFER_LENGTH * 8L; dutyCycle++)
+        {
+            if (0 != dutyCycle % 3)
+            {
+                consumerPosition += 1024;
+            }
+
+            subscriberPosition.setOrdered(consumerPosition);
+            ipcPublication.updatePublisherLimit();
+            producerPosition = fillCleanLogTo(termBuffers, producerPosition, publisherLimit.get());
+        }
+
+        assertThat(producerPosition, is(greaterThan(TERM_BUFFER_LENGTH * 8L)));
+    }
+
+    private static long fillCleanLogTo(final UnsafeBuffer[] termBuffers, final long fromPosition, final long limit)
+    {
+        long position = fromPosition;
+        while (position < limit)
+        {
+            final UnsafeBuffer termBuffer = termBuffers[indexByPosition(position, POSITION_BITS_TO_SHIFT)];
+            final int termOffset = (int)position & (TERM_BUFFER_LENGTH - 1);
+
+            if (0 == termOffset)
+            {
+                assertTermIsClean(termBuffer);
+            }
+
+            termBuffer.putLong(termOffset, -1L);
+            position += SIZE_OF_LONG;
+        }
+
+        return position;
+    }
+
+    private static void assertTermIsClean(final UnsafeBuffer termBuffer)
+    {
+        for (int i = 0; i < TERM_BUFFER_LENGTH; i += SIZE_OF_LONG)
+        {
+            assertThat(termBuffer.getLong(i), is(0L));
+        }
+    }
 }
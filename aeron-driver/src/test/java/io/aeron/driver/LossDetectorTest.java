@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.TermRebuilder;
@@ -25,8 +26,11 @@ import io.aeron.protocol.HeaderFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -291,6 +295,57 @@ public class LossDetectorTest
         verifyNoMoreInteractions(lossHandler);
     }
 
+    @Test
+    public void shouldNakMultipleGapsTogether()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        final ArgumentCaptor<int[]> termOffsets = ArgumentCaptor.forClass(int[].class);
+        final ArgumentCaptor<int[]> lengths = ArgumentCaptor.forClass(int[].class);
+        verify(lossHandler).onGapsDetected(eq(TERM_ID), termOffsets.capture(), lengths.capture(), eq(3));
+        verifyNoMoreInteractions(lossHandler);
+
+        assertThat(
+            Arrays.copyOf(termOffsets.getValue(), 3),
+            is(new int[]{ offsetOfMessage(1), offsetOfMessage(3), offsetOfMessage(5) }));
+        assertThat(Arrays.copyOf(lengths.getValue(), 3), is(new int[]{ gapLength(), gapLength(), gapLength() }));
+    }
+
+    @Test
+    public void shouldNotRestartDelayWhenOneOfMultipleGapsIsRepaired()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(3));
+        currentTime = TimeUnit.MILLISECONDS.toNanos(10);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(20);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
     private LossDetector getLossHandlerWithImmediate()
     {
         return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
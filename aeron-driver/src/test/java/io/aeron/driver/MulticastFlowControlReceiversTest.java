@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class MulticastFlowControlReceiversTest
+{
+    private static final long TIMEOUT_NS = 1_000;
+    private static final int WINDOW_LENGTH = 128;
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("localhost", 40123);
+
+    private final MulticastFlowControlReceivers receivers = new MulticastFlowControlReceivers(TIMEOUT_NS);
+
+    @Test
+    public void shouldReportMaxValueWhenEmpty()
+    {
+        assertThat(receivers.size(), is(0));
+        assertThat(receivers.minPositionPlusWindow(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldTrackMinimumAcrossReceivers()
+    {
+        receivers.onStatusMessage(1, 300, WINDOW_LENGTH, 0, ADDRESS);
+        receivers.onStatusMessage(2, 100, WINDOW_LENGTH, 0, ADDRESS);
+        receivers.onStatusMessage(3, 200, WINDOW_LENGTH, 0, ADDRESS);
+
+        assertThat(receivers.size(), is(3));
+        assertThat(receivers.minPositionPlusWindow(), is(100L + WINDOW_LENGTH));
+
+        receivers.onStatusMessage(2, 400, WINDOW_LENGTH, 1, ADDRESS);
+
+        assertThat(receivers.size(), is(3));
+        assertThat(receivers.minPositionPlusWindow(), is(200L + WINDOW_LENGTH));
+    }
+
+    @Test
+    public void shouldKeepMaxPositionButLatestWindow()
+    {
+        receivers.onStatusMessage(1, 300, WINDOW_LENGTH, 0, ADDRESS);
+        receivers.onStatusMessage(1, 200, WINDOW_LENGTH, 1, ADDRESS);
+
+        final MulticastFlowControlReceivers.Receiver receiver = receivers.receiver(1);
+        assertThat(receiver.lastPosition, is(300L));
+        assertThat(receiver.lastPositionPlusWindow, is(200L + WINDOW_LENGTH));
+        assertThat(receivers.minPositionPlusWindow(), is(200L + WINDOW_LENGTH));
+    }
+
+    @Test
+    public void shouldRemoveOnlyTimedOutReceivers()
+    {
+        receivers.onStatusMessage(1, 100, WINDOW_LENGTH, 0, ADDRESS);
+        receivers.onStatusMessage(2, 200, WINDOW_LENGTH, 10, ADDRESS);
+        receivers.onStatusMessage(3, 300, WINDOW_LENGTH, 20, ADDRESS);
+        receivers.onStatusMessage(1, 100, WINDOW_LENGTH, 30, ADDRESS);
+
+        receivers.removeTimedOut(TIMEOUT_NS + 15);
+
+        assertThat(receivers.size(), is(2));
+        assertThat(receivers.receiver(2), nullValue());
+        assertThat(receivers.minPositionPlusWindow(), is(100L + WINDOW_LENGTH));
+
+        receivers.removeTimedOut(TIMEOUT_NS + 31);
+
+        assertThat(receivers.size(), is(0));
+        assertThat(receivers.minPositionPlusWindow(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldMatchFullScanForRandomStatusMessagesAndTimeouts()
+    {
+        final Random random = new Random(7);
+        final Map<Long, long[]> expectedByIdMap = new HashMap<>();
+        long timeNs = 0;
+
+        for (int i = 0; i < 100_000; i++)
+        {
+            timeNs += random.nextInt(10);
+
+            if (random.nextInt(100) == 0)
+            {
+                final long nowNs = timeNs;
+                receivers.removeTimedOut(nowNs);
+                expectedByIdMap.values().removeIf((state) -> (state[1] + TIMEOUT_NS) - nowNs < 0);
+            }
+            else
+            {
+                final long receiverId = random.nextInt(500);
+                final long position = random.nextInt(1_000_000);
+                final int windowLength = random.nextInt(WINDOW_LENGTH);
+
+                receivers.onStatusMessage(receiverId, position, windowLength, timeNs, ADDRESS);
+                expectedByIdMap.put(receiverId, new long[]{ position + windowLength, timeNs });
+            }
+
+            assertThat(receivers.size(), is(expectedByIdMap.size()));
+            assertThat(receivers.minPositionPlusWindow(), is(minPositionPlusWindow(expectedByIdMap)));
+        }
+    }
+
+    private static long minPositionPlusWindow(final Map<Long, long[]> stateByIdMap)
+    {
+        long min = Long.MAX_VALUE;
+        for (final long[] state : stateByIdMap.values())
+        {
+            min = Math.min(min, state[0]);
+        }
+
+        return min;
+    }
+}
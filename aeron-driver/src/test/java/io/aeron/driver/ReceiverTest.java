@@ -32,8 +32,10 @@ import java.nio.channels.DatagramChannel;
 import java.util.ArrayList;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.BitUtil.align;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.*;
@@ -192,7 +194,9 @@ public class ReceiverTest
             ACTIVE_TERM_ID,
             INITIAL_TERM_OFFSET,
             rawLog,
+            Configuration.termCleaningSliceLength(),
             mockFeedbackDelayGenerator,
+            Configuration.NAK_MAX_RANGES_DEFAULT,
             POSITIONS,
             mockHighestReceivedPosition,
             mockRebuildPosition,
@@ -202,7 +206,8 @@ public class ReceiverTest
             mockSystemCounters,
             SOURCE_ADDRESS,
             congestionControl,
-            lossReport);
+            lossReport,
+            false);
 
         final int messagesRead = toConductorQueue.drain((e) ->
         {
@@ -265,7 +270,9 @@ public class ReceiverTest
                     ACTIVE_TERM_ID,
                     INITIAL_TERM_OFFSET,
                     rawLog,
+                    Configuration.termCleaningSliceLength(),
                     mockFeedbackDelayGenerator,
+                    Configuration.NAK_MAX_RANGES_DEFAULT,
                     POSITIONS,
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
@@ -275,7 +282,8 @@ public class ReceiverTest
                     mockSystemCounters,
                     SOURCE_ADDRESS,
                     congestionControl,
-                    lossReport);
+                    lossReport,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -336,7 +344,9 @@ public class ReceiverTest
                     ACTIVE_TERM_ID,
                     INITIAL_TERM_OFFSET,
                     rawLog,
+                    Configuration.termCleaningSliceLength(),
                     mockFeedbackDelayGenerator,
+                    Configuration.NAK_MAX_RANGES_DEFAULT,
                     POSITIONS,
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
@@ -346,7 +356,8 @@ public class ReceiverTest
                     mockSystemCounters,
                     SOURCE_ADDRESS,
                     congestionControl,
-                    lossReport);
+                    lossReport,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -410,7 +421,9 @@ public class ReceiverTest
                     ACTIVE_TERM_ID,
                     INITIAL_TERM_OFFSET,
                     rawLog,
+                    Configuration.termCleaningSliceLength(),
                     mockFeedbackDelayGenerator,
+                    Configuration.NAK_MAX_RANGES_DEFAULT,
                     POSITIONS,
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
@@ -420,7 +433,8 @@ public class ReceiverTest
                     mockSystemCounters,
                     SOURCE_ADDRESS,
                     congestionControl,
-                    lossReport);
+                    lossReport,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -488,7 +502,9 @@ public class ReceiverTest
                     ACTIVE_TERM_ID,
                     initialTermOffset,
                     rawLog,
+                    Configuration.termCleaningSliceLength(),
                     mockFeedbackDelayGenerator,
+                    Configuration.NAK_MAX_RANGES_DEFAULT,
                     POSITIONS,
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
@@ -498,7 +514,8 @@ public class ReceiverTest
                     mockSystemCounters,
                     SOURCE_ADDRESS,
                     congestionControl,
-                    lossReport);
+                    lossReport,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -581,6 +598,98 @@ public class ReceiverTest
         verify(mockImage, never()).removeFromDispatcher();
     }
 
+    @Test
+    public void shouldCleanTermBeforeSenderCanReuseItWhenCleaningIsSliced()
+    {
+        final int windowLength = TERM_BUFFER_LENGTH >> 1;
+        when(congestionControl.onTrackRebuild(
+            anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyBoolean()))
+            .thenReturn(CongestionControl.packOutcome(windowLength, false));
+
+        final SubscriptionLink subscriptionLink = mock(SubscriptionLink.class);
+        when(subscriptionLink.isTether()).thenReturn(Boolean.TRUE);
+        when(subscriptionLink.isReliable()).thenReturn(Boolean.TRUE);
+        final Position subscriberPosition = new AtomicLongPosition();
+        final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
+        subscriberPositions.add(new SubscriberPosition(subscriptionLink, null, subscriberPosition));
+
+        final RawLog cleaningRawLog = TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH);
+        final Position hwmPosition = new AtomicLongPosition();
+        final Position rebuildPosition = new AtomicLongPosition();
+
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            IMAGE_LIVENESS_TIMEOUT_NS,
+            UNTETHERED_WINDOW_LIMIT_TIMEOUT_NS,
+            UNTETHERED_RESTING_TIMEOUT_NS,
+            receiveChannelEndpoint,
+            0,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            INITIAL_TERM_OFFSET,
+            cleaningRawLog,
+            256,
+            mockFeedbackDelayGenerator,
+            Configuration.NAK_MAX_RANGES_DEFAULT,
+            subscriberPositions,
+            hwmPosition,
+            rebuildPosition,
+            nanoClock,
+            nanoClock,
+            epochClock,
+            mockSystemCounters,
+            SOURCE_ADDRESS,
+            congestionControl,
+            lossReport,
+            false);
+
+        final UnsafeBuffer[] termBuffers = cleaningRawLog.termBuffers();
+        long producerPosition = 0;
+        long consumerPosition = 0;
+
+        for (int dutyCycle = 0; consumerPosition < TERM_BUFFER_LENGTH * 8L; dutyCycle++)
+        {
+            if (0 != dutyCycle % 3)
+            {
+                consumerPosition += 1024;
+            }
+
+            subscriberPosition.setOrdered(consumerPosition);
+            image.trackRebuild(nanoClock.nanoTime(), STATUS_MESSAGE_TIMEOUT);
+
+            final long limit = consumerPosition + windowLength;
+            while (producerPosition < limit)
+            {
+                final UnsafeBuffer termBuffer = termBuffers[indexByPosition(producerPosition, POSITION_BITS_TO_SHIFT)];
+                final int termOffset = (int)producerPosition & (TERM_BUFFER_LENGTH - 1);
+
+                if (0 == termOffset)
+                {
+                    assertTermIsClean(termBuffer);
+                }
+
+                termBuffer.putLong(termOffset, -1L);
+                producerPosition += SIZE_OF_LONG;
+            }
+
+            hwmPosition.setOrdered(producerPosition);
+            rebuildPosition.setOrdered(producerPosition);
+        }
+
+        assertThat(producerPosition, is(greaterThan(TERM_BUFFER_LENGTH * 8L)));
+    }
+
+    private static void assertTermIsClean(final UnsafeBuffer termBuffer)
+    {
+        for (int i = 0; i < TERM_BUFFER_LENGTH; i += SIZE_OF_LONG)
+        {
+            assertThat(termBuffer.getLong(i), is(0L));
+        }
+    }
+
     private void fillDataFrame(final DataHeaderFlyweight header, final int termOffset, final byte[] payload)
     {
         header.wrap(dataBuffer);
@@ -32,6 +32,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_DATAGRAM_BUDGET_EXHAUSTED;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
@@ -44,6 +45,7 @@ public class SelectorAndTransportTest
     private static final int STREAM_ID = 0x44332211;
     private static final int TERM_ID = 0x99887766;
     private static final int FRAME_LENGTH = 24;
+    private static final int DATAGRAM_BUDGET = 2;
 
     private static final UdpChannel SRC_DST =
         UdpChannel.parse("aeron:udp?interface=localhost:" + SRC_PORT + "|endpoint=localhost:" + RCV_PORT);
@@ -59,13 +61,14 @@ public class SelectorAndTransportTest
 
     private final SystemCounters mockSystemCounters = mock(SystemCounters.class);
     private final AtomicCounter mockStatusMessagesReceivedCounter = mock(AtomicCounter.class);
+    private final AtomicCounter mockDatagramBudgetExhaustedCounter = mock(AtomicCounter.class);
     private final AtomicCounter mockSendStatusIndicator = mock(AtomicCounter.class);
     private final AtomicCounter mockReceiveStatusIndicator = mock(AtomicCounter.class);
 
     private final DataPacketDispatcher mockDispatcher = mock(DataPacketDispatcher.class);
     private final NetworkPublication mockPublication = mock(NetworkPublication.class);
 
-    private final DataTransportPoller dataTransportPoller = new DataTransportPoller();
+    private DataTransportPoller dataTransportPoller;
     private final ControlTransportPoller controlTransportPoller = new ControlTransportPoller();
     private SendChannelEndpoint sendChannelEndpoint;
     private ReceiveChannelEndpoint receiveChannelEndpoint;
@@ -76,6 +79,7 @@ public class SelectorAndTransportTest
     public void setup()
     {
         when(mockSystemCounters.get(any())).thenReturn(mockStatusMessagesReceivedCounter);
+        when(mockSystemCounters.get(RECEIVER_DATAGRAM_BUDGET_EXHAUSTED)).thenReturn(mockDatagramBudgetExhaustedCounter);
         when(mockPublication.streamId()).thenReturn(STREAM_ID);
         when(mockPublication.sessionId()).thenReturn(SESSION_ID);
 
@@ -83,6 +87,8 @@ public class SelectorAndTransportTest
             .applicationSpecificFeedback(Configuration.applicationSpecificFeedback())
             .systemCounters(mockSystemCounters)
             .receiveChannelEndpointThreadLocals(new ReceiveChannelEndpointThreadLocals(context));
+
+        dataTransportPoller = new DataTransportPoller(DATAGRAM_BUDGET, mockSystemCounters, false);
     }
 
     @After
@@ -239,6 +245,124 @@ public class SelectorAndTransportTest
         assertThat(dataHeadersReceived.get(), is(1));
     }
 
+    @Test(timeout = 1000)
+    public void shouldReadDatagramsFromTransportUpToBudgetPerPoll()
+    {
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(dataTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        processLoop(dataTransportPoller, 5);
+        for (int i = 0; i < DATAGRAM_BUDGET + 1; i++)
+        {
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            sendChannelEndpoint.send(byteBuffer);
+        }
+
+        while (dataHeadersReceived.get() < 1)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        assertThat(dataHeadersReceived.get(), is(DATAGRAM_BUDGET));
+
+        while (dataHeadersReceived.get() < DATAGRAM_BUDGET + 1)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        assertThat(dataHeadersReceived.get(), is(DATAGRAM_BUDGET + 1));
+        verify(mockDatagramBudgetExhaustedCounter).getAndAddOrdered(1);
+    }
+
+    @Test(timeout = 1000)
+    public void shouldNotCountExhaustedBudgetWhenNoDatagramsAreLeftPending()
+    {
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(dataTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        processLoop(dataTransportPoller, 5);
+        for (int i = 0; i < DATAGRAM_BUDGET; i++)
+        {
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            sendChannelEndpoint.send(byteBuffer);
+        }
+
+        while (dataHeadersReceived.get() < DATAGRAM_BUDGET)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        processLoop(dataTransportPoller, 5);
+
+        verifyNoInteractions(mockDatagramBudgetExhaustedCounter);
+    }
+
     @Test(timeout = 1000)
     public void shouldHandleSmFrameFromReceiverToSender()
     {
@@ -26,6 +26,7 @@ import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermAppender;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.concurrent.CachedEpochClock;
@@ -38,6 +39,7 @@ import org.agrona.concurrent.status.Position;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.stubbing.Answer;
 
 import java.net.InetSocketAddress;
@@ -47,8 +49,11 @@ import java.util.Queue;
 
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
+import static io.aeron.logbuffer.LogBufferDescriptor.indexByPosition;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.BitUtil.align;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.*;
@@ -56,6 +61,7 @@ import static org.mockito.Mockito.*;
 public class SenderTest
 {
     private static final int TERM_BUFFER_LENGTH = LogBufferDescriptor.TERM_MIN_LENGTH;
+    private static final int POSITION_BITS_TO_SHIFT = LogBufferDescriptor.positionBitsToShift(TERM_BUFFER_LENGTH);
     private static final int MAX_FRAME_LENGTH = 1024;
     private static final int SESSION_ID = 1;
     private static final int STREAM_ID = 2;
@@ -68,6 +74,8 @@ public class SenderTest
     private static final int ALIGNED_FRAME_LENGTH = align(FRAME_LENGTH, FRAME_ALIGNMENT);
 
     private final ControlTransportPoller mockTransportPoller = mock(ControlTransportPoller.class);
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
+    private final DriverConductorProxy mockDriverConductorProxy = mock(DriverConductorProxy.class);
 
     private final RawLog rawLog = TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH);
 
@@ -108,7 +116,6 @@ public class SenderTest
     @Before
     public void setUp()
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
@@ -120,6 +127,7 @@ public class SenderTest
                 .controlTransportPoller(mockTransportPoller)
                 .systemCounters(mockSystemCounters)
                 .senderCommandQueue(senderCommandQueue)
+                .driverConductorProxy(mockDriverConductorProxy)
                 .nanoClock(nanoClock));
 
         LogBufferDescriptor.initialiseTailWithTermId(rawLog.metaData(), 0, INITIAL_TERM_ID);
@@ -136,31 +144,7 @@ public class SenderTest
         params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
         params.signalEos = true;
 
-        publication = new NetworkPublication(
-            1,
-            params,
-            mockSendChannelEndpoint,
-            nanoClock,
-            rawLog,
-            Configuration.producerWindowLength(TERM_BUFFER_LENGTH, Configuration.publicationTermWindowLength()),
-            mock(Position.class),
-            mock(Position.class),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            mock(AtomicCounter.class),
-            SESSION_ID,
-            STREAM_ID,
-            INITIAL_TERM_ID,
-            mockSystemCounters,
-            flowControl,
-            mockRetransmitHandler,
-            new NetworkPublicationThreadLocals(),
-            Configuration.publicationUnblockTimeoutNs(),
-            Configuration.publicationConnectionTimeoutNs(),
-            Configuration.untetheredWindowLimitTimeoutNs(),
-            Configuration.untetheredRestingTimeoutNs(),
-            false,
-            false);
+        publication = newNetworkPublication(params);
 
         senderCommandQueue.offer(() -> sender.onNewNetworkPublication(publication));
     }
@@ -195,6 +179,27 @@ public class SenderTest
         assertThat(setupHeader.version(), is((short)HeaderFlyweight.CURRENT_VERSION));
     }
 
+    @Test
+    public void shouldHandDestinationCountersBackToConductorOnlyAfterRemovingDestination()
+    {
+        final InetSocketAddress destination = new InetSocketAddress("localhost", 40124);
+        final AtomicCounter sends = mock(AtomicCounter.class);
+        final AtomicCounter shortSends = mock(AtomicCounter.class);
+        final AtomicCounter[] counters = new AtomicCounter[]{ sends, shortSends };
+
+        sender.doWork();
+        assertThat(receivedFrames.size(), is(1));
+
+        senderCommandQueue.offer(() -> sender.onRemoveDestination(mockSendChannelEndpoint, destination, counters));
+        sender.doWork();
+
+        final InOrder inOrder = inOrder(mockSendChannelEndpoint, mockDriverConductorProxy);
+        inOrder.verify(mockSendChannelEndpoint).removeDestination(destination);
+        inOrder.verify(mockDriverConductorProxy).closeSendDestinationCounters(counters);
+        verify(sends, never()).close();
+        verify(shortSends, never()).close();
+    }
+
     @Test
     public void shouldSendMultipleSetupFramesOnChannelWhenTimeoutWithoutStatusMessage()
     {
@@ -491,6 +496,242 @@ public class SenderTest
         assertThat(dataHeader.termOffset(), is(offsetOfMessage(2)));
     }
 
+    @Test
+    public void shouldSendBurstOfDatagramsWithinBurstLength()
+    {
+        sender.doWork();
+        senderCommandQueue.offer(() -> sender.onRemoveNetworkPublication(publication));
+
+        final PublicationParams params = new PublicationParams();
+        params.entityTag = 102;
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.burstLength = 3 * MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.signalEos = true;
+
+        final NetworkPublication burstPublication = newNetworkPublication(params);
+        senderCommandQueue.offer(() -> sender.onNewNetworkPublication(burstPublication));
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(4 * MAX_FRAME_LENGTH);
+
+        burstPublication.onStatusMessage(msg, rcvAddress);
+
+        final int payloadLength = MAX_FRAME_LENGTH - DataHeaderFlyweight.HEADER_LENGTH;
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(payloadLength));
+        for (int i = 0; i < 4; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, payloadLength, null, INITIAL_TERM_ID);
+        }
+
+        receivedFrames.clear();
+        sender.doWork();
+
+        assertThat(receivedFrames.size(), is(4));
+        setupHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
+
+        for (int i = 0; i < 3; i++)
+        {
+            dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+            assertThat(dataHeader.frameLength(), is(MAX_FRAME_LENGTH));
+            assertThat(dataHeader.termOffset(), is(i * MAX_FRAME_LENGTH));
+        }
+
+        sender.doWork();
+
+        assertThat(receivedFrames.size(), is(1));
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.frameLength(), is(MAX_FRAME_LENGTH));
+        assertThat(dataHeader.termOffset(), is(3 * MAX_FRAME_LENGTH));
+    }
+
+    @Test
+    public void shouldRetransmitEveryRangeOfNak()
+    {
+        sender.doWork();
+        senderCommandQueue.offer(() -> sender.onRemoveNetworkPublication(publication));
+
+        final PublicationParams params = new PublicationParams();
+        params.entityTag = 102;
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.signalEos = true;
+
+        final RetransmitHandler retransmitHandler = new RetransmitHandler(
+            nanoClock,
+            mock(AtomicCounter.class),
+            new StaticDelayGenerator(0, true),
+            new StaticDelayGenerator(Configuration.RETRANSMIT_UNICAST_LINGER_DEFAULT_NS, true));
+        final NetworkPublication nakPublication = newNetworkPublication(params, retransmitHandler);
+        senderCommandQueue.offer(() -> sender.onNewNetworkPublication(nakPublication));
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(3 * ALIGNED_FRAME_LENGTH);
+
+        nakPublication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+        for (int i = 0; i < 3; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null, INITIAL_TERM_ID);
+        }
+
+        sender.doWork();
+        receivedFrames.clear();
+
+        final SendChannelEndpoint sendChannelEndpoint = new SendChannelEndpoint(
+            udpChannel, mock(AtomicCounter.class), new MediaDriver.Context().systemCounters(mockSystemCounters));
+        sendChannelEndpoint.registerForSend(nakPublication);
+
+        final UnsafeBuffer nakBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(NakFlyweight.HEADER_LENGTH * 2));
+        final NakFlyweight nakHeader = new NakFlyweight(nakBuffer);
+        nakHeader
+            .rangeCount(2)
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(INITIAL_TERM_ID)
+            .range(0, offsetOfMessage(1), ALIGNED_FRAME_LENGTH)
+            .range(1, offsetOfMessage(3), ALIGNED_FRAME_LENGTH);
+
+        sendChannelEndpoint.onNakMessage(nakHeader, nakBuffer, nakHeader.frameLength(), rcvAddress);
+
+        assertThat(receivedFrames.size(), is(2));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.frameLength(), is(FRAME_LENGTH));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(1)));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.frameLength(), is(FRAME_LENGTH));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(3)));
+    }
+
+    @Test
+    public void shouldCleanTermBeforePublisherCanReuseItWhenCleaningIsSliced()
+    {
+        final PublicationParams params = new PublicationParams();
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+
+        final RawLog cleaningRawLog = TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH);
+        final Position publisherLimit = new AtomicLongPosition();
+        final Position senderPosition = new AtomicLongPosition();
+        final NetworkPublication cleaningPublication = newNetworkPublication(
+            params, mockRetransmitHandler, cleaningRawLog, 256, publisherLimit, senderPosition);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(TERM_BUFFER_LENGTH);
+        cleaningPublication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer[] termBuffers = cleaningRawLog.termBuffers();
+        long producerPosition = 0;
+        long consumerPosition = 0;
+
+        for (int dutyCycle = 0; consumerPosition < TERM_BUFFER_LENGTH * 8L; dutyCycle++)
+        {
+            if (0 != dutyCycle % 3)
+            {
+                consumerPosition += 1024;
+            }
+
+            senderPosition.setOrdered(consumerPosition);
+            cleaningPublication.updatePublisherLimit();
+            producerPosition = fillCleanLogTo(termBuffers, producerPosition, publisherLimit.get());
+        }
+
+        assertThat(producerPosition, is(greaterThan(TERM_BUFFER_LENGTH * 8L)));
+    }
+
+    private NetworkPublication newNetworkPublication(final PublicationParams params)
+    {
+        return newNetworkPublication(params, mockRetransmitHandler);
+    }
+
+    private NetworkPublication newNetworkPublication(
+        final PublicationParams params, final RetransmitHandler retransmitHandler)
+    {
+        return newNetworkPublication(
+            params,
+            retransmitHandler,
+            rawLog,
+            Configuration.termCleaningSliceLength(),
+            mock(Position.class),
+            new AtomicLongPosition());
+    }
+
+    private NetworkPublication newNetworkPublication(
+        final PublicationParams params,
+        final RetransmitHandler retransmitHandler,
+        final RawLog rawLog,
+        final int termCleaningSliceLength,
+        final Position publisherLimit,
+        final Position senderPosition)
+    {
+        return new NetworkPublication(
+            1,
+            params,
+            mockSendChannelEndpoint,
+            nanoClock,
+            rawLog,
+            Configuration.producerWindowLength(TERM_BUFFER_LENGTH, Configuration.publicationTermWindowLength()),
+            termCleaningSliceLength,
+            mock(Position.class),
+            publisherLimit,
+            senderPosition,
+            new AtomicLongPosition(),
+            mock(AtomicCounter.class),
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            mockSystemCounters,
+            flowControl,
+            retransmitHandler,
+            new NetworkPublicationThreadLocals(),
+            Configuration.publicationUnblockTimeoutNs(),
+            Configuration.publicationConnectionTimeoutNs(),
+            Configuration.untetheredWindowLimitTimeoutNs(),
+            Configuration.untetheredRestingTimeoutNs(),
+            false,
+            false,
+            false);
+    }
+
+    private static long fillCleanLogTo(final UnsafeBuffer[] termBuffers, final long fromPosition, final long limit)
+    {
+        long position = fromPosition;
+        while (position < limit)
+        {
+            final UnsafeBuffer termBuffer = termBuffers[indexByPosition(position, POSITION_BITS_TO_SHIFT)];
+            final int termOffset = (int)position & (TERM_BUFFER_LENGTH - 1);
+
+            if (0 == termOffset)
+            {
+                assertTermIsClean(termBuffer);
+            }
+
+            termBuffer.putLong(termOffset, -1L);
+            position += SIZE_OF_LONG;
+        }
+
+        return position;
+    }
+
+    private static void assertTermIsClean(final UnsafeBuffer termBuffer)
+    {
+        for (int i = 0; i < TERM_BUFFER_LENGTH; i += SIZE_OF_LONG)
+        {
+            assertThat(termBuffer.getLong(i), is(0L));
+        }
+    }
+
     private int offsetOfMessage(final int offset)
     {
         return (offset - 1) * align(HEADER.capacity() + PAYLOAD.length, FRAME_ALIGNMENT);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TermCleanerTest
+{
+    private static final int TERM_LENGTH = 64 * 1024;
+    private static final int SLICE_LENGTH = 4 * 1024;
+    private static final int LAG_LIMIT = TERM_LENGTH / 2;
+
+    @Test
+    public void shouldCleanToEndOfTermWhenUnbounded()
+    {
+        assertEquals(
+            TERM_LENGTH - 1024, TermCleaner.cleaningLength(1024, 3 * TERM_LENGTH, 1024, TERM_LENGTH, 0, LAG_LIMIT));
+    }
+
+    @Test
+    public void shouldCleanOnlyToPositionWithinTerm()
+    {
+        assertEquals(512, TermCleaner.cleaningLength(1024, 1536, 1024, TERM_LENGTH, SLICE_LENGTH, LAG_LIMIT));
+    }
+
+    @Test
+    public void shouldBoundCleaningToSliceWhenLagIsWithinLimit()
+    {
+        assertEquals(SLICE_LENGTH, TermCleaner.cleaningLength(0, LAG_LIMIT, 0, TERM_LENGTH, SLICE_LENGTH, LAG_LIMIT));
+    }
+
+    @Test
+    public void shouldNotCleanBeyondEndOfTermWithSlice()
+    {
+        final int termOffset = TERM_LENGTH - 1024;
+
+        assertEquals(1024, TermCleaner.cleaningLength(
+            termOffset, termOffset + LAG_LIMIT, termOffset, TERM_LENGTH, SLICE_LENGTH, LAG_LIMIT));
+    }
+
+    @Test
+    public void shouldCleanEnoughToBringLagWithinLimitWhenLagExceedsLimit()
+    {
+        final long position = LAG_LIMIT + (3 * SLICE_LENGTH);
+
+        assertEquals(
+            3 * SLICE_LENGTH, TermCleaner.cleaningLength(0, position, 0, TERM_LENGTH, SLICE_LENGTH, LAG_LIMIT));
+    }
+
+    @Test
+    public void shouldCleanToEndOfTermWhenLagExceedsLimitByMoreThanTerm()
+    {
+        final long position = LAG_LIMIT + TERM_LENGTH + 32;
+
+        assertEquals(TERM_LENGTH, TermCleaner.cleaningLength(0, position, 0, TERM_LENGTH, SLICE_LENGTH, LAG_LIMIT));
+    }
+}
@@ -20,6 +20,7 @@ import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.TestLogFactory;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.AtomicLongPosition;
 import org.agrona.concurrent.status.Position;
 import org.junit.Before;
@@ -43,11 +44,14 @@ public class UntetheredSubscriptionTest
 
     private final RawLog rawLog = TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH);
     private final AtomicLongPosition publisherLimit = new AtomicLongPosition();
+    private final SystemCounters systemCounters = mock(SystemCounters.class);
     private IpcPublication ipcPublication;
 
     @Before
     public void before()
     {
+        when(systemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
+
         ipcPublication = new IpcPublication(
             REGISTRATION_ID,
             TAG_ID,
@@ -57,11 +61,12 @@ public class UntetheredSubscriptionTest
             publisherLimit,
             rawLog,
             TERM_WINDOW_LENGTH,
+            Configuration.termCleaningSliceLength(),
             Configuration.publicationUnblockTimeoutNs(),
             UNTETHERED_WINDOW_LIMIT_TIMEOUT_NS,
             UNTETHERED_RESTING_TIMEOUT_NS,
             TIME_NS,
-            mock(SystemCounters.class),
+            systemCounters,
             true);
     }
 
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import io.aeron.driver.Configuration;
+import io.aeron.exceptions.ConfigurationException;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.SystemUtil;
+import org.agrona.concurrent.SystemNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.LOG_META_DATA_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class PooledLogFactoryTest
+{
+    private static final String CHANNEL = "aeron:ipc";
+    private static final int SESSION_ID = 100;
+    private static final int STREAM_ID = 101;
+    private static final File DATA_DIR = new File(SystemUtil.tmpDirName(), "dataDirName");
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    private static final int POOL_SIZE = 2;
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final AtomicCounter poolHits = mock(AtomicCounter.class);
+    private final AtomicCounter poolMisses = mock(AtomicCounter.class);
+    private final ThreadFactory threadFactory = mock(ThreadFactory.class);
+    private PooledLogFactory logFactory;
+
+    @Before
+    public void before()
+    {
+        when(threadFactory.newThread(any()))
+            .thenAnswer((invocation) -> new Thread((Runnable)invocation.getArgument(0)));
+        IoUtil.ensureDirectoryExists(DATA_DIR, "data");
+        logFactory = new PooledLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            false,
+            Configuration.LOW_FILE_STORE_WARNING_THRESHOLD_DEFAULT,
+            errorHandler,
+            new int[]{ TERM_LENGTH },
+            POOL_SIZE,
+            0,
+            new SystemNanoClock(),
+            poolHits,
+            poolMisses,
+            threadFactory);
+    }
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(logFactory);
+        IoUtil.delete(DATA_DIR, false);
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldTakeLogFromPoolAndMoveToPublicationsDirectory()
+    {
+        awaitPoolFilled();
+
+        final RawLog rawLog = logFactory.newPublication(CHANNEL, SESSION_ID, STREAM_ID, 1, TERM_LENGTH, false);
+
+        verify(poolHits).incrementOrdered();
+        verifyNoInteractions(poolMisses);
+        assertThat(new File(rawLog.fileName()).getParentFile().getName(), is("publications"));
+        assertThat(new File(rawLog.fileName()).exists(), is(true));
+
+        rawLog.close();
+        verifyNoInteractions(errorHandler);
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldCountMissForTermLengthWhichIsNotPooled()
+    {
+        final RawLog rawLog = logFactory.newImage(CHANNEL, SESSION_ID, STREAM_ID, 1, TERM_LENGTH * 2, false);
+
+        verify(poolMisses).incrementOrdered();
+        verifyNoInteractions(poolHits);
+        assertThat(rawLog.termLength(), is(TERM_LENGTH * 2));
+
+        final File file = new File(rawLog.fileName());
+        assertThat(rawLog.free(), is(true));
+        assertThat(file.exists(), is(false));
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldRecycleFreedLogsAsZeroed()
+    {
+        awaitPoolFilled();
+
+        final RawLog[] rawLogs = new RawLog[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++)
+        {
+            rawLogs[i] = logFactory.newPublication(CHANNEL, SESSION_ID, STREAM_ID, i, TERM_LENGTH, false);
+            final String fileName = rawLogs[i].fileName();
+
+            fill(rawLogs[i]);
+            assertThat(rawLogs[i].free(), is(true));
+            assertThat(rawLogs[i].isInactive(), is(true));
+            assertThat(new File(fileName).exists(), is(false));
+        }
+
+        awaitPoolFilled();
+
+        for (int i = 0; i < POOL_SIZE; i++)
+        {
+            final RawLog rawLog = logFactory.newPublication(
+                CHANNEL, SESSION_ID, STREAM_ID, POOL_SIZE + i, TERM_LENGTH, false);
+
+            for (final UnsafeBuffer termBuffer : rawLog.termBuffers())
+            {
+                assertThat(termBuffer.getLong(0), is(0L));
+                assertThat(termBuffer.getLong(TERM_LENGTH - 8), is(0L));
+            }
+            assertThat(rawLog.metaData().getLong(LOG_META_DATA_LENGTH - 8), is(0L));
+
+            rawLog.close();
+        }
+
+        verify(poolHits, times(POOL_SIZE * 2)).incrementOrdered();
+        verifyNoInteractions(errorHandler);
+    }
+
+    @Test
+    public void shouldStartPoolThreadWithThreadFactory()
+    {
+        verify(threadFactory).newThread(any());
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectRecycleDelayWhichDoesNotAllowClientsToUnmapLogs()
+    {
+        final long clientLivenessTimeoutNs = TimeUnit.SECONDS.toNanos(10);
+        final long timerIntervalNs = TimeUnit.SECONDS.toNanos(1);
+        final long clientResourceLingerDurationNs = TimeUnit.SECONDS.toNanos(3);
+
+        final long minRecycleDelayNs = Configuration.minLogPoolRecycleDelayNs(
+            clientLivenessTimeoutNs, timerIntervalNs, clientResourceLingerDurationNs);
+
+        Configuration.validateLogPoolRecycleDelay(
+            minRecycleDelayNs, clientLivenessTimeoutNs, timerIntervalNs, clientResourceLingerDurationNs);
+
+        Configuration.validateLogPoolRecycleDelay(
+            clientLivenessTimeoutNs, clientLivenessTimeoutNs, timerIntervalNs, clientResourceLingerDurationNs);
+    }
+
+    private void awaitPoolFilled()
+    {
+        while (logFactory.availableLogCount(TERM_LENGTH) < POOL_SIZE)
+        {
+            Thread.yield();
+        }
+    }
+
+    private static void fill(final RawLog rawLog)
+    {
+        for (final UnsafeBuffer termBuffer : rawLog.termBuffers())
+        {
+            termBuffer.setMemory(0, termBuffer.capacity(), (byte)0xFF);
+        }
+
+        rawLog.metaData().setMemory(0, LOG_META_DATA_LENGTH, (byte)0xFF);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Drives {@link BbrCongestionControl} over a simulated path with a bottleneck link, propagation delay, and loss.
+ */
+public class BbrCongestionControlTest
+{
+    private static final long TICK_NS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long ONE_WAY_DELAY_NS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BANDWIDTH = 100L * 1024 * 1024;
+    private static final long BDP = BANDWIDTH * 2 * ONE_WAY_DELAY_NS / TimeUnit.SECONDS.toNanos(1);
+    private static final int TERM_LENGTH = 64 * 1024 * 1024;
+    private static final int MTU_LENGTH = 1408;
+
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(new byte[64 * METADATA_LENGTH]), new UnsafeBuffer(new byte[64 * 64]));
+    private final MediaDriver.Context context = new MediaDriver.Context()
+        .tempBuffer(new UnsafeBuffer(new byte[METADATA_LENGTH]))
+        .initialWindowLength(16 * 1024 * 1024);
+    private final BbrCongestionControl congestionControl = new BbrCongestionControl(
+        1,
+        UdpChannel.parse("aeron:udp?endpoint=localhost:40123"),
+        1001,
+        7,
+        TERM_LENGTH,
+        MTU_LENGTH,
+        null,
+        null,
+        () -> 0,
+        context,
+        countersManager);
+
+    private final ArrayDeque<long[]> dataInFlight = new ArrayDeque<>();
+    private final ArrayDeque<long[]> statusMessagesInFlight = new ArrayDeque<>();
+    private final boolean[] statesVisited = new boolean[4];
+    private long nowNs;
+    private long senderLimit;
+    private long sentPosition;
+    private long bottleneckPosition;
+    private long rebuildPosition;
+    private long rttReplyNs = Long.MAX_VALUE;
+    private long rttSentNs;
+    private int window;
+    private int minWindowSeen = Integer.MAX_VALUE;
+
+    @After
+    public void after()
+    {
+        congestionControl.close();
+    }
+
+    @Test
+    public void shouldUseBottleneckBandwidthWithoutLoss()
+    {
+        simulate(TimeUnit.SECONDS.toNanos(2), 0.0);
+        final long startPosition = rebuildPosition;
+        simulate(TimeUnit.SECONDS.toNanos(2), 0.0);
+
+        assertThat(throughput(startPosition, TimeUnit.SECONDS.toNanos(2)), greaterThan(BANDWIDTH * 9 / 10));
+        assertThat(window, lessThan((int)BDP * 4));
+        assertThat(statesVisited[BbrCongestionControl.DRAIN], is(true));
+        assertThat(state(), is(BbrCongestionControl.PROBE_BW));
+    }
+
+    @Test
+    public void shouldHoldThroughputUnderRandomLoss()
+    {
+        simulate(TimeUnit.SECONDS.toNanos(2), 0.05);
+        final long startPosition = rebuildPosition;
+        simulate(TimeUnit.SECONDS.toNanos(2), 0.05);
+
+        assertThat(throughput(startPosition, TimeUnit.SECONDS.toNanos(2)), greaterThan(BANDWIDTH * 8 / 10));
+        assertThat(state(), is(BbrCongestionControl.PROBE_BW));
+    }
+
+    @Test
+    public void shouldProbeForMinRttWhenNotRefreshed()
+    {
+        simulate(BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS + TimeUnit.SECONDS.toNanos(1), 0.01);
+
+        assertThat(statesVisited[BbrCongestionControl.PROBE_RTT], is(true));
+        assertThat(minWindowSeen, is(4 * MTU_LENGTH));
+        assertThat(state(), is(BbrCongestionControl.PROBE_BW));
+        assertThat(window, greaterThan((int)BDP));
+    }
+
+    private void simulate(final long durationNs, final double lossRate)
+    {
+        final Random random = new Random(0xcafebabeL);
+        final long bottleneckBytesPerTick = BANDWIDTH * TICK_NS / TimeUnit.SECONDS.toNanos(1);
+        final long endNs = nowNs + durationNs;
+
+        while (nowNs < endNs)
+        {
+            nowNs += TICK_NS;
+
+            while (!statusMessagesInFlight.isEmpty() && statusMessagesInFlight.peekFirst()[0] <= nowNs)
+            {
+                senderLimit = Math.max(senderLimit, statusMessagesInFlight.pollFirst()[1]);
+            }
+            sentPosition = Math.max(sentPosition, senderLimit);
+
+            final boolean lossOccurred = random.nextDouble() < lossRate;
+            if (!lossOccurred)
+            {
+                bottleneckPosition = Math.min(sentPosition, bottleneckPosition + bottleneckBytesPerTick);
+            }
+            dataInFlight.addLast(new long[]{ nowNs + ONE_WAY_DELAY_NS, bottleneckPosition });
+
+            final long startingRebuildPosition = rebuildPosition;
+            while (!dataInFlight.isEmpty() && dataInFlight.peekFirst()[0] <= nowNs)
+            {
+                rebuildPosition = dataInFlight.pollFirst()[1];
+            }
+
+            final long outcome = congestionControl.onTrackRebuild(
+                nowNs,
+                rebuildPosition,
+                rebuildPosition,
+                rebuildPosition,
+                startingRebuildPosition,
+                rebuildPosition,
+                lossOccurred);
+
+            window = CongestionControl.receiverWindowLength(outcome);
+            minWindowSeen = Math.min(minWindowSeen, window);
+            statesVisited[state()] = true;
+            statusMessagesInFlight.addLast(new long[]{ nowNs + ONE_WAY_DELAY_NS, rebuildPosition + window });
+
+            measureRtt();
+        }
+    }
+
+    private void measureRtt()
+    {
+        if (rttReplyNs <= nowNs)
+        {
+            congestionControl.onRttMeasurement(nowNs, nowNs - rttSentNs, null);
+            rttReplyNs = Long.MAX_VALUE;
+        }
+
+        if (congestionControl.shouldMeasureRtt(nowNs))
+        {
+            final long queueDelayNs = (sentPosition - bottleneckPosition) * TimeUnit.SECONDS.toNanos(1) / BANDWIDTH;
+            congestionControl.onRttMeasurementSent(nowNs);
+            rttSentNs = nowNs;
+            rttReplyNs = nowNs + (2 * ONE_WAY_DELAY_NS) + queueDelayNs;
+        }
+    }
+
+    private long throughput(final long startPosition, final long durationNs)
+    {
+        return (rebuildPosition - startPosition) * TimeUnit.SECONDS.toNanos(1) / durationNs;
+    }
+
+    private int state()
+    {
+        return (int)countersManager.getCounterValue(3);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.driver.Configuration;
+import io.aeron.driver.DataPacketDispatcher;
+import io.aeron.driver.DriverConductorProxy;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.Receiver;
+import io.aeron.driver.status.SystemCounters;
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+public class TransportPollerAllocationTest
+{
+    private static final int RCV_PORT = 40125;
+    private static final int SRC_PORT = 40126;
+    private static final int SESSION_ID = 0xdeadbeef;
+    private static final int STREAM_ID = 0x44332211;
+    private static final int TERM_ID = 0x99887766;
+    private static final int FRAME_LENGTH = 24;
+    private static final int WARM_UP_MESSAGES = 20_000;
+    private static final int MEASURED_MESSAGES = 1_000;
+    private static final int DATAGRAM_BURST = 100;
+
+    private static final UdpChannel SRC_DST =
+        UdpChannel.parse("aeron:udp?interface=localhost:" + SRC_PORT + "|endpoint=localhost:" + RCV_PORT);
+    private static final UdpChannel RCV_DST = UdpChannel.parse("aeron:udp?endpoint=localhost:" + RCV_PORT);
+
+    private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(256);
+    private final UnsafeBuffer buffer = new UnsafeBuffer(byteBuffer);
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+    private DataTransportPoller dataTransportPoller;
+    private final ControlTransportPoller controlTransportPoller = new ControlTransportPoller();
+    private final MediaDriver.Context context = new MediaDriver.Context();
+    private final AtomicCounter statusIndicator = mock(AtomicCounter.class);
+    private SendChannelEndpoint sendChannelEndpoint;
+    private ReceiveChannelEndpoint receiveChannelEndpoint;
+    private DatagramChannel peerChannel;
+
+    @Before
+    public void setup()
+    {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(ByteBuffer.allocateDirect(Configuration.countersMetadataBufferLength(64 * 1024))),
+            new UnsafeBuffer(ByteBuffer.allocateDirect(64 * 1024)));
+
+        final SystemCounters systemCounters = new SystemCounters(countersManager);
+        context
+            .applicationSpecificFeedback(Configuration.applicationSpecificFeedback())
+            .systemCounters(systemCounters)
+            .receiveChannelEndpointThreadLocals(new ReceiveChannelEndpointThreadLocals(context));
+
+        dataTransportPoller = new DataTransportPoller(DATAGRAM_BURST, systemCounters, false);
+    }
+
+    @After
+    public void tearDown()
+    {
+        CloseHelper.quietClose(peerChannel);
+        CloseHelper.quietClose(sendChannelEndpoint);
+        CloseHelper.quietClose(receiveChannelEndpoint);
+        CloseHelper.quietClose(dataTransportPoller);
+        CloseHelper.quietClose(controlTransportPoller);
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldNotAllocatePerDatagramWhenPollingDataTransports() throws IOException
+    {
+        final DataPacketDispatcher dispatcher = new DataPacketDispatcher(
+            mock(DriverConductorProxy.class), mock(Receiver.class))
+        {
+            public int onDataPacket(
+                final ReceiveChannelEndpoint channelEndpoint,
+                final DataHeaderFlyweight header,
+                final UnsafeBuffer buffer,
+                final int length,
+                final InetSocketAddress srcAddress,
+                final int transportIndex)
+            {
+                super.onDataPacket(channelEndpoint, header, buffer, length, srcAddress, transportIndex);
+                return length;
+            }
+        };
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(RCV_DST, dispatcher, statusIndicator, context);
+        receiveChannelEndpoint.openDatagramChannel(statusIndicator);
+        receiveChannelEndpoint.registerForRead(dataTransportPoller);
+
+        peerChannel = DatagramChannel.open();
+        peerChannel.bind(new InetSocketAddress("localhost", SRC_PORT));
+
+        new DataHeaderFlyweight(buffer)
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+
+        final InetSocketAddress rcvAddress = new InetSocketAddress("localhost", RCV_PORT);
+        sendAndPoll(dataTransportPoller, rcvAddress, WARM_UP_MESSAGES, DATAGRAM_BURST);
+
+        final long threadId = Thread.currentThread().getId();
+        final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        sendAndPoll(dataTransportPoller, rcvAddress, MEASURED_MESSAGES, DATAGRAM_BURST);
+        final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        assertThat(allocatedBytes, lessThan((long)MEASURED_MESSAGES));
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldNotAllocatePerDatagramWhenPollingControlTransports() throws IOException
+    {
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, statusIndicator, context);
+        sendChannelEndpoint.openDatagramChannel(statusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+        assertTrue(sendChannelEndpoint.isReceiveChannelConnected());
+
+        peerChannel = DatagramChannel.open();
+        peerChannel.bind(new InetSocketAddress("localhost", RCV_PORT));
+
+        new StatusMessageFlyweight(buffer)
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .consumptionTermId(TERM_ID)
+            .consumptionTermOffset(0)
+            .receiverWindowLength(1000)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags((short)0)
+            .headerType(HeaderFlyweight.HDR_TYPE_SM)
+            .frameLength(StatusMessageFlyweight.HEADER_LENGTH);
+
+        final InetSocketAddress srcAddress = new InetSocketAddress("localhost", SRC_PORT);
+        sendAndPoll(controlTransportPoller, srcAddress, WARM_UP_MESSAGES, 1);
+
+        final long threadId = Thread.currentThread().getId();
+        final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        sendAndPoll(controlTransportPoller, srcAddress, MEASURED_MESSAGES, 1);
+        final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        assertThat(allocatedBytes, lessThan((long)MEASURED_MESSAGES));
+    }
+
+    private void sendAndPoll(
+        final UdpTransportPoller transportPoller,
+        final InetSocketAddress destination,
+        final int messageCount,
+        final int burstLength)
+        throws IOException
+    {
+        final int length = buffer.getInt(0);
+        for (int i = 0; i < messageCount; i += burstLength)
+        {
+            for (int j = 0; j < burstLength; j++)
+            {
+                byteBuffer.clear().limit(length);
+                while (0 == peerChannel.send(byteBuffer, destination))
+                {
+                    Thread.yield();
+                }
+            }
+
+            int bytesPolled = 0;
+            while (bytesPolled < burstLength * length)
+            {
+                final int bytes = transportPoller.pollTransports();
+                if (0 == bytes)
+                {
+                    Thread.yield();
+                }
+
+                bytesPolled += bytes;
+            }
+        }
+    }
+}
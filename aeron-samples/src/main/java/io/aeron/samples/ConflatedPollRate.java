@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.HeaderWriter;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.TermAppender;
+import io.aeron.logbuffer.TermConflationScanner;
+import io.aeron.logbuffer.TermReader;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the cost of finding the most recent message in a term with a backlog of unconsumed messages, comparing
+ * a backward scan as used by {@link io.aeron.Image#conflatedPoll(FragmentHandler)} with reading every fragment
+ * of the backlog as a poll must.
+ */
+public class ConflatedPollRate
+{
+    private static final int[] BACKLOG_LENGTHS = { 1, 10, 100, 1_000, 10_000 };
+    private static final int TERM_LENGTH = 16 * 1024 * 1024;
+    private static final int MESSAGE_LENGTH = 64;
+    private static final int TERM_ID = 0;
+    private static final int SESSION_ID = 1;
+    private static final int ITERATIONS = Integer.getInteger("aeron.sample.conflated.iterations", 10_000);
+
+    private static long checksum;
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_LENGTH));
+        final Header header = new Header(TERM_ID, Integer.numberOfTrailingZeros(TERM_LENGTH));
+        final FragmentHandler handler = (buffer, offset, length, hdr) -> checksum += buffer.getLong(offset);
+
+        for (int run = 0; run < 3; run++)
+        {
+            for (final int backlogLength : BACKLOG_LENGTHS)
+            {
+                final int endOffset = fillTerm(termBuffer, backlogLength);
+
+                System.out.format(
+                    "backlog=%,d messages: poll=%,d ns conflated=%,d ns%n",
+                    backlogLength,
+                    measurePoll(termBuffer, header, handler),
+                    measureConflated(termBuffer, header, handler, endOffset));
+            }
+        }
+
+        System.out.println("checksum=" + checksum);
+    }
+
+    private static long measurePoll(final UnsafeBuffer termBuffer, final Header header, final FragmentHandler handler)
+    {
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            TermReader.read(termBuffer, 0, handler, Integer.MAX_VALUE, header, Throwable::printStackTrace);
+        }
+
+        return (System.nanoTime() - startNs) / ITERATIONS;
+    }
+
+    private static long measureConflated(
+        final UnsafeBuffer termBuffer, final Header header, final FragmentHandler handler, final int endOffset)
+    {
+        header.buffer(termBuffer);
+
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            final long outcome = TermConflationScanner.scanForLatestMessage(
+                termBuffer, TERM_ID, SESSION_ID, 0, endOffset);
+            final int offset = TermConflationScanner.beginOffset(outcome);
+
+            header.offset(offset);
+            handler.onFragment(
+                termBuffer,
+                offset + DataHeaderFlyweight.HEADER_LENGTH,
+                TermConflationScanner.endOffset(outcome) - offset - DataHeaderFlyweight.HEADER_LENGTH,
+                header);
+        }
+
+        return (System.nanoTime() - startNs) / ITERATIONS;
+    }
+
+    private static int fillTerm(final UnsafeBuffer termBuffer, final int messageCount)
+    {
+        termBuffer.setMemory(0, TERM_LENGTH, (byte)0);
+
+        final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+            ByteBuffer.allocateDirect(LogBufferDescriptor.LOG_META_DATA_LENGTH));
+        metaDataBuffer.putLong(LogBufferDescriptor.TERM_TAIL_COUNTERS_OFFSET, LogBufferDescriptor.packTail(TERM_ID, 0));
+
+        final TermAppender termAppender = new TermAppender(termBuffer, metaDataBuffer, 0);
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(
+            DataHeaderFlyweight.createDefaultHeader(SESSION_ID, 1, TERM_ID));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+
+        int termOffset = 0;
+        for (int i = 0; i < messageCount; i++)
+        {
+            srcBuffer.putLong(0, i);
+            termOffset = termAppender.appendUnfragmentedMessage(
+                headerWriter, srcBuffer, 0, MESSAGE_LENGTH, null, TERM_ID);
+        }
+
+        return termOffset;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Compares the time taken to add a number of subscriptions with {@link Aeron#addSubscription(String, int)}, which
+ * waits for the media driver to respond to each registration, with pipelining the registrations via
+ * {@link Aeron#asyncAddSubscription(String, int)} and then polling for them with
+ * {@link Aeron#getSubscription(long)}.
+ * <p>
+ * The driver runs on its own thread so the round trip latency of each command is included as it would be for an
+ * application connecting to an external driver.
+ */
+public class EmbeddedAsyncRegistrationRate
+{
+    private static final int REGISTRATION_COUNT = Integer.getInteger("aeron.sample.registration.count", 2_000);
+    private static final String CHANNEL = CommonContext.IPC_CHANNEL;
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true);
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(ctx.aeronDirectoryName())))
+        {
+            final Subscription[] subscriptions = new Subscription[REGISTRATION_COUNT];
+            final long[] registrationIds = new long[REGISTRATION_COUNT];
+
+            for (int run = 0; run < 3; run++)
+            {
+                long startNs = System.nanoTime();
+                for (int i = 0; i < REGISTRATION_COUNT; i++)
+                {
+                    subscriptions[i] = aeron.addSubscription(CHANNEL, i);
+                }
+                final long syncDurationNs = System.nanoTime() - startNs;
+                closeAll(subscriptions);
+
+                startNs = System.nanoTime();
+                for (int i = 0; i < REGISTRATION_COUNT; i++)
+                {
+                    registrationIds[i] = aeron.asyncAddSubscription(CHANNEL, i);
+                }
+
+                for (int i = 0; i < REGISTRATION_COUNT; i++)
+                {
+                    while (null == (subscriptions[i] = aeron.getSubscription(registrationIds[i])))
+                    {
+                        Thread.yield();
+                    }
+                }
+                final long asyncDurationNs = System.nanoTime() - startNs;
+                closeAll(subscriptions);
+
+                System.out.format(
+                    "subscriptions=%,d add=%,d ms (%,d ns/op) asyncAdd=%,d ms (%,d ns/op)%n",
+                    REGISTRATION_COUNT,
+                    syncDurationNs / 1_000_000,
+                    syncDurationNs / REGISTRATION_COUNT,
+                    asyncDurationNs / 1_000_000,
+                    asyncDurationNs / REGISTRATION_COUNT);
+            }
+        }
+    }
+
+    private static void closeAll(final Subscription[] subscriptions)
+    {
+        for (int i = 0; i < subscriptions.length; i++)
+        {
+            subscriptions[i].close();
+            subscriptions[i] = null;
+        }
+    }
+}
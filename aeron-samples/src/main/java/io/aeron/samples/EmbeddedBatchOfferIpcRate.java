@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.DirectBufferVector;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Compares the rate at which a number of threads sharing a {@link Publication} can publish small messages over IPC
+ * when offering them one at a time with {@link Publication#offer(org.agrona.DirectBuffer, int, int)} and when
+ * offering them in batches with {@link Publication#offerBatch(DirectBufferVector[])}, which reserves space for the
+ * whole batch with a single update of the term tail.
+ */
+public class EmbeddedBatchOfferIpcRate
+{
+    private static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    private static final int BATCH_SIZE = Integer.getInteger("aeron.sample.batch.size", 16);
+    private static final int PUBLISHER_COUNT = Integer.getInteger("aeron.sample.batch.publishers", 2);
+    private static final long MESSAGES_PER_PUBLISHER = Long.getLong("aeron.sample.batch.messages", 10_000_000L);
+    private static final String CHANNEL = CommonContext.IPC_CHANNEL;
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+
+    public static void main(final String[] args) throws Exception
+    {
+        loadPropertiesFiles(args);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true);
+
+        try (MediaDriver driver = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(ctx.aeronDirectoryName()));
+            Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+            Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+        {
+            for (int run = 0; run < 3; run++)
+            {
+                System.out.format(
+                    "publishers=%d batch=%d length=%d single=%,d msgs/s batch=%,d msgs/s%n",
+                    PUBLISHER_COUNT,
+                    BATCH_SIZE,
+                    MESSAGE_LENGTH,
+                    measure(subscription, publication, false),
+                    measure(subscription, publication, true));
+            }
+        }
+    }
+
+    private static long measure(final Subscription subscription, final Publication publication, final boolean isBatch)
+        throws InterruptedException
+    {
+        final long totalMessages = MESSAGES_PER_PUBLISHER * PUBLISHER_COUNT;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] publishers = new Thread[PUBLISHER_COUNT];
+        for (int i = 0; i < PUBLISHER_COUNT; i++)
+        {
+            publishers[i] = new Thread(() -> publish(publication, startLatch, isBatch));
+            publishers[i].setName("publisher-" + i);
+            publishers[i].start();
+        }
+
+        final long[] received = { 0 };
+        final FragmentHandler handler = (buffer, offset, length, header) -> received[0]++;
+
+        final long startNs = System.nanoTime();
+        startLatch.countDown();
+        while (received[0] < totalMessages)
+        {
+            if (subscription.poll(handler, Integer.MAX_VALUE) == 0)
+            {
+                Thread.yield();
+            }
+        }
+        final long durationNs = System.nanoTime() - startNs;
+
+        for (final Thread publisher : publishers)
+        {
+            publisher.join();
+        }
+
+        return (totalMessages * 1_000_000_000L) / durationNs;
+    }
+
+    private static void publish(final Publication publication, final CountDownLatch startLatch, final boolean isBatch)
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+        final DirectBufferVector[] batch = new DirectBufferVector[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            batch[i] = new DirectBufferVector(buffer, 0, MESSAGE_LENGTH);
+        }
+
+        try
+        {
+            startLatch.await();
+        }
+        catch (final InterruptedException ignore)
+        {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long sent = 0;
+        while (sent < MESSAGES_PER_PUBLISHER)
+        {
+            if (isBatch && MESSAGES_PER_PUBLISHER - sent >= BATCH_SIZE)
+            {
+                if (publication.offerBatch(batch) > 0)
+                {
+                    sent += BATCH_SIZE;
+                }
+            }
+            else if (publication.offer(buffer, 0, MESSAGE_LENGTH) > 0)
+            {
+                sent++;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.agrona.CloseHelper;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the work done by idle clients while another client registers subscriptions, first with all clients
+ * reading the shared to-clients buffer and then with clients reading per client response buffers. Idle clients
+ * reading the shared buffer must consume every response sent to the registering client, whereas with response
+ * buffers they only consume responses for the clients sharing their buffer.
+ */
+public class EmbeddedClientResponseBufferRate
+{
+    private static final int IDLE_CLIENT_COUNT = Integer.getInteger("aeron.sample.idle.client.count", 32);
+    private static final int RESPONSE_BUFFER_COUNT = Integer.getInteger("aeron.sample.response.buffer.count", 8);
+    private static final int REGISTRATION_COUNT = Integer.getInteger("aeron.sample.registration.count", 1_000);
+    private static final String CHANNEL = CommonContext.IPC_CHANNEL;
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        for (int run = 0; run < 3; run++)
+        {
+            measure(0);
+            measure(RESPONSE_BUFFER_COUNT);
+        }
+    }
+
+    private static void measure(final int responseBufferCount)
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .clientResponseBufferCount(responseBufferCount)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        final Aeron[] idleClients = new Aeron[IDLE_CLIENT_COUNT];
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(ctx.aeronDirectoryName())))
+        {
+            for (int i = 0; i < IDLE_CLIENT_COUNT; i++)
+            {
+                idleClients[i] = Aeron.connect(new Aeron.Context()
+                    .aeronDirectoryName(ctx.aeronDirectoryName())
+                    .useConductorAgentInvoker(true));
+            }
+
+            final long[] registrationIds = new long[REGISTRATION_COUNT];
+            for (int i = 0; i < REGISTRATION_COUNT; i++)
+            {
+                registrationIds[i] = aeron.asyncAddSubscription(CHANNEL, i);
+            }
+
+            long idleWorkCount = 0;
+            long idleDurationNs = 0;
+            for (int i = 0; i < REGISTRATION_COUNT; i++)
+            {
+                Subscription subscription;
+                while (null == (subscription = aeron.getSubscription(registrationIds[i])))
+                {
+                    final long startNs = System.nanoTime();
+                    idleWorkCount += invokeAll(idleClients);
+                    idleDurationNs += System.nanoTime() - startNs;
+                }
+
+                subscription.close();
+            }
+
+            int workCount;
+            do
+            {
+                final long startNs = System.nanoTime();
+                workCount = invokeAll(idleClients);
+                idleDurationNs += System.nanoTime() - startNs;
+                idleWorkCount += workCount;
+            }
+            while (workCount > 0);
+
+            System.out.format(
+                "responseBuffers=%d idleClients=%d registrations=%,d idle client work=%,d in %,d us%n",
+                responseBufferCount,
+                IDLE_CLIENT_COUNT,
+                REGISTRATION_COUNT,
+                idleWorkCount,
+                idleDurationNs / 1000);
+
+            CloseHelper.closeAll(idleClients);
+        }
+    }
+
+    private static int invokeAll(final Aeron[] clients)
+    {
+        int workCount = 0;
+        for (final Aeron client : clients)
+        {
+            workCount += client.conductorAgentInvoker().invoke();
+        }
+
+        return workCount;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.agrona.concurrent.AgentInvoker;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the duty cycle cost of the driver when a growing number of idle resources are registered. Each step adds
+ * IPC publications, network publications, and network subscriptions which connect to those publications so images
+ * are created. Only timeouts and periodic checks run while measuring so the average and maximum duty cycle time show
+ * how the cost of timer processing grows with the number of resources.
+ * <p>
+ * The driver runs in {@link ThreadingMode#INVOKER} mode so each duty cycle can be timed directly.
+ */
+public class EmbeddedIdleResourcesDutyCycle
+{
+    private static final int[] STREAM_COUNTS = { 250, 500, 1_000 };
+    private static final long MEASUREMENT_NS = TimeUnit.SECONDS.toNanos(
+        Long.getLong("aeron.sample.idle.measurementSeconds", 5));
+    private static final String IPC_CHANNEL = CommonContext.IPC_CHANNEL + "?term-length=64k";
+    private static final String UDP_CHANNEL = "aeron:udp?endpoint=localhost:24325|term-length=64k";
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .counterValuesBufferLength(16 * 1024 * 1024)
+            .dirDeleteOnStart(true);
+
+        try (MediaDriver driver = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context()
+                .aeronDirectoryName(ctx.aeronDirectoryName())
+                .driverAgentInvoker(driver.sharedAgentInvoker())))
+        {
+            final AgentInvoker invoker = driver.sharedAgentInvoker();
+            final ArrayList<Publication> publications = new ArrayList<>();
+            final ArrayList<Subscription> subscriptions = new ArrayList<>();
+
+            for (final int streamCount : STREAM_COUNTS)
+            {
+                for (int i = subscriptions.size(); i < streamCount; i++)
+                {
+                    publications.add(aeron.addPublication(IPC_CHANNEL, i));
+                    publications.add(aeron.addPublication(UDP_CHANNEL, i));
+                    subscriptions.add(aeron.addSubscription(UDP_CHANNEL, i));
+                }
+
+                awaitImages(invoker, subscriptions);
+                measure(invoker, streamCount);
+            }
+
+            for (final Subscription subscription : subscriptions)
+            {
+                subscription.close();
+            }
+
+            for (final Publication publication : publications)
+            {
+                publication.close();
+            }
+        }
+    }
+
+    private static void awaitImages(final AgentInvoker invoker, final ArrayList<Subscription> subscriptions)
+    {
+        for (final Subscription subscription : subscriptions)
+        {
+            while (!subscription.isConnected())
+            {
+                invoker.invoke();
+            }
+        }
+    }
+
+    private static void measure(final AgentInvoker invoker, final int streamCount)
+    {
+        long cycles = 0;
+        long totalNs = 0;
+        long maxNs = 0;
+
+        final long deadlineNs = System.nanoTime() + MEASUREMENT_NS;
+        long nowNs;
+        do
+        {
+            final long startNs = System.nanoTime();
+            invoker.invoke();
+            nowNs = System.nanoTime();
+
+            final long durationNs = nowNs - startNs;
+            totalNs += durationNs;
+            maxNs = Math.max(maxNs, durationNs);
+            cycles++;
+        }
+        while (nowNs - deadlineNs < 0);
+
+        System.out.format(
+            "streams=%,d resources=%,d duty cycles=%,d avg=%,d ns max=%,d ns%n",
+            streamCount,
+            streamCount * 3,
+            cycles,
+            totalNs / cycles,
+            maxNs);
+    }
+}
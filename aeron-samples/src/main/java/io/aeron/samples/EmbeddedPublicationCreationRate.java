@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.Publication;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the time taken to add IPC publications with large terms, first with logs allocated on the driver
+ * conductor thread and then with logs taken from a pool of pre-allocated logs refilled in the background.
+ * <p>
+ * Publications are added with a pause between each so the pool has time to refill, as would be the case for an
+ * application which creates publications occasionally and cares about the latency of each.
+ */
+public class EmbeddedPublicationCreationRate
+{
+    private static final int TERM_LENGTH = Integer.getInteger("aeron.sample.term.length", 16 * 1024 * 1024);
+    private static final int POOL_SIZE = Integer.getInteger("aeron.sample.log.pool.size", 2);
+    private static final int PUBLICATION_COUNT = Integer.getInteger("aeron.sample.publication.count", 20);
+    private static final long PAUSE_MS = Long.getLong("aeron.sample.pause.ms", 100);
+
+    public static void main(final String[] args) throws InterruptedException
+    {
+        loadPropertiesFiles(args);
+
+        for (int run = 0; run < 3; run++)
+        {
+            measure(0);
+            measure(POOL_SIZE);
+        }
+    }
+
+    private static void measure(final int logPoolSize) throws InterruptedException
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .ipcTermBufferLength(TERM_LENGTH)
+            .publicationLingerTimeoutNs(TimeUnit.MILLISECONDS.toNanos(10))
+            .logPoolSize(logPoolSize)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(ctx.aeronDirectoryName())))
+        {
+            Thread.sleep(PAUSE_MS);
+
+            long totalNs = 0;
+            long maxNs = 0;
+            for (int i = 0; i < PUBLICATION_COUNT; i++)
+            {
+                final long startNs = System.nanoTime();
+                final Publication publication = aeron.addExclusivePublication(CommonContext.IPC_CHANNEL, i);
+                final long durationNs = System.nanoTime() - startNs;
+
+                totalNs += durationNs;
+                maxNs = Math.max(maxNs, durationNs);
+
+                publication.close();
+                Thread.sleep(PAUSE_MS);
+            }
+
+            System.out.format(
+                "logPoolSize=%d termLength=%,d publications=%d add avg=%,d us max=%,d us%n",
+                logPoolSize,
+                TERM_LENGTH,
+                PUBLICATION_COUNT,
+                TimeUnit.NANOSECONDS.toMicros(totalNs / PUBLICATION_COUNT),
+                TimeUnit.NANOSECONDS.toMicros(maxNs));
+        }
+    }
+}
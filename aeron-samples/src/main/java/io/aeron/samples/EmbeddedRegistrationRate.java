@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+
+import java.util.ArrayList;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the rate at which the driver conductor can add and remove subscriptions as the number of registered
+ * resources grows. Each batch is reported separately so growth in the cost of a command with the number of
+ * resources is visible.
+ * <p>
+ * The driver runs in {@link ThreadingMode#INVOKER} mode and is invoked by the client while awaiting responses so
+ * idle strategies do not mask the cost of command processing.
+ */
+public class EmbeddedRegistrationRate
+{
+    private static final int REGISTRATION_COUNT = Integer.getInteger("aeron.sample.registration.count", 20_000);
+    private static final int BATCH_SIZE = Integer.getInteger("aeron.sample.registration.batch", 2_000);
+    private static final String CHANNEL = CommonContext.IPC_CHANNEL;
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .dirDeleteOnStart(true);
+
+        try (MediaDriver driver = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context()
+                .aeronDirectoryName(ctx.aeronDirectoryName())
+                .driverAgentInvoker(driver.sharedAgentInvoker())))
+        {
+            final ArrayList<Subscription> subscriptions = new ArrayList<>(REGISTRATION_COUNT);
+
+            System.out.println("Adding " + REGISTRATION_COUNT + " subscriptions in batches of " + BATCH_SIZE);
+            for (int i = 0; i < REGISTRATION_COUNT; i += BATCH_SIZE)
+            {
+                final long startNs = System.nanoTime();
+                for (int j = i, limit = Math.min(i + BATCH_SIZE, REGISTRATION_COUNT); j < limit; j++)
+                {
+                    subscriptions.add(aeron.addSubscription(CHANNEL, j));
+                }
+
+                report("add", subscriptions.size(), Math.min(BATCH_SIZE, REGISTRATION_COUNT - i), startNs);
+            }
+
+            System.out.println("Removing " + REGISTRATION_COUNT + " subscriptions in batches of " + BATCH_SIZE);
+            while (!subscriptions.isEmpty())
+            {
+                final long startNs = System.nanoTime();
+                final int batchSize = Math.min(BATCH_SIZE, subscriptions.size());
+                for (int j = 0; j < batchSize; j++)
+                {
+                    subscriptions.remove(subscriptions.size() - 1).close();
+                }
+
+                report("remove", subscriptions.size(), batchSize, startNs);
+            }
+        }
+    }
+
+    private static void report(final String operation, final int registered, final int batchSize, final long startNs)
+    {
+        final long durationNs = System.nanoTime() - startNs;
+
+        System.out.format(
+            "%s: registered=%d batch=%d rate=%,d ops/s avg=%,d ns%n",
+            operation,
+            registered,
+            batchSize,
+            (batchSize * 1_000_000_000L) / Math.max(1, durationNs),
+            durationNs / batchSize);
+    }
+}
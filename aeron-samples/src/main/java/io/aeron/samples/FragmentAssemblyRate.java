@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.FragmentAssembler;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.HeaderWriter;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.TermAppender;
+import io.aeron.logbuffer.TermReader;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the cost of reassembling large fragmented messages read from a term, comparing a {@link FragmentAssembler}
+ * which copies fragments with one which delegates whole messages in place. Each is measured with a handler which
+ * only reads the start of a message and with one which reads the whole message.
+ */
+public class FragmentAssemblyRate
+{
+    private static final int[] MESSAGE_LENGTHS = { 4 * 1024, 64 * 1024, 256 * 1024 };
+    private static final int TERM_LENGTH = 16 * 1024 * 1024;
+    private static final int MTU_LENGTH = 1408;
+    private static final int TERM_ID = 0;
+    private static final int ITERATIONS = Integer.getInteger("aeron.sample.assembly.iterations", 50);
+
+    private static long checksum;
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_LENGTH));
+        final Header header = new Header(TERM_ID, Integer.numberOfTrailingZeros(TERM_LENGTH));
+        final FragmentHandler readStart = (buffer, offset, length, hdr) -> checksum += buffer.getLong(offset);
+        final FragmentHandler readAll = FragmentAssemblyRate::readAll;
+
+        for (int run = 0; run < 3; run++)
+        {
+            for (final int messageLength : MESSAGE_LENGTHS)
+            {
+                final int messageCount = fillTerm(termBuffer, messageLength);
+
+                System.out.format(
+                    "length=%,d read-start: copy=%,d ns zero-copy=%,d ns read-all: copy=%,d ns zero-copy=%,d ns%n",
+                    messageLength,
+                    measure(termBuffer, header, new FragmentAssembler(readStart), messageCount),
+                    measure(termBuffer, header, new FragmentAssembler(readStart, 0, false, true), messageCount),
+                    measure(termBuffer, header, new FragmentAssembler(readAll), messageCount),
+                    measure(termBuffer, header, new FragmentAssembler(readAll, 0, false, true), messageCount));
+            }
+        }
+
+        System.out.println("checksum=" + checksum);
+    }
+
+    private static void readAll(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        long sum = 0;
+        for (int i = offset, limit = offset + length - BitUtil.SIZE_OF_LONG; i <= limit; i += BitUtil.SIZE_OF_LONG)
+        {
+            sum += buffer.getLong(i);
+        }
+
+        checksum += sum;
+    }
+
+    private static long measure(
+        final UnsafeBuffer termBuffer, final Header header, final FragmentHandler handler, final int messageCount)
+    {
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            TermReader.read(termBuffer, 0, handler, Integer.MAX_VALUE, header, Throwable::printStackTrace);
+        }
+
+        return (System.nanoTime() - startNs) / ((long)ITERATIONS * messageCount);
+    }
+
+    private static int fillTerm(final UnsafeBuffer termBuffer, final int messageLength)
+    {
+        termBuffer.setMemory(0, TERM_LENGTH, (byte)0);
+
+        final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+            ByteBuffer.allocateDirect(LogBufferDescriptor.LOG_META_DATA_LENGTH));
+        metaDataBuffer.putLong(LogBufferDescriptor.TERM_TAIL_COUNTERS_OFFSET, LogBufferDescriptor.packTail(TERM_ID, 0));
+
+        final TermAppender termAppender = new TermAppender(termBuffer, metaDataBuffer, 0);
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(DataHeaderFlyweight.createDefaultHeader(1, 1, 1));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[messageLength]);
+        final int maxPayloadLength = MTU_LENGTH - DataHeaderFlyweight.HEADER_LENGTH;
+
+        int messageCount = 0;
+        int termOffset = 0;
+        while (termOffset + (messageLength * 2) < TERM_LENGTH)
+        {
+            srcBuffer.putInt(0, messageCount);
+            termOffset = termAppender.appendFragmentedMessage(
+                headerWriter, srcBuffer, 0, messageLength, maxPayloadLength, null, TERM_ID);
+            messageCount++;
+        }
+
+        return messageCount;
+    }
+}
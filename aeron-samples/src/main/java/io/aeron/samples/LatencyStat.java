@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.status.LatencyReport;
+import io.aeron.status.LatencyReportReader;
+import io.aeron.status.LatencyReportUtil;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+
+import static io.aeron.CommonContext.AERON_DIR_PROP_DEFAULT;
+import static io.aeron.CommonContext.AERON_DIR_PROP_NAME;
+import static java.lang.System.getProperty;
+
+/**
+ * Application that periodically prints the percentiles of latency recorded by stream in a
+ * {@link io.aeron.status.LatencyReport} to STDOUT.
+ * <p>
+ * The report file can be given as the first argument otherwise the default in the Aeron directory is used.
+ */
+public class LatencyStat
+{
+    private static final long DELAY_MS = Long.getLong("aeron.sample.latency.stat.delay.ms", 1000);
+
+    public static void main(final String[] args) throws Exception
+    {
+        final File reportFile = args.length > 0 ?
+            new File(args[0]) : LatencyReportUtil.file(getProperty(AERON_DIR_PROP_NAME, AERON_DIR_PROP_DEFAULT));
+
+        if (!reportFile.exists())
+        {
+            System.err.print("Latency report does not exist: " + reportFile);
+            System.exit(1);
+        }
+
+        final MappedByteBuffer mappedByteBuffer = SamplesUtil.mapExistingFileReadOnly(reportFile);
+        final AtomicBuffer buffer = new UnsafeBuffer(mappedByteBuffer);
+        final long[] bucketCounts = new long[LatencyReport.BUCKET_COUNT];
+        final Histogram histogram = new Histogram(3);
+
+        while (true)
+        {
+            System.out.println(
+                "#STREAM_ID, LABEL, COUNT, P50_NS, P90_NS, P99_NS, P99.9_NS, MAX_NS");
+
+            LatencyReportReader.read(
+                buffer,
+                bucketCounts,
+                (streamId, label, totalCount, maxValue, counts) ->
+                {
+                    histogram.reset();
+                    for (int i = 0; i < LatencyReport.BUCKET_COUNT; i++)
+                    {
+                        if (counts[i] > 0)
+                        {
+                            histogram.recordValueWithCount(LatencyReport.bucketHighestValue(i), counts[i]);
+                        }
+                    }
+
+                    System.out.format(
+                        "%d,%s,%d,%d,%d,%d,%d,%d%n",
+                        streamId,
+                        label,
+                        totalCount,
+                        histogram.getValueAtPercentile(50),
+                        histogram.getValueAtPercentile(90),
+                        histogram.getValueAtPercentile(99),
+                        histogram.getValueAtPercentile(99.9),
+                        maxValue);
+                });
+
+            Thread.sleep(DELAY_MS);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.Configuration;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.SystemCounters;
+import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the cost of fanning frames out to a growing number of destinations of a manual control mode
+ * multi-destination-cast channel, comparing sending each frame to all destinations in turn with sending a batch of
+ * frames to each destination in turn.
+ * <p>
+ * Destinations are ports on localhost which need not have a listener.
+ */
+public class MultiDestinationSendRate
+{
+    private static final int[] DESTINATION_COUNTS = { 1, 10, 50, 200 };
+    private static final int FRAME_LENGTH = Integer.getInteger("aeron.sample.mdc.frameLength", 1408);
+    private static final int BATCH_SIZE = Integer.getInteger("aeron.sample.mdc.batchSize", 4);
+    private static final int BATCH_COUNT = Integer.getInteger("aeron.sample.mdc.batchCount", 5_000);
+    private static final int BASE_PORT = 40200;
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(ByteBuffer.allocateDirect(Configuration.countersMetadataBufferLength(256 * 1024))),
+            new UnsafeBuffer(ByteBuffer.allocateDirect(256 * 1024)));
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .cachedNanoClock(new CachedNanoClock())
+            .systemCounters(new SystemCounters(countersManager));
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(FRAME_LENGTH * BATCH_SIZE);
+        final int[] frameOffsets = new int[BATCH_SIZE];
+        final int[] frameLengths = new int[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            frameOffsets[i] = i * FRAME_LENGTH;
+            frameLengths[i] = FRAME_LENGTH;
+        }
+
+        for (int run = 0; run < 3; run++)
+        {
+            for (final int destinationCount : DESTINATION_COUNTS)
+            {
+                final AtomicCounter statusIndicator = countersManager.newCounter("mdc-sample-status");
+                final SendChannelEndpoint endpoint = new SendChannelEndpoint(
+                    UdpChannel.parse("aeron:udp?control-mode=manual"), statusIndicator, ctx);
+
+                try
+                {
+                    endpoint.openDatagramChannel(statusIndicator);
+                    for (int i = 0; i < destinationCount; i++)
+                    {
+                        endpoint.addDestination(
+                            new InetSocketAddress("localhost", BASE_PORT + i),
+                            countersManager.newCounter("mdc-sample-sends"),
+                            countersManager.newCounter("mdc-sample-short-sends"));
+                    }
+
+                    final long frameByFrameNs = sendFrameByFrame(endpoint, buffer, frameOffsets, frameLengths);
+                    final long batchedNs = sendBatched(endpoint, buffer, frameOffsets, frameLengths);
+                    final long datagrams = (long)BATCH_COUNT * BATCH_SIZE * destinationCount;
+
+                    System.out.format(
+                        "destinations=%,d frame-by-frame=%,d ns/datagram batched=%,d ns/datagram%n",
+                        destinationCount,
+                        frameByFrameNs / datagrams,
+                        batchedNs / datagrams);
+                }
+                finally
+                {
+                    endpoint.close();
+                    statusIndicator.close();
+                }
+            }
+        }
+    }
+
+    private static long sendFrameByFrame(
+        final SendChannelEndpoint endpoint, final ByteBuffer buffer, final int[] frameOffsets, final int[] frameLengths)
+    {
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < BATCH_COUNT; i++)
+        {
+            for (int j = 0; j < BATCH_SIZE; j++)
+            {
+                buffer.limit(frameOffsets[j] + frameLengths[j]).position(frameOffsets[j]);
+                endpoint.send(buffer);
+            }
+        }
+
+        return System.nanoTime() - startNs;
+    }
+
+    private static long sendBatched(
+        final SendChannelEndpoint endpoint, final ByteBuffer buffer, final int[] frameOffsets, final int[] frameLengths)
+    {
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < BATCH_COUNT; i++)
+        {
+            endpoint.send(buffer, frameOffsets, frameLengths, BATCH_SIZE);
+        }
+
+        return System.nanoTime() - startNs;
+    }
+}
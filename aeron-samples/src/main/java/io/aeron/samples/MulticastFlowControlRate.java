@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.FlowControl;
+import io.aeron.driver.MinMulticastFlowControl;
+import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the cost of applying Status Messages to {@link MinMulticastFlowControl} as the number of receivers in a
+ * multicast group grows. Receivers send Status Messages in round-robin order with advancing positions and the flow
+ * control is periodically idled so timeout checks are included in the cost.
+ */
+public class MulticastFlowControlRate
+{
+    private static final int[] RECEIVER_COUNTS = { 1, 10, 100, 1_000, 3_000, 10_000 };
+    private static final int STATUS_MESSAGE_COUNT =
+        Integer.getInteger("aeron.sample.flowControl.statusMessageCount", 10_000_000);
+    private static final int IDLE_INTERVAL = 1_000;
+    private static final int INITIAL_TERM_ID = 0;
+    private static final int TERM_LENGTH = 64 * 1024 * 1024;
+    private static final int POSITION_BITS_TO_SHIFT = Integer.numberOfTrailingZeros(TERM_LENGTH);
+    private static final int WINDOW_LENGTH = 128 * 1024;
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final StatusMessageFlyweight flyweight = new StatusMessageFlyweight(
+            new UnsafeBuffer(ByteBuffer.allocateDirect(StatusMessageFlyweight.HEADER_LENGTH)));
+        flyweight
+            .receiverWindowLength(WINDOW_LENGTH)
+            .consumptionTermId(INITIAL_TERM_ID)
+            .headerType(HeaderFlyweight.HDR_TYPE_SM)
+            .frameLength(StatusMessageFlyweight.HEADER_LENGTH);
+
+        final InetSocketAddress receiverAddress = new InetSocketAddress("localhost", 40123);
+
+        for (int run = 0; run < 3; run++)
+        {
+            for (final int receiverCount : RECEIVER_COUNTS)
+            {
+                final FlowControl flowControl = new MinMulticastFlowControl();
+                flowControl.initialize(INITIAL_TERM_ID, TERM_LENGTH);
+
+                long senderLimit = 0;
+                final long startNs = System.nanoTime();
+                for (int i = 0; i < STATUS_MESSAGE_COUNT; i++)
+                {
+                    final int receiverIndex = i % receiverCount;
+                    final int termOffset = ((i / receiverCount) * 32) & (TERM_LENGTH - 1);
+
+                    flyweight.receiverId(receiverIndex).consumptionTermOffset(termOffset);
+                    senderLimit = flowControl.onStatusMessage(
+                        flyweight, receiverAddress, senderLimit, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, startNs);
+
+                    if (0 == (i % IDLE_INTERVAL))
+                    {
+                        senderLimit = flowControl.onIdle(startNs, senderLimit, 0, false);
+                    }
+                }
+
+                final long durationNs = System.nanoTime() - startNs;
+                System.out.format(
+                    "receivers=%,d status messages=%,d avg=%,d ns limit=%d%n",
+                    receiverCount,
+                    STATUS_MESSAGE_COUNT,
+                    durationNs / STATUS_MESSAGE_COUNT,
+                    senderLimit);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples.archive;
+
+import io.aeron.logbuffer.BufferClaim;
+import io.aeron.logbuffer.ExclusiveTermAppender;
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.HeaderWriter;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.TermAppender;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the cost of appending a block of recorded frames to a replay publication log as done by a replay in the
+ * archive, comparing a claim and copy per frame with a single block append which rewrites the ids of each frame.
+ */
+public class ReplayAppendRate
+{
+    private static final int[] MESSAGE_LENGTHS = { 32, 256 };
+    private static final int BLOCK_LENGTH = 2 * 1024 * 1024;
+    private static final int TERM_LENGTH = 16 * 1024 * 1024;
+    private static final int TERM_ID = 0;
+    private static final int ITERATIONS = Integer.getInteger("aeron.sample.replay.append.iterations", 200);
+
+    private static final UnsafeBuffer METADATA_BUFFER =
+        new UnsafeBuffer(ByteBuffer.allocateDirect(LogBufferDescriptor.LOG_META_DATA_LENGTH));
+    private static final UnsafeBuffer TERM_BUFFER = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_LENGTH));
+    private static final ExclusiveTermAppender TERM_APPENDER =
+        new ExclusiveTermAppender(TERM_BUFFER, METADATA_BUFFER, 0);
+    private static final HeaderWriter REPLAY_HEADER_WRITER =
+        HeaderWriter.newInstance(DataHeaderFlyweight.createDefaultHeader(2, 101, TERM_ID));
+    private static final BufferClaim BUFFER_CLAIM = new BufferClaim();
+
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final UnsafeBuffer blockBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BLOCK_LENGTH));
+
+        for (int run = 0; run < 3; run++)
+        {
+            for (final int messageLength : MESSAGE_LENGTHS)
+            {
+                final int blockLength = fillBlock(blockBuffer, messageLength);
+                final int alignedFrameLength =
+                    BitUtil.align(messageLength + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+                final int frameCount = blockLength / alignedFrameLength;
+
+                final long perFrameNs = measure(blockBuffer, blockLength, false);
+                final long blockNs = measure(blockBuffer, blockLength, true);
+
+                System.out.format(
+                    "length=%d per-frame=%,d ns/msg (%,d MB/s) block=%,d ns/msg (%,d MB/s)%n",
+                    messageLength,
+                    perFrameNs / frameCount,
+                    mbPerSecond(blockLength, perFrameNs),
+                    blockNs / frameCount,
+                    mbPerSecond(blockLength, blockNs));
+            }
+        }
+    }
+
+    private static long mbPerSecond(final int blockLength, final long durationNs)
+    {
+        return (long)((blockLength * 1_000_000_000.0) / durationNs / (1024 * 1024));
+    }
+
+    private static long measure(final UnsafeBuffer blockBuffer, final int blockLength, final boolean isBlockAppend)
+    {
+        final int blocksPerTerm = TERM_LENGTH / BLOCK_LENGTH;
+        final long startNs = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            final int termOffset = (i % blocksPerTerm) * BLOCK_LENGTH;
+            if (isBlockAppend)
+            {
+                TERM_APPENDER.appendBlock(TERM_ID, termOffset, REPLAY_HEADER_WRITER, blockBuffer, 0, blockLength);
+            }
+            else
+            {
+                appendPerFrame(blockBuffer, blockLength, termOffset);
+            }
+        }
+
+        return (System.nanoTime() - startNs) / ITERATIONS;
+    }
+
+    private static void appendPerFrame(final UnsafeBuffer blockBuffer, final int blockLength, final int termOffset)
+    {
+        int frameOffset = 0;
+        while (frameOffset < blockLength)
+        {
+            final int frameLength = FrameDescriptor.frameLength(blockBuffer, frameOffset);
+            final int dataLength = frameLength - HEADER_LENGTH;
+
+            TERM_APPENDER.claim(TERM_ID, termOffset + frameOffset, REPLAY_HEADER_WRITER, dataLength, BUFFER_CLAIM);
+            BUFFER_CLAIM
+                .flags(FrameDescriptor.frameFlags(blockBuffer, frameOffset))
+                .reservedValue(blockBuffer.getLong(frameOffset + RESERVED_VALUE_OFFSET, LITTLE_ENDIAN))
+                .putBytes(blockBuffer, frameOffset + HEADER_LENGTH, dataLength)
+                .commit();
+
+            frameOffset += BitUtil.align(frameLength, FrameDescriptor.FRAME_ALIGNMENT);
+        }
+    }
+
+    private static int fillBlock(final UnsafeBuffer blockBuffer, final int messageLength)
+    {
+        blockBuffer.setMemory(0, BLOCK_LENGTH, (byte)0);
+
+        final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+            ByteBuffer.allocateDirect(LogBufferDescriptor.LOG_META_DATA_LENGTH));
+        metaDataBuffer.putLong(LogBufferDescriptor.TERM_TAIL_COUNTERS_OFFSET, LogBufferDescriptor.packTail(TERM_ID, 0));
+
+        final TermAppender termAppender = new TermAppender(blockBuffer, metaDataBuffer, 0);
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(DataHeaderFlyweight.createDefaultHeader(1, 1, 1));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[messageLength]);
+        final int alignedFrameLength = BitUtil.align(messageLength + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+
+        int termOffset = 0;
+        while (termOffset + alignedFrameLength <= BLOCK_LENGTH)
+        {
+            srcBuffer.putInt(0, termOffset);
+            termOffset = termAppender.appendUnfragmentedMessage(
+                headerWriter, srcBuffer, 0, messageLength, null, TERM_ID);
+        }
+
+        return termOffset;
+    }
+}
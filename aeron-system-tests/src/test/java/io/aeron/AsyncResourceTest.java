@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.exceptions.RegistrationException;
+import io.aeron.test.TestMediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class AsyncResourceTest
+{
+    private static final String CHANNEL = "aeron:ipc";
+    private static final int STREAM_ID = 1;
+
+    private final TestMediaDriver driver = TestMediaDriver.launch(new MediaDriver.Context()
+        .errorHandler(Throwable::printStackTrace)
+        .dirDeleteOnShutdown(true)
+        .threadingMode(ThreadingMode.SHARED));
+
+    private final Aeron aeron = Aeron.connect();
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldAddPublicationsAndSubscriptionAsynchronously()
+    {
+        final long subscriptionId = aeron.asyncAddSubscription(CHANNEL, STREAM_ID);
+        final long publicationId = aeron.asyncAddPublication(CHANNEL, STREAM_ID);
+        final long exclusivePublicationId = aeron.asyncAddExclusivePublication(CHANNEL, STREAM_ID);
+
+        Subscription subscription;
+        while (null == (subscription = aeron.getSubscription(subscriptionId)))
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+
+        Publication publication;
+        while (null == (publication = aeron.getPublication(publicationId)))
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+
+        Publication exclusivePublication;
+        while (null == (exclusivePublication = aeron.getExclusivePublication(exclusivePublicationId)))
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+
+        assertEquals(CHANNEL, publication.channel());
+        assertEquals(STREAM_ID, exclusivePublication.streamId());
+        assertEquals(subscriptionId, subscription.registrationId());
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+        while (publication.offer(buffer) < 0L)
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+
+        int fragments = 0;
+        while (fragments == 0)
+        {
+            fragments = subscription.poll((b, offset, length, header) -> {}, 1);
+            SystemTest.checkInterruptedStatus();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldReportErrorForInvalidChannelWhenGettingAsynchronouslyAddedPublication()
+    {
+        final long registrationId = aeron.asyncAddPublication("aeron:invalid", STREAM_ID);
+
+        try
+        {
+            while (null == aeron.getPublication(registrationId))
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+        }
+        catch (final RegistrationException ex)
+        {
+            assertEquals(registrationId, ex.correlationId());
+            assertFalse(aeron.isCommandActive(registrationId));
+            return;
+        }
+
+        throw new AssertionError("expected RegistrationException");
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.TestMediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchOfferTest
+{
+    public static final String CHANNEL = "aeron:ipc?term-length=64k";
+
+    private static final int STREAM_ID = 1;
+    private static final int FRAGMENT_COUNT_LIMIT = 10;
+    private static final int BATCH_SIZE = 8;
+
+    private final TestMediaDriver driver = TestMediaDriver.launch(new MediaDriver.Context()
+        .errorHandler(Throwable::printStackTrace)
+        .dirDeleteOnShutdown(true)
+        .threadingMode(ThreadingMode.SHARED));
+
+    private final Aeron aeron = Aeron.connect();
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldTransferBatchesAcrossTermBoundaries()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[2048]);
+        final DirectBufferVector[] messages = new DirectBufferVector[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            messages[i] = new DirectBufferVector(srcBuffer, i * 100, 32 + (i * 50));
+        }
+
+        final List<Integer> receivedLengths = new ArrayList<>();
+        final FragmentHandler handler = (buffer, offset, length, header) -> receivedLengths.add(length);
+
+        try (Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID))
+        {
+            try (Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+            {
+                transferBatches(subscription, publication, messages, receivedLengths, handler);
+            }
+
+            try (Publication publication = aeron.addExclusivePublication(CHANNEL, STREAM_ID))
+            {
+                transferBatches(subscription, publication, messages, receivedLengths, handler);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBatchLongerThanMaxMessageLength()
+    {
+        try (Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+        {
+            final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[publication.maxPayloadLength()]);
+            final int messageCount = (publication.maxMessageLength() / srcBuffer.capacity()) + 1;
+            final DirectBufferVector[] messages = new DirectBufferVector[messageCount];
+            for (int i = 0; i < messageCount; i++)
+            {
+                messages[i] = new DirectBufferVector(srcBuffer, 0, srcBuffer.capacity());
+            }
+
+            publication.offerBatch(messages);
+        }
+    }
+
+    private static void transferBatches(
+        final Subscription subscription,
+        final Publication publication,
+        final DirectBufferVector[] messages,
+        final List<Integer> receivedLengths,
+        final FragmentHandler handler)
+    {
+        final int batchCount = (publication.termBufferLength() * 3) / 2048;
+        for (int i = 0; i < batchCount; i++)
+        {
+            receivedLengths.clear();
+            while (publication.offerBatch(messages) < 0L)
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+
+            while (receivedLengths.size() < messages.length)
+            {
+                if (subscription.poll(handler, FRAGMENT_COUNT_LIMIT) == 0)
+                {
+                    Thread.yield();
+                    SystemTest.checkInterruptedStatus();
+                }
+            }
+
+            for (int j = 0; j < messages.length; j++)
+            {
+                assertEquals(messages[j].length(), (int)receivedLengths.get(j));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.ext.*;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.aeron.test.LossReportTestUtil.verifyLossOccurredForStream;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class BbrCongestionControlLossTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:54325";
+    private static final int STREAM_ID = 1;
+    private static final int FRAGMENT_COUNT_LIMIT = 10;
+    private static final int MSG_LENGTH = 1024;
+    private static final int NUM_MESSAGES = 2_000;
+
+    @Test(timeout = 20_000)
+    public void shouldDeliverAllMessagesWhenSenderLosesData() throws Exception
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(MSG_LENGTH));
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .errorHandler(Throwable::printStackTrace)
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true)
+            .publicationTermBufferLength(LogBufferDescriptor.TERM_MIN_LENGTH)
+            .congestControlSupplier(new BbrCongestionControlSupplier());
+
+        final LossGenerator dataLossGenerator =
+            DebugChannelEndpointConfiguration.lossGeneratorSupplier(0.02, 0xcafebabeL);
+        final LossGenerator noLossGenerator =
+            DebugChannelEndpointConfiguration.lossGeneratorSupplier(0, 0);
+
+        ctx.sendChannelEndpointSupplier((udpChannel, statusIndicator, context) -> new DebugSendChannelEndpoint(
+            udpChannel, statusIndicator, context, dataLossGenerator, noLossGenerator));
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect();
+            Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+            Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+        {
+            final AtomicInteger expectedValue = new AtomicInteger();
+            final FragmentHandler handler = (buffer, offset, length, header) ->
+                assertThat(buffer.getInt(offset), is(expectedValue.getAndIncrement()));
+
+            int messagesSent = 0;
+            while (expectedValue.get() < NUM_MESSAGES)
+            {
+                if (messagesSent < NUM_MESSAGES)
+                {
+                    srcBuffer.putInt(0, messagesSent);
+                    if (publication.offer(srcBuffer) > 0)
+                    {
+                        messagesSent++;
+                    }
+                }
+
+                if (0 == subscription.poll(handler, FRAGMENT_COUNT_LIMIT))
+                {
+                    Thread.yield();
+                }
+
+                SystemTest.checkInterruptedStatus();
+            }
+
+            final List<String> labels = new ArrayList<>();
+            aeron.countersReader().forEach((counterId, label) -> labels.add(label));
+
+            final String[] names = { "rcv-cc-bbr-rtt", "rcv-cc-bbr-wnd", "rcv-cc-bbr-bw", "rcv-cc-bbr-state" };
+            for (final String name : names)
+            {
+                assertThat(labels, hasItem(startsWith(name + ":")));
+            }
+            verifyLossOccurredForStream(ctx.aeronDirectoryName(), STREAM_ID);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.test.TestMediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableLong;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Test;
+
+public class ClientResponseBufferTest
+{
+    private static final String CHANNEL = "aeron:ipc";
+    private static final int STREAM_ID = 1;
+    private static final int COUNTER_TYPE_ID = 1001;
+
+    private final TestMediaDriver driver = TestMediaDriver.launch(new MediaDriver.Context()
+        .errorHandler(Throwable::printStackTrace)
+        .dirDeleteOnShutdown(true)
+        .clientResponseBufferCount(2)
+        .threadingMode(ThreadingMode.SHARED));
+
+    private final Aeron subscribingClient = Aeron.connect();
+    private final Aeron publishingClientOne = Aeron.connect();
+    private final Aeron publishingClientTwo = Aeron.connect();
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(publishingClientTwo);
+        CloseHelper.close(publishingClientOne);
+        CloseHelper.close(subscribingClient);
+        CloseHelper.close(driver);
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldExchangeMessagesBetweenClientsReadingResponseBuffers()
+    {
+        final Subscription subscription = subscribingClient.addSubscription(CHANNEL, STREAM_ID);
+        final Publication publicationOne = publishingClientOne.addPublication(CHANNEL, STREAM_ID);
+        final Publication publicationTwo = publishingClientTwo.addExclusivePublication(CHANNEL, STREAM_ID);
+
+        while (subscription.imageCount() < 2)
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+        offer(publicationOne, buffer);
+        offer(publicationTwo, buffer);
+
+        int fragments = 0;
+        while (fragments < 2)
+        {
+            fragments += subscription.poll((b, offset, length, header) -> {}, 10);
+            SystemTest.checkInterruptedStatus();
+        }
+
+        publicationTwo.close();
+        while (subscription.imageCount() > 1)
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldNotifyAllClientsOfCounterAddedByAnotherClient()
+    {
+        final MutableLong availableCounterRegistrationId = new MutableLong(Aeron.NULL_VALUE);
+        subscribingClient.addAvailableCounterHandler(
+            (countersReader, registrationId, counterId) -> availableCounterRegistrationId.set(registrationId));
+
+        final Counter counter = publishingClientOne.addCounter(COUNTER_TYPE_ID, "test counter");
+
+        while (availableCounterRegistrationId.get() != counter.registrationId())
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+    }
+
+    private static void offer(final Publication publication, final UnsafeBuffer buffer)
+    {
+        while (publication.offer(buffer) < 0L)
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.theories.DataPoint;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Theories.class)
+public class ConflatedPollTest
+{
+    @DataPoint
+    public static final String UNICAST_URI = "aeron:udp?endpoint=localhost:54325|term-length=64k";
+
+    @DataPoint
+    public static final String IPC_URI = "aeron:ipc?term-length=64k";
+
+    private static final int STREAM_ID = 1;
+    private static final int MESSAGE_LENGTH = 64;
+    private static final int BATCH_SIZE = 200;
+    private static final int BATCH_COUNT = 10;
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[8192]);
+
+    private MediaDriver driver;
+    private Aeron aeron;
+    private Subscription subscription;
+    private Publication publication;
+
+    private void launch(final String channel)
+    {
+        driver = MediaDriver.launch(new MediaDriver.Context()
+            .errorHandler(Throwable::printStackTrace)
+            .dirDeleteOnShutdown(true)
+            .threadingMode(ThreadingMode.SHARED));
+
+        aeron = Aeron.connect();
+        subscription = aeron.addSubscription(channel, STREAM_ID);
+        publication = aeron.addPublication(channel, STREAM_ID);
+
+        while (!publication.isConnected() || !subscription.isConnected())
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+    }
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+    }
+
+    @Theory
+    @Test(timeout = 10_000)
+    public void shouldDeliverOnlyLatestMessageOfEachBatch(final String channel)
+    {
+        launch(channel);
+
+        final MutableInteger lastValue = new MutableInteger(-1);
+        final MutableInteger fragmentCount = new MutableInteger();
+        final FragmentHandler handler = (buffer, offset, length, header) ->
+        {
+            final int value = buffer.getInt(offset);
+            assertTrue(value > lastValue.value);
+            lastValue.value = value;
+            fragmentCount.value++;
+        };
+
+        int value = 0;
+        for (int i = 0; i < BATCH_COUNT; i++)
+        {
+            for (int j = 0; j < BATCH_SIZE; j++)
+            {
+                buffer.putInt(0, value);
+                offer(MESSAGE_LENGTH);
+                value++;
+            }
+
+            while (lastValue.value < value - 1)
+            {
+                if (subscription.conflatedPoll(handler) == 0)
+                {
+                    Thread.yield();
+                    SystemTest.checkInterruptedStatus();
+                }
+            }
+        }
+
+        assertEquals(value - 1, lastValue.value);
+        assertTrue(fragmentCount.value < value);
+    }
+
+    @Theory
+    @Test(timeout = 10_000)
+    public void shouldDeliverLatestFragmentedMessage(final String channel)
+    {
+        launch(channel);
+
+        final int fragmentedLength = publication.maxPayloadLength() * 3;
+        final MutableInteger assembledLength = new MutableInteger();
+        final FragmentAssembler assembler = new FragmentAssembler(
+            (buffer, offset, length, header) -> assembledLength.value = length);
+
+        for (int i = 0; i < 10; i++)
+        {
+            offer(MESSAGE_LENGTH);
+        }
+
+        offer(fragmentedLength);
+
+        while (assembledLength.value != fragmentedLength)
+        {
+            if (subscription.conflatedPoll(assembler) == 0)
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+        }
+
+        assertEquals(fragmentedLength, assembledLength.value);
+        assertEquals(publication.position(), subscription.imageAtIndex(0).position());
+    }
+
+    private void offer(final int length)
+    {
+        while (publication.offer(buffer, 0, length) < 0L)
+        {
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+    }
+}
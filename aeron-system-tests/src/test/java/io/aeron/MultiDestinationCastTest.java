@@ -17,6 +17,7 @@ package io.aeron;
 
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.status.SendDestinationCounters;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -28,6 +29,7 @@ import org.agrona.IoUtil;
 import org.agrona.SystemUtil;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
 import org.junit.After;
 import org.junit.Test;
 
@@ -36,7 +38,10 @@ import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
@@ -65,6 +70,7 @@ public class MultiDestinationCastTest
     private static final String ROOT_DIR =
         SystemUtil.tmpDirName() + "aeron-system-tests-" + UUID.randomUUID().toString() + File.separator;
 
+    private final MediaDriver.Context driverAContext = new MediaDriver.Context();
     private final MediaDriver.Context driverBContext = new MediaDriver.Context();
 
     private Aeron clientA;
@@ -90,7 +96,7 @@ public class MultiDestinationCastTest
 
         buffer.putInt(0, 1);
 
-        final MediaDriver.Context driverAContext = new MediaDriver.Context()
+        driverAContext
             .errorHandler(Throwable::printStackTrace)
             .publicationTermBufferLength(TERM_BUFFER_LENGTH)
             .aeronDirectoryName(baseDirA)
@@ -279,6 +285,66 @@ public class MultiDestinationCastTest
         verifyFragments(fragmentHandlerB, numMessagesToSend);
     }
 
+    @Test(timeout = 10_000)
+    public void shouldSendBurstsToTwoPortsWithManualSingleDriverAndCountPerDestination()
+    {
+        final int numMessagesToSend = MESSAGES_PER_TERM * 3;
+        driverAContext.publicationBurstLength(TERM_BUFFER_LENGTH / 4);
+
+        launch();
+
+        subscriptionA = clientA.addSubscription(SUB1_MDC_MANUAL_URI, STREAM_ID);
+        subscriptionB = clientA.addSubscription(SUB2_MDC_MANUAL_URI, STREAM_ID);
+
+        publication = clientA.addPublication(PUB_MDC_MANUAL_URI, STREAM_ID);
+        publication.addDestination(SUB1_MDC_MANUAL_URI);
+        publication.addDestination(SUB2_MDC_MANUAL_URI);
+
+        while (!subscriptionA.isConnected() || !subscriptionB.isConnected())
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+
+        int fragmentsReadA = 0;
+        int fragmentsReadB = 0;
+        for (int i = 0; i < numMessagesToSend; i++)
+        {
+            while (publication.offer(buffer, 0, buffer.capacity()) < 0L)
+            {
+                fragmentsReadA += subscriptionA.poll(fragmentHandlerA, 10);
+                fragmentsReadB += subscriptionB.poll(fragmentHandlerB, 10);
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+        }
+
+        while (fragmentsReadA < numMessagesToSend || fragmentsReadB < numMessagesToSend)
+        {
+            fragmentsReadA += subscriptionA.poll(fragmentHandlerA, 10);
+            fragmentsReadB += subscriptionB.poll(fragmentHandlerB, 10);
+            Thread.yield();
+            SystemTest.checkInterruptedStatus();
+        }
+
+        verifyFragments(fragmentHandlerA, numMessagesToSend);
+        verifyFragments(fragmentHandlerB, numMessagesToSend);
+
+        final CountersReader countersReader = clientA.countersReader();
+        final MutableInteger destinationSendsCounters = new MutableInteger();
+        countersReader.forEach(
+            (counterId, typeId, keyBuffer, label) ->
+            {
+                if (SendDestinationCounters.SEND_DESTINATION_SENDS_TYPE_ID == typeId)
+                {
+                    assertThat(countersReader.getCounterValue(counterId), greaterThan(0L));
+                    destinationSendsCounters.value++;
+                }
+            });
+
+        assertThat(destinationSendsCounters.get(), is(2));
+    }
+
     @Test(timeout = 10_000)
     public void shouldManuallyRemovePortDuringActiveStream() throws Exception
     {
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.theories.DataPoint;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static io.aeron.driver.status.SystemCounterDescriptor.BYTES_RECEIVED;
+import static io.aeron.driver.status.SystemCounterDescriptor.BYTES_SENT;
+import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_SYSTEM_COUNTER_TYPE_ID;
+import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_SYSTEM_COUNTER_TYPE_ID;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Theories.class)
+public class ShardedThreadingModeTest
+{
+    @DataPoint
+    public static final ThreadingMode SHARDED_SENDER = ThreadingMode.SHARDED_SENDER;
+
+    @DataPoint
+    public static final ThreadingMode SHARDED_RECEIVER = ThreadingMode.SHARDED_RECEIVER;
+
+    @DataPoint
+    public static final ThreadingMode SHARDED = ThreadingMode.SHARDED;
+
+    private static final String[] CHANNELS =
+    {
+        "aeron:udp?endpoint=localhost:54325",
+        "aeron:udp?endpoint=localhost:54326",
+        "aeron:udp?endpoint=localhost:54327",
+    };
+    private static final int STREAM_ID = 1;
+    private static final int AGENT_COUNT = 2;
+    private static final int MESSAGE_COUNT = 100;
+    private static final int FRAGMENT_COUNT_LIMIT = 10;
+
+    private MediaDriver driver;
+    private Aeron aeron;
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+    }
+
+    @Theory
+    @Test(timeout = 10_000)
+    public void shouldExchangeMessagesOnEndpointsSpreadAcrossAgents(final ThreadingMode threadingMode)
+    {
+        driver = MediaDriver.launch(new MediaDriver.Context()
+            .errorHandler(Throwable::printStackTrace)
+            .dirDeleteOnShutdown(true)
+            .threadingMode(threadingMode)
+            .senderCount(AGENT_COUNT)
+            .receiverCount(AGENT_COUNT));
+        aeron = Aeron.connect();
+
+        final Subscription[] subscriptions = new Subscription[CHANNELS.length];
+        final Publication[] publications = new Publication[CHANNELS.length];
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+
+        try
+        {
+            for (int i = 0; i < CHANNELS.length; i++)
+            {
+                subscriptions[i] = aeron.addSubscription(CHANNELS[i], STREAM_ID);
+                publications[i] = aeron.addPublication(CHANNELS[i], STREAM_ID);
+            }
+
+            for (int i = 0; i < CHANNELS.length; i++)
+            {
+                while (!subscriptions[i].isConnected())
+                {
+                    Thread.yield();
+                    SystemTest.checkInterruptedStatus();
+                }
+            }
+
+            for (int i = 0; i < CHANNELS.length; i++)
+            {
+                final int[] received = new int[1];
+                final FragmentHandler handler = (buffer, offset, length, header) -> received[0]++;
+
+                for (int m = 0; m < MESSAGE_COUNT; m++)
+                {
+                    srcBuffer.putInt(0, m);
+                    while (publications[i].offer(srcBuffer) < 0L)
+                    {
+                        Thread.yield();
+                        SystemTest.checkInterruptedStatus();
+                    }
+                }
+
+                while (received[0] < MESSAGE_COUNT)
+                {
+                    if (0 == subscriptions[i].poll(handler, FRAGMENT_COUNT_LIMIT))
+                    {
+                        Thread.yield();
+                        SystemTest.checkInterruptedStatus();
+                    }
+                }
+
+                assertThat(received[0], is(MESSAGE_COUNT));
+            }
+        }
+        finally
+        {
+            CloseHelper.closeAll(publications);
+            CloseHelper.closeAll(subscriptions);
+        }
+
+        if (ThreadingMode.SHARDED_RECEIVER != threadingMode)
+        {
+            verifyEachAgentCounted(SENDER_SYSTEM_COUNTER_TYPE_ID, BYTES_SENT.id());
+        }
+
+        if (ThreadingMode.SHARDED_SENDER != threadingMode)
+        {
+            verifyEachAgentCounted(RECEIVER_SYSTEM_COUNTER_TYPE_ID, BYTES_RECEIVED.id());
+        }
+    }
+
+    private void verifyEachAgentCounted(final int agentCounterTypeId, final int descriptorId)
+    {
+        final long[] valueByAgent = new long[AGENT_COUNT];
+        final CountersReader countersReader = aeron.countersReader();
+        countersReader.forEach(
+            (counterId, typeId, keyBuffer, label) ->
+            {
+                if (agentCounterTypeId == typeId && descriptorId == keyBuffer.getInt(0))
+                {
+                    valueByAgent[keyBuffer.getInt(SIZE_OF_INT)] = countersReader.getCounterValue(counterId);
+                }
+            });
+
+        for (final long value : valueByAgent)
+        {
+            assertThat(value, greaterThan(0L));
+        }
+    }
+}
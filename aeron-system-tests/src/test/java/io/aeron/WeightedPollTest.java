@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014-2019 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.TestMediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class WeightedPollTest
+{
+    private static final String CHANNEL = "aeron:ipc?term-length=64k";
+    private static final int STREAM_ID = 1;
+    private static final int MESSAGE_LENGTH = 64;
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+    private final FragmentHandler handler = (buffer, offset, length, header) -> {};
+
+    private final TestMediaDriver driver = TestMediaDriver.launch(new MediaDriver.Context()
+        .errorHandler(Throwable::printStackTrace)
+        .dirDeleteOnShutdown(true)
+        .threadingMode(ThreadingMode.SHARED));
+
+    private final Aeron aeron = Aeron.connect();
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldDrainPrioritySessionBeforeSharingRemainingLimit()
+    {
+        try (Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+            Publication noisyPublication = aeron.addExclusivePublication(CHANNEL, STREAM_ID);
+            Publication criticalPublication = aeron.addExclusivePublication(CHANNEL, STREAM_ID))
+        {
+            while (subscription.imageCount() < 2)
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+
+            offer(noisyPublication, 100);
+            offer(criticalPublication, 10);
+            subscription.sessionPollPriority(criticalPublication.sessionId(), 1);
+
+            assertEquals(20, subscription.weightedPoll(handler, 20));
+
+            final Image criticalImage = subscription.imageBySessionId(criticalPublication.sessionId());
+            final Image noisyImage = subscription.imageBySessionId(noisyPublication.sessionId());
+            assertEquals(10, criticalImage.fragmentsConsumed());
+            assertEquals(10, noisyImage.fragmentsConsumed());
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldShareLimitBetweenSessionsByWeight()
+    {
+        try (Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+            Publication publicationOne = aeron.addExclusivePublication(CHANNEL, STREAM_ID);
+            Publication publicationTwo = aeron.addExclusivePublication(CHANNEL, STREAM_ID))
+        {
+            while (subscription.imageCount() < 2)
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+
+            offer(publicationOne, 100);
+            offer(publicationTwo, 100);
+            subscription.sessionPollWeight(publicationOne.sessionId(), 3);
+
+            for (int i = 0; i < 10; i++)
+            {
+                assertEquals(8, subscription.weightedPoll(handler, 8));
+            }
+
+            assertEquals(60, subscription.imageBySessionId(publicationOne.sessionId()).fragmentsConsumed());
+            assertEquals(20, subscription.imageBySessionId(publicationTwo.sessionId()).fragmentsConsumed());
+        }
+    }
+
+    private void offer(final Publication publication, final int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            while (publication.offer(buffer, 0, MESSAGE_LENGTH) < 0L)
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+        }
+    }
+}
@@ -60,17 +60,21 @@ public class ArchiveTest
 
     @Parameterized.Parameter(value = 1)
     public ArchiveThreadingMode archiveThreadingMode;
+
+    @Parameterized.Parameter(value = 2)
+    public int archiveWorkerThreadCount;
     private long controlSessionId;
 
-    @Parameterized.Parameters(name = "threading modes: driver={0} archive={1}")
+    @Parameterized.Parameters(name = "threading modes: driver={0} archive={1} workers={2}")
     public static Collection<Object[]> data()
     {
         return Arrays.asList(
             new Object[][]
             {
-                { ThreadingMode.INVOKER, ArchiveThreadingMode.SHARED },
-                { ThreadingMode.SHARED, ArchiveThreadingMode.SHARED },
-                { ThreadingMode.DEDICATED, ArchiveThreadingMode.DEDICATED },
+                { ThreadingMode.INVOKER, ArchiveThreadingMode.SHARED, 1 },
+                { ThreadingMode.SHARED, ArchiveThreadingMode.SHARED, 1 },
+                { ThreadingMode.DEDICATED, ArchiveThreadingMode.DEDICATED, 1 },
+                { ThreadingMode.DEDICATED, ArchiveThreadingMode.DEDICATED, 3 },
             });
     }
 
@@ -158,6 +162,8 @@ public class ArchiveTest
                 .archiveDir(new File(SystemUtil.tmpDirName(), "archive-test"))
                 .segmentFileLength(segmentFileLength)
                 .threadingMode(archiveThreadingMode)
+                .recorderThreadCount(archiveWorkerThreadCount)
+                .replayerThreadCount(archiveWorkerThreadCount)
                 .idleStrategySupplier(YieldingIdleStrategy::new)
                 .errorCounter(driver.context().systemCounters().get(SystemCounterDescriptor.ERRORS))
                 .errorHandler(driver.context().errorHandler()));
@@ -76,6 +76,7 @@ public class BasicArchiveTest
                 .deleteArchiveOnStart(true)
                 .archiveDir(new File(SystemUtil.tmpDirName(), "archive"))
                 .fileSyncLevel(0)
+                .recordingTimestampIndexInterval(1)
                 .threadingMode(ArchiveThreadingMode.SHARED));
 
         aeron = Aeron.connect(
@@ -213,6 +214,72 @@ public class BasicArchiveTest
         aeronArchive.stopReplay(replaySessionId);
     }
 
+    @Test(timeout = 10_000)
+    public void shouldReplayFromTimestamp() throws InterruptedException
+    {
+        final String messagePrefix = "Message-Prefix-";
+        final int messageCount = 10;
+        final long recordingId;
+        final long midPosition;
+        final long stopPosition;
+        final long midTimestamp;
+
+        try (Subscription subscription = aeron.addSubscription(RECORDED_CHANNEL, RECORDED_STREAM_ID);
+            Publication publication = aeronArchive.addRecordedPublication(RECORDED_CHANNEL, RECORDED_STREAM_ID))
+        {
+            final CountersReader counters = aeron.countersReader();
+            final int counterId = Common.awaitRecordingCounterId(counters, publication.sessionId());
+            recordingId = RecordingPos.getRecordingId(counters, counterId);
+
+            offer(publication, messageCount, messagePrefix);
+            consume(subscription, messageCount, messagePrefix);
+            midPosition = publication.position();
+            awaitPosition(counters, counterId, midPosition);
+
+            Thread.sleep(10);
+            midTimestamp = System.currentTimeMillis();
+            Thread.sleep(10);
+
+            offer(publication, messageCount, messagePrefix);
+            consume(subscription, messageCount, messagePrefix);
+            stopPosition = publication.position();
+            awaitPosition(counters, counterId, stopPosition);
+
+            aeronArchive.stopRecording(publication);
+        }
+
+        assertThat(aeronArchive.findPositionByTimestamp(recordingId, 0), is(0L));
+        assertThat(aeronArchive.findPositionByTimestamp(recordingId, Long.MAX_VALUE) >= midPosition, is(true));
+
+        final long position = aeronArchive.findPositionByTimestamp(recordingId, midTimestamp);
+        assertThat(position < midPosition, is(true));
+
+        final long replaySessionId = aeronArchive.startReplayFromTimestamp(
+            recordingId, midTimestamp, AeronArchive.NULL_LENGTH, REPLAY_CHANNEL, REPLAY_STREAM_ID);
+        final String replayChannel = ChannelUri.addSessionId(REPLAY_CHANNEL, (int)replaySessionId);
+
+        try (Subscription replaySubscription = aeron.addSubscription(replayChannel, REPLAY_STREAM_ID))
+        {
+            while (!replaySubscription.isConnected())
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+
+            final Image image = replaySubscription.imageAtIndex(0);
+            assertEquals(position, image.joinPosition());
+
+            while (image.position() < stopPosition)
+            {
+                if (0 == image.poll((buffer, offset, length, header) -> {}, FRAGMENT_LIMIT))
+                {
+                    Thread.yield();
+                    SystemTest.checkInterruptedStatus();
+                }
+            }
+        }
+    }
+
     @Test(timeout = 10_000)
     public void shouldReplayRecordingFromLateJoinPosition()
     {
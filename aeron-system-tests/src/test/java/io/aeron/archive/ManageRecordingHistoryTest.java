@@ -17,6 +17,7 @@ package io.aeron.archive;
 
 import io.aeron.*;
 import io.aeron.archive.client.AeronArchive;
+import io.aeron.archive.client.ArchiveException;
 import io.aeron.archive.status.RecordingPos;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.ThreadingMode;
@@ -34,6 +35,7 @@ import static io.aeron.archive.Common.*;
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class ManageRecordingHistoryTest
 {
@@ -67,6 +69,7 @@ public class ManageRecordingHistoryTest
             new Archive.Context()
                 .maxCatalogEntries(Common.MAX_CATALOG_ENTRIES)
                 .segmentFileLength(SEGMENT_LENGTH)
+                .recordingTimestampIndexInterval(TERM_LENGTH)
                 .deleteArchiveOnStart(true)
                 .archiveDir(new File(SystemUtil.tmpDirName(), "archive"))
                 .fileSyncLevel(0)
@@ -305,4 +308,69 @@ public class ManageRecordingHistoryTest
             assertThat(aeronArchive.getStopPosition(srcRecordingId), is(startPosition));
         }
     }
+
+    @Test(timeout = 10_000)
+    public void shouldRejectMigratingSegmentsToActiveRecording()
+    {
+        final String messagePrefix = "Message-Prefix-";
+        final long targetPosition = (SEGMENT_LENGTH * 3L) + 1;
+
+        try (Publication publication = aeronArchive.addRecordedPublication(uriBuilder.build(), STREAM_ID))
+        {
+            final CountersReader counters = aeron.countersReader();
+            final int dstCounterId = Common.awaitRecordingCounterId(counters, publication.sessionId());
+            final long dstRecordingId = RecordingPos.getRecordingId(counters, dstCounterId);
+
+            offerToPosition(publication, messagePrefix, targetPosition);
+            awaitPosition(counters, dstCounterId, publication.position());
+
+            final long startPosition = 0L;
+            final long segmentFileBasePosition = AeronArchive.segmentFileBasePosition(
+                startPosition, SEGMENT_LENGTH * 2L, TERM_LENGTH, SEGMENT_LENGTH);
+
+            final long count = aeronArchive.purgeSegments(dstRecordingId, segmentFileBasePosition);
+            assertThat(count, is(2L));
+
+            final long srcRecordingId;
+            final String migrateChannel = uriBuilder
+                .initialPosition(startPosition, publication.initialTermId(), TERM_LENGTH)
+                .endpoint("localhost:4444")
+                .build();
+
+            try (Publication migratePub = aeronArchive.addRecordedExclusivePublication(migrateChannel, STREAM_ID))
+            {
+                final int srcCounterId = Common.awaitRecordingCounterId(counters, migratePub.sessionId());
+                srcRecordingId = RecordingPos.getRecordingId(counters, srcCounterId);
+
+                offerToPosition(migratePub, messagePrefix, segmentFileBasePosition);
+                awaitPosition(counters, srcCounterId, migratePub.position());
+                aeronArchive.stopRecording(migratePub);
+            }
+
+            aeronArchive.truncateRecording(srcRecordingId, segmentFileBasePosition);
+
+            try
+            {
+                aeronArchive.migrateSegments(srcRecordingId, dstRecordingId);
+                fail("expected archive exception");
+            }
+            catch (final ArchiveException ex)
+            {
+                assertThat(ex.errorCode(), is(ArchiveException.ACTIVE_RECORDING));
+            }
+
+            assertThat(aeronArchive.getStartPosition(dstRecordingId), is(segmentFileBasePosition));
+
+            aeronArchive.stopRecording(publication);
+            while (RecordingPos.isActive(counters, dstCounterId, dstRecordingId))
+            {
+                Thread.yield();
+                SystemTest.checkInterruptedStatus();
+            }
+
+            final long migratedSegments = aeronArchive.migrateSegments(srcRecordingId, dstRecordingId);
+            assertThat(migratedSegments, is(2L));
+            assertThat(aeronArchive.getStartPosition(dstRecordingId), is(startPosition));
+        }
+    }
 }